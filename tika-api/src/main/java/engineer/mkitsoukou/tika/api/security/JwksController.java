@@ -0,0 +1,73 @@
+package engineer.mkitsoukou.tika.api.security;
+
+import engineer.mkitsoukou.tika.application.auth.dto.JwkSetDto;
+import engineer.mkitsoukou.tika.application.auth.port.out.JwkSetPort;
+import java.time.Duration;
+import java.util.Objects;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Publishes the token verification keys at {@value #PATH}.
+ *
+ * <p>Responses carry a strong ETag and {@code Cache-Control: public, max-age}, so
+ * resource servers and proxies re-fetch only after {@code tika.security.jwks.max-age}
+ * and then mostly get a 304. The max age must stay below the key rotation period: a key
+ * is published one period before it starts signing.</p>
+ */
+@RestController
+@ConditionalOnProperty(prefix = "tika.security.jwt", name = "enabled", havingValue = "true")
+public class JwksController {
+
+  public static final String PATH = "/.well-known/jwks.json";
+
+  private final JwkSetPort keys;
+  private final CacheControl cacheControl;
+
+  public JwksController(
+      JwkSetPort keys,
+      @Value("${tika.security.jwks.max-age:1h}") Duration maxAge
+  ) {
+    this.keys = Objects.requireNonNull(keys, "keys must not be null");
+    this.cacheControl = CacheControl.maxAge(maxAge).cachePublic();
+  }
+
+  @GetMapping(path = PATH, produces = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<String> jwks(
+      @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+  ) {
+    JwkSetDto current = keys.currentKeys();
+    if (matches(ifNoneMatch, current.etag())) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+          .eTag(current.etag())
+          .cacheControl(cacheControl)
+          .build();
+    }
+    return ResponseEntity.ok()
+        .eTag(current.etag())
+        .cacheControl(cacheControl)
+        .contentType(MediaType.APPLICATION_JSON)
+        .body(current.json());
+  }
+
+  private static boolean matches(String ifNoneMatch, String etag) {
+    if (ifNoneMatch == null) {
+      return false;
+    }
+    for (String candidate : ifNoneMatch.split(",")) {
+      String tag = candidate.trim();
+      if (tag.equals("*") || tag.equals(etag) || tag.equals("W/" + etag)) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
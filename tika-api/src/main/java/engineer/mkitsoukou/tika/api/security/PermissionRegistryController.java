@@ -0,0 +1,58 @@
+package engineer.mkitsoukou.tika.api.security;
+
+import engineer.mkitsoukou.tika.application.auth.dto.PermissionRegistryDto;
+import engineer.mkitsoukou.tika.application.auth.port.out.PermissionRegistryPort;
+import java.time.Duration;
+import java.util.Objects;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Publishes the permission registry at {@value #PATH}: permission names by ordinal, the
+ * bit positions of the {@code perms} claim in access tokens.
+ *
+ * <p>The registry only grows, so its version doubles as the ETag. A verifier meeting a
+ * token whose {@code perms_v} exceeds the version it holds re-fetches; the max age
+ * ({@code tika.security.permission-registry.max-age}) only bounds how late it learns of
+ * new names.</p>
+ */
+@RestController
+@ConditionalOnProperty(prefix = "tika.authz.effective-permissions", name = "enabled",
+    havingValue = "true")
+public class PermissionRegistryController {
+
+  public static final String PATH = "/.well-known/permission-registry.json";
+
+  private final PermissionRegistryPort registry;
+  private final CacheControl cacheControl;
+
+  public PermissionRegistryController(
+      PermissionRegistryPort registry,
+      @Value("${tika.security.permission-registry.max-age:5m}") Duration maxAge
+  ) {
+    this.registry = Objects.requireNonNull(registry, "registry must not be null");
+    this.cacheControl = CacheControl.maxAge(maxAge).cachePublic();
+  }
+
+  @GetMapping(path = PATH)
+  public ResponseEntity<PermissionRegistryDto> registry(
+      @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+  ) {
+    PermissionRegistryDto current = registry.currentRegistry();
+    String etag = "\"" + current.version() + "\"";
+    if (etag.equals(ifNoneMatch)) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+          .eTag(etag)
+          .cacheControl(cacheControl)
+          .build();
+    }
+    return ResponseEntity.ok().eTag(etag).cacheControl(cacheControl).body(current);
+  }
+}
@@ -0,0 +1,76 @@
+package engineer.mkitsoukou.tika.api.security;
+
+import engineer.mkitsoukou.tika.application.auth.command.MintServiceTokensCommand;
+import engineer.mkitsoukou.tika.application.auth.dto.ServiceTokensDto;
+import engineer.mkitsoukou.tika.application.auth.exception.InvalidCredentialsException;
+import engineer.mkitsoukou.tika.application.auth.port.in.MintServiceTokensUseCase;
+import java.util.List;
+import java.util.Objects;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Mints short-lived access tokens for internal services, one or a micro-batch per call.
+ *
+ * <p>The service authenticates with its client id and secret in the request body, so the
+ * path is outside the bearer-token filter chain. The response carries the tokens and
+ * their common expiry in epoch seconds, and is never cached.</p>
+ */
+@RestController
+@ConditionalOnProperty(prefix = "tika.security.service-tokens", name = "enabled",
+    havingValue = "true")
+public class ServiceTokenController {
+
+  public static final String PATH = "/auth/service-tokens";
+
+  private final MintServiceTokensUseCase mintServiceTokens;
+
+  public ServiceTokenController(MintServiceTokensUseCase mintServiceTokens) {
+    this.mintServiceTokens = Objects.requireNonNull(mintServiceTokens,
+        "mintServiceTokens must not be null");
+  }
+
+  @PostMapping(path = PATH,
+      consumes = MediaType.APPLICATION_JSON_VALUE,
+      produces = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<MintResponse> mint(@RequestBody MintRequest request) {
+    ServiceTokensDto minted = mintServiceTokens.execute(new MintServiceTokensCommand(
+        request.clientId(), request.clientSecret(),
+        request.count() == null ? 1 : request.count()));
+    return ResponseEntity.ok()
+        .cacheControl(CacheControl.noStore())
+        .body(new MintResponse(minted.accessTokens(), minted.expiresAt().getEpochSecond()));
+  }
+
+  @ExceptionHandler(IllegalArgumentException.class)
+  ProblemDetail badBatch(IllegalArgumentException e) {
+    return ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, e.getMessage());
+  }
+
+  @ExceptionHandler(InvalidCredentialsException.class)
+  ProblemDetail unknownClient() {
+    return ProblemDetail.forStatusAndDetail(HttpStatus.UNAUTHORIZED,
+        "Unknown client or wrong secret");
+  }
+
+  /**
+   * @param clientId     the calling service
+   * @param clientSecret the service's secret
+   * @param count        tokens wanted, 1 when absent
+   */
+  public record MintRequest(String clientId, String clientSecret, Integer count) {}
+
+  /**
+   * @param tokens    the minted access tokens
+   * @param expiresAt expiry of every token, epoch seconds
+   */
+  public record MintResponse(List<String> tokens, long expiresAt) {}
+}
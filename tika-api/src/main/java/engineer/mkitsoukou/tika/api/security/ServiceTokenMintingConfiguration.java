@@ -0,0 +1,39 @@
+package engineer.mkitsoukou.tika.api.security;
+
+import engineer.mkitsoukou.tika.application.auth.port.in.MintServiceTokensUseCase;
+import engineer.mkitsoukou.tika.application.auth.port.out.ServiceClientRegistryPort;
+import engineer.mkitsoukou.tika.application.auth.port.out.ServiceTokenIssuerPort;
+import engineer.mkitsoukou.tika.application.auth.service.MintServiceTokensService;
+import engineer.mkitsoukou.tika.application.shared.ClockPort;
+import engineer.mkitsoukou.tika.security.jwt.ServiceTokenProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.config.annotation.web.configuration.WebSecurityCustomizer;
+
+/**
+ * Provides the {@link MintServiceTokensUseCase} behind {@link ServiceTokenController},
+ * with batches capped by {@code tika.security.service-tokens.max-batch}, and keeps the
+ * endpoint out of the bearer-token filter chain: callers authenticate with their client
+ * secret instead.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "tika.security.service-tokens", name = "enabled",
+    havingValue = "true")
+public class ServiceTokenMintingConfiguration {
+
+  @Bean
+  MintServiceTokensUseCase mintServiceTokens(
+      ServiceClientRegistryPort clients,
+      ServiceTokenIssuerPort issuer,
+      ServiceTokenProperties properties
+  ) {
+    return new MintServiceTokensService(clients, issuer, ClockPort.SYSTEM,
+        properties.maxBatch());
+  }
+
+  @Bean
+  WebSecurityCustomizer serviceTokensAreClientAuthenticated() {
+    return web -> web.ignoring().requestMatchers(ServiceTokenController.PATH);
+  }
+}
@@ -0,0 +1,26 @@
+package engineer.mkitsoukou.tika.api.security;
+
+import engineer.mkitsoukou.tika.application.auth.port.in.IntrospectTokensUseCase;
+import engineer.mkitsoukou.tika.application.auth.port.out.JwtValidatorPort;
+import engineer.mkitsoukou.tika.application.auth.service.IntrospectTokensService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Provides the {@link IntrospectTokensUseCase} behind {@link TokenIntrospectionController}.
+ * Batches are capped by {@code tika.security.introspection.max-tokens}.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "tika.security.jwt", name = "enabled", havingValue = "true")
+public class TokenIntrospectionConfiguration {
+
+  @Bean
+  IntrospectTokensUseCase introspectTokens(
+      JwtValidatorPort validator,
+      @Value("${tika.security.introspection.max-tokens:256}") int maxTokens
+  ) {
+    return new IntrospectTokensService(validator, maxTokens);
+  }
+}
@@ -0,0 +1,97 @@
+package engineer.mkitsoukou.tika.api.security;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import engineer.mkitsoukou.tika.application.auth.command.IntrospectTokensCommand;
+import engineer.mkitsoukou.tika.application.auth.dto.TokenIntrospectionDto;
+import engineer.mkitsoukou.tika.application.auth.exception.IntrospectionBatchTooLargeException;
+import engineer.mkitsoukou.tika.application.auth.model.JwtClaims;
+import engineer.mkitsoukou.tika.application.auth.port.in.IntrospectTokensUseCase;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Validates a batch of access tokens in one call, for gateways and sidecars that would
+ * otherwise introspect once per request.
+ *
+ * <p>Results come back in request order. An invalid, expired, revoked or {@code null}
+ * token is {@code {"active":false}}; an active one carries {@code sub}, {@code jti},
+ * {@code iat}, {@code exp} (epoch seconds) and {@code roles}, plus {@code cnf.jkt} when
+ * it is bound to a DPoP key, so the caller can check the proof it came with.</p>
+ */
+@RestController
+@ConditionalOnProperty(prefix = "tika.security.jwt", name = "enabled", havingValue = "true")
+public class TokenIntrospectionController {
+
+  public static final String PATH = "/auth/introspect";
+
+  private final IntrospectTokensUseCase introspectTokens;
+
+  public TokenIntrospectionController(IntrospectTokensUseCase introspectTokens) {
+    this.introspectTokens = Objects.requireNonNull(introspectTokens,
+        "introspectTokens must not be null");
+  }
+
+  @PostMapping(path = PATH,
+      consumes = MediaType.APPLICATION_JSON_VALUE,
+      produces = MediaType.APPLICATION_JSON_VALUE)
+  public IntrospectionResponse introspect(@RequestBody IntrospectionRequest request) {
+    List<TokenIntrospectionDto> results = introspectTokens.execute(
+        new IntrospectTokensCommand(request.tokens() == null ? List.of() : request.tokens()));
+    return new IntrospectionResponse(results.stream().map(Result::of).toList());
+  }
+
+  @ExceptionHandler(IntrospectionBatchTooLargeException.class)
+  ProblemDetail batchTooLarge(IntrospectionBatchTooLargeException e) {
+    return ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, e.getMessage());
+  }
+
+  /**
+   * @param tokens access tokens to introspect
+   */
+  public record IntrospectionRequest(List<String> tokens) {}
+
+  /**
+   * @param results one per requested token, in order
+   */
+  public record IntrospectionResponse(List<Result> results) {}
+
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  public record Result(
+      boolean active,
+      String sub,
+      String jti,
+      Long iat,
+      Long exp,
+      Set<String> roles,
+      Confirmation cnf
+  ) {
+
+    private static final Result INACTIVE =
+        new Result(false, null, null, null, null, null, null);
+
+    static Result of(TokenIntrospectionDto introspection) {
+      if (!introspection.active()) {
+        return INACTIVE;
+      }
+      JwtClaims claims = introspection.claims();
+      return new Result(true, claims.userId(), claims.jti(),
+          claims.issuedAt().getEpochSecond(), claims.expiresAt().getEpochSecond(),
+          claims.roles(),
+          claims.isSenderConstrained() ? new Confirmation(claims.keyThumbprint()) : null);
+    }
+  }
+
+  /**
+   * @param jkt SHA-256 thumbprint of the key the token is bound to
+   */
+  public record Confirmation(String jkt) {}
+}
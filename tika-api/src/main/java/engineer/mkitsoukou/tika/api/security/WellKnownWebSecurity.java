@@ -0,0 +1,18 @@
+package engineer.mkitsoukou.tika.api.security;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.config.annotation.web.configuration.WebSecurityCustomizer;
+
+/**
+ * Serves {@code /.well-known/} documents without authentication: the JWK Set and the
+ * permission registry hold nothing secret, and resource servers fetch them anonymously.
+ */
+@Configuration(proxyBeanMethods = false)
+public class WellKnownWebSecurity {
+
+  @Bean
+  WebSecurityCustomizer wellKnownIsPublic() {
+    return web -> web.ignoring().requestMatchers("/.well-known/**");
+  }
+}
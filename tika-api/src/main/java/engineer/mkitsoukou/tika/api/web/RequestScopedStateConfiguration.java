@@ -0,0 +1,26 @@
+package engineer.mkitsoukou.tika.api.web;
+
+import engineer.mkitsoukou.tika.application.shared.RequestScopedState;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Registers the {@link RequestScopedStateFilter} outermost, so it clears the state after
+ * every other filter, security included, has finished with the request.
+ */
+@Configuration(proxyBeanMethods = false)
+public class RequestScopedStateConfiguration {
+
+  @Bean
+  FilterRegistrationBean<RequestScopedStateFilter> requestScopedStateFilter(
+      ObjectProvider<RequestScopedState> states
+  ) {
+    FilterRegistrationBean<RequestScopedStateFilter> registration = new FilterRegistrationBean<>(
+        new RequestScopedStateFilter(states.orderedStream().toList()));
+    registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+    return registration;
+  }
+}
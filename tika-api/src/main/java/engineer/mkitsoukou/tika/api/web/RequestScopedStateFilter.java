@@ -0,0 +1,39 @@
+package engineer.mkitsoukou.tika.api.web;
+
+import engineer.mkitsoukou.tika.application.shared.RequestScopedState;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.List;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Clears every {@link RequestScopedState} once a request has been handled, including when
+ * handling failed, so the next request on the same servlet thread starts clean.
+ */
+public class RequestScopedStateFilter extends OncePerRequestFilter {
+
+  private final List<RequestScopedState> states;
+
+  /**
+   * @param states state to clear after each request
+   */
+  public RequestScopedStateFilter(List<RequestScopedState> states) {
+    this.states = List.copyOf(states);
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request,
+      HttpServletResponse response,
+      FilterChain chain
+  ) throws ServletException, IOException {
+    try {
+      chain.doFilter(request, response);
+    } finally {
+      states.forEach(RequestScopedState::clear);
+    }
+  }
+}
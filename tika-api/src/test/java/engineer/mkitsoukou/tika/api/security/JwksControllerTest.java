@@ -0,0 +1,46 @@
+package engineer.mkitsoukou.tika.api.security;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import engineer.mkitsoukou.tika.application.auth.dto.JwkSetDto;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+class JwksControllerTest {
+
+  private static final JwkSetDto KEYS = new JwkSetDto("{\"keys\":[]}", "\"abc\"");
+
+  private final MockMvc mvc = MockMvcBuilders
+      .standaloneSetup(new JwksController(() -> KEYS, Duration.ofHours(1)))
+      .build();
+
+  @Test
+  void keysShouldBeServedWithValidators() throws Exception {
+    mvc.perform(get(JwksController.PATH))
+        .andExpect(status().isOk())
+        .andExpect(content().json("{\"keys\":[]}"))
+        .andExpect(header().string(HttpHeaders.ETAG, "\"abc\""))
+        .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=3600, public"));
+  }
+
+  @Test
+  void matchingEtagShouldGetNotModified() throws Exception {
+    mvc.perform(get(JwksController.PATH).header(HttpHeaders.IF_NONE_MATCH, "\"old\", \"abc\""))
+        .andExpect(status().isNotModified())
+        .andExpect(content().string(""))
+        .andExpect(header().string(HttpHeaders.ETAG, "\"abc\""));
+  }
+
+  @Test
+  void staleEtagShouldGetTheKeys() throws Exception {
+    mvc.perform(get(JwksController.PATH).header(HttpHeaders.IF_NONE_MATCH, "\"old\""))
+        .andExpect(status().isOk())
+        .andExpect(content().json("{\"keys\":[]}"));
+  }
+}
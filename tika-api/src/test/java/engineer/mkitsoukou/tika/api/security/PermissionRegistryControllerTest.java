@@ -0,0 +1,40 @@
+package engineer.mkitsoukou.tika.api.security;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import engineer.mkitsoukou.tika.application.auth.dto.PermissionRegistryDto;
+import java.time.Duration;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+class PermissionRegistryControllerTest {
+
+  private static final PermissionRegistryDto REGISTRY =
+      new PermissionRegistryDto(3, Arrays.asList("user:read", null, "user:write"));
+
+  private final MockMvc mvc = MockMvcBuilders
+      .standaloneSetup(new PermissionRegistryController(() -> REGISTRY, Duration.ofMinutes(5)))
+      .build();
+
+  @Test
+  void registryShouldBeServedByOrdinal() throws Exception {
+    mvc.perform(get(PermissionRegistryController.PATH))
+        .andExpect(status().isOk())
+        .andExpect(content().json(
+            "{\"version\":3,\"permissions\":[\"user:read\",null,\"user:write\"]}", true))
+        .andExpect(header().string(HttpHeaders.ETAG, "\"3\""))
+        .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=300, public"));
+  }
+
+  @Test
+  void knownVersionShouldGetNotModified() throws Exception {
+    mvc.perform(get(PermissionRegistryController.PATH).header(HttpHeaders.IF_NONE_MATCH, "\"3\""))
+        .andExpect(status().isNotModified());
+  }
+}
@@ -0,0 +1,71 @@
+package engineer.mkitsoukou.tika.api.security;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import engineer.mkitsoukou.tika.application.auth.dto.ServiceTokensDto;
+import engineer.mkitsoukou.tika.application.auth.model.ServiceClient;
+import engineer.mkitsoukou.tika.application.auth.service.MintServiceTokensService;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+class ServiceTokenControllerTest {
+
+  private static final Instant NOW = Instant.parse("2026-01-01T10:00:00Z");
+  private static final ServiceClient BILLING =
+      new ServiceClient("billing", "tika-internal", Set.of("users.read"));
+
+  private final MockMvc mvc = MockMvcBuilders
+      .standaloneSetup(new ServiceTokenController(new MintServiceTokensService(
+          (id, secret) -> Optional.of(BILLING)
+              .filter(client -> client.clientId().equals(id) && secret.equals("s3cret")),
+          (client, count, now) -> new ServiceTokensDto(
+              Collections.nCopies(count, "token"), now.plusSeconds(300)),
+          () -> NOW, 2)))
+      .build();
+
+  @Test
+  void singleTokenShouldBeMintedByDefault() throws Exception {
+    mvc.perform(post(ServiceTokenController.PATH)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"clientId\":\"billing\",\"clientSecret\":\"s3cret\"}"))
+        .andExpect(status().isOk())
+        .andExpect(header().string("Cache-Control", "no-store"))
+        .andExpect(content().json("""
+            {"tokens":["token"],"expiresAt":1767261900}""", true));
+  }
+
+  @Test
+  void batchShouldReturnEveryToken() throws Exception {
+    mvc.perform(post(ServiceTokenController.PATH)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"clientId\":\"billing\",\"clientSecret\":\"s3cret\",\"count\":2}"))
+        .andExpect(status().isOk())
+        .andExpect(content().json("""
+            {"tokens":["token","token"],"expiresAt":1767261900}""", true));
+  }
+
+  @Test
+  void wrongSecretShouldBeUnauthorized() throws Exception {
+    mvc.perform(post(ServiceTokenController.PATH)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"clientId\":\"billing\",\"clientSecret\":\"guess\"}"))
+        .andExpect(status().isUnauthorized());
+  }
+
+  @Test
+  void oversizedBatchShouldBeABadRequest() throws Exception {
+    mvc.perform(post(ServiceTokenController.PATH)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"clientId\":\"billing\",\"clientSecret\":\"s3cret\",\"count\":3}"))
+        .andExpect(status().isBadRequest());
+  }
+}
@@ -0,0 +1,87 @@
+package engineer.mkitsoukou.tika.api.security;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import engineer.mkitsoukou.tika.application.auth.exception.InvalidCredentialsException;
+import engineer.mkitsoukou.tika.application.auth.model.JwtClaims;
+import engineer.mkitsoukou.tika.application.auth.port.out.JwtValidatorPort;
+import engineer.mkitsoukou.tika.application.auth.service.IntrospectTokensService;
+import java.time.Instant;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+class TokenIntrospectionControllerTest {
+
+  private static final Instant NOW = Instant.parse("2026-01-01T10:00:00Z");
+
+  private final JwtValidatorPort validator = new JwtValidatorPort() {
+    @Override
+    public JwtClaims validateAccessToken(String accessToken) {
+      return switch (accessToken) {
+        case "good" ->
+            new JwtClaims("user-1", "jti-1", NOW, NOW.plusSeconds(900), Set.of("admin"));
+        case "bound" -> new JwtClaims("user-1", "jti-2", NOW, NOW.plusSeconds(900),
+            Set.of(), null, "thumbprint");
+        default -> throw new InvalidCredentialsException();
+      };
+    }
+
+    @Override
+    public JwtClaims validateRefreshToken(String refreshToken) {
+      throw new InvalidCredentialsException();
+    }
+  };
+
+  private final MockMvc mvc = MockMvcBuilders
+      .standaloneSetup(new TokenIntrospectionController(
+          new IntrospectTokensService(validator, 2)))
+      .build();
+
+  @Test
+  void resultsShouldFollowRequestOrder() throws Exception {
+    mvc.perform(post(TokenIntrospectionController.PATH)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"tokens\":[\"bad\",\"good\"]}"))
+        .andExpect(status().isOk())
+        .andExpect(content().json("""
+            {"results":[
+              {"active":false},
+              {"active":true,"sub":"user-1","jti":"jti-1","iat":1767261600,
+               "exp":1767262500,"roles":["admin"]}
+            ]}""", true));
+  }
+
+  @Test
+  void nullTokensShouldBeInactive() throws Exception {
+    mvc.perform(post(TokenIntrospectionController.PATH)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"tokens\":[null,\"good\"]}"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.results[0].active").value(false))
+        .andExpect(jsonPath("$.results[1].active").value(true));
+  }
+
+  @Test
+  void boundTokensShouldCarryTheirKeyThumbprint() throws Exception {
+    mvc.perform(post(TokenIntrospectionController.PATH)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"tokens\":[\"bound\"]}"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.results[0].active").value(true))
+        .andExpect(jsonPath("$.results[0].cnf.jkt").value("thumbprint"));
+  }
+
+  @Test
+  void oversizedBatchShouldBeABadRequest() throws Exception {
+    mvc.perform(post(TokenIntrospectionController.PATH)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"tokens\":[\"a\",\"b\",\"c\"]}"))
+        .andExpect(status().isBadRequest());
+  }
+}
@@ -0,0 +1,48 @@
+package engineer.mkitsoukou.tika.api.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServlet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class RequestScopedStateFilterTest {
+
+  private final AtomicInteger first = new AtomicInteger();
+  private final AtomicInteger second = new AtomicInteger();
+  private final RequestScopedStateFilter filter = new RequestScopedStateFilter(
+      List.of(first::incrementAndGet, second::incrementAndGet));
+
+  @Test
+  void stateShouldBeClearedAfterTheRequest() throws Exception {
+    AtomicInteger clearedDuringRequest = new AtomicInteger(-1);
+    MockFilterChain chain = new MockFilterChain(new HttpServlet() { },
+        (request, response, next) -> clearedDuringRequest.set(first.get()));
+
+    filter.doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(), chain);
+
+    assertThat(clearedDuringRequest).hasValue(0);
+    assertThat(first).hasValue(1);
+    assertThat(second).hasValue(1);
+  }
+
+  @Test
+  void stateShouldBeClearedWhenTheRequestFails() {
+    MockFilterChain chain = new MockFilterChain(new HttpServlet() { },
+        (request, response, next) -> {
+          throw new ServletException("handler failed");
+        });
+
+    assertThatThrownBy(() -> filter.doFilter(
+        new MockHttpServletRequest(), new MockHttpServletResponse(), chain))
+        .hasMessage("handler failed");
+    assertThat(first).hasValue(1);
+    assertThat(second).hasValue(1);
+  }
+}
@@ -0,0 +1,17 @@
+package engineer.mkitsoukou.tika.application.auth.command;
+
+import engineer.mkitsoukou.tika.application.shared.Command;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * @param accessTokens tokens to introspect; {@code null} entries are kept and come back
+ *                     inactive
+ */
+public record IntrospectTokensCommand(List<String> accessTokens) implements Command {
+
+  public IntrospectTokensCommand {
+    accessTokens = Collections.unmodifiableList(new ArrayList<>(accessTokens));
+  }
+}
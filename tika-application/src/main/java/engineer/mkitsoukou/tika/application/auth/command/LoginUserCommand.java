@@ -2,5 +2,15 @@ package engineer.mkitsoukou.tika.application.auth.command;
 
 import engineer.mkitsoukou.tika.application.shared.Command;
 
-public record LoginUserCommand(String email, String password) implements Command {
+/**
+ * @param keyThumbprint thumbprint of the key of a verified DPoP proof sent with the
+ *                      login, binding the issued tokens to that key; {@code null} for
+ *                      plain bearer tokens
+ */
+public record LoginUserCommand(String email, String password, String keyThumbprint)
+    implements Command {
+
+  public LoginUserCommand(String email, String password) {
+    this(email, password, null);
+  }
 }
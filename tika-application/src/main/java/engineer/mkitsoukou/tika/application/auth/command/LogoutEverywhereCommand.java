@@ -0,0 +1,5 @@
+package engineer.mkitsoukou.tika.application.auth.command;
+
+import engineer.mkitsoukou.tika.application.shared.Command;
+
+public record LogoutEverywhereCommand(String accessToken) implements Command {}
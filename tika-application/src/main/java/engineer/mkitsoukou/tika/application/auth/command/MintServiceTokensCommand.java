@@ -0,0 +1,16 @@
+package engineer.mkitsoukou.tika.application.auth.command;
+
+import engineer.mkitsoukou.tika.application.shared.Command;
+
+/**
+ * @param clientId     the calling service
+ * @param clientSecret the service's secret
+ * @param count        number of tokens to mint in one call
+ */
+public record MintServiceTokensCommand(String clientId, String clientSecret, int count)
+    implements Command {
+
+  public MintServiceTokensCommand(String clientId, String clientSecret) {
+    this(clientId, clientSecret, 1);
+  }
+}
@@ -2,5 +2,15 @@ package engineer.mkitsoukou.tika.application.auth.command;
 
 import engineer.mkitsoukou.tika.application.shared.Command;
 
-public record RefreshTokenCommand(String refreshToken) implements Command {
+/**
+ * @param keyThumbprint thumbprint of the key of a verified DPoP proof sent with the
+ *                      refresh, or {@code null}; required to match when the refresh
+ *                      token is bound to a key
+ */
+public record RefreshTokenCommand(String refreshToken, String keyThumbprint)
+    implements Command {
+
+  public RefreshTokenCommand(String refreshToken) {
+    this(refreshToken, null);
+  }
 }
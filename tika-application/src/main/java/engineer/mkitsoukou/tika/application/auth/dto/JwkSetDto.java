@@ -0,0 +1,10 @@
+package engineer.mkitsoukou.tika.application.auth.dto;
+
+/**
+ * Published token verification keys.
+ *
+ * @param json JWK Set document (RFC 7517), public keys only
+ * @param etag strong entity tag of {@code json}, quoted
+ */
+public record JwkSetDto(String json, String etag) {
+}
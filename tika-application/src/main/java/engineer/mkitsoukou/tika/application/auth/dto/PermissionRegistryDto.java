@@ -0,0 +1,21 @@
+package engineer.mkitsoukou.tika.application.auth.dto;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The published permission registry.
+ *
+ * @param version     registry size, compared with a token's mask version
+ * @param permissions permission name by ordinal; {@code null} at an unallocated ordinal
+ */
+public record PermissionRegistryDto(int version, List<String> permissions) {
+
+  public PermissionRegistryDto {
+    if (permissions.size() != version) {
+      throw new IllegalArgumentException("permissions must have one entry per ordinal");
+    }
+    permissions = Collections.unmodifiableList(new ArrayList<>(permissions));
+  }
+}
@@ -0,0 +1,14 @@
+package engineer.mkitsoukou.tika.application.auth.dto;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * @param accessTokens the minted tokens, all with the same expiry
+ * @param expiresAt    expiry of every token
+ */
+public record ServiceTokensDto(
+    List<String> accessTokens,
+    Instant expiresAt
+) {
+}
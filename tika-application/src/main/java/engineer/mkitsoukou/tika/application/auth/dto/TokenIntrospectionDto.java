@@ -0,0 +1,22 @@
+package engineer.mkitsoukou.tika.application.auth.dto;
+
+import engineer.mkitsoukou.tika.application.auth.model.JwtClaims;
+
+/**
+ * Outcome of introspecting one access token.
+ *
+ * @param active whether the token is valid and not revoked
+ * @param claims the token's claims when active, {@code null} otherwise
+ */
+public record TokenIntrospectionDto(boolean active, JwtClaims claims) {
+
+  private static final TokenIntrospectionDto INACTIVE = new TokenIntrospectionDto(false, null);
+
+  public static TokenIntrospectionDto active(JwtClaims claims) {
+    return new TokenIntrospectionDto(true, claims);
+  }
+
+  public static TokenIntrospectionDto inactive() {
+    return INACTIVE;
+  }
+}
@@ -0,0 +1,20 @@
+package engineer.mkitsoukou.tika.application.auth.exception;
+
+/**
+ * Raised when more access tokens are sent for introspection than one call accepts.
+ *
+ * <p>Maps to <strong>HTTP 400 Bad Request</strong>.</p>
+ */
+public class IntrospectionBatchTooLargeException extends RuntimeException {
+
+  private final int maxTokens;
+
+  public IntrospectionBatchTooLargeException(int maxTokens) {
+    super("At most " + maxTokens + " tokens can be introspected at once");
+    this.maxTokens = maxTokens;
+  }
+
+  public int maxTokens() {
+    return maxTokens;
+  }
+}
@@ -2,8 +2,27 @@ package engineer.mkitsoukou.tika.application.auth.model;
 
 import java.util.Set;
 
-public record AuthSubject(String userId, Set<String> roles) {
+/**
+ * @param permissions   effective permissions to embed in the access token, or
+ *                      {@code null} to leave them out
+ * @param keyThumbprint JWK SHA-256 thumbprint of the client key the tokens are bound to,
+ *                      or {@code null} for plain bearer tokens
+ */
+public record AuthSubject(
+    String userId,
+    Set<String> roles,
+    PermissionMask permissions,
+    String keyThumbprint
+) {
     public AuthSubject {
         roles = roles == null ? Set.of() : Set.copyOf(roles);
     }
+
+    public AuthSubject(String userId, Set<String> roles, PermissionMask permissions) {
+        this(userId, roles, permissions, null);
+    }
+
+    public AuthSubject(String userId, Set<String> roles) {
+        this(userId, roles, null, null);
+    }
 }
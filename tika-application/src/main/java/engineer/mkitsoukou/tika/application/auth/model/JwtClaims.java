@@ -8,9 +8,40 @@ public record JwtClaims(
   String jti,           // JWT ID – used for blacklist
   Instant issuedAt,
   Instant expiresAt,
-  Set<String> roles     // copied from JWT «roles» claim
+  Set<String> roles,    // copied from JWT «roles» claim
+  PermissionMask permissions,  // «perms» claim, null when the token has none
+  String keyThumbprint  // «cnf.jkt» claim, null when the token is not bound to a key
 ) {
     public JwtClaims {
         roles = roles == null ? Set.of() : Set.copyOf(roles);
     }
+
+    public JwtClaims(
+      String userId,
+      String jti,
+      Instant issuedAt,
+      Instant expiresAt,
+      Set<String> roles,
+      PermissionMask permissions
+    ) {
+        this(userId, jti, issuedAt, expiresAt, roles, permissions, null);
+    }
+
+    public JwtClaims(
+      String userId,
+      String jti,
+      Instant issuedAt,
+      Instant expiresAt,
+      Set<String> roles
+    ) {
+        this(userId, jti, issuedAt, expiresAt, roles, null, null);
+    }
+
+    /**
+     * @return whether the token may only be used together with a proof of possession of
+     *         the key named by {@link #keyThumbprint()}
+     */
+    public boolean isSenderConstrained() {
+        return keyThumbprint != null;
+    }
 }
@@ -0,0 +1,44 @@
+package engineer.mkitsoukou.tika.application.auth.model;
+
+import java.util.BitSet;
+import java.util.Objects;
+
+/**
+ * Effective permissions as a bitmask: bit {@code i} is set when the permission with
+ * ordinal {@code i} in the published permission registry is granted.
+ *
+ * <p>Ordinals are append-only, so the registry's version is its size and a registry of
+ * version {@code v} decodes every mask of version {@code v} or below. A verifier holding
+ * an older registry than the mask's must refresh it before mapping bits to names;
+ * testing a bit it already knows the ordinal of needs no registry at all.</p>
+ *
+ * @param registryVersion size of the registry the mask was built against
+ * @param granted         the granted ordinals; copied in and out
+ */
+public record PermissionMask(int registryVersion, BitSet granted) {
+
+  public PermissionMask {
+    Objects.requireNonNull(granted, "granted must not be null");
+    if (registryVersion < granted.length()) {
+      throw new IllegalArgumentException("registryVersion must cover every granted ordinal");
+    }
+    granted = (BitSet) granted.clone();
+  }
+
+  @Override
+  public BitSet granted() {
+    return (BitSet) granted.clone();
+  }
+
+  public boolean grants(int ordinal) {
+    return ordinal >= 0 && granted.get(ordinal);
+  }
+
+  /**
+   * @param localVersion version of the verifier's registry
+   * @return whether the verifier's registry is too old to name every granted bit
+   */
+  public boolean isNewerThan(int localVersion) {
+    return registryVersion > localVersion;
+  }
+}
@@ -0,0 +1,19 @@
+package engineer.mkitsoukou.tika.application.auth.model;
+
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * An internal service allowed to mint its own short-lived access tokens.
+ *
+ * @param clientId {@code sub} of the client's tokens
+ * @param audience {@code aud} of the client's tokens
+ * @param scopes   {@code scope} of the client's tokens
+ */
+public record ServiceClient(String clientId, String audience, Set<String> scopes) {
+    public ServiceClient {
+        Objects.requireNonNull(clientId, "clientId must not be null");
+        Objects.requireNonNull(audience, "audience must not be null");
+        scopes = scopes == null ? Set.of() : Set.copyOf(scopes);
+    }
+}
@@ -0,0 +1,9 @@
+package engineer.mkitsoukou.tika.application.auth.port.in;
+
+import engineer.mkitsoukou.tika.application.auth.command.IntrospectTokensCommand;
+import engineer.mkitsoukou.tika.application.auth.dto.TokenIntrospectionDto;
+import engineer.mkitsoukou.tika.application.shared.UseCase;
+import java.util.List;
+
+public interface IntrospectTokensUseCase
+    extends UseCase<IntrospectTokensCommand, List<TokenIntrospectionDto>> {}
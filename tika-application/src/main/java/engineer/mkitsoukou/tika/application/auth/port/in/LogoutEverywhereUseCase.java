@@ -0,0 +1,6 @@
+package engineer.mkitsoukou.tika.application.auth.port.in;
+
+import engineer.mkitsoukou.tika.application.auth.command.LogoutEverywhereCommand;
+import engineer.mkitsoukou.tika.application.shared.UseCase;
+
+public interface LogoutEverywhereUseCase extends UseCase<LogoutEverywhereCommand, Void> {}
@@ -0,0 +1,8 @@
+package engineer.mkitsoukou.tika.application.auth.port.in;
+
+import engineer.mkitsoukou.tika.application.auth.command.MintServiceTokensCommand;
+import engineer.mkitsoukou.tika.application.auth.dto.ServiceTokensDto;
+import engineer.mkitsoukou.tika.application.shared.UseCase;
+
+public interface MintServiceTokensUseCase
+    extends UseCase<MintServiceTokensCommand, ServiceTokensDto> {}
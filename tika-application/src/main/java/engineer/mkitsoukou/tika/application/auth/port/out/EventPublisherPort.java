@@ -1,8 +1,19 @@
 package engineer.mkitsoukou.tika.application.auth.port.out;
 
 import engineer.mkitsoukou.tika.domain.model.event.DomainEvent;
+import java.util.List;
 
 public interface EventPublisherPort {
 
   void publish(DomainEvent event);
+
+  /**
+   * Publishes the events recorded by one use case, preserving their order per aggregate.
+   * Adapters should override this to hand the whole list to the transport at once.
+   *
+   * @param events events in recording order
+   */
+  default void publishAll(List<DomainEvent> events) {
+    events.forEach(this::publish);
+  }
 }
@@ -0,0 +1,14 @@
+package engineer.mkitsoukou.tika.application.auth.port.out;
+
+import engineer.mkitsoukou.tika.application.auth.dto.JwkSetDto;
+
+public interface JwkSetPort {
+
+  /**
+   * Returns the keys resource servers may see on tokens: the signing key, keys about to
+   * replace it and retired keys whose tokens may still be valid.
+   *
+   * @return the current JWK Set; the same instance until the keys change
+   */
+  JwkSetDto currentKeys();
+}
@@ -1,6 +1,10 @@
 package engineer.mkitsoukou.tika.application.auth.port.out;
 
+import engineer.mkitsoukou.tika.application.auth.exception.InvalidCredentialsException;
 import engineer.mkitsoukou.tika.application.auth.model.JwtClaims;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 
 public interface JwtValidatorPort {
 
@@ -19,4 +23,23 @@ public interface JwtValidatorPort {
    * @return the JWT claims if the token is valid
    */
   JwtClaims validateRefreshToken(String refreshToken);
+
+  /**
+   * Validates many access tokens at once. Implementations may verify them in parallel
+   * and batch their lookups; the default validates each token in turn.
+   *
+   * @param accessTokens the access tokens to validate
+   * @return per token, in order, its claims or empty if it is not valid
+   */
+  default List<Optional<JwtClaims>> validateAccessTokens(List<String> accessTokens) {
+    List<Optional<JwtClaims>> results = new ArrayList<>(accessTokens.size());
+    for (String accessToken : accessTokens) {
+      try {
+        results.add(Optional.of(validateAccessToken(accessToken)));
+      } catch (InvalidCredentialsException e) {
+        results.add(Optional.empty());
+      }
+    }
+    return results;
+  }
 }
@@ -0,0 +1,22 @@
+package engineer.mkitsoukou.tika.application.auth.port.out;
+
+import java.time.Instant;
+
+@FunctionalInterface
+public interface LoginActivityPort {
+
+  /**
+   * Keeps no login activity.
+   */
+  LoginActivityPort NONE = (userId, loginAt) -> { };
+
+  /**
+   * Records a successful login for the security dashboards (last login, login count).
+   * Implementations may buffer and persist asynchronously; callers must not rely on the
+   * fact being durable when this method returns.
+   *
+   * @param userId  the user who logged in
+   * @param loginAt when the login happened
+   */
+  void recordSuccessfulLogin(String userId, Instant loginAt);
+}
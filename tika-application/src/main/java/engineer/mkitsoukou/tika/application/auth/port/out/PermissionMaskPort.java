@@ -0,0 +1,21 @@
+package engineer.mkitsoukou.tika.application.auth.port.out;
+
+import engineer.mkitsoukou.tika.application.auth.model.PermissionMask;
+import java.util.Optional;
+
+@FunctionalInterface
+public interface PermissionMaskPort {
+
+  /**
+   * Leaves permissions out of every token.
+   */
+  PermissionMaskPort NONE = userId -> Optional.empty();
+
+  /**
+   * Looks up the user's effective permissions to embed in an access token.
+   *
+   * @param userId the user's id
+   * @return the mask, empty if the user's permissions are not known
+   */
+  Optional<PermissionMask> permissionMask(String userId);
+}
@@ -0,0 +1,11 @@
+package engineer.mkitsoukou.tika.application.auth.port.out;
+
+import engineer.mkitsoukou.tika.application.auth.dto.PermissionRegistryDto;
+
+public interface PermissionRegistryPort {
+
+  /**
+   * @return the permission ordinals that {@code PermissionMask} bits refer to
+   */
+  PermissionRegistryDto currentRegistry();
+}
@@ -0,0 +1,18 @@
+package engineer.mkitsoukou.tika.application.auth.port.out;
+
+import engineer.mkitsoukou.tika.application.auth.model.ServiceClient;
+import java.util.Optional;
+
+@FunctionalInterface
+public interface ServiceClientRegistryPort {
+
+  /**
+   * Checks a service's credentials. Called on every minting request, so implementations
+   * should answer from memory and compare secrets in constant time.
+   *
+   * @param clientId     the calling service
+   * @param clientSecret the service's secret
+   * @return the client, empty if it is unknown or the secret is wrong
+   */
+  Optional<ServiceClient> authenticate(String clientId, String clientSecret);
+}
@@ -0,0 +1,18 @@
+package engineer.mkitsoukou.tika.application.auth.port.out;
+
+import engineer.mkitsoukou.tika.application.auth.dto.ServiceTokensDto;
+import engineer.mkitsoukou.tika.application.auth.model.ServiceClient;
+import java.time.Instant;
+
+public interface ServiceTokenIssuerPort {
+
+  /**
+   * Signs access tokens for a service client. No refresh token is issued and nothing is
+   * stored; the tokens differ only in {@code jti}.
+   *
+   * @param client the client the tokens are for
+   * @param count  number of tokens, at least one
+   * @param now    {@code iat} of every token
+   */
+  ServiceTokensDto mintTokens(ServiceClient client, int count, Instant now);
+}
@@ -1,5 +1,9 @@
 package engineer.mkitsoukou.tika.application.auth.port.out;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
 public interface TokenBlacklistPort {
 
   /**
@@ -13,4 +17,19 @@ public interface TokenBlacklistPort {
    * Idempotent: calling twice has the same effect as once.
    */
   void blacklist(String jti);
+
+  /**
+   * Checks many JTIs at once. Stores that support a multi-get should override this so a
+   * batch costs one round-trip; the default asks for each JTI in turn.
+   * @return the black-listed JTIs among {@code jtis}.
+   */
+  default Set<String> blacklistedAmong(Collection<String> jtis) {
+    Set<String> blacklisted = new HashSet<>();
+    for (String jti : jtis) {
+      if (isBlacklisted(jti)) {
+        blacklisted.add(jti);
+      }
+    }
+    return blacklisted;
+  }
 }
@@ -0,0 +1,64 @@
+package engineer.mkitsoukou.tika.application.auth.port.out;
+
+import engineer.mkitsoukou.tika.application.auth.model.JwtClaims;
+import java.time.Instant;
+
+/**
+ * Per-user cut-off before which every token issued to the user is void, so revoking all
+ * of a user's tokens is one write instead of one blacklist entry per token.
+ */
+public interface TokenEpochPort {
+
+  /**
+   * Never revokes anything.
+   */
+  TokenEpochPort NONE = new TokenEpochPort() {
+    @Override
+    public Instant validAfter(String userId) {
+      return Instant.EPOCH;
+    }
+
+    @Override
+    public void revokeAllBefore(String userId, Instant cutoff) {
+    }
+
+    @Override
+    public boolean isRevoked(JwtClaims claims) {
+      return false;
+    }
+  };
+
+  /**
+   * Called on every validation, so implementations should answer from memory.
+   *
+   * @param userId the user's id
+   * @return the user's cut-off, {@link Instant#EPOCH} if nothing was ever revoked
+   */
+  Instant validAfter(String userId);
+
+  /**
+   * Voids every token issued to the user before {@code cutoff}. The cut-off only moves
+   * forward: an earlier one than the current is ignored.
+   *
+   * @param userId the user's id
+   * @param cutoff tokens issued before this are revoked
+   */
+  void revokeAllBefore(String userId, Instant cutoff);
+
+  /**
+   * Compares at whole seconds, the resolution of the {@code iat} claim: a token issued
+   * in the same second as the cut-off stays valid, so one issued right after a password
+   * change is not caught by it.
+   *
+   * @param claims a validated token's claims
+   * @return {@code true} if the token was issued before its user's cut-off
+   */
+  default boolean isRevoked(JwtClaims claims) {
+    Instant validAfter = validAfter(claims.userId());
+    if (validAfter.equals(Instant.EPOCH)) {
+      return false;
+    }
+    return claims.issuedAt() == null
+        || claims.issuedAt().getEpochSecond() < validAfter.getEpochSecond();
+  }
+}
@@ -0,0 +1,56 @@
+package engineer.mkitsoukou.tika.application.auth.service;
+
+import engineer.mkitsoukou.tika.application.auth.command.IntrospectTokensCommand;
+import engineer.mkitsoukou.tika.application.auth.dto.TokenIntrospectionDto;
+import engineer.mkitsoukou.tika.application.auth.exception.IntrospectionBatchTooLargeException;
+import engineer.mkitsoukou.tika.application.auth.model.JwtClaims;
+import engineer.mkitsoukou.tika.application.auth.port.in.IntrospectTokensUseCase;
+import engineer.mkitsoukou.tika.application.auth.port.out.JwtValidatorPort;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Validates a batch of access tokens for gateways that would otherwise call once per
+ * request. An invalid or missing ({@code null}) token makes its own entry inactive rather
+ * than failing the batch.
+ */
+public class IntrospectTokensService implements IntrospectTokensUseCase {
+  private final JwtValidatorPort validator;
+  private final int maxTokens;
+
+  /**
+   * @param validator validator of the batch
+   * @param maxTokens largest batch accepted
+   */
+  public IntrospectTokensService(JwtValidatorPort validator, int maxTokens) {
+    if (maxTokens < 1) {
+      throw new IllegalArgumentException("maxTokens must be positive");
+    }
+    this.validator = validator;
+    this.maxTokens = maxTokens;
+  }
+
+  @Override
+  public List<TokenIntrospectionDto> execute(IntrospectTokensCommand command) {
+    List<String> tokens = command.accessTokens();
+    if (tokens.size() > maxTokens) {
+      throw new IntrospectionBatchTooLargeException(maxTokens);
+    }
+    if (tokens.isEmpty()) {
+      return List.of();
+    }
+
+    // Validate the whole batch in one call so the validator can parallelize and batch
+    List<String> present = tokens.stream().filter(Objects::nonNull).toList();
+    Iterator<Optional<JwtClaims>> validated =
+        validator.validateAccessTokens(present).iterator();
+    return tokens.stream()
+        .map(token -> token == null
+            ? TokenIntrospectionDto.inactive()
+            : validated.next().map(TokenIntrospectionDto::active)
+                .orElseGet(TokenIntrospectionDto::inactive))
+        .toList();
+  }
+}
@@ -7,6 +7,8 @@ import engineer.mkitsoukou.tika.application.auth.exception.UserInactiveException
 import engineer.mkitsoukou.tika.application.auth.model.AuthSubject;
 import engineer.mkitsoukou.tika.application.auth.port.in.LoginUserUseCase;
 import engineer.mkitsoukou.tika.application.auth.port.out.JwtIssuerPort;
+import engineer.mkitsoukou.tika.application.auth.port.out.LoginActivityPort;
+import engineer.mkitsoukou.tika.application.auth.port.out.PermissionMaskPort;
 import engineer.mkitsoukou.tika.application.auth.port.out.RateLimiterPort;
 import engineer.mkitsoukou.tika.application.auth.port.out.TokenBlacklistPort;
 import engineer.mkitsoukou.tika.application.shared.ClockPort;
@@ -15,6 +17,7 @@ import engineer.mkitsoukou.tika.domain.model.valueobject.Email;
 import engineer.mkitsoukou.tika.domain.model.valueobject.PlainPassword;
 import engineer.mkitsoukou.tika.domain.repository.UserRepository;
 import engineer.mkitsoukou.tika.domain.service.PasswordHasher;
+import java.time.Instant;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
@@ -24,7 +27,9 @@ public class LoginUserService implements LoginUserUseCase {
   private final JwtIssuerPort jwtIssuer;
   private final TokenBlacklistPort blacklist;
   private final RateLimiterPort rateLimiter;
+  private final LoginActivityPort loginActivity;
   private final ClockPort clock;
+  private final PermissionMaskPort permissionMasks;
 
   public LoginUserService(
       UserRepository userRepo,
@@ -32,14 +37,32 @@ public class LoginUserService implements LoginUserUseCase {
       JwtIssuerPort jwtIssuer,
       TokenBlacklistPort blacklist,
       RateLimiterPort rateLimiter,
+      LoginActivityPort loginActivity,
       ClockPort clock
+  ) {
+    this(userRepo, hasher, jwtIssuer, blacklist, rateLimiter, loginActivity, clock,
+        PermissionMaskPort.NONE);
+  }
+
+  public LoginUserService(
+      UserRepository userRepo,
+      PasswordHasher hasher,
+      JwtIssuerPort jwtIssuer,
+      TokenBlacklistPort blacklist,
+      RateLimiterPort rateLimiter,
+      LoginActivityPort loginActivity,
+      ClockPort clock,
+      PermissionMaskPort permissionMasks
   ) {
     this.userRepo = Objects.requireNonNull(userRepo, "UserRepository must not be null");
     this.hasher = Objects.requireNonNull(hasher, "PasswordHasher must not be null");
     this.jwtIssuer = Objects.requireNonNull(jwtIssuer, "JwtIssuerPort must not be null");
     this.blacklist = Objects.requireNonNull(blacklist, "TokenBlacklistPort must not be null");
     this.rateLimiter = Objects.requireNonNull(rateLimiter, "RateLimiterPort must not be null");
+    this.loginActivity = Objects.requireNonNull(loginActivity, "LoginActivityPort must not be null");
     this.clock = Objects.requireNonNull(clock, "ClockPort must not be null");
+    this.permissionMasks =
+        Objects.requireNonNull(permissionMasks, "PermissionMaskPort must not be null");
   }
 
   @Override
@@ -62,13 +85,17 @@ public class LoginUserService implements LoginUserUseCase {
       throw new InvalidCredentialsException();
     }
 
+    String userId = user.getId().value().toString();
     AuthSubject subject = new AuthSubject(
-        user.getId().value().toString(),
+        userId,
         user.getRoles().stream()
           .map(r -> r.getRoleId().value().toString())
-          .collect(Collectors.toSet()));
+          .collect(Collectors.toSet()),
+        permissionMasks.permissionMask(userId).orElse(null),
+        command.keyThumbprint());
 
-    AuthTokensDto tokens = jwtIssuer.issueTokens(subject, clock.now());
+    Instant now = clock.now();
+    AuthTokensDto tokens = jwtIssuer.issueTokens(subject, now);
 
 
     if (blacklist.isBlacklisted(tokens.accessToken())) {
@@ -76,6 +103,7 @@ public class LoginUserService implements LoginUserUseCase {
     }
 
     rateLimiter.recordSuccessfulLogin(command.email());
+    loginActivity.recordSuccessfulLogin(subject.userId(), now);
 
     return tokens;
   }
@@ -0,0 +1,60 @@
+package engineer.mkitsoukou.tika.application.auth.service;
+
+import engineer.mkitsoukou.tika.application.auth.command.LogoutEverywhereCommand;
+import engineer.mkitsoukou.tika.application.auth.port.in.LogoutEverywhereUseCase;
+import engineer.mkitsoukou.tika.application.auth.port.out.EventPublisherPort;
+import engineer.mkitsoukou.tika.application.auth.port.out.JwtValidatorPort;
+import engineer.mkitsoukou.tika.application.auth.port.out.RefreshTokenStorePort;
+import engineer.mkitsoukou.tika.application.auth.port.out.TokenBlacklistPort;
+import engineer.mkitsoukou.tika.application.auth.port.out.TokenEpochPort;
+import engineer.mkitsoukou.tika.application.shared.ClockPort;
+import engineer.mkitsoukou.tika.domain.model.event.TokensRevoked;
+import engineer.mkitsoukou.tika.domain.model.valueobject.UserId;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Signs the caller out of every device: moves the user's token epoch to now, which voids
+ * all their access and refresh tokens at once without listing them.
+ */
+public class LogoutEverywhereService implements LogoutEverywhereUseCase {
+  private final JwtValidatorPort validator;
+  private final TokenEpochPort epochs;
+  private final TokenBlacklistPort blacklist;
+  private final RefreshTokenStorePort rtStore;
+  private final EventPublisherPort events;
+  private final ClockPort clock;
+
+  public LogoutEverywhereService(
+    JwtValidatorPort validator,
+    TokenEpochPort epochs,
+    TokenBlacklistPort blacklist,
+    RefreshTokenStorePort rtStore,
+    EventPublisherPort events,
+    ClockPort clock
+  ) {
+    this.validator = Objects.requireNonNull(validator, "validator must not be null");
+    this.epochs = Objects.requireNonNull(epochs, "epochs must not be null");
+    this.blacklist = Objects.requireNonNull(blacklist, "blacklist must not be null");
+    this.rtStore = Objects.requireNonNull(rtStore, "rtStore must not be null");
+    this.events = Objects.requireNonNull(events, "events must not be null");
+    this.clock = Objects.requireNonNull(clock, "clock must not be null");
+  }
+
+  @Override
+  public Void execute(LogoutEverywhereCommand command) {
+    var claims = validator.validateAccessToken(command.accessToken());
+    Instant now = clock.now();
+
+    // One write voids every token issued before now
+    epochs.revokeAllBefore(claims.userId(), now);
+
+    // The epoch compares whole seconds, so the presenting token, possibly issued in this
+    // same second, is blacklisted by its JTI as well
+    blacklist.blacklist(claims.jti());
+    rtStore.revoke(claims.userId(), null);
+
+    events.publish(TokensRevoked.createEvent(UserId.of(claims.userId()), now));
+    return null;
+  }
+}
@@ -0,0 +1,59 @@
+package engineer.mkitsoukou.tika.application.auth.service;
+
+import engineer.mkitsoukou.tika.application.auth.command.MintServiceTokensCommand;
+import engineer.mkitsoukou.tika.application.auth.dto.ServiceTokensDto;
+import engineer.mkitsoukou.tika.application.auth.exception.InvalidCredentialsException;
+import engineer.mkitsoukou.tika.application.auth.model.ServiceClient;
+import engineer.mkitsoukou.tika.application.auth.port.in.MintServiceTokensUseCase;
+import engineer.mkitsoukou.tika.application.auth.port.out.ServiceClientRegistryPort;
+import engineer.mkitsoukou.tika.application.auth.port.out.ServiceTokenIssuerPort;
+import engineer.mkitsoukou.tika.application.shared.ClockPort;
+import java.util.Objects;
+
+/**
+ * Mints short-lived access tokens for internal service-to-service calls. Unlike a login
+ * there is no refresh token, no store write and no user lookup, and a caller may ask for
+ * a micro-batch of tokens in one call. An unknown client or a wrong secret fails as
+ * invalid credentials.
+ */
+public class MintServiceTokensService implements MintServiceTokensUseCase {
+  private final ServiceClientRegistryPort clients;
+  private final ServiceTokenIssuerPort issuer;
+  private final ClockPort clock;
+  private final int maxTokens;
+
+  /**
+   * @param clients   services allowed to mint tokens, with their secrets
+   * @param issuer    signer of the tokens
+   * @param clock     source of {@code iat}
+   * @param maxTokens largest batch accepted
+   */
+  public MintServiceTokensService(
+    ServiceClientRegistryPort clients,
+    ServiceTokenIssuerPort issuer,
+    ClockPort clock,
+    int maxTokens
+  ) {
+    if (maxTokens < 1) {
+      throw new IllegalArgumentException("maxTokens must be positive");
+    }
+    this.clients = Objects.requireNonNull(clients, "clients must not be null");
+    this.issuer = Objects.requireNonNull(issuer, "issuer must not be null");
+    this.clock = Objects.requireNonNull(clock, "clock must not be null");
+    this.maxTokens = maxTokens;
+  }
+
+  @Override
+  public ServiceTokensDto execute(MintServiceTokensCommand command) {
+    if (command.count() < 1 || command.count() > maxTokens) {
+      throw new IllegalArgumentException(
+          "Between 1 and " + maxTokens + " tokens can be minted at once");
+    }
+    if (command.clientId() == null || command.clientSecret() == null) {
+      throw new InvalidCredentialsException();
+    }
+    ServiceClient client = clients.authenticate(command.clientId(), command.clientSecret())
+        .orElseThrow(InvalidCredentialsException::new);
+    return issuer.mintTokens(client, command.count(), clock.now());
+  }
+}
@@ -8,6 +8,7 @@ import engineer.mkitsoukou.tika.application.auth.model.JwtClaims;
 import engineer.mkitsoukou.tika.application.auth.port.in.RefreshTokenUseCase;
 import engineer.mkitsoukou.tika.application.auth.port.out.JwtIssuerPort;
 import engineer.mkitsoukou.tika.application.auth.port.out.JwtValidatorPort;
+import engineer.mkitsoukou.tika.application.auth.port.out.PermissionMaskPort;
 import engineer.mkitsoukou.tika.application.auth.port.out.RefreshTokenStorePort;
 import engineer.mkitsoukou.tika.application.auth.port.out.TokenBlacklistPort;
 import engineer.mkitsoukou.tika.application.shared.ClockPort;
@@ -18,6 +19,7 @@ public class RefreshTokenService implements RefreshTokenUseCase {
   private final RefreshTokenStorePort rtStore;
   private final TokenBlacklistPort blacklist;
   private final ClockPort clock;
+  private final PermissionMaskPort permissionMasks;
 
   public RefreshTokenService(
       JwtValidatorPort validator,
@@ -25,12 +27,24 @@ public class RefreshTokenService implements RefreshTokenUseCase {
       RefreshTokenStorePort rtStore,
       TokenBlacklistPort blacklist,
       ClockPort clock
+  ) {
+    this(validator, issuer, rtStore, blacklist, clock, PermissionMaskPort.NONE);
+  }
+
+  public RefreshTokenService(
+      JwtValidatorPort validator,
+      JwtIssuerPort issuer,
+      RefreshTokenStorePort rtStore,
+      TokenBlacklistPort blacklist,
+      ClockPort clock,
+      PermissionMaskPort permissionMasks
   ) {
     this.validator = validator;
     this.issuer = issuer;
     this.rtStore = rtStore;
     this.blacklist = blacklist;
     this.clock = clock;
+    this.permissionMasks = permissionMasks;
   }
 
   @Override
@@ -43,8 +57,18 @@ public class RefreshTokenService implements RefreshTokenUseCase {
       throw new InvalidCredentialsException();
     }
 
-    // Issue new tokens
-    AuthSubject subject = new AuthSubject(claims.userId(), claims.roles());
+    // A bound refresh token is only good with a proof from the same key; an unbound one
+    // may be bound from now on
+    String keyThumbprint = claims.keyThumbprint();
+    if (keyThumbprint == null) {
+      keyThumbprint = command.keyThumbprint();
+    } else if (!keyThumbprint.equals(command.keyThumbprint())) {
+      throw new InvalidCredentialsException();
+    }
+
+    // Issue new tokens, with permissions as they are now rather than at login
+    AuthSubject subject = new AuthSubject(claims.userId(), claims.roles(),
+        permissionMasks.permissionMask(claims.userId()).orElse(null), keyThumbprint);
     AuthTokensDto tokens = issuer.issueTokens(subject, clock.now());
 
     // Rotate RT: revoke the old, store the new
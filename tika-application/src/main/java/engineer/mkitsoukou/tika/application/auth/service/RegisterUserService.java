@@ -64,7 +64,7 @@ public RegisterUserService(
     userRepo.save(user);
 
     List<DomainEvent> recorded = user.pullEvents();
-    recorded.forEach(events::publish);
+    events.publishAll(recorded);
 
     return UserDto.from(user);
   }
@@ -0,0 +1,14 @@
+package engineer.mkitsoukou.tika.application.shared;
+
+/**
+ * State an adapter binds to the handling thread for the length of one request.
+ *
+ * <p>Inbound adapters call {@link #clear()} on every such bean once a request is done,
+ * whether it succeeded or not, so a pooled thread does not carry the state into the next
+ * request it serves.</p>
+ */
+@FunctionalInterface
+public interface RequestScopedState {
+
+  void clear();
+}
@@ -0,0 +1,21 @@
+package engineer.mkitsoukou.tika.application.shared.event;
+
+import engineer.mkitsoukou.tika.domain.model.event.DomainEvent;
+
+/**
+ * In-process side effect of domain events, run by an {@link InProcessEventBus} after the
+ * events were published.
+ *
+ * <p>Handlers run on virtual threads, concurrently for different aggregates but one at a
+ * time and in recording order for any single aggregate. They must tolerate events they
+ * do not care about.</p>
+ */
+public interface DomainEventSubscriber {
+
+  /**
+   * @return stable name, used to label the subscriber's metrics
+   */
+  String name();
+
+  void handle(DomainEvent event);
+}
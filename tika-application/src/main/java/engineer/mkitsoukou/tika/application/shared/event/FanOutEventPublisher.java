@@ -0,0 +1,90 @@
+package engineer.mkitsoukou.tika.application.shared.event;
+
+import engineer.mkitsoukou.tika.application.auth.port.out.EventPublisherPort;
+import engineer.mkitsoukou.tika.domain.model.event.DomainEvent;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link EventPublisherPort} that publishes through the configured transport, then hands
+ * the same events to the {@link InProcessEventBus}.
+ *
+ * <p>The bus only sees events the delegate accepted: if publishing fails, in-process
+ * side effects such as cache invalidation do not run for changes that were never
+ * announced. When the delegate only records events in the caller's transaction, as the
+ * outbox does, the {@code dispatcher} holds the hand-off back until that transaction
+ * commits, so subscribers never act on a change that is later rolled back.</p>
+ *
+ * <p>Events published while the bus is shutting down have already reached the delegate;
+ * they are logged and dropped for in-process subscribers rather than failing the
+ * caller.</p>
+ */
+public final class FanOutEventPublisher implements EventPublisherPort, AutoCloseable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(FanOutEventPublisher.class);
+
+  private final EventPublisherPort delegate;
+  private final InProcessEventBus bus;
+  private final Executor dispatcher;
+
+  /**
+   * Dispatches to the bus as soon as the delegate returns.
+   */
+  public FanOutEventPublisher(EventPublisherPort delegate, InProcessEventBus bus) {
+    this(delegate, bus, Runnable::run);
+  }
+
+  /**
+   * @param delegate   publisher receiving the events first
+   * @param bus        in-process bus receiving them next
+   * @param dispatcher runs each hand-off to the bus, e.g. once the publishing transaction
+   *                   has committed
+   */
+  public FanOutEventPublisher(
+      EventPublisherPort delegate,
+      InProcessEventBus bus,
+      Executor dispatcher
+  ) {
+    this.delegate = Objects.requireNonNull(delegate, "delegate must not be null");
+    this.bus = Objects.requireNonNull(bus, "bus must not be null");
+    this.dispatcher = Objects.requireNonNull(dispatcher, "dispatcher must not be null");
+  }
+
+  @Override
+  public void publish(DomainEvent event) {
+    delegate.publish(event);
+    dispatcher.execute(() -> dispatch(List.of(event)));
+  }
+
+  @Override
+  public void publishAll(List<DomainEvent> events) {
+    if (events.isEmpty()) {
+      return;
+    }
+    delegate.publishAll(events);
+    List<DomainEvent> copy = List.copyOf(events);
+    dispatcher.execute(() -> dispatch(copy));
+  }
+
+  /**
+   * Closes the delegate if it holds resources; the bus has its own lifecycle.
+   */
+  @Override
+  public void close() throws Exception {
+    if (delegate instanceof AutoCloseable closeable) {
+      closeable.close();
+    }
+  }
+
+  private void dispatch(List<DomainEvent> events) {
+    try {
+      bus.dispatchAll(events);
+    } catch (IllegalStateException closed) {
+      LOG.warn("In-process event bus is closed; {} published event(s) not dispatched",
+          events.size());
+    }
+  }
+}
@@ -0,0 +1,256 @@
+package engineer.mkitsoukou.tika.application.shared.event;
+
+import engineer.mkitsoukou.tika.domain.model.event.DomainEvent;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Delivers published domain events to in-process {@link DomainEventSubscriber}s,
+ * asynchronously and off the request thread.
+ *
+ * <p>Every subscriber has its own {@code shards} bounded queues, each drained by one
+ * virtual thread. An event goes to the shard picked by its aggregate id, so one
+ * aggregate's events reach a subscriber in order while different aggregates are handled
+ * in parallel. Dispatch never blocks: when a subscriber's shard is full the event is
+ * dropped for that subscriber only and counted, so a slow subscriber cannot hold back
+ * the publisher or the other subscribers. Side effects that must see every event belong
+ * on the durable event stream instead.</p>
+ *
+ * <p>Dispatch and {@link #close()} exclude each other, so an event is either queued before
+ * closing begins, and drained, or rejected; none can slip in behind a worker that has
+ * already stopped.</p>
+ *
+ * <p>A handler that throws is counted and reported to the {@link FailureHandler}; the
+ * following events are still delivered. Counters are kept free of any metrics library;
+ * adapters export {@link #stats(String)}.</p>
+ */
+public final class InProcessEventBus implements AutoCloseable {
+
+  private static final long CLOSE_TIMEOUT_MILLIS = 5_000;
+  private static final long IDLE_POLL_MILLIS = 100;
+
+  private final Map<String, Subscription> subscriptions = new LinkedHashMap<>();
+  private final FailureHandler failures;
+  // dispatches hold the read lock; close takes the write lock to flip the flag
+  private final ReadWriteLock closing = new ReentrantReadWriteLock();
+  private volatile boolean closed;
+
+  /**
+   * @param subscribers   subscribers receiving every dispatched event; names must be unique
+   * @param settings      sharding and queue sizing
+   * @param failures      told about each handler failure
+   */
+  public InProcessEventBus(
+      List<? extends DomainEventSubscriber> subscribers,
+      Settings settings,
+      FailureHandler failures
+  ) {
+    Objects.requireNonNull(subscribers, "subscribers must not be null");
+    Objects.requireNonNull(settings, "settings must not be null");
+    this.failures = Objects.requireNonNull(failures, "failures must not be null");
+    for (DomainEventSubscriber subscriber : subscribers) {
+      if (subscriptions.containsKey(subscriber.name())) {
+        throw new IllegalArgumentException("duplicate subscriber name " + subscriber.name());
+      }
+      subscriptions.put(subscriber.name(), new Subscription(subscriber, settings));
+    }
+    subscriptions.values().forEach(Subscription::start);
+  }
+
+  /**
+   * Queues the event for every subscriber.
+   *
+   * @throws IllegalStateException if the bus is closing or closed
+   */
+  public void dispatch(DomainEvent event) {
+    dispatchAll(List.of(Objects.requireNonNull(event, "event must not be null")));
+  }
+
+  /**
+   * Queues the events, in order, for every subscriber.
+   *
+   * @throws IllegalStateException if the bus is closing or closed; none of the events is
+   *                               queued then
+   */
+  public void dispatchAll(List<? extends DomainEvent> events) {
+    events.forEach(event -> Objects.requireNonNull(event, "event must not be null"));
+    closing.readLock().lock();
+    try {
+      if (closed) {
+        throw new IllegalStateException("event bus is closed");
+      }
+      for (DomainEvent event : events) {
+        for (Subscription subscription : subscriptions.values()) {
+          subscription.offer(event);
+        }
+      }
+    } finally {
+      closing.readLock().unlock();
+    }
+  }
+
+  /**
+   * @return names of the subscribers, in registration order
+   */
+  public Set<String> subscriberNames() {
+    return subscriptions.keySet();
+  }
+
+  /**
+   * @param subscriber a subscriber name
+   * @return a point-in-time copy of that subscriber's counters
+   * @throws NoSuchElementException if no subscriber has that name
+   */
+  public SubscriberStats stats(String subscriber) {
+    Subscription subscription = subscriptions.get(subscriber);
+    if (subscription == null) {
+      throw new NoSuchElementException("no subscriber named " + subscriber);
+    }
+    return subscription.stats();
+  }
+
+  /**
+   * Stops accepting events and lets the queued ones drain for a few seconds; handlers
+   * still running after that are interrupted.
+   */
+  @Override
+  public void close() {
+    closing.writeLock().lock();
+    try {
+      closed = true;
+    } finally {
+      closing.writeLock().unlock();
+    }
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(CLOSE_TIMEOUT_MILLIS);
+    for (Subscription subscription : subscriptions.values()) {
+      subscription.awaitDrained(deadline);
+    }
+  }
+
+  /**
+   * @param shards        queues, and virtual threads, per subscriber
+   * @param queueCapacity events each queue holds before dropping
+   */
+  public record Settings(int shards, int queueCapacity) {
+
+    public Settings {
+      if (shards < 1) {
+        throw new IllegalArgumentException("shards must be positive");
+      }
+      if (queueCapacity < 1) {
+        throw new IllegalArgumentException("queueCapacity must be positive");
+      }
+    }
+  }
+
+  /**
+   * @param handled events the subscriber processed without error
+   * @param failed  events whose handler threw
+   * @param dropped events not queued because a shard was full
+   * @param lag     events queued and not yet handled
+   */
+  public record SubscriberStats(long handled, long failed, long dropped, int lag) {
+  }
+
+  /**
+   * Reports handler failures, typically to a log.
+   */
+  @FunctionalInterface
+  public interface FailureHandler {
+
+    FailureHandler IGNORE = (subscriber, event, error) -> { };
+
+    void failed(String subscriber, DomainEvent event, RuntimeException error);
+  }
+
+  private final class Subscription {
+    private final DomainEventSubscriber subscriber;
+    private final List<BlockingQueue<DomainEvent>> shards;
+    private final List<Thread> workers;
+    private final LongAdder handled = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    private Subscription(DomainEventSubscriber subscriber, Settings settings) {
+      this.subscriber = subscriber;
+      this.shards = new ArrayList<>(settings.shards());
+      this.workers = new ArrayList<>(settings.shards());
+      for (int i = 0; i < settings.shards(); i++) {
+        shards.add(new ArrayBlockingQueue<>(settings.queueCapacity()));
+      }
+    }
+
+    private void start() {
+      for (int i = 0; i < shards.size(); i++) {
+        BlockingQueue<DomainEvent> shard = shards.get(i);
+        workers.add(Thread.ofVirtual()
+            .name("event-bus-" + subscriber.name() + "-" + i)
+            .start(() -> drain(shard)));
+      }
+    }
+
+    private void offer(DomainEvent event) {
+      int shard = Math.floorMod(event.aggregateId().hashCode(), shards.size());
+      if (!shards.get(shard).offer(event)) {
+        dropped.increment();
+      }
+    }
+
+    private void drain(BlockingQueue<DomainEvent> shard) {
+      try {
+        while (!closed || !shard.isEmpty()) {
+          DomainEvent event = shard.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+          if (event != null) {
+            handle(event);
+          }
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+
+    private void handle(DomainEvent event) {
+      try {
+        subscriber.handle(event);
+        handled.increment();
+      } catch (RuntimeException e) {
+        failed.increment();
+        failures.failed(subscriber.name(), event, e);
+      }
+    }
+
+    private SubscriberStats stats() {
+      int lag = 0;
+      for (BlockingQueue<DomainEvent> shard : shards) {
+        lag += shard.size();
+      }
+      return new SubscriberStats(handled.sum(), failed.sum(), dropped.sum(), lag);
+    }
+
+    private void awaitDrained(long deadline) {
+      for (Thread worker : workers) {
+        try {
+          long remaining = deadline - System.nanoTime();
+          if (remaining <= 0 || !worker.join(Duration.ofNanos(remaining))) {
+            worker.interrupt();
+          }
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          worker.interrupt();
+        }
+      }
+    }
+  }
+}
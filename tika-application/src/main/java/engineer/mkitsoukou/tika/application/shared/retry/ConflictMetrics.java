@@ -0,0 +1,59 @@
+package engineer.mkitsoukou.tika.application.shared.retry;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Optimistic-locking conflict counters per aggregate type (e.g. {@code User}, {@code Role}).
+ *
+ * <p>Kept free of any metrics library; adapters export {@link #snapshot()} to their
+ * monitoring system.</p>
+ */
+public final class ConflictMetrics {
+
+  private final Map<String, Counters> byAggregate = new ConcurrentHashMap<>();
+
+  void conflict(String aggregateType) {
+    counters(aggregateType).conflicts.increment();
+  }
+
+  void recovered(String aggregateType) {
+    counters(aggregateType).recovered.increment();
+  }
+
+  void exhausted(String aggregateType) {
+    counters(aggregateType).exhausted.increment();
+  }
+
+  /**
+   * @return a point-in-time copy of the counters, keyed by aggregate type
+   */
+  public Map<String, ConflictStats> snapshot() {
+    return byAggregate.entrySet().stream()
+        .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, e -> e.getValue().toStats()));
+  }
+
+  private Counters counters(String aggregateType) {
+    return byAggregate.computeIfAbsent(aggregateType, k -> new Counters());
+  }
+
+  /**
+   * @param conflicts every version conflict observed, retried or not
+   * @param recovered operations that succeeded after at least one conflict
+   * @param exhausted operations abandoned after the last allowed attempt
+   */
+  public record ConflictStats(long conflicts, long recovered, long exhausted) {
+  }
+
+  private static final class Counters {
+    private final LongAdder conflicts = new LongAdder();
+    private final LongAdder recovered = new LongAdder();
+    private final LongAdder exhausted = new LongAdder();
+
+    private ConflictStats toStats() {
+      return new ConflictStats(conflicts.sum(), recovered.sum(), exhausted.sum());
+    }
+  }
+}
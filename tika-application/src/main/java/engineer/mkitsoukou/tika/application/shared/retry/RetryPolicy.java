@@ -0,0 +1,42 @@
+package engineer.mkitsoukou.tika.application.shared.retry;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Bounded exponential backoff used when an optimistic write loses a race.
+ *
+ * @param maxAttempts    total attempts including the first one (≥ 1)
+ * @param initialBackoff upper bound of the delay before the first retry
+ * @param maxBackoff     cap applied to every delay
+ */
+public record RetryPolicy(int maxAttempts, Duration initialBackoff, Duration maxBackoff) {
+
+  /** Four attempts, 10 ms doubling up to 200 ms. */
+  public static final RetryPolicy DEFAULT =
+      new RetryPolicy(4, Duration.ofMillis(10), Duration.ofMillis(200));
+
+  public RetryPolicy {
+    if (maxAttempts < 1) {
+      throw new IllegalArgumentException("maxAttempts must be at least 1");
+    }
+    Objects.requireNonNull(initialBackoff, "initialBackoff must not be null");
+    Objects.requireNonNull(maxBackoff, "maxBackoff must not be null");
+    if (initialBackoff.isNegative() || maxBackoff.compareTo(initialBackoff) < 0) {
+      throw new IllegalArgumentException("backoff must satisfy 0 <= initialBackoff <= maxBackoff");
+    }
+  }
+
+  /**
+   * Upper bound of the delay before retry number {@code retry} (1-based): the initial
+   * backoff doubled for each previous retry, capped at {@code maxBackoff}.
+   *
+   * @param retry the retry about to happen, starting at 1
+   * @return the delay ceiling for that retry
+   */
+  public Duration backoffCeiling(int retry) {
+    int shift = Math.min(Math.max(retry - 1, 0), 30);
+    long millis = initialBackoff.toMillis() << shift;
+    return millis >= maxBackoff.toMillis() || millis < 0 ? maxBackoff : Duration.ofMillis(millis);
+  }
+}
@@ -0,0 +1,78 @@
+package engineer.mkitsoukou.tika.application.shared.retry;
+
+import engineer.mkitsoukou.tika.application.shared.UseCase;
+import engineer.mkitsoukou.tika.domain.exception.AggregateVersionConflictException;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Decorator that replays a use case when its save loses an optimistic-locking race.
+ *
+ * <p>Each attempt runs the whole use case again, so the aggregate is reloaded and the
+ * command re-applied on fresh state. The decorator must wrap the transactional
+ * boundary, never run inside it: a retry needs a new transaction to see the winner's
+ * write. Delays use full jitter below {@link RetryPolicy#backoffCeiling(int)} so that
+ * competing writers do not retry in lock-step.</p>
+ *
+ * @param <I> the command type
+ * @param <O> the result type
+ */
+public final class RetryingUseCase<I, O> implements UseCase<I, O> {
+
+  private final UseCase<I, O> delegate;
+  private final RetryPolicy policy;
+  private final ConflictMetrics metrics;
+  private final Sleeper sleeper;
+
+  public RetryingUseCase(UseCase<I, O> delegate, RetryPolicy policy, ConflictMetrics metrics) {
+    this(delegate, policy, metrics, Sleeper.SYSTEM);
+  }
+
+  public RetryingUseCase(
+      UseCase<I, O> delegate,
+      RetryPolicy policy,
+      ConflictMetrics metrics,
+      Sleeper sleeper
+  ) {
+    this.delegate = Objects.requireNonNull(delegate, "delegate must not be null");
+    this.policy = Objects.requireNonNull(policy, "policy must not be null");
+    this.metrics = Objects.requireNonNull(metrics, "metrics must not be null");
+    this.sleeper = Objects.requireNonNull(sleeper, "sleeper must not be null");
+  }
+
+  @Override
+  public O execute(I input) {
+    int attempt = 1;
+    String conflictType = null;
+    while (true) {
+      try {
+        O result = delegate.execute(input);
+        if (conflictType != null) {
+          metrics.recovered(conflictType);
+        }
+        return result;
+      } catch (AggregateVersionConflictException conflict) {
+        conflictType = conflict.getAggregateType();
+        metrics.conflict(conflictType);
+        if (attempt >= policy.maxAttempts()) {
+          metrics.exhausted(conflictType);
+          throw conflict;
+        }
+        pause(attempt, conflict);
+        attempt++;
+      }
+    }
+  }
+
+  private void pause(int retry, AggregateVersionConflictException conflict) {
+    long ceiling = policy.backoffCeiling(retry).toMillis();
+    long delay = ceiling == 0 ? 0 : ThreadLocalRandom.current().nextLong(ceiling + 1);
+    try {
+      sleeper.sleep(Duration.ofMillis(delay));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw conflict;
+    }
+  }
+}
@@ -0,0 +1,13 @@
+package engineer.mkitsoukou.tika.application.shared.retry;
+
+import java.time.Duration;
+
+/**
+ * Pause abstraction so retry loops stay deterministic in tests.
+ */
+@FunctionalInterface
+public interface Sleeper {
+  void sleep(Duration duration) throws InterruptedException;
+
+  Sleeper SYSTEM = duration -> Thread.sleep(duration);
+}
@@ -0,0 +1,54 @@
+package engineer.mkitsoukou.tika.application.auth.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.BitSet;
+import org.junit.jupiter.api.Test;
+
+class PermissionMaskTest {
+
+  @Test
+  void grantsShouldTestSingleBits() {
+    PermissionMask mask = new PermissionMask(10, bits(0, 7));
+
+    assertThat(mask.grants(0)).isTrue();
+    assertThat(mask.grants(7)).isTrue();
+    assertThat(mask.grants(3)).isFalse();
+    assertThat(mask.grants(64)).isFalse();
+    assertThat(mask.grants(-1)).isFalse();
+  }
+
+  @Test
+  void maskShouldNotShareItsBits() {
+    BitSet granted = bits(1);
+    PermissionMask mask = new PermissionMask(2, granted);
+
+    granted.set(0);
+    mask.granted().set(0);
+
+    assertThat(mask.grants(0)).isFalse();
+  }
+
+  @Test
+  void versionShouldCoverEveryGrantedOrdinal() {
+    assertThatThrownBy(() -> new PermissionMask(3, bits(3)))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void olderRegistriesShouldBeDetected() {
+    PermissionMask mask = new PermissionMask(12, bits(2));
+
+    assertThat(mask.isNewerThan(11)).isTrue();
+    assertThat(mask.isNewerThan(12)).isFalse();
+  }
+
+  private static BitSet bits(int... ordinals) {
+    BitSet bits = new BitSet();
+    for (int ordinal : ordinals) {
+      bits.set(ordinal);
+    }
+    return bits;
+  }
+}
@@ -0,0 +1,87 @@
+package engineer.mkitsoukou.tika.application.auth.service;
+
+import engineer.mkitsoukou.tika.application.auth.command.IntrospectTokensCommand;
+import engineer.mkitsoukou.tika.application.auth.dto.TokenIntrospectionDto;
+import engineer.mkitsoukou.tika.application.auth.exception.IntrospectionBatchTooLargeException;
+import engineer.mkitsoukou.tika.application.auth.exception.InvalidCredentialsException;
+import engineer.mkitsoukou.tika.application.auth.model.JwtClaims;
+import engineer.mkitsoukou.tika.application.auth.port.out.JwtValidatorPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class IntrospectTokensServiceTest {
+
+  private static final Instant NOW = Instant.parse("2025-07-07T12:00:00Z");
+  private static final JwtClaims CLAIMS =
+    new JwtClaims("uid-123", "jti-abc", NOW, NOW.plusSeconds(900), Set.of("admin"));
+
+  private JwtValidatorPort validator;
+  private IntrospectTokensService service;
+
+  @BeforeEach
+  void init() {
+    validator = mock(JwtValidatorPort.class);
+    when(validator.validateAccessToken("good")).thenReturn(CLAIMS);
+    when(validator.validateAccessToken("bad")).thenThrow(new InvalidCredentialsException());
+    doCallRealMethod().when(validator).validateAccessTokens(anyList());
+
+    service = new IntrospectTokensService(validator, 3);
+  }
+
+  @Test
+  void eachTokenShouldGetItsOwnResultInOrder() {
+    List<TokenIntrospectionDto> results =
+      service.execute(new IntrospectTokensCommand(List.of("bad", "good", "bad")));
+
+    assertThat(results).containsExactly(
+      TokenIntrospectionDto.inactive(),
+      TokenIntrospectionDto.active(CLAIMS),
+      TokenIntrospectionDto.inactive());
+  }
+
+  @Test
+  void theBatchShouldGoToTheValidatorInOneCall() {
+    service.execute(new IntrospectTokensCommand(List.of("good", "good")));
+
+    verify(validator, times(1)).validateAccessTokens(List.of("good", "good"));
+  }
+
+  @Test
+  void oversizedBatchShouldBeRejected() {
+    IntrospectTokensCommand command =
+      new IntrospectTokensCommand(Collections.nCopies(4, "good"));
+
+    assertThatThrownBy(() -> service.execute(command))
+      .isInstanceOf(IntrospectionBatchTooLargeException.class)
+      .hasMessageContaining("3");
+    verify(validator, never()).validateAccessTokens(anyList());
+  }
+
+  @Test
+  void nullTokensShouldBeInactiveWithoutReachingTheValidator() {
+    List<TokenIntrospectionDto> results =
+      service.execute(new IntrospectTokensCommand(Arrays.asList(null, "good", null)));
+
+    assertThat(results).containsExactly(
+      TokenIntrospectionDto.inactive(),
+      TokenIntrospectionDto.active(CLAIMS),
+      TokenIntrospectionDto.inactive());
+    verify(validator).validateAccessTokens(List.of("good"));
+  }
+
+  @Test
+  void emptyBatchShouldNotReachTheValidator() {
+    assertThat(service.execute(new IntrospectTokensCommand(List.of()))).isEmpty();
+    verifyNoInteractions(validator);
+  }
+}
@@ -6,7 +6,9 @@ import engineer.mkitsoukou.tika.application.auth.exception.InvalidCredentialsExc
 import engineer.mkitsoukou.tika.application.auth.exception.TooManyAttemptsException;
 import engineer.mkitsoukou.tika.application.auth.exception.UserInactiveException;
 import engineer.mkitsoukou.tika.application.auth.model.AuthSubject;
+import engineer.mkitsoukou.tika.application.auth.model.PermissionMask;
 import engineer.mkitsoukou.tika.application.auth.port.out.JwtIssuerPort;
+import engineer.mkitsoukou.tika.application.auth.port.out.LoginActivityPort;
 import engineer.mkitsoukou.tika.application.auth.port.out.RateLimiterPort;
 import engineer.mkitsoukou.tika.application.auth.port.out.TokenBlacklistPort;
 import engineer.mkitsoukou.tika.application.shared.ClockPort;
@@ -20,10 +22,12 @@ import org.mockito.ArgumentCaptor;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.BitSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.*;
@@ -105,6 +109,15 @@ class CountingRateLimiter implements RateLimiterPort {
   }
 }
 
+class RecordingLoginActivity implements LoginActivityPort {
+  final List<String> logins = new CopyOnWriteArrayList<>();
+
+  @Override
+  public void recordSuccessfulLogin(String userId, Instant loginAt) {
+    logins.add(userId + "@" + loginAt);
+  }
+}
+
 /* -----------------------------------------------------------------------
    LoginUserServiceTest
    -------------------------------------------------------------------- */
@@ -116,6 +129,7 @@ class LoginUserServiceTest {
   private PasswordHasher hasher;
   private JwtIssuerPort issuer;
   private TokenBlacklistPort blacklist;
+  private RecordingLoginActivity loginActivity;
   private ClockPort clock;
   private LoginUserService service;
 
@@ -128,8 +142,9 @@ class LoginUserServiceTest {
     hasher    = new StubHasher();
     issuer    = spy(new StubJwtIssuer());
     blacklist = new NoOpBlacklist();
+    loginActivity = new RecordingLoginActivity();
     clock     = () -> Instant.parse("2025-07-07T12:00:00Z");
-    service   = new LoginUserService(repo, hasher, issuer, blacklist, limiter, clock);
+    service   = new LoginUserService(repo, hasher, issuer, blacklist, limiter, loginActivity, clock);
 
     // prepare one active user in repo
     Email email = new Email("active@example.com");
@@ -190,6 +205,57 @@ class LoginUserServiceTest {
     assertThat(capturedSubject.userId()).isEqualTo(activeUser.getId().value().toString());
   }
 
+  @Test
+  void permissionMaskShouldBeEmbeddedWhenKnown() {
+    BitSet granted = new BitSet();
+    granted.set(2);
+    PermissionMask mask = new PermissionMask(5, granted);
+    LoginUserService withMasks = new LoginUserService(repo, hasher, issuer, blacklist,
+        limiter, loginActivity, clock, userId -> Optional.of(mask));
+
+    withMasks.execute(new LoginUserCommand("active@example.com", STRONG_PWD));
+
+    ArgumentCaptor<AuthSubject> captor = ArgumentCaptor.forClass(AuthSubject.class);
+    verify(issuer).issueTokens(captor.capture(), eq(clock.now()));
+    assertThat(captor.getValue().permissions()).isEqualTo(mask);
+  }
+
+  @Test
+  void permissionsShouldBeLeftOutByDefault() {
+    service.execute(new LoginUserCommand("active@example.com", STRONG_PWD));
+
+    ArgumentCaptor<AuthSubject> captor = ArgumentCaptor.forClass(AuthSubject.class);
+    verify(issuer).issueTokens(captor.capture(), eq(clock.now()));
+    assertThat(captor.getValue().permissions()).isNull();
+    assertThat(captor.getValue().keyThumbprint()).isNull();
+  }
+
+  @Test
+  void proofKeyShouldBindTheTokens() {
+    service.execute(new LoginUserCommand("active@example.com", STRONG_PWD, "thumb-1"));
+
+    ArgumentCaptor<AuthSubject> captor = ArgumentCaptor.forClass(AuthSubject.class);
+    verify(issuer).issueTokens(captor.capture(), eq(clock.now()));
+    assertThat(captor.getValue().keyThumbprint()).isEqualTo("thumb-1");
+  }
+
+  @Test
+  void successfulLoginShouldBeRecordedForDashboards() {
+    service.execute(new LoginUserCommand("active@example.com", STRONG_PWD));
+
+    User activeUser = repo.findByEmail(new Email("active@example.com")).orElseThrow();
+    assertThat(loginActivity.logins).containsExactly(activeUser.getId() + "@" + clock.now());
+  }
+
+  @Test
+  void failedLoginShouldNotBeRecorded() {
+    assertThatThrownBy(() ->
+      service.execute(new LoginUserCommand("active@example.com", "WrongPassword1!")))
+      .isInstanceOf(InvalidCredentialsException.class);
+
+    assertThat(loginActivity.logins).isEmpty();
+  }
+
   @Test
   void wrongPasswordTriggersInvalidCredentials() {
     LoginUserCommand cmd = new LoginUserCommand("active@example.com", "WrongPassword1!");
@@ -229,6 +295,7 @@ class LoginUserServiceTest {
       blkIssuer,
       blkList,
       limiter,
+      loginActivity,
       clock);
 
     LoginUserCommand cmd = new LoginUserCommand("active@example.com", STRONG_PWD);
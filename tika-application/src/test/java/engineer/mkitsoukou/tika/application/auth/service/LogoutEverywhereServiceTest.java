@@ -0,0 +1,82 @@
+package engineer.mkitsoukou.tika.application.auth.service;
+
+import engineer.mkitsoukou.tika.application.auth.command.LogoutEverywhereCommand;
+import engineer.mkitsoukou.tika.application.auth.exception.InvalidCredentialsException;
+import engineer.mkitsoukou.tika.application.auth.model.JwtClaims;
+import engineer.mkitsoukou.tika.application.auth.port.out.EventPublisherPort;
+import engineer.mkitsoukou.tika.application.auth.port.out.JwtValidatorPort;
+import engineer.mkitsoukou.tika.application.auth.port.out.RefreshTokenStorePort;
+import engineer.mkitsoukou.tika.application.auth.port.out.TokenBlacklistPort;
+import engineer.mkitsoukou.tika.application.auth.port.out.TokenEpochPort;
+import engineer.mkitsoukou.tika.domain.model.event.TokensRevoked;
+import engineer.mkitsoukou.tika.domain.model.valueobject.UserId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class LogoutEverywhereServiceTest {
+
+  private static final String USER_ID = UUID.randomUUID().toString();
+  private static final String AT = "AT-token";
+  private static final String JTI = "jti-abc";
+  private static final Instant ISSUED = Instant.parse("2025-07-07T12:00:00Z");
+  private static final Instant NOW = Instant.parse("2025-07-07T12:05:00.250Z");
+
+  private TokenEpochPort epochs;
+  private TokenBlacklistPort blacklist;
+  private RefreshTokenStorePort rtStore;
+  private EventPublisherPort events;
+  private LogoutEverywhereService service;
+
+  @BeforeEach
+  void init() {
+    JwtValidatorPort validator = mock(JwtValidatorPort.class);
+    when(validator.validateAccessToken(AT))
+      .thenReturn(new JwtClaims(USER_ID, JTI, ISSUED, ISSUED.plusSeconds(900), Set.of()));
+    when(validator.validateAccessToken("expired"))
+      .thenThrow(new InvalidCredentialsException());
+
+    epochs = mock(TokenEpochPort.class);
+    blacklist = mock(TokenBlacklistPort.class);
+    rtStore = mock(RefreshTokenStorePort.class);
+    events = mock(EventPublisherPort.class);
+    service = new LogoutEverywhereService(validator, epochs, blacklist, rtStore, events,
+      () -> NOW);
+  }
+
+  @Test
+  void shouldMoveTheEpochToNow() {
+    service.execute(new LogoutEverywhereCommand(AT));
+
+    verify(epochs).revokeAllBefore(USER_ID, NOW);
+    verify(rtStore).revoke(USER_ID, null);
+  }
+
+  @Test
+  void shouldBlacklistThePresentingToken() {
+    service.execute(new LogoutEverywhereCommand(AT));
+
+    verify(blacklist).blacklist(JTI);
+  }
+
+  @Test
+  void shouldPublishTokensRevoked() {
+    service.execute(new LogoutEverywhereCommand(AT));
+
+    verify(events).publish(new TokensRevoked(UserId.of(USER_ID), NOW));
+  }
+
+  @Test
+  void invalidTokenShouldFailWithoutRevoking() {
+    assertThatThrownBy(() -> service.execute(new LogoutEverywhereCommand("expired")))
+      .isInstanceOf(InvalidCredentialsException.class);
+
+    verifyNoInteractions(epochs, blacklist, rtStore, events);
+  }
+}
@@ -0,0 +1,81 @@
+package engineer.mkitsoukou.tika.application.auth.service;
+
+import engineer.mkitsoukou.tika.application.auth.command.MintServiceTokensCommand;
+import engineer.mkitsoukou.tika.application.auth.dto.ServiceTokensDto;
+import engineer.mkitsoukou.tika.application.auth.exception.InvalidCredentialsException;
+import engineer.mkitsoukou.tika.application.auth.model.ServiceClient;
+import engineer.mkitsoukou.tika.application.auth.port.out.ServiceTokenIssuerPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+class MintServiceTokensServiceTest {
+
+  private static final Instant NOW = Instant.parse("2025-07-07T12:00:00Z");
+  private static final ServiceClient BILLING =
+    new ServiceClient("billing", "tika-internal", Set.of("users.read"));
+
+  private ServiceTokenIssuerPort issuer;
+  private MintServiceTokensService service;
+
+  @BeforeEach
+  void init() {
+    issuer = mock(ServiceTokenIssuerPort.class);
+    when(issuer.mintTokens(eq(BILLING), anyInt(), eq(NOW)))
+      .thenAnswer(call -> new ServiceTokensDto(
+        List.of("token"), NOW.plusSeconds(300)));
+    Map<String, ServiceClient> clients = Map.of("billing", BILLING);
+    service = new MintServiceTokensService(
+      (id, secret) -> Optional.ofNullable(clients.get(id)).filter(c -> secret.equals("s3cret")),
+      issuer, () -> NOW, 64);
+  }
+
+  @Test
+  void singleTokenShouldBeMintedForAKnownClient() {
+    ServiceTokensDto tokens = service.execute(new MintServiceTokensCommand("billing", "s3cret"));
+
+    assertThat(tokens.accessTokens()).containsExactly("token");
+    verify(issuer).mintTokens(BILLING, 1, NOW);
+  }
+
+  @Test
+  void batchShouldBeMintedInOneCall() {
+    service.execute(new MintServiceTokensCommand("billing", "s3cret", 64));
+
+    verify(issuer, times(1)).mintTokens(BILLING, 64, NOW);
+  }
+
+  @Test
+  void unknownClientShouldFail() {
+    assertThatThrownBy(() -> service.execute(new MintServiceTokensCommand("intruder", "s3cret")))
+      .isInstanceOf(InvalidCredentialsException.class);
+    verifyNoInteractions(issuer);
+  }
+
+  @Test
+  void wrongOrMissingSecretShouldFail() {
+    assertThatThrownBy(() -> service.execute(new MintServiceTokensCommand("billing", "guess")))
+      .isInstanceOf(InvalidCredentialsException.class);
+    assertThatThrownBy(() -> service.execute(new MintServiceTokensCommand("billing", null)))
+      .isInstanceOf(InvalidCredentialsException.class);
+    verifyNoInteractions(issuer);
+  }
+
+  @Test
+  void batchOutsideTheBoundsShouldBeRejected() {
+    assertThatThrownBy(() -> service.execute(new MintServiceTokensCommand("billing", "s3cret", 65)))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> service.execute(new MintServiceTokensCommand("billing", "s3cret", 0)))
+      .isInstanceOf(IllegalArgumentException.class);
+    verifyNoInteractions(issuer);
+  }
+}
@@ -5,6 +5,7 @@ import engineer.mkitsoukou.tika.application.auth.dto.AuthTokensDto;
 import engineer.mkitsoukou.tika.application.auth.exception.InvalidCredentialsException;
 import engineer.mkitsoukou.tika.application.auth.model.AuthSubject;
 import engineer.mkitsoukou.tika.application.auth.model.JwtClaims;
+import engineer.mkitsoukou.tika.application.auth.model.PermissionMask;
 import engineer.mkitsoukou.tika.application.auth.port.out.JwtIssuerPort;
 import engineer.mkitsoukou.tika.application.auth.port.out.JwtValidatorPort;
 import engineer.mkitsoukou.tika.application.auth.port.out.RefreshTokenStorePort;
@@ -15,7 +16,9 @@ import org.junit.jupiter.api.Test;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.BitSet;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.IntStream;
@@ -102,6 +105,54 @@ class RefreshTokenServiceTest {
     assertThat(store.isValid(USER1_ID, VALID_RT1)).isFalse();  // revoked
   }
 
+  @Test
+  void refreshShouldEmbedTheCurrentPermissions() {
+    BitSet granted = new BitSet();
+    granted.set(0);
+    PermissionMask mask = new PermissionMask(1, granted);
+    RefreshTokenService withMasks = new RefreshTokenService(
+      validator, issuer, store, blacklist, clock,
+      userId -> USER1_ID.equals(userId) ? Optional.of(mask) : Optional.empty());
+
+    withMasks.execute(new RefreshTokenCommand(VALID_RT1));
+
+    verify(issuer).issueTokens(argThat(sub -> mask.equals(sub.permissions())), eq(NOW));
+  }
+
+  @Test
+  void boundRefreshTokenShouldKeepItsKey() {
+    String bound = "RT-bound";
+    store.store(USER1_ID, bound, NOW.plus(Duration.ofDays(10)));
+    when(validator.validateRefreshToken(bound)).thenReturn(new JwtClaims(USER1_ID, JTI_OLD,
+      NOW.minusSeconds(60), NOW.plus(Duration.ofDays(10)), Set.of(), null, "thumb-1"));
+
+    service.execute(new RefreshTokenCommand(bound, "thumb-1"));
+
+    verify(issuer).issueTokens(argThat(sub -> "thumb-1".equals(sub.keyThumbprint())), eq(NOW));
+  }
+
+  @Test
+  void boundRefreshTokenWithoutItsKeyShouldFail() {
+    String bound = "RT-bound";
+    store.store(USER1_ID, bound, NOW.plus(Duration.ofDays(10)));
+    when(validator.validateRefreshToken(bound)).thenReturn(new JwtClaims(USER1_ID, JTI_OLD,
+      NOW.minusSeconds(60), NOW.plus(Duration.ofDays(10)), Set.of(), null, "thumb-1"));
+
+    assertThatThrownBy(() -> service.execute(new RefreshTokenCommand(bound)))
+      .isInstanceOf(InvalidCredentialsException.class);
+    assertThatThrownBy(() -> service.execute(new RefreshTokenCommand(bound, "thumb-2")))
+      .isInstanceOf(InvalidCredentialsException.class);
+    verifyNoInteractions(issuer);
+    assertThat(store.isValid(USER1_ID, bound)).isTrue();
+  }
+
+  @Test
+  void unboundRefreshTokenShouldBindToTheProofKey() {
+    service.execute(new RefreshTokenCommand(VALID_RT1, "thumb-1"));
+
+    verify(issuer).issueTokens(argThat(sub -> "thumb-1".equals(sub.keyThumbprint())), eq(NOW));
+  }
+
   @Test
   void parallelRefreshesForManyUsers() {
     // Setup mocks and data before parallel execution
@@ -80,7 +80,8 @@ class RegisterUserServiceTest {
     // DTO mapping
     assertThat(dto.email()).isEqualTo("alice@example.com");
     // event published once
-    verify(publisher, times(1)).publish(isA(UserRegistered.class));
+    verify(publisher, times(1)).publishAll(argThat(events -> events.size() == 1
+      && events.get(0) instanceof UserRegistered));
   }
 
   @Test
@@ -113,8 +114,8 @@ class RegisterUserServiceTest {
     RegisterUserCommand cmd = new RegisterUserCommand("eve@example.com", "Sup3r@Pwd!");
     service.execute(cmd);
 
-    verify(publisher).publish(argThat(ev -> ev instanceof UserRegistered
-      && ((UserRegistered) ev).getEmail().value().equals("eve@example.com")));
+    verify(publisher).publishAll(argThat(events -> events.get(0) instanceof UserRegistered ev
+      && ev.getEmail().value().equals("eve@example.com")));
   }
 
   @Test
@@ -0,0 +1,80 @@
+package engineer.mkitsoukou.tika.application.shared.event;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.withSettings;
+
+import engineer.mkitsoukou.tika.application.auth.port.out.EventPublisherPort;
+import engineer.mkitsoukou.tika.domain.model.event.DomainEvent;
+import engineer.mkitsoukou.tika.domain.model.event.PasswordChanged;
+import engineer.mkitsoukou.tika.domain.model.valueobject.UserId;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class FanOutEventPublisherTest {
+
+  private static final Instant T0 = Instant.parse("2026-01-01T10:00:00Z");
+
+  private final EventPublisherPort delegate =
+      mock(EventPublisherPort.class, withSettings().extraInterfaces(AutoCloseable.class));
+  private final InProcessEventBus bus = mock(InProcessEventBus.class);
+  private final FanOutEventPublisher publisher = new FanOutEventPublisher(delegate, bus);
+
+  @Test
+  void eventsShouldReachTheDelegateThenTheBus() {
+    List<DomainEvent> events = List.of(new PasswordChanged(UserId.generate(), T0));
+
+    publisher.publishAll(events);
+
+    var order = inOrder(delegate, bus);
+    order.verify(delegate).publishAll(events);
+    order.verify(bus).dispatchAll(events);
+  }
+
+  @Test
+  void busShouldNotSeeEventsTheDelegateRejected() {
+    DomainEvent event = new PasswordChanged(UserId.generate(), T0);
+    doThrow(new IllegalStateException("kafka down")).when(delegate).publish(event);
+
+    assertThatThrownBy(() -> publisher.publish(event)).hasMessage("kafka down");
+    verify(bus, never()).dispatchAll(List.of(event));
+  }
+
+  @Test
+  void dispatchShouldWaitForTheDispatcher() {
+    List<Runnable> held = new ArrayList<>();
+    FanOutEventPublisher deferred = new FanOutEventPublisher(delegate, bus, held::add);
+    List<DomainEvent> events = List.of(new PasswordChanged(UserId.generate(), T0));
+
+    deferred.publishAll(events);
+
+    verify(delegate).publishAll(events);
+    verify(bus, never()).dispatchAll(events);
+    held.forEach(Runnable::run);
+    verify(bus).dispatchAll(events);
+  }
+
+  @Test
+  void closedBusShouldNotFailAPublishedCall() {
+    DomainEvent event = new PasswordChanged(UserId.generate(), T0);
+    doThrow(new IllegalStateException("event bus is closed"))
+        .when(bus).dispatchAll(List.of(event));
+
+    assertThatCode(() -> publisher.publish(event)).doesNotThrowAnyException();
+    verify(delegate).publish(event);
+  }
+
+  @Test
+  void closeShouldCloseTheDelegate() throws Exception {
+    publisher.close();
+
+    verify((AutoCloseable) delegate).close();
+  }
+}
@@ -0,0 +1,190 @@
+package engineer.mkitsoukou.tika.application.shared.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import engineer.mkitsoukou.tika.application.shared.event.InProcessEventBus.SubscriberStats;
+import engineer.mkitsoukou.tika.domain.model.event.DomainEvent;
+import engineer.mkitsoukou.tika.domain.model.event.PasswordChanged;
+import engineer.mkitsoukou.tika.domain.model.valueobject.UserId;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class InProcessEventBusTest {
+
+  private static final Instant T0 = Instant.parse("2026-01-01T10:00:00Z");
+
+  private final List<String> failures = Collections.synchronizedList(new ArrayList<>());
+  private InProcessEventBus bus;
+
+  @AfterEach
+  void tearDown() {
+    if (bus != null) {
+      bus.close();
+    }
+  }
+
+  @Test
+  void eventsOfOneAggregateShouldBeHandledInOrder() {
+    Map<String, List<Instant>> seen = new ConcurrentHashMap<>();
+    bus = bus(new InProcessEventBus.Settings(4, 1024), subscriber("recorder", event ->
+        seen.computeIfAbsent(event.aggregateId(), id -> new ArrayList<>()).add(event.occurredAt())));
+    List<UserId> users = List.of(UserId.generate(), UserId.generate(), UserId.generate());
+
+    for (int i = 0; i < 300; i++) {
+      bus.dispatch(new PasswordChanged(users.get(i % 3), T0.plusSeconds(i)));
+    }
+
+    await(() -> bus.stats("recorder").handled() == 300);
+    for (UserId user : users) {
+      assertThat(seen.get(user.value().toString())).hasSize(100).isSorted();
+    }
+  }
+
+  @Test
+  void slowSubscriberShouldNotHoldBackOthers() {
+    CountDownLatch entered = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    bus = bus(new InProcessEventBus.Settings(1, 2),
+        subscriber("slow", event -> {
+          entered.countDown();
+          awaitQuietly(release);
+        }),
+        subscriber("fast", event -> { }));
+
+    bus.dispatch(new PasswordChanged(UserId.generate(), T0));
+    await(() -> entered.getCount() == 0);
+    for (int i = 0; i < 9; i++) {
+      bus.dispatch(new PasswordChanged(UserId.generate(), T0));
+      await(() -> bus.stats("fast").lag() == 0);
+    }
+
+    await(() -> bus.stats("fast").handled() == 10);
+    SubscriberStats slow = bus.stats("slow");
+    assertThat(slow.handled()).isZero();
+    assertThat(slow.lag()).isEqualTo(2);
+    assertThat(slow.dropped()).isEqualTo(7);
+    release.countDown();
+    await(() -> bus.stats("slow").handled() == 3);
+  }
+
+  @Test
+  void failingHandlerShouldBeCountedAndReported() {
+    bus = bus(new InProcessEventBus.Settings(1, 16), subscriber("flaky", event -> {
+      if (event.occurredAt().equals(T0)) {
+        throw new IllegalStateException("boom");
+      }
+    }));
+
+    bus.dispatch(new PasswordChanged(UserId.generate(), T0));
+    bus.dispatch(new PasswordChanged(UserId.generate(), T0.plusSeconds(1)));
+
+    await(() -> bus.stats("flaky").handled() == 1);
+    assertThat(bus.stats("flaky").failed()).isEqualTo(1);
+    assertThat(failures).containsExactly("flaky: boom");
+  }
+
+  @Test
+  void closeShouldDrainQueuedEventsThenRejectNewOnes() {
+    List<DomainEvent> handled = Collections.synchronizedList(new ArrayList<>());
+    bus = bus(new InProcessEventBus.Settings(2, 64), subscriber("recorder", handled::add));
+    List<DomainEvent> events = List.of(
+        new PasswordChanged(UserId.generate(), T0),
+        new PasswordChanged(UserId.generate(), T0));
+
+    bus.dispatchAll(events);
+    bus.close();
+
+    assertThat(handled).containsExactlyInAnyOrderElementsOf(events);
+    assertThatThrownBy(() -> bus.dispatch(events.get(0)))
+        .isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  void everyAcceptedEventShouldBeHandledEvenWhenCloseRacesDispatch() throws Exception {
+    bus = bus(new InProcessEventBus.Settings(2, 100_000), subscriber("counter", event -> { }));
+    LongAdder accepted = new LongAdder();
+    CountDownLatch started = new CountDownLatch(4);
+    List<Thread> publishers = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      publishers.add(Thread.ofPlatform().start(() -> {
+        started.countDown();
+        try {
+          while (true) {
+            bus.dispatch(new PasswordChanged(UserId.generate(), T0));
+            accepted.increment();
+          }
+        } catch (IllegalStateException closed) {
+          // the bus is closing
+        }
+      }));
+    }
+
+    started.await();
+    bus.close();
+    for (Thread publisher : publishers) {
+      publisher.join();
+    }
+
+    SubscriberStats stats = bus.stats("counter");
+    assertThat(stats.handled() + stats.dropped()).isEqualTo(accepted.sum());
+    assertThat(stats.lag()).isZero();
+  }
+
+  @Test
+  void subscriberNamesShouldBeUnique() {
+    assertThatThrownBy(() -> bus(new InProcessEventBus.Settings(1, 1),
+        subscriber("twice", event -> { }), subscriber("twice", event -> { })))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("twice");
+  }
+
+  private InProcessEventBus bus(InProcessEventBus.Settings settings,
+      DomainEventSubscriber... subscribers) {
+    return new InProcessEventBus(List.of(subscribers), settings,
+        (subscriber, event, error) -> failures.add(subscriber + ": " + error.getMessage()));
+  }
+
+  private static DomainEventSubscriber subscriber(String name, Consumer<DomainEvent> handler) {
+    return new DomainEventSubscriber() {
+      @Override
+      public String name() {
+        return name;
+      }
+
+      @Override
+      public void handle(DomainEvent event) {
+        handler.accept(event);
+      }
+    };
+  }
+
+  private static void await(BooleanSupplier condition) {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (!condition.getAsBoolean()) {
+      if (System.nanoTime() > deadline) {
+        throw new AssertionError("condition not met within 5s");
+      }
+      Thread.onSpinWait();
+    }
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,136 @@
+package engineer.mkitsoukou.tika.application.shared.retry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import engineer.mkitsoukou.tika.application.shared.UseCase;
+import engineer.mkitsoukou.tika.domain.exception.AggregateVersionConflictException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RetryingUseCaseTest {
+
+  private static final RetryPolicy POLICY =
+      new RetryPolicy(3, Duration.ofMillis(10), Duration.ofMillis(15));
+
+  private ConflictMetrics metrics;
+  private List<Duration> sleeps;
+  private AtomicInteger calls;
+
+  @BeforeEach
+  void setUp() {
+    metrics = new ConflictMetrics();
+    sleeps = new ArrayList<>();
+    calls = new AtomicInteger();
+  }
+
+  @Test
+  void shouldReturnImmediatelyWithoutConflict() {
+    var useCase = retrying(input -> {
+      calls.incrementAndGet();
+      return input * 2;
+    });
+
+    assertThat(useCase.execute(21)).isEqualTo(42);
+    assertThat(calls).hasValue(1);
+    assertThat(sleeps).isEmpty();
+    assertThat(metrics.snapshot()).isEmpty();
+  }
+
+  @Test
+  void shouldReplayUntilConflictClears() {
+    var useCase = retrying(input -> {
+      if (calls.incrementAndGet() < 3) {
+        throw conflict("User");
+      }
+      return input;
+    });
+
+    assertThat(useCase.execute(7)).isEqualTo(7);
+    assertThat(calls).hasValue(3);
+    assertThat(sleeps).hasSize(2);
+    assertThat(metrics.snapshot().get("User"))
+        .isEqualTo(new ConflictMetrics.ConflictStats(2, 1, 0));
+  }
+
+  @Test
+  void shouldGiveUpAfterMaxAttempts() {
+    var useCase = retrying(input -> {
+      calls.incrementAndGet();
+      throw conflict("Role");
+    });
+
+    assertThatThrownBy(() -> useCase.execute(1))
+        .isInstanceOf(AggregateVersionConflictException.class);
+    assertThat(calls).hasValue(3);
+    assertThat(metrics.snapshot().get("Role"))
+        .isEqualTo(new ConflictMetrics.ConflictStats(3, 0, 1));
+  }
+
+  @Test
+  void backoffShouldStayWithinCeiling() {
+    var useCase = retrying(input -> {
+      if (calls.incrementAndGet() < 3) {
+        throw conflict("User");
+      }
+      return input;
+    });
+
+    useCase.execute(1);
+
+    assertThat(sleeps.get(0)).isBetween(Duration.ZERO, Duration.ofMillis(10));
+    assertThat(sleeps.get(1)).isBetween(Duration.ZERO, Duration.ofMillis(15));
+  }
+
+  @Test
+  void shouldNotRetryOtherFailures() {
+    var useCase = retrying(input -> {
+      calls.incrementAndGet();
+      throw new IllegalStateException("boom");
+    });
+
+    assertThatThrownBy(() -> useCase.execute(1)).isInstanceOf(IllegalStateException.class);
+    assertThat(calls).hasValue(1);
+  }
+
+  @Test
+  void shouldStopRetryingWhenInterrupted() {
+    var useCase = new RetryingUseCase<Integer, Integer>(
+        input -> {
+          calls.incrementAndGet();
+          throw conflict("User");
+        },
+        POLICY, metrics, d -> {
+          throw new InterruptedException();
+        });
+
+    assertThatThrownBy(() -> useCase.execute(1))
+        .isInstanceOf(AggregateVersionConflictException.class);
+    assertThat(calls).hasValue(1);
+    assertThat(Thread.interrupted()).isTrue();
+  }
+
+  @Test
+  void policyShouldCapBackoffAndRejectInvalidBounds() {
+    assertThat(RetryPolicy.DEFAULT.backoffCeiling(1)).isEqualTo(Duration.ofMillis(10));
+    assertThat(RetryPolicy.DEFAULT.backoffCeiling(3)).isEqualTo(Duration.ofMillis(40));
+    assertThat(RetryPolicy.DEFAULT.backoffCeiling(64)).isEqualTo(Duration.ofMillis(200));
+
+    assertThatThrownBy(() -> new RetryPolicy(0, Duration.ZERO, Duration.ZERO))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new RetryPolicy(1, Duration.ofSeconds(2), Duration.ofSeconds(1)))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private RetryingUseCase<Integer, Integer> retrying(UseCase<Integer, Integer> delegate) {
+    return new RetryingUseCase<>(delegate, POLICY, metrics, sleeps::add);
+  }
+
+  private static AggregateVersionConflictException conflict(String type) {
+    return new AggregateVersionConflictException(type, "42", 3);
+  }
+}
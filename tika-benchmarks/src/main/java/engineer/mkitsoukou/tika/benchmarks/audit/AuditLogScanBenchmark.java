@@ -0,0 +1,89 @@
+package engineer.mkitsoukou.tika.benchmarks.audit;
+
+import engineer.mkitsoukou.tika.domain.model.event.DomainEvent;
+import engineer.mkitsoukou.tika.domain.model.event.PasswordChanged;
+import engineer.mkitsoukou.tika.domain.model.event.RoleAssigned;
+import engineer.mkitsoukou.tika.domain.model.valueobject.RoleId;
+import engineer.mkitsoukou.tika.domain.model.valueobject.UserId;
+import engineer.mkitsoukou.tika.infrastructure.audit.AuditLogReader;
+import engineer.mkitsoukou.tika.infrastructure.audit.MappedAuditLog;
+import engineer.mkitsoukou.tika.infrastructure.messaging.codec.BinaryDomainEventSerializer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Sequential scan speed of the audit log, reported in events per second.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AuditLogScanBenchmark {
+
+  private static final int EVENTS = 1_000_000;
+
+  private final BinaryDomainEventSerializer codec = new BinaryDomainEventSerializer();
+  private Path directory;
+  private AuditLogReader reader;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    directory = Files.createTempDirectory("tika-audit-bench");
+    Instant at = Instant.parse("2026-03-01T08:00:00Z");
+    try (MappedAuditLog log = new MappedAuditLog(directory, codec,
+        new MappedAuditLog.Settings(64 * 1024 * 1024, Duration.ofDays(1), 1024),
+        () -> at, new SimpleMeterRegistry())) {
+      List<DomainEvent> batch = new ArrayList<>(10_000);
+      for (int i = 0; i < EVENTS; i++) {
+        batch.add(i % 2 == 0
+            ? new PasswordChanged(UserId.generate(), at)
+            : new RoleAssigned(UserId.generate(), RoleId.generate(), at));
+        if (batch.size() == 10_000) {
+          log.append(batch).join();
+          batch.clear();
+        }
+      }
+    }
+    reader = new AuditLogReader(directory, codec);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    try (Stream<Path> files = Files.walk(directory)) {
+      for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+        Files.delete(file);
+      }
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(EVENTS)
+  public long scanAll(Blackhole blackhole) throws IOException {
+    return reader.read((sequence, event) -> blackhole.consume(event));
+  }
+}
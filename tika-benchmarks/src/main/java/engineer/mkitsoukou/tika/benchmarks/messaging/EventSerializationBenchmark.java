@@ -0,0 +1,104 @@
+package engineer.mkitsoukou.tika.benchmarks.messaging;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import engineer.mkitsoukou.tika.domain.model.event.DomainEvent;
+import engineer.mkitsoukou.tika.domain.model.event.PermissionAdded;
+import engineer.mkitsoukou.tika.domain.model.event.RoleAssigned;
+import engineer.mkitsoukou.tika.domain.model.event.UserRegistered;
+import engineer.mkitsoukou.tika.domain.model.valueobject.Email;
+import engineer.mkitsoukou.tika.domain.model.valueobject.Permission;
+import engineer.mkitsoukou.tika.domain.model.valueobject.RoleId;
+import engineer.mkitsoukou.tika.domain.model.valueobject.UserId;
+import engineer.mkitsoukou.tika.infrastructure.messaging.JsonDomainEventSerializer;
+import engineer.mkitsoukou.tika.infrastructure.messaging.codec.BinaryDomainEventSerializer;
+import engineer.mkitsoukou.tika.infrastructure.messaging.codec.ByteBufferPool;
+import engineer.mkitsoukou.tika.infrastructure.messaging.codec.PermissionDictionary;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Binary event codec against the JSON encoding, per event type.
+ *
+ * <p>Run with {@code -prof gc} to compare allocation: {@code binaryEncodeIntoBuffer}
+ * should report close to zero bytes per operation.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventSerializationBenchmark {
+
+  @Param({"UserRegistered", "RoleAssigned", "PermissionAdded"})
+  private String eventType;
+
+  private final ObjectMapper mapper = new ObjectMapper();
+  private final JsonDomainEventSerializer json = new JsonDomainEventSerializer(mapper);
+  private final BinaryDomainEventSerializer binary = new BinaryDomainEventSerializer(
+      new PermissionDictionary(1, List.of("users.read", "users.write", "roles.manage")),
+      new ByteBufferPool(BinaryDomainEventSerializer.MAX_EVENT_SIZE, 8));
+  private final ByteBuffer buffer = ByteBuffer.allocate(BinaryDomainEventSerializer.MAX_EVENT_SIZE);
+
+  private DomainEvent event;
+  private byte[] jsonBytes;
+  private byte[] binaryBytes;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    Instant at = Instant.parse("2026-03-01T08:15:30.123456Z");
+    event = switch (eventType) {
+      case "UserRegistered" ->
+          new UserRegistered(UserId.generate(), new Email("alice.martin@example.com"), at);
+      case "RoleAssigned" -> new RoleAssigned(UserId.generate(), RoleId.generate(), at);
+      case "PermissionAdded" ->
+          new PermissionAdded(RoleId.generate(), new Permission("users.write"), at);
+      default -> throw new IllegalArgumentException(eventType);
+    };
+    jsonBytes = json.serialize(event);
+    binaryBytes = binary.serialize(event);
+  }
+
+  @Benchmark
+  public byte[] jsonSerialize() {
+    return json.serialize(event);
+  }
+
+  @Benchmark
+  public byte[] binarySerialize() {
+    return binary.serialize(event);
+  }
+
+  @Benchmark
+  public int binaryEncodeIntoBuffer() {
+    buffer.clear();
+    binary.encode(event, buffer);
+    return buffer.position();
+  }
+
+  @Benchmark
+  public Map<?, ?> jsonParse() throws IOException {
+    return mapper.readValue(jsonBytes, Map.class);
+  }
+
+  @Benchmark
+  public DomainEvent binaryDecode() {
+    return binary.deserialize(binaryBytes);
+  }
+}
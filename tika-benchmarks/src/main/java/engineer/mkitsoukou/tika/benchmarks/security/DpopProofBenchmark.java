@@ -0,0 +1,139 @@
+package engineer.mkitsoukou.tika.benchmarks.security;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JOSEObjectType;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.ECDSASigner;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import com.nimbusds.jose.util.Base64URL;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import engineer.mkitsoukou.tika.application.auth.model.AuthSubject;
+import engineer.mkitsoukou.tika.application.auth.model.JwtClaims;
+import engineer.mkitsoukou.tika.application.auth.port.out.TokenBlacklistPort;
+import engineer.mkitsoukou.tika.application.shared.ClockPort;
+import engineer.mkitsoukou.tika.security.jwt.CachingJwtValidator;
+import engineer.mkitsoukou.tika.security.jwt.DpopProof;
+import engineer.mkitsoukou.tika.security.jwt.DpopProofVerifier;
+import engineer.mkitsoukou.tika.security.jwt.JwtSigningKey;
+import engineer.mkitsoukou.tika.security.jwt.NimbusJwtIssuer;
+import engineer.mkitsoukou.tika.security.jwt.NimbusJwtValidator;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Token checks per request with and without DPoP: a bearer token that is a
+ * validation-cache hit; a bound token that is a cache hit plus an ES256 proof checked
+ * against a cached client key; and the naive path, verifying the token's signature
+ * again and importing the proof's key for every proof. Claiming the proof id in the
+ * replay cache, one set insert, is left out so the same proofs can be replayed here.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DpopProofBenchmark {
+
+  private static final int PROOFS = 1024;
+  private static final String METHOD = "GET";
+  private static final String URI = "https://api.example.com/users/42";
+  private static final Duration MAX_AGE = Duration.ofHours(1);
+
+  private NimbusJwtValidator verifying;
+  private CachingJwtValidator caching;
+  private DpopProofVerifier proofs;
+  private String token;
+  private String[] signed;
+  private int next;
+
+  @Setup(Level.Trial)
+  public void setUp() throws JOSEException, NoSuchAlgorithmException {
+    Instant now = Instant.now();
+    ECKey clientKey = new ECKeyGenerator(Curve.P_256).generate();
+    JwtSigningKey key = JwtSigningKey.generate("bench", JWSAlgorithm.ES256);
+    token = new NimbusJwtIssuer(key,
+        new NimbusJwtIssuer.Settings("tika", Duration.ofHours(1), Duration.ofDays(7)))
+        .issueTokens(new AuthSubject(UUID.randomUUID().toString(), Set.of("admin"), null,
+            clientKey.computeThumbprint().toString()), now)
+        .accessToken();
+    verifying = new NimbusJwtValidator(key.verificationKey(), "tika", ClockPort.SYSTEM);
+    caching = new CachingJwtValidator(verifying, new TokenBlacklistPort() {
+      @Override
+      public boolean isBlacklisted(String jti) {
+        return false;
+      }
+
+      @Override
+      public void blacklist(String jti) {
+      }
+    }, ClockPort.SYSTEM, 1024);
+    caching.validateAccessToken(token);
+    proofs = new DpopProofVerifier(ClockPort.SYSTEM, MAX_AGE, Duration.ofSeconds(5), 1024);
+
+    String ath = Base64URL.encode(MessageDigest.getInstance("SHA-256")
+        .digest(token.getBytes(StandardCharsets.US_ASCII))).toString();
+    JWSHeader header = new JWSHeader.Builder(JWSAlgorithm.ES256)
+        .type(new JOSEObjectType(DpopProofVerifier.TYPE))
+        .jwk(clientKey.toPublicJWK())
+        .build();
+    ECDSASigner signer = new ECDSASigner(clientKey);
+    signed = new String[PROOFS];
+    for (int i = 0; i < PROOFS; i++) {
+      SignedJWT proof = new SignedJWT(header, new JWTClaimsSet.Builder()
+          .jwtID(UUID.randomUUID().toString())
+          .claim("htm", METHOD)
+          .claim("htu", URI)
+          .claim("ath", ath)
+          .issueTime(Date.from(now))
+          .build());
+      proof.sign(signer);
+      signed[i] = proof.serialize();
+    }
+  }
+
+  @Benchmark
+  public JwtClaims bearerRequest() {
+    return caching.validateAccessToken(token);
+  }
+
+  @Benchmark
+  public DpopProof dpopRequest() {
+    caching.validateAccessToken(token);
+    return proofs.verify(nextProof(), METHOD, URI, token);
+  }
+
+  @Benchmark
+  public DpopProof naiveDpopRequest() {
+    verifying.validateAccessToken(token);
+    return new DpopProofVerifier(ClockPort.SYSTEM, MAX_AGE, Duration.ofSeconds(5), 1)
+        .verify(nextProof(), METHOD, URI, token);
+  }
+
+  private String nextProof() {
+    next = (next + 1) & (PROOFS - 1);
+    return signed[next];
+  }
+}
@@ -0,0 +1,96 @@
+package engineer.mkitsoukou.tika.benchmarks.security;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import engineer.mkitsoukou.tika.application.auth.model.AuthSubject;
+import engineer.mkitsoukou.tika.application.auth.model.JwtClaims;
+import engineer.mkitsoukou.tika.application.auth.port.out.TokenBlacklistPort;
+import engineer.mkitsoukou.tika.application.shared.ClockPort;
+import engineer.mkitsoukou.tika.security.jwt.CachingJwtValidator;
+import engineer.mkitsoukou.tika.security.jwt.JwtSigningKey;
+import engineer.mkitsoukou.tika.security.jwt.NimbusJwtIssuer;
+import engineer.mkitsoukou.tika.security.jwt.NimbusJwtValidator;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of introspecting a batch of distinct, never-seen access tokens: one at a time
+ * against {@link CachingJwtValidator#validateAccessTokens}, which verifies in parallel
+ * and checks the blacklist once. The caching validator starts empty on every call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtBatchValidateBenchmark {
+
+  @Param({"ES256", "EdDSA"})
+  private String algorithm;
+
+  @Param({"64"})
+  private int batchSize;
+
+  private NimbusJwtValidator verifying;
+  private List<String> tokens;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    Instant now = Instant.now();
+    JwtSigningKey key = JwtSigningKey.generate("bench", JWSAlgorithm.parse(algorithm));
+    NimbusJwtIssuer issuer = new NimbusJwtIssuer(key,
+        new NimbusJwtIssuer.Settings("tika", Duration.ofHours(1), Duration.ofDays(7)));
+    tokens = new ArrayList<>(batchSize);
+    for (int i = 0; i < batchSize; i++) {
+      tokens.add(issuer.issueTokens(
+          new AuthSubject(UUID.randomUUID().toString(), Set.of("admin")), now).accessToken());
+    }
+    verifying = new NimbusJwtValidator(key.verificationKey(), "tika", ClockPort.SYSTEM);
+  }
+
+  @Benchmark
+  public List<Optional<JwtClaims>> oneByOne() {
+    return verifying.validateAccessTokens(tokens);
+  }
+
+  @Benchmark
+  public List<Optional<JwtClaims>> batched() {
+    return new CachingJwtValidator(verifying, NO_REVOCATIONS, ClockPort.SYSTEM, batchSize)
+        .validateAccessTokens(tokens);
+  }
+
+  private static final TokenBlacklistPort NO_REVOCATIONS = new TokenBlacklistPort() {
+    @Override
+    public boolean isBlacklisted(String jti) {
+      return false;
+    }
+
+    @Override
+    public Set<String> blacklistedAmong(Collection<String> jtis) {
+      return Set.of();
+    }
+
+    @Override
+    public void blacklist(String jti) {
+    }
+  };
+}
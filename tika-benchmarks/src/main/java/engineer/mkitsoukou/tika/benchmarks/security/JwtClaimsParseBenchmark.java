@@ -0,0 +1,76 @@
+package engineer.mkitsoukou.tika.benchmarks.security;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import engineer.mkitsoukou.tika.application.auth.model.AuthSubject;
+import engineer.mkitsoukou.tika.application.auth.model.JwtClaims;
+import engineer.mkitsoukou.tika.security.jwt.JwtPayloadReader;
+import engineer.mkitsoukou.tika.security.jwt.JwtSigningKey;
+import engineer.mkitsoukou.tika.security.jwt.NimbusJwtIssuer;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Turning an access token's payload into {@link JwtClaims}: Nimbus'
+ * {@code JWTClaimsSet} against the streaming {@link JwtPayloadReader}. Signature
+ * verification is left out of both. Run with {@code -prof gc} for allocation per
+ * operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtClaimsParseBenchmark {
+
+  private final JwtPayloadReader reader = new JwtPayloadReader();
+  private String token;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    token = new NimbusJwtIssuer(JwtSigningKey.generate("bench", JWSAlgorithm.ES256),
+        new NimbusJwtIssuer.Settings("tika", Duration.ofHours(1), Duration.ofDays(7)))
+        .issueTokens(new AuthSubject(UUID.randomUUID().toString(),
+            Set.of(UUID.randomUUID().toString(), UUID.randomUUID().toString())), Instant.now())
+        .accessToken();
+  }
+
+  @Benchmark
+  public JwtClaims nimbus() throws ParseException {
+    JWTClaimsSet claims = SignedJWT.parse(token).getJWTClaimsSet();
+    claims.getIssuer();
+    claims.getStringClaim(NimbusJwtIssuer.TOKEN_USE);
+    List<String> roles = claims.getStringListClaim(NimbusJwtIssuer.ROLES);
+    return new JwtClaims(claims.getSubject(), claims.getJWTID(),
+        claims.getIssueTime().toInstant(), claims.getExpirationTime().toInstant(),
+        roles == null ? Set.of() : Set.copyOf(roles));
+  }
+
+  @Benchmark
+  public JwtClaims streaming() {
+    JwtPayloadReader claims = reader.read(token);
+    claims.issuer();
+    claims.tokenUse();
+    return new JwtClaims(claims.subject(), claims.jwtId(),
+        Instant.ofEpochSecond(claims.issuedAt()), Instant.ofEpochSecond(claims.expiresAt()),
+        claims.roles());
+  }
+}
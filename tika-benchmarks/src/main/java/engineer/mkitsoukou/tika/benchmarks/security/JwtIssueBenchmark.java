@@ -0,0 +1,71 @@
+package engineer.mkitsoukou.tika.benchmarks.security;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import engineer.mkitsoukou.tika.application.auth.dto.AuthTokensDto;
+import engineer.mkitsoukou.tika.application.auth.model.AuthSubject;
+import engineer.mkitsoukou.tika.security.jwt.JwtSigningKey;
+import engineer.mkitsoukou.tika.security.jwt.NimbusJwtIssuer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Token pairs issued per second, per signing algorithm and thread count. One
+ * operation is one login's worth of signing: an access and a refresh token.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtIssueBenchmark {
+
+  @Param({"RS256", "ES256", "EdDSA"})
+  private String algorithm;
+
+  private final Instant now = Instant.parse("2026-03-01T08:00:00Z");
+  private final AuthSubject subject = new AuthSubject(UUID.randomUUID().toString(),
+      Set.of(UUID.randomUUID().toString(), UUID.randomUUID().toString()));
+  private NimbusJwtIssuer issuer;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    issuer = new NimbusJwtIssuer(
+        JwtSigningKey.generate("bench", JWSAlgorithm.parse(algorithm)),
+        new NimbusJwtIssuer.Settings("tika", Duration.ofMinutes(15), Duration.ofDays(7)));
+  }
+
+  @Benchmark
+  @Threads(1)
+  public AuthTokensDto issue1Thread() {
+    return issuer.issueTokens(subject, now);
+  }
+
+  @Benchmark
+  @Threads(4)
+  public AuthTokensDto issue4Threads() {
+    return issuer.issueTokens(subject, now);
+  }
+
+  @Benchmark
+  @Threads(16)
+  public AuthTokensDto issue16Threads() {
+    return issuer.issueTokens(subject, now);
+  }
+}
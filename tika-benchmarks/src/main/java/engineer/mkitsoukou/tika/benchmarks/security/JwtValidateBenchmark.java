@@ -0,0 +1,80 @@
+package engineer.mkitsoukou.tika.benchmarks.security;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import engineer.mkitsoukou.tika.application.auth.model.AuthSubject;
+import engineer.mkitsoukou.tika.application.auth.model.JwtClaims;
+import engineer.mkitsoukou.tika.application.auth.port.out.TokenBlacklistPort;
+import engineer.mkitsoukou.tika.application.shared.ClockPort;
+import engineer.mkitsoukou.tika.security.jwt.CachingJwtValidator;
+import engineer.mkitsoukou.tika.security.jwt.JwtSigningKey;
+import engineer.mkitsoukou.tika.security.jwt.NimbusJwtIssuer;
+import engineer.mkitsoukou.tika.security.jwt.NimbusJwtValidator;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of validating an access token that has been seen before: a full signature
+ * verification against a {@link CachingJwtValidator} hit.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtValidateBenchmark {
+
+  @Param({"RS256", "ES256", "EdDSA"})
+  private String algorithm;
+
+  private NimbusJwtValidator verifying;
+  private CachingJwtValidator caching;
+  private String token;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    Instant now = Instant.now();
+    JwtSigningKey key = JwtSigningKey.generate("bench", JWSAlgorithm.parse(algorithm));
+    token = new NimbusJwtIssuer(key,
+        new NimbusJwtIssuer.Settings("tika", Duration.ofHours(1), Duration.ofDays(7)))
+        .issueTokens(new AuthSubject(UUID.randomUUID().toString(), Set.of("admin")), now)
+        .accessToken();
+    verifying = new NimbusJwtValidator(key.verificationKey(), "tika", ClockPort.SYSTEM);
+    caching = new CachingJwtValidator(verifying, new TokenBlacklistPort() {
+      @Override
+      public boolean isBlacklisted(String jti) {
+        return false;
+      }
+
+      @Override
+      public void blacklist(String jti) {
+      }
+    }, ClockPort.SYSTEM, 1024);
+    caching.validateAccessToken(token);
+  }
+
+  @Benchmark
+  public JwtClaims verifySignature() {
+    return verifying.validateAccessToken(token);
+  }
+
+  @Benchmark
+  public JwtClaims cacheHit() {
+    return caching.validateAccessToken(token);
+  }
+}
@@ -0,0 +1,207 @@
+package engineer.mkitsoukou.tika.benchmarks.security;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import engineer.mkitsoukou.tika.application.auth.model.AuthSubject;
+import engineer.mkitsoukou.tika.application.auth.port.out.JwtValidatorPort;
+import engineer.mkitsoukou.tika.application.auth.port.out.TokenBlacklistPort;
+import engineer.mkitsoukou.tika.application.shared.ClockPort;
+import engineer.mkitsoukou.tika.domain.model.entity.Role;
+import engineer.mkitsoukou.tika.domain.model.valueobject.Permission;
+import engineer.mkitsoukou.tika.domain.model.valueobject.RoleId;
+import engineer.mkitsoukou.tika.domain.model.valueobject.RoleName;
+import engineer.mkitsoukou.tika.domain.repository.RoleRepository;
+import engineer.mkitsoukou.tika.security.jwt.CachingJwtValidator;
+import engineer.mkitsoukou.tika.security.jwt.JwtSigningKey;
+import engineer.mkitsoukou.tika.security.jwt.NimbusJwtIssuer;
+import engineer.mkitsoukou.tika.security.jwt.NimbusJwtValidator;
+import engineer.mkitsoukou.tika.security.web.JwtClaimsAuthentication;
+import engineer.mkitsoukou.tika.security.web.ResourceServerConfiguration;
+import engineer.mkitsoukou.tika.security.web.SnapshotPermissionEvaluator;
+import jakarta.servlet.Filter;
+import jakarta.servlet.ServletException;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.web.servlet.context.AnnotationConfigServletWebApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.core.Authentication;
+
+/**
+ * Per-request cost of the resource-server {@link ResourceServerConfiguration} filter
+ * chain, with every benchmark thread sending requests at once: an authenticated request
+ * whose token is a validation-cache hit, an anonymous request turned away with 401, and
+ * a {@code hasPermission} check against the role snapshot.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class ResourceServerFilterChainBenchmark {
+
+  private static final int ROLES = 50;
+
+  private AnnotationConfigServletWebApplicationContext context;
+  private Filter filterChain;
+  private SnapshotPermissionEvaluator evaluator;
+  private String token;
+  private Authentication caller;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException, ServletException {
+    List<Role> roles = new ArrayList<>(ROLES);
+    for (int i = 0; i < ROLES; i++) {
+      roles.add(Role.createRole(new RoleName("ROLE_BENCH_" + i),
+          Set.of(new Permission("user.read"), new Permission("role" + i + ".write"))));
+    }
+    JwtSigningKey key = JwtSigningKey.generate("bench", JWSAlgorithm.ES256);
+    token = new NimbusJwtIssuer(key,
+        new NimbusJwtIssuer.Settings("tika", Duration.ofHours(1), Duration.ofDays(7)))
+        .issueTokens(new AuthSubject(UUID.randomUUID().toString(),
+            Set.of(roles.get(ROLES - 1).getRoleId().value().toString())), Instant.now())
+        .accessToken();
+    CachingJwtValidator validator = new CachingJwtValidator(
+        new NimbusJwtValidator(key.verificationKey(), "tika", ClockPort.SYSTEM),
+        new TokenBlacklistPort() {
+          @Override
+          public boolean isBlacklisted(String jti) {
+            return false;
+          }
+
+          @Override
+          public void blacklist(String jti) {
+          }
+        }, ClockPort.SYSTEM, 1024);
+
+    context = new AnnotationConfigServletWebApplicationContext();
+    context.setServletContext(new MockServletContext());
+    context.registerBean(JwtValidatorPort.class, () -> validator);
+    context.registerBean(RoleRepository.class, () -> new InMemoryRoles(roles));
+    context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("benchmark",
+        Map.of("tika.security.jwt.enabled", "true")));
+    context.register(Benchmarked.class);
+    context.refresh();
+    filterChain = context.getBean("springSecurityFilterChain", Filter.class);
+    evaluator = context.getBean(SnapshotPermissionEvaluator.class);
+
+    MockHttpServletRequest request = request();
+    request.addHeader("Authorization", "Bearer " + token);
+    filterChain.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+    caller = new JwtClaimsAuthentication(validator.validateAccessToken(token), token);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public int authenticatedRequest() throws IOException, ServletException {
+    MockHttpServletRequest request = request();
+    request.addHeader("Authorization", "Bearer " + token);
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    filterChain.doFilter(request, response, new MockFilterChain());
+    return response.getStatus();
+  }
+
+  @Benchmark
+  public int anonymousRequest() throws IOException, ServletException {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    filterChain.doFilter(request(), response, new MockFilterChain());
+    return response.getStatus();
+  }
+
+  @Benchmark
+  public boolean permissionCheck() {
+    return evaluator.hasPermission(caller, "role" + (ROLES - 1) + ".write");
+  }
+
+  private static MockHttpServletRequest request() {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/users/42");
+    request.setServletPath("/users/42");
+    return request;
+  }
+
+  @Configuration(proxyBeanMethods = false)
+  @EnableWebSecurity
+  @Import(ResourceServerConfiguration.class)
+  static class Benchmarked {
+  }
+
+  private record InMemoryRoles(List<Role> roles) implements RoleRepository {
+
+    @Override
+    public Optional<Role> findById(RoleId roleId) {
+      return roles.stream().filter(role -> role.getRoleId().equals(roleId)).findFirst();
+    }
+
+    @Override
+    public Optional<Role> findByName(RoleName roleName) {
+      return roles.stream().filter(role -> role.getRoleName().equals(roleName)).findFirst();
+    }
+
+    @Override
+    public List<Role> findAll() {
+      return roles;
+    }
+
+    @Override
+    public Optional<Role> save(Role role) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean delete(Role role) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean deleteById(RoleId roleId) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean existsById(RoleId roleId) {
+      return findById(roleId).isPresent();
+    }
+
+    @Override
+    public boolean existsByName(RoleName roleName) {
+      return findByName(roleName).isPresent();
+    }
+
+    @Override
+    public long count() {
+      return roles.size();
+    }
+  }
+}
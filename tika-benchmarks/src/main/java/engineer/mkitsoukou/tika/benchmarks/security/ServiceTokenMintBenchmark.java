@@ -0,0 +1,81 @@
+package engineer.mkitsoukou.tika.benchmarks.security;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import engineer.mkitsoukou.tika.application.auth.dto.AuthTokensDto;
+import engineer.mkitsoukou.tika.application.auth.dto.ServiceTokensDto;
+import engineer.mkitsoukou.tika.application.auth.model.AuthSubject;
+import engineer.mkitsoukou.tika.application.auth.model.ServiceClient;
+import engineer.mkitsoukou.tika.security.jwt.JwtSigningKey;
+import engineer.mkitsoukou.tika.security.jwt.NimbusJwtIssuer;
+import engineer.mkitsoukou.tika.security.jwt.ServiceTokenMinter;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Service tokens minted per second, per signing algorithm: one token per call, a
+ * micro-batch of {@value #BATCH} per call (each counted as one operation), and for
+ * comparison a login's token pair from {@link NimbusJwtIssuer}, counted as one operation
+ * for its access token.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class ServiceTokenMintBenchmark {
+
+  private static final int BATCH = 64;
+
+  @Param({"ES256", "EdDSA"})
+  private String algorithm;
+
+  private final Instant now = Instant.parse("2026-03-01T08:00:00Z");
+  private final ServiceClient client =
+      new ServiceClient("billing", "tika-internal", Set.of("users.read", "roles.read"));
+  private final AuthSubject subject = new AuthSubject("billing", Set.of("service"));
+  private ServiceTokenMinter minter;
+  private NimbusJwtIssuer issuer;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    JwtSigningKey key = JwtSigningKey.generate("bench", JWSAlgorithm.parse(algorithm));
+    minter = new ServiceTokenMinter(() -> key, "tika", Duration.ofMinutes(5),
+        NimbusJwtIssuer.RANDOM_IDS);
+    issuer = new NimbusJwtIssuer(key,
+        new NimbusJwtIssuer.Settings("tika", Duration.ofMinutes(5), Duration.ofDays(7)));
+  }
+
+  @Benchmark
+  public ServiceTokensDto mintOne() {
+    return minter.mintTokens(client, 1, now);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  public ServiceTokensDto mintBatch() {
+    return minter.mintTokens(client, BATCH, now);
+  }
+
+  @Benchmark
+  public AuthTokensDto issuePair() {
+    return issuer.issueTokens(subject, now);
+  }
+}
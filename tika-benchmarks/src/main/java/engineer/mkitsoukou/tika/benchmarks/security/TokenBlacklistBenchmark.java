@@ -0,0 +1,98 @@
+package engineer.mkitsoukou.tika.benchmarks.security;
+
+import engineer.mkitsoukou.tika.application.shared.ClockPort;
+import engineer.mkitsoukou.tika.infrastructure.tokenblacklist.TokenBlacklistStore;
+import engineer.mkitsoukou.tika.infrastructure.tokenblacklist.TwoTierTokenBlacklist;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Black-list lookups through the local Bloom filter, sized for and holding a million
+ * JTIs: a JTI never black-listed, answered by the filter alone, and a batch of 64 such
+ * JTIs. The store is an in-memory set standing in for Redis; without the filter each
+ * lookup here would be a Redis round-trip.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TokenBlacklistBenchmark {
+
+  private static final int BLACKLISTED = 1_000_000;
+  private static final int LOOKUPS = 4096;
+
+  private TwoTierTokenBlacklist blacklist;
+  private String[] valid;
+  private List<String> batch;
+  private int next;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    MemoryStore store = new MemoryStore();
+    IntStream.range(0, BLACKLISTED).forEach(i -> store.jtis.add(UUID.randomUUID().toString()));
+    blacklist = new TwoTierTokenBlacklist(store, BLACKLISTED, 0.001, ClockPort.SYSTEM,
+        new SimpleMeterRegistry());
+    blacklist.resync();
+    valid = IntStream.range(0, LOOKUPS)
+        .mapToObj(i -> UUID.randomUUID().toString())
+        .toArray(String[]::new);
+    batch = List.of(valid).subList(0, 64);
+  }
+
+  @Benchmark
+  public boolean notBlacklisted() {
+    next = (next + 1) & (LOOKUPS - 1);
+    return blacklist.isBlacklisted(valid[next]);
+  }
+
+  @Benchmark
+  public Set<String> batchOf64() {
+    return blacklist.blacklistedAmong(batch);
+  }
+
+  private static final class MemoryStore implements TokenBlacklistStore {
+
+    final Set<String> jtis = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public void add(String jti) {
+      jtis.add(jti);
+    }
+
+    @Override
+    public boolean contains(String jti) {
+      return jtis.contains(jti);
+    }
+
+    @Override
+    public Set<String> containedAmong(Collection<String> candidates) {
+      return candidates.stream().filter(jtis::contains).collect(Collectors.toSet());
+    }
+
+    @Override
+    public void forEach(Consumer<String> action) {
+      jtis.forEach(action);
+    }
+  }
+}
@@ -0,0 +1,30 @@
+package engineer.mkitsoukou.tika.domain.exception;
+
+/**
+ * Exception thrown by a repository when an aggregate was modified concurrently,
+ * i.e. the stored version no longer matches the version the caller loaded.
+ */
+public class AggregateVersionConflictException extends DomainException {
+  private final String aggregateType;
+  private final String aggregateId;
+  private final long expectedVersion;
+
+  public AggregateVersionConflictException(String aggregateType, String aggregateId, long expectedVersion) {
+    super("%s %s was modified concurrently (expected version %d)", aggregateType, aggregateId, expectedVersion);
+    this.aggregateType = aggregateType;
+    this.aggregateId = aggregateId;
+    this.expectedVersion = expectedVersion;
+  }
+
+  public String getAggregateType() {
+    return aggregateType;
+  }
+
+  public String getAggregateId() {
+    return aggregateId;
+  }
+
+  public long getExpectedVersion() {
+    return expectedVersion;
+  }
+}
@@ -1,5 +1,6 @@
 package engineer.mkitsoukou.tika.domain.model.entity;
 
+import engineer.mkitsoukou.tika.domain.exception.AggregateVersionConflictException;
 import engineer.mkitsoukou.tika.domain.exception.DomainEventException;
 import engineer.mkitsoukou.tika.domain.exception.EntityRequiredFieldException;
 import engineer.mkitsoukou.tika.domain.model.event.DomainEvent;
@@ -8,10 +9,11 @@ import java.util.List;
 
 /**
  * Base class for all domain entities that need to track and publish domain events.
- * Provides common functionality for event handling.
+ * Provides common functionality for event handling and optimistic concurrency.
  */
 public abstract class AbstractEntity {
   private final transient List<DomainEvent> events = new ArrayList<>();
+  private long version;
 
   /**
    * Utility method to verify that a value is not null.
@@ -54,4 +56,29 @@ public abstract class AbstractEntity {
     events.clear();
     return pulledEvents;
   }
+
+  /**
+   * Returns the version of this entity as last loaded from or written to its repository.
+   * A new entity that was never persisted has version {@code 0}.
+   *
+   * @return the persisted version
+   */
+  public long getVersion() {
+    return version;
+  }
+
+  /**
+   * Records the version assigned by the repository.
+   * Repository implementations call this after loading the entity and after each
+   * successful save; a later save with a stale version fails with
+   * {@link AggregateVersionConflictException}.
+   *
+   * <p>Public only because repositories live in other packages. No other code may call
+   * it: setting the version by hand defeats the concurrency check.</p>
+   *
+   * @param persistedVersion the version now stored for this entity
+   */
+  public void markPersisted(long persistedVersion) {
+    this.version = persistedVersion;
+  }
 }
@@ -5,6 +5,7 @@ import engineer.mkitsoukou.tika.domain.exception.EntityRequiredFieldException;
 import engineer.mkitsoukou.tika.domain.exception.PermissionNotFoundException;
 import engineer.mkitsoukou.tika.domain.model.event.PermissionAdded;
 import engineer.mkitsoukou.tika.domain.model.event.PermissionRemoved;
+import engineer.mkitsoukou.tika.domain.model.event.PermissionsChanged;
 import engineer.mkitsoukou.tika.domain.model.valueobject.Permission;
 import engineer.mkitsoukou.tika.domain.model.valueobject.RoleId;
 import engineer.mkitsoukou.tika.domain.model.valueobject.RoleName;
@@ -128,20 +129,25 @@ public final class Role extends AbstractEntity {
   /**
    * Adds multiple permissions to this role at once.
    * Only permissions that are not already assigned will be added.
-   * This method is a bulk operation equivalent to calling addPermission() for each permission,
-   * but with better performance since it processes them as a batch.
+   * Records a single {@link PermissionsChanged} listing the permissions actually added,
+   * or nothing if all of them were already assigned.
    *
    * @param permissions the set of permissions to add
    * @param now         the timestamp when the permissions were added
    * @throws EntityRequiredFieldException if the permissions parameter is null
-   * @throws EmptyRoleException if permissions set is empty
    */
   public void addPermissions(Set<Permission> permissions, Instant now) {
     requireNonNull(permissions, "permissions");
     requireNonNull(now, "now");
 
+    Set<Permission> added = new HashSet<>();
     for (Permission permission : permissions) {
-      addPermission(permission, now);
+      if (this.permissions.add(requireNonNull(permission, "permission"))) {
+        added.add(permission);
+      }
+    }
+    if (!added.isEmpty()) {
+      recordEvent(PermissionsChanged.createEvent(roleId, added, Set.of(), now));
     }
   }
 
@@ -154,7 +160,7 @@ public final class Role extends AbstractEntity {
    * <p>The method performs validation in this order:
    * 1. Checks that all permissions to remove exist in the role
    * 2. Verifies that removing these permissions won't leave the role empty
-   * 3. Performs the removal and records events for each removed permission
+   * 3. Performs the removal and records a single {@link PermissionsChanged} event
    *</p>
    *
    * @param permissions the set of permissions to remove
@@ -181,8 +187,9 @@ public final class Role extends AbstractEntity {
     }
 
     // Remove all permissions
-    for (Permission permission : permissions) {
-      removePermission(permission, now);
+    if (!permissions.isEmpty()) {
+      this.permissions.removeAll(permissions);
+      recordEvent(PermissionsChanged.createEvent(roleId, Set.of(), permissions, now));
     }
   }
 
@@ -7,12 +7,15 @@ import engineer.mkitsoukou.tika.domain.exception.RoleNotFoundException;
 import engineer.mkitsoukou.tika.domain.model.event.PasswordChanged;
 import engineer.mkitsoukou.tika.domain.model.event.RoleAssigned;
 import engineer.mkitsoukou.tika.domain.model.event.RoleRemoved;
+import engineer.mkitsoukou.tika.domain.model.event.RolesAssigned;
+import engineer.mkitsoukou.tika.domain.model.event.RolesRemoved;
 import engineer.mkitsoukou.tika.domain.model.event.UserActivationChanged;
 import engineer.mkitsoukou.tika.domain.model.event.UserRegistered;
 import engineer.mkitsoukou.tika.domain.model.valueobject.Email;
 import engineer.mkitsoukou.tika.domain.model.valueobject.PasswordHash;
 import engineer.mkitsoukou.tika.domain.model.valueobject.Permission;
 import engineer.mkitsoukou.tika.domain.model.valueobject.PlainPassword;
+import engineer.mkitsoukou.tika.domain.model.valueobject.RoleId;
 import engineer.mkitsoukou.tika.domain.model.valueobject.UserId;
 import engineer.mkitsoukou.tika.domain.service.PasswordHasher;
 import java.time.Instant;
@@ -172,8 +175,8 @@ public final class User extends AbstractEntity {
   /**
    * Assigns multiple roles to the user at once.
    * Only roles that are not already assigned will be added.
-   * This method is a bulk operation equivalent to calling assignRole() for each role,
-   * but with better performance since it processes them as a batch.
+   * Records a single {@link RolesAssigned} listing the roles actually added,
+   * or nothing if all of them were already assigned.
    *
    * @param rolesToAssign the set of roles to assign
    * @param now           the timestamp when the roles were assigned
@@ -183,8 +186,14 @@ public final class User extends AbstractEntity {
     requireNonNull(rolesToAssign, "rolesToAssign");
     requireNonNull(now, "now");
 
+    Set<RoleId> assigned = new LinkedHashSet<>();
     for (Role role : rolesToAssign) {
-      assignRole(role, now);
+      if (roles.add(requireNonNull(role, "role"))) {
+        assigned.add(role.getRoleId());
+      }
+    }
+    if (!assigned.isEmpty()) {
+      recordEvent(RolesAssigned.createEvent(id, assigned, now));
     }
   }
 
@@ -197,7 +206,7 @@ public final class User extends AbstractEntity {
    * <p>The method performs validation in this order:
    * 1. Checks that all roles to remove exist for the user
    * 2. Verifies that removing these roles won't leave the user without any roles
-   * 3. Performs the removal and records events for each removed role
+   * 3. Performs the removal and records a single {@link RolesRemoved} event
    *</p>
    *
    * @param rolesToRemove the set of roles to remove
@@ -224,9 +233,13 @@ public final class User extends AbstractEntity {
     }
 
     // Remove all roles
-    for (Role role : rolesToRemove) {
-      roles.remove(role);
-      recordEvent(RoleRemoved.createEvent(id, role.getRoleId(), now));
+    if (!rolesToRemove.isEmpty()) {
+      Set<RoleId> removed = new LinkedHashSet<>();
+      for (Role role : rolesToRemove) {
+        roles.remove(role);
+        removed.add(role.getRoleId());
+      }
+      recordEvent(RolesRemoved.createEvent(id, removed, now));
     }
   }
 
@@ -4,5 +4,12 @@ import java.time.Instant;
 
 public interface DomainEvent {
   Instant occurredAt();
-}
 
+  /**
+   * Identifier of the aggregate that raised the event (user id or role id).
+   * Events sharing it must be delivered in the order they were recorded.
+   *
+   * @return the aggregate identifier as a string
+   */
+  String aggregateId();
+}
@@ -40,6 +40,11 @@ public class PasswordChanged extends AbstractDomainEvent {
     return userId;
   }
 
+  @Override
+  public String aggregateId() {
+    return userId.value().toString();
+  }
+
   @Override
   public boolean equals(Object o) {
     if (!(o instanceof PasswordChanged that)) {
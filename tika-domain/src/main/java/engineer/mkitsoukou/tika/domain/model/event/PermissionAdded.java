@@ -49,6 +49,11 @@ public class PermissionAdded extends AbstractDomainEvent {
     return permission;
   }
 
+  @Override
+  public String aggregateId() {
+    return roleId.value().toString();
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) return true;
@@ -0,0 +1,87 @@
+package engineer.mkitsoukou.tika.domain.model.event;
+
+import engineer.mkitsoukou.tika.domain.model.valueobject.Permission;
+import engineer.mkitsoukou.tika.domain.model.valueobject.RoleId;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Permissions added to and removed from a role in one bulk edit. Carries the same
+ * information as a run of {@link PermissionAdded} and {@link PermissionRemoved} events,
+ * but is applied as a single change. The two sets never overlap.
+ */
+public class PermissionsChanged extends AbstractDomainEvent {
+
+  private final RoleId roleId;
+  private final Set<Permission> added;
+  private final Set<Permission> removed;
+
+  public PermissionsChanged(
+      RoleId roleId, Set<Permission> added, Set<Permission> removed, Instant occurredAt) {
+    super(occurredAt);
+    this.roleId = requireNonNull(roleId, "roleId");
+    this.added = Set.copyOf(requireNonNull(added, "added"));
+    this.removed = Set.copyOf(requireNonNull(removed, "removed"));
+    if (!Collections.disjoint(this.added, this.removed)) {
+      throw new IllegalArgumentException("added and removed permissions must not overlap");
+    }
+  }
+
+  /**
+   * Creates a new PermissionsChanged event.
+   *
+   * @param roleId the ID of the role whose permissions changed
+   * @param added the permissions that were added
+   * @param removed the permissions that were removed
+   * @param occurredAt the timestamp when the event occurred
+   * @return a new PermissionsChanged event
+   */
+  public static PermissionsChanged createEvent(
+      RoleId roleId, Set<Permission> added, Set<Permission> removed, Instant occurredAt) {
+    return new PermissionsChanged(roleId, added, removed, occurredAt);
+  }
+
+  public RoleId getRoleId() {
+    return roleId;
+  }
+
+  public Set<Permission> getAdded() {
+    return added;
+  }
+
+  public Set<Permission> getRemoved() {
+    return removed;
+  }
+
+  @Override
+  public String aggregateId() {
+    return roleId.value().toString();
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+    PermissionsChanged that = (PermissionsChanged) o;
+    return Objects.equals(roleId, that.roleId)
+        && Objects.equals(added, that.added)
+        && Objects.equals(removed, that.removed);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(roleId, added, removed);
+  }
+
+  @Override
+  public String toString() {
+    return "PermissionsChanged{"
+        + "roleId=" + roleId
+        + ", added=" + added
+        + ", removed=" + removed
+        + ", occurredAt=" + occurredAt()
+        + '}';
+  }
+}
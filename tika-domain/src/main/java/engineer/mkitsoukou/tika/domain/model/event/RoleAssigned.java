@@ -49,6 +49,11 @@ public class RoleAssigned extends AbstractDomainEvent {
     return userId;
   }
 
+  @Override
+  public String aggregateId() {
+    return userId.value().toString();
+  }
+
   @Override
   public boolean equals(Object o) {
     if (!(o instanceof RoleAssigned that)) {
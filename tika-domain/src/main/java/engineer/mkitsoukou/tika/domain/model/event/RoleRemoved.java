@@ -50,6 +50,11 @@ public class RoleRemoved extends AbstractDomainEvent {
     return roleId;
   }
 
+  @Override
+  public String aggregateId() {
+    return userId.value().toString();
+  }
+
   @Override
   public boolean equals(Object o) {
     if (!(o instanceof RoleRemoved that)) {
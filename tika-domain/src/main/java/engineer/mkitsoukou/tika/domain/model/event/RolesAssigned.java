@@ -0,0 +1,71 @@
+package engineer.mkitsoukou.tika.domain.model.event;
+
+import engineer.mkitsoukou.tika.domain.model.valueobject.RoleId;
+import engineer.mkitsoukou.tika.domain.model.valueobject.UserId;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Several roles assigned to a user in one bulk edit ({@code User.assignRoles}). Carries the
+ * same information as one {@link RoleAssigned} per role, but is applied as a single change.
+ */
+public class RolesAssigned extends AbstractDomainEvent {
+
+  private final UserId userId;
+  private final Set<RoleId> roleIds;
+
+  public RolesAssigned(UserId userId, Set<RoleId> roleIds, Instant occurredAt) {
+    super(occurredAt);
+    this.userId = requireNonNull(userId, "userId");
+    this.roleIds = Set.copyOf(requireNonNull(roleIds, "roleIds"));
+  }
+
+  /**
+   * Creates a new RolesAssigned event.
+   *
+   * @param userId the ID of the user whose roles changed
+   * @param roleIds the IDs of the roles that were assigned to the user
+   * @param occurredAt the timestamp when the event occurred
+   * @return a new RolesAssigned event
+   */
+  public static RolesAssigned createEvent(UserId userId, Set<RoleId> roleIds, Instant occurredAt) {
+    return new RolesAssigned(userId, roleIds, occurredAt);
+  }
+
+  public UserId getUserId() {
+    return userId;
+  }
+
+  public Set<RoleId> getRoleIds() {
+    return roleIds;
+  }
+
+  @Override
+  public String aggregateId() {
+    return userId.value().toString();
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+    RolesAssigned that = (RolesAssigned) o;
+    return Objects.equals(userId, that.userId)
+        && Objects.equals(roleIds, that.roleIds);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(userId, roleIds);
+  }
+
+  @Override
+  public String toString() {
+    return "RolesAssigned{"
+        + "userId=" + userId
+        + ", roleIds=" + roleIds
+        + ", occurredAt=" + occurredAt()
+        + '}';
+  }
+}
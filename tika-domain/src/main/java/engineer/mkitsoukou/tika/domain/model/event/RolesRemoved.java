@@ -0,0 +1,71 @@
+package engineer.mkitsoukou.tika.domain.model.event;
+
+import engineer.mkitsoukou.tika.domain.model.valueobject.RoleId;
+import engineer.mkitsoukou.tika.domain.model.valueobject.UserId;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Several roles removed from a user in one bulk edit ({@code User.removeRoles}). Carries the
+ * same information as one {@link RoleRemoved} per role, but is applied as a single change.
+ */
+public class RolesRemoved extends AbstractDomainEvent {
+
+  private final UserId userId;
+  private final Set<RoleId> roleIds;
+
+  public RolesRemoved(UserId userId, Set<RoleId> roleIds, Instant occurredAt) {
+    super(occurredAt);
+    this.userId = requireNonNull(userId, "userId");
+    this.roleIds = Set.copyOf(requireNonNull(roleIds, "roleIds"));
+  }
+
+  /**
+   * Creates a new RolesRemoved event.
+   *
+   * @param userId the ID of the user whose roles changed
+   * @param roleIds the IDs of the roles that were removed from the user
+   * @param occurredAt the timestamp when the event occurred
+   * @return a new RolesRemoved event
+   */
+  public static RolesRemoved createEvent(UserId userId, Set<RoleId> roleIds, Instant occurredAt) {
+    return new RolesRemoved(userId, roleIds, occurredAt);
+  }
+
+  public UserId getUserId() {
+    return userId;
+  }
+
+  public Set<RoleId> getRoleIds() {
+    return roleIds;
+  }
+
+  @Override
+  public String aggregateId() {
+    return userId.value().toString();
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+    RolesRemoved that = (RolesRemoved) o;
+    return Objects.equals(userId, that.userId)
+        && Objects.equals(roleIds, that.roleIds);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(userId, roleIds);
+  }
+
+  @Override
+  public String toString() {
+    return "RolesRemoved{"
+        + "userId=" + userId
+        + ", roleIds=" + roleIds
+        + ", occurredAt=" + occurredAt()
+        + '}';
+  }
+}
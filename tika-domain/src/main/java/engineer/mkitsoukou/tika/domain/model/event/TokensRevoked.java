@@ -0,0 +1,62 @@
+package engineer.mkitsoukou.tika.domain.model.event;
+
+import engineer.mkitsoukou.tika.domain.model.valueobject.UserId;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Every token issued to the user before {@link #occurredAt()} has been revoked, as on a
+ * logout from all devices.
+ */
+public class TokensRevoked extends AbstractDomainEvent {
+  private final UserId userId;
+
+  public TokensRevoked(UserId userId, Instant occurredAt) {
+    super(occurredAt);
+    this.userId = requireNonNull(userId, "userId");
+  }
+
+  /**
+   * Creates a new TokensRevoked event.
+   *
+   * @param userId the ID of the user whose tokens were revoked
+   * @param occurredAt the revocation cut-off
+   * @return a new TokensRevoked event
+   */
+  public static TokensRevoked createEvent(UserId userId, Instant occurredAt) {
+    return new TokensRevoked(userId, occurredAt);
+  }
+
+  public UserId getUserId() {
+    return userId;
+  }
+
+  @Override
+  public String aggregateId() {
+    return userId.value().toString();
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (!(o instanceof TokensRevoked that)) {
+      return false;
+    }
+
+    return Objects.equals(this.userId, that.userId)
+        && Objects.equals(this.occurredAt(), that.occurredAt());
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(userId, occurredAt());
+  }
+
+  @Override
+  public String toString() {
+    return "TokensRevoked{"
+        + "userId=" + userId
+        + ", occurredAt=" + occurredAt()
+        + '}';
+  }
+}
@@ -50,6 +50,11 @@ public class UserActivationChanged extends AbstractDomainEvent {
     return isActive;
   }
 
+  @Override
+  public String aggregateId() {
+    return userId.value().toString();
+  }
+
   @Override
   public boolean equals(Object o) {
     if (!(o instanceof UserActivationChanged that)) {
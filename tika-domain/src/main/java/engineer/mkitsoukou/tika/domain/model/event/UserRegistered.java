@@ -37,6 +37,11 @@ public class UserRegistered extends AbstractDomainEvent {
     return email;
   }
 
+  @Override
+  public String aggregateId() {
+    return userId.value().toString();
+  }
+
   @Override
   public final boolean equals(Object o) {
     if (!(o instanceof UserRegistered that)) {
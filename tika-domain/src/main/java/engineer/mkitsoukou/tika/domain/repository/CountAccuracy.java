@@ -0,0 +1,15 @@
+package engineer.mkitsoukou.tika.domain.repository;
+
+/**
+ * Accuracy requested from a repository {@code count} call.
+ *
+ * <p>An exact count scans the whole table, which gets slower as data grows. Callers that
+ * only need an order of magnitude (dashboards, page totals) should ask for
+ * {@link #APPROXIMATE} and accept a result that may be off by a few percent.</p>
+ */
+public enum CountAccuracy {
+  /** Always matches the number of stored aggregates at the time of the call. */
+  EXACT,
+  /** Cheap estimate, possibly stale or off by a small margin. */
+  APPROXIMATE
+}
@@ -1,5 +1,6 @@
 package engineer.mkitsoukou.tika.domain.repository;
 
+import engineer.mkitsoukou.tika.domain.exception.AggregateVersionConflictException;
 import engineer.mkitsoukou.tika.domain.model.entity.Role;
 import engineer.mkitsoukou.tika.domain.model.valueobject.RoleId;
 import engineer.mkitsoukou.tika.domain.model.valueobject.RoleName;
@@ -45,8 +46,13 @@ public interface RoleRepository {
    * Persists a role entity to the repository.
    * This method can be used for both creating new roles and updating existing ones.
    *
+   * <p>Saves are optimistic: the write only succeeds if the stored version still equals
+   * {@code role.getVersion()}. On success the new version is recorded on the entity via
+   * {@code markPersisted}.</p>
+   *
    * @param role the role entity to save
    * @return an Optional containing the saved role if successful, or empty Optional if the operation failed
+   * @throws AggregateVersionConflictException if the role was modified since it was loaded
    * @implNote This operation should be executed within a transaction context to ensure data consistency
    */
   Optional<Role> save(Role role);
@@ -94,4 +100,16 @@ public interface RoleRepository {
    * @implNote This operation should be executed within a read-only transaction context
    */
   long count();
+
+  /**
+   * Counts the roles in the repository with the requested accuracy.
+   * Implementations without a cheaper estimate fall back to the exact {@link #count()}.
+   *
+   * @param accuracy whether an estimate is acceptable
+   * @return the exact or estimated count of roles
+   * @implNote This operation should be executed within a read-only transaction context
+   */
+  default long count(CountAccuracy accuracy) {
+    return count();
+  }
 }
@@ -1,5 +1,6 @@
 package engineer.mkitsoukou.tika.domain.repository;
 
+import engineer.mkitsoukou.tika.domain.exception.AggregateVersionConflictException;
 import engineer.mkitsoukou.tika.domain.model.entity.User;
 import engineer.mkitsoukou.tika.domain.model.valueobject.Email;
 import engineer.mkitsoukou.tika.domain.model.valueobject.UserId;
@@ -46,8 +47,13 @@ public interface UserRepository {
    * Persists a user entity to the repository.
    * This method can be used for both creating new users and updating existing ones.
    *
+   * <p>Saves are optimistic: the write only succeeds if the stored version still equals
+   * {@code user.getVersion()}. On success the new version is recorded on the entity via
+   * {@code markPersisted}.</p>
+   *
    * @param user the user entity to save
    * @return an Optional containing the saved user if successful, or empty Optional if the operation failed
+   * @throws AggregateVersionConflictException if the user was modified since it was loaded
    * @implNote This operation should be executed within a transaction context to ensure data consistency
    */
   Optional<User> save(User user);
@@ -95,4 +101,16 @@ public interface UserRepository {
    * @implNote This operation should be executed within a read-only transaction context
    */
   long count();
+
+  /**
+   * Counts the users in the repository with the requested accuracy.
+   * Implementations without a cheaper estimate fall back to the exact {@link #count()}.
+   *
+   * @param accuracy whether an estimate is acceptable
+   * @return the exact or estimated count of users
+   * @implNote This operation should be executed within a read-only transaction context
+   */
+  default long count(CountAccuracy accuracy) {
+    return count();
+  }
 }
@@ -0,0 +1,20 @@
+package engineer.mkitsoukou.tika.domain.exception;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AggregateVersionConflictException")
+class AggregateVersionConflictExceptionTest {
+
+  @Test @DisplayName("carries the aggregate coordinates")
+  void carriesCoordinates() {
+    var ex = new AggregateVersionConflictException("User", "42", 3);
+
+    assertThat(ex.getAggregateType()).isEqualTo("User");
+    assertThat(ex.getAggregateId()).isEqualTo("42");
+    assertThat(ex.getExpectedVersion()).isEqualTo(3);
+    assertThat(ex).hasMessage("User 42 was modified concurrently (expected version 3)");
+  }
+}
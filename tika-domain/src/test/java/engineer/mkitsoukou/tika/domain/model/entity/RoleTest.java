@@ -116,11 +116,17 @@ class RoleTest {
     // ───── Bulk permission ops ─────
     @Nested @DisplayName("Bulk permission operations")
     class BulkPermissionOperations {
-      @Test @DisplayName("should add multiple permissions and emit events for new ones")
+      @Test @DisplayName("should add multiple permissions and emit one event for the new ones")
       void shouldAddMultiplePermissionsAndEmitEventsForNewOnes() {
         adminRole.addPermissions(Set.of(fixtures.readPermission(), fixtures.writePermission(), fixtures.deletePermission()), NOW);
-        var events = adminRole.pullEvents();
-        assertThat(events).hasSize(2).allMatch(PermissionAdded.class::isInstance);
+        assertThat(adminRole.pullEvents()).singleElement().isEqualTo(new PermissionsChanged(
+            adminRole.getRoleId(), Set.of(fixtures.writePermission(), fixtures.deletePermission()), Set.of(), NOW));
+      }
+
+      @Test @DisplayName("should emit nothing when every permission is already assigned")
+      void shouldEmitNothingWhenAllPermissionsAlreadyAssigned() {
+        adminRole.addPermissions(Set.of(fixtures.readPermission()), NOW);
+        assertThat(adminRole.pullEvents()).isEmpty();
       }
 
       @Test @DisplayName("should remove multiple permissions and emit corresponding events")
@@ -130,7 +136,8 @@ class RoleTest {
         adminRole.pullEvents();
         adminRole.removePermissions(Set.of(fixtures.writePermission(), fixtures.deletePermission()), NOW);
         assertThat(adminRole.hasPermission(fixtures.writePermission())).isFalse();
-        assertThat(adminRole.pullEvents()).hasSize(2).allMatch(PermissionRemoved.class::isInstance);
+        assertThat(adminRole.pullEvents()).singleElement().isEqualTo(new PermissionsChanged(
+            adminRole.getRoleId(), Set.of(), Set.of(fixtures.writePermission(), fixtures.deletePermission()), NOW));
       }
 
       @Test @DisplayName("should reject removing all permissions")
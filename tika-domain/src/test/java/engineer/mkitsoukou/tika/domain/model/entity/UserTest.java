@@ -172,7 +172,30 @@ class UserTest {
           .isInstanceOf(EntityRequiredFieldException.class);
     }
 
-    @Test @DisplayName("removeRoles removes multiple roles and emits events")
+    @Test @DisplayName("assignRoles emits one RolesAssigned for the newly assigned roles")
+    void assignRoles_emitsOneCoalescedEvent() {
+      var moderator = role("MODERATOR", "moderate.content");
+      user.assignRole(admin, NOW);
+      user.pullEvents();
+
+      user.assignRoles(Set.of(admin, reader, moderator), NOW);
+
+      assertThat(user.pullEvents()).singleElement()
+          .isEqualTo(new RolesAssigned(user.getId(),
+              Set.of(reader.getRoleId(), moderator.getRoleId()), NOW));
+    }
+
+    @Test @DisplayName("assignRoles emits nothing when every role is already assigned")
+    void assignRoles_alreadyAssigned_emitsNothing() {
+      user.assignRoles(Set.of(admin, reader), NOW);
+      user.pullEvents();
+
+      user.assignRoles(Set.of(admin, reader), NOW);
+
+      assertThat(user.pullEvents()).isEmpty();
+    }
+
+    @Test @DisplayName("removeRoles removes multiple roles and emits one event")
     void removeRoles_multiplRoles_removesAndEmitsEvents() {
       var moderator = role("MODERATOR", "moderate.content");
       user.assignRoles(Set.of(admin, reader, moderator), NOW);
@@ -185,10 +208,9 @@ class UserTest {
       assertThat(user.hasRole(moderator)).isTrue();
       assertThat(user.getRoles()).hasSize(1);
 
-      var events = user.pullEvents();
-      assertThat(events)
-          .hasSize(2)
-          .allMatch(RoleRemoved.class::isInstance);
+      assertThat(user.pullEvents()).singleElement()
+          .isEqualTo(new RolesRemoved(user.getId(),
+              Set.of(admin.getRoleId(), reader.getRoleId()), NOW));
     }
 
     @Test @DisplayName("removeRoles throws when removing all roles")
@@ -264,6 +286,22 @@ class UserTest {
     }
   }
 
+  @Nested @DisplayName("Versioning")
+  class Versioning {
+    @Test @DisplayName("new user starts at version 0")
+    void newUserStartsAtZero() {
+      var user = User.register(fixtures.email, fixtures.pwd, hasher, NOW);
+      assertThat(user.getVersion()).isZero();
+    }
+
+    @Test @DisplayName("markPersisted records the stored version")
+    void markPersistedRecordsVersion() {
+      var user = User.register(fixtures.email, fixtures.pwd, hasher, NOW);
+      user.markPersisted(3);
+      assertThat(user.getVersion()).isEqualTo(3);
+    }
+  }
+
   @Nested @DisplayName("Object Contract")
   class ObjectContract {
     @Test void equalsHashToString() {
@@ -22,6 +22,7 @@ class PermissionAddedTest {
     assertEquals(roleId, event.getRoleId());
     assertEquals(permission, event.getPermission());
     assertEquals(now, event.occurredAt());
+    assertEquals(roleId.value().toString(), event.aggregateId());
   }
 
   @Test
@@ -0,0 +1,84 @@
+package engineer.mkitsoukou.tika.domain.model.event;
+
+import engineer.mkitsoukou.tika.domain.model.valueobject.Permission;
+import engineer.mkitsoukou.tika.domain.model.valueobject.RoleId;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PermissionsChangedTest {
+
+  private final Permission read = new Permission("resource.read");
+  private final Permission write = new Permission("resource.write");
+
+  @Test
+  void createPermissionsChangedEvent() {
+    RoleId roleId = RoleId.of(UUID.randomUUID());
+    Instant now = Instant.now();
+
+    PermissionsChanged event = PermissionsChanged.createEvent(roleId, Set.of(read), Set.of(write), now);
+
+    assertEquals(roleId, event.getRoleId());
+    assertEquals(Set.of(read), event.getAdded());
+    assertEquals(Set.of(write), event.getRemoved());
+    assertEquals(now, event.occurredAt());
+    assertEquals(roleId.value().toString(), event.aggregateId());
+  }
+
+  @Test
+  void setsAreCopiedAndUnmodifiable() {
+    Set<Permission> added = new HashSet<>(Set.of(read));
+    PermissionsChanged event = new PermissionsChanged(RoleId.of(UUID.randomUUID()), added, Set.of(), Instant.now());
+
+    added.add(write);
+
+    assertEquals(Set.of(read), event.getAdded());
+    assertThrows(UnsupportedOperationException.class, () -> event.getRemoved().add(read));
+  }
+
+  @Test
+  void throwsExceptionWhenSetsOverlap() {
+    RoleId roleId = RoleId.of(UUID.randomUUID());
+    Instant now = Instant.now();
+    assertThrows(IllegalArgumentException.class,
+        () -> new PermissionsChanged(roleId, Set.of(read), Set.of(read, write), now));
+  }
+
+  @Test
+  void throwsExceptionWhenArgumentIsNull() {
+    RoleId roleId = RoleId.of(UUID.randomUUID());
+    Instant now = Instant.now();
+    assertThrows(NullPointerException.class, () -> new PermissionsChanged(null, Set.of(), Set.of(), now));
+    assertThrows(NullPointerException.class, () -> new PermissionsChanged(roleId, null, Set.of(), now));
+    assertThrows(NullPointerException.class, () -> new PermissionsChanged(roleId, Set.of(), null, now));
+  }
+
+  @Test
+  void equalsAndHashCodeWork() {
+    RoleId roleId = RoleId.of(UUID.randomUUID());
+    Instant now = Instant.now();
+
+    PermissionsChanged e1 = new PermissionsChanged(roleId, Set.of(read), Set.of(), now);
+    PermissionsChanged e2 = new PermissionsChanged(roleId, Set.of(read), Set.of(), now);
+
+    assertEquals(e1, e2);
+    assertEquals(e1.hashCode(), e2.hashCode());
+    assertNotEquals(e1, new PermissionsChanged(roleId, Set.of(), Set.of(read), now));
+  }
+
+  @Test
+  void toStringContainsRelevantInformation() {
+    RoleId roleId = RoleId.of(UUID.randomUUID());
+    String s = new PermissionsChanged(roleId, Set.of(read), Set.of(write), Instant.now()).toString();
+
+    assertTrue(s.contains("PermissionsChanged"));
+    assertTrue(s.contains(roleId.toString()));
+    assertTrue(s.contains(read.toString()));
+    assertTrue(s.contains(write.toString()));
+  }
+}
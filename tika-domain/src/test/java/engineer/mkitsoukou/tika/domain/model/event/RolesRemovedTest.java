@@ -0,0 +1,73 @@
+package engineer.mkitsoukou.tika.domain.model.event;
+
+import engineer.mkitsoukou.tika.domain.model.valueobject.RoleId;
+import engineer.mkitsoukou.tika.domain.model.valueobject.UserId;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RolesRemovedTest {
+
+  @Test
+  void createRolesRemovedEvent() {
+    UserId userId = UserId.of(UUID.randomUUID());
+    Set<RoleId> roleIds = Set.of(RoleId.of(UUID.randomUUID()), RoleId.of(UUID.randomUUID()));
+    Instant now = Instant.now();
+
+    RolesRemoved event = RolesRemoved.createEvent(userId, roleIds, now);
+
+    assertEquals(userId, event.getUserId());
+    assertEquals(roleIds, event.getRoleIds());
+    assertEquals(now, event.occurredAt());
+    assertEquals(userId.value().toString(), event.aggregateId());
+  }
+
+  @Test
+  void roleIdsAreCopiedAndUnmodifiable() {
+    Set<RoleId> roleIds = new HashSet<>(Set.of(RoleId.of(UUID.randomUUID())));
+    RolesRemoved event = new RolesRemoved(UserId.of(UUID.randomUUID()), roleIds, Instant.now());
+
+    roleIds.add(RoleId.of(UUID.randomUUID()));
+
+    assertEquals(1, event.getRoleIds().size());
+    assertThrows(UnsupportedOperationException.class, () -> event.getRoleIds().clear());
+  }
+
+  @Test
+  void throwsExceptionWhenArgumentIsNull() {
+    UserId userId = UserId.of(UUID.randomUUID());
+    Instant now = Instant.now();
+    assertThrows(NullPointerException.class, () -> new RolesRemoved(null, Set.of(), now));
+    assertThrows(NullPointerException.class, () -> new RolesRemoved(userId, null, now));
+  }
+
+  @Test
+  void equalsAndHashCodeWork() {
+    UserId userId = UserId.of(UUID.randomUUID());
+    Set<RoleId> roleIds = Set.of(RoleId.of(UUID.randomUUID()));
+    Instant now = Instant.now();
+
+    RolesRemoved e1 = new RolesRemoved(userId, roleIds, now);
+    RolesRemoved e2 = new RolesRemoved(userId, new HashSet<>(roleIds), now);
+
+    assertEquals(e1, e2);
+    assertEquals(e1.hashCode(), e2.hashCode());
+    assertNotEquals(e1, new RolesRemoved(userId, Set.of(), now));
+  }
+
+  @Test
+  void toStringContainsRelevantInformation() {
+    UserId userId = UserId.of(UUID.randomUUID());
+    RoleId roleId = RoleId.of(UUID.randomUUID());
+    String s = new RolesRemoved(userId, Set.of(roleId), Instant.now()).toString();
+
+    assertTrue(s.contains("RolesRemoved"));
+    assertTrue(s.contains(userId.toString()));
+    assertTrue(s.contains(roleId.toString()));
+  }
+}
@@ -0,0 +1,42 @@
+package engineer.mkitsoukou.tika.domain.model.event;
+
+import engineer.mkitsoukou.tika.domain.model.valueobject.UserId;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokensRevokedTest {
+
+  @Test
+  void createTokensRevokedEvent() {
+    UserId userId = UserId.of(UUID.randomUUID());
+    Instant now = Instant.now();
+    TokensRevoked event = TokensRevoked.createEvent(userId, now);
+
+    assertEquals(userId, event.getUserId());
+    assertEquals(now, event.occurredAt());
+    assertEquals(userId.value().toString(), event.aggregateId());
+  }
+
+  @Test
+  void throwsExceptionWhenUserIdIsNull() {
+    Instant now = Instant.now();
+    assertThrows(NullPointerException.class, () -> new TokensRevoked(null, now));
+  }
+
+  @Test
+  void eventsWithDifferentCutOffsAreNotEqual() {
+    UserId userId = UserId.of(UUID.randomUUID());
+    Instant now = Instant.now();
+
+    assertEquals(new TokensRevoked(userId, now), new TokensRevoked(userId, now));
+    assertEquals(new TokensRevoked(userId, now).hashCode(),
+        new TokensRevoked(userId, now).hashCode());
+    assertNotEquals(new TokensRevoked(userId, now),
+        new TokensRevoked(userId, now.plusSeconds(1)));
+  }
+}
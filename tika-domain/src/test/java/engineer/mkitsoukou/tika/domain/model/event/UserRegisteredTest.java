@@ -22,6 +22,7 @@ class UserRegisteredTest {
     assertEquals(userId, event.getUserId());
     assertEquals(email,  event.getEmail());
     assertEquals(now, event.occurredAt());
+    assertEquals(userId.value().toString(), event.aggregateId());
   }
 
   @Test
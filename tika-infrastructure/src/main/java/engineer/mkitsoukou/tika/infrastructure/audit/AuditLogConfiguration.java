@@ -0,0 +1,63 @@
+package engineer.mkitsoukou.tika.infrastructure.audit;
+
+import engineer.mkitsoukou.tika.application.auth.port.out.EventPublisherPort;
+import engineer.mkitsoukou.tika.infrastructure.messaging.codec.BinaryDomainEventSerializer;
+import engineer.mkitsoukou.tika.infrastructure.time.SystemClockAdapter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Keeps every published domain event in the local {@link MappedAuditLog}, whichever
+ * publisher is active. Enabled with {@code tika.audit.enabled=true}.
+ *
+ * <p>Segments always use the binary codec with an empty permission dictionary, so they
+ * stay readable whatever {@code tika.events.format} or dictionary is configured later.</p>
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "tika.audit", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(AuditLogProperties.class)
+public class AuditLogConfiguration {
+
+  @Bean(destroyMethod = "close")
+  MappedAuditLog auditLog(AuditLogProperties properties, ObjectProvider<MeterRegistry> meters) {
+    return new MappedAuditLog(
+        properties.directory(),
+        new BinaryDomainEventSerializer(),
+        new MappedAuditLog.Settings(Math.toIntExact(properties.segmentSize().toBytes()),
+            properties.retention(), properties.maxBatch()),
+        new SystemClockAdapter(),
+        meters.getIfAvailable(() -> Metrics.globalRegistry));
+  }
+
+  @Bean
+  AuditLogReader auditLogReader(AuditLogProperties properties) {
+    return new AuditLogReader(properties.directory(), new BinaryDomainEventSerializer());
+  }
+
+  /**
+   * Wraps each {@link EventPublisherPort} bean in an {@link AuditingEventPublisher}.
+   */
+  @Bean
+  static BeanPostProcessor auditingEventPublisherPostProcessor(
+      ObjectProvider<MappedAuditLog> auditLog,
+      ObjectProvider<AuditLogProperties> properties
+  ) {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof EventPublisherPort publisher
+            && !(bean instanceof AuditingEventPublisher)) {
+          return new AuditingEventPublisher(
+              publisher, auditLog.getObject(), properties.getObject().commitTimeout());
+        }
+        return bean;
+      }
+    };
+  }
+}
@@ -0,0 +1,26 @@
+package engineer.mkitsoukou.tika.infrastructure.audit;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Settings for the local audit log, bound from {@code tika.audit.*}.
+ *
+ * @param directory     where segment files are kept
+ * @param segmentSize   size of each memory-mapped segment file
+ * @param retention     how long sealed segments are kept
+ * @param maxBatch      most appends grouped under one fsync
+ * @param commitTimeout how long publishing may wait for its events to reach disk
+ */
+@ConfigurationProperties(prefix = "tika.audit")
+public record AuditLogProperties(
+    @DefaultValue("audit") Path directory,
+    @DefaultValue("64MB") DataSize segmentSize,
+    @DefaultValue("90d") Duration retention,
+    @DefaultValue("1024") int maxBatch,
+    @DefaultValue("5s") Duration commitTimeout
+) {
+}
@@ -0,0 +1,108 @@
+package engineer.mkitsoukou.tika.infrastructure.audit;
+
+import engineer.mkitsoukou.tika.domain.model.event.DomainEvent;
+import engineer.mkitsoukou.tika.infrastructure.messaging.codec.BinaryDomainEventSerializer;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import java.util.zip.CRC32C;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Sequential scanner over the segments written by {@link MappedAuditLog}.
+ *
+ * <p>Each segment is mapped read-only and walked in place: records are checked against
+ * their CRC and decoded straight from the mapping, without copying. Records before the
+ * requested sequence are CRC-checked too, since a corrupt one ends the segment, but not
+ * decoded. Reading while the log is being written is safe; the scan stops at the last
+ * record that is complete.</p>
+ *
+ * <p>A corrupt record in a sealed segment ends that segment: the rest of it is skipped
+ * with a warning and the scan continues with the next segment.</p>
+ */
+public class AuditLogReader {
+
+  private static final Logger LOG = LoggerFactory.getLogger(AuditLogReader.class);
+
+  private final Path directory;
+  private final BinaryDomainEventSerializer codec;
+
+  /**
+   * @param directory segment directory of a {@link MappedAuditLog}
+   * @param codec     the encoding the log was written with
+   */
+  public AuditLogReader(Path directory, BinaryDomainEventSerializer codec) {
+    this.directory = Objects.requireNonNull(directory, "directory must not be null");
+    this.codec = Objects.requireNonNull(codec, "codec must not be null");
+  }
+
+  /**
+   * Visits every retained event, oldest first.
+   *
+   * @return the sequence following the last visited event
+   */
+  public long read(Visitor visitor) throws IOException {
+    return read(0, visitor);
+  }
+
+  /**
+   * Visits the retained events from {@code fromSequence} on, oldest first.
+   *
+   * @param fromSequence first sequence of interest, typically a saved checkpoint
+   * @param visitor      receives each event with its sequence number
+   * @return the sequence following the last visited event, or {@code fromSequence} if
+   *     there was nothing to visit; pass it back in to resume
+   */
+  public long read(long fromSequence, Visitor visitor) throws IOException {
+    List<Path> segments = AuditSegment.list(directory);
+    CRC32C crc = new CRC32C();
+    long next = fromSequence;
+    for (int i = 0; i < segments.size(); i++) {
+      boolean last = i == segments.size() - 1;
+      if (!last && AuditSegment.baseSequenceOf(segments.get(i + 1)) <= fromSequence) {
+        continue;
+      }
+      next = Math.max(next, readSegment(segments.get(i), fromSequence, visitor, crc, last));
+    }
+    return next;
+  }
+
+  private long readSegment(
+      Path file, long fromSequence, Visitor visitor, CRC32C crc, boolean active
+  ) throws IOException {
+    MappedByteBuffer buffer;
+    try (FileChannel channel = FileChannel.open(file)) {
+      buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+    } catch (NoSuchFileException deletedByRetention) {
+      return fromSequence;
+    }
+    AuditSegment.checkHeader(buffer, file);
+    long base = AuditSegment.baseSequenceOf(file);
+    long[] sequence = {base};
+    AuditSegment.Scan scan = AuditSegment.scan(buffer, crc, (offset, length) -> {
+      long current = sequence[0]++;
+      if (current >= fromSequence) {
+        buffer.position(offset);
+        visitor.accept(current, codec.decode(buffer));
+      }
+    });
+    if (!scan.clean() && !active) {
+      LOG.warn("Corrupt record at offset {} of audit segment {}; skipping the rest of it",
+          scan.end(), file);
+    }
+    return Math.max(fromSequence, base + scan.records());
+  }
+
+  /**
+   * Receives events in log order.
+   */
+  @FunctionalInterface
+  public interface Visitor {
+    void accept(long sequence, DomainEvent event);
+  }
+}
@@ -0,0 +1,260 @@
+package engineer.mkitsoukou.tika.infrastructure.audit;
+
+import engineer.mkitsoukou.tika.domain.model.event.DomainEvent;
+import engineer.mkitsoukou.tika.infrastructure.messaging.codec.BinaryDomainEventSerializer;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * One memory-mapped file of the audit log.
+ *
+ * <pre>
+ * file   := header record* 0x00000000?
+ * header := i32 magic ("TKAL"), i32 format version
+ * record := i32 payload length, i32 CRC-32C of payload, payload
+ * </pre>
+ *
+ * <p>Files are created at their full size, so unused space reads as zeros and a zero
+ * length marks the end of the data. Files are named {@code audit-<first sequence>.log}
+ * with the sequence zero-padded, so name order is log order. Only the writer thread
+ * touches an open segment.</p>
+ */
+final class AuditSegment implements AutoCloseable {
+
+  static final int MAGIC = 0x544B414C;
+  static final int FORMAT_VERSION = 1;
+  static final int FILE_HEADER_SIZE = 8;
+  static final int RECORD_HEADER_SIZE = 8;
+  /** Room every segment must offer; larger events are checked against the segment size. */
+  static final int MAX_RECORD_SIZE =
+      RECORD_HEADER_SIZE + BinaryDomainEventSerializer.MAX_EVENT_SIZE;
+
+  private static final String PREFIX = "audit-";
+  private static final String SUFFIX = ".log";
+
+  private final Path file;
+  private final long baseSequence;
+  private final FileChannel channel;
+  private final MappedByteBuffer buffer;
+  private final CRC32C crc = new CRC32C();
+  private long records;
+  private int forcedUpTo;
+
+  private AuditSegment(Path file, long baseSequence, FileChannel channel, MappedByteBuffer buffer) {
+    this.file = file;
+    this.baseSequence = baseSequence;
+    this.channel = channel;
+    this.buffer = buffer;
+  }
+
+  /**
+   * Creates and maps an empty segment whose first record gets {@code baseSequence}.
+   */
+  static AuditSegment create(Path directory, long baseSequence, int size) throws IOException {
+    Path file = directory.resolve(String.format("%s%020d%s", PREFIX, baseSequence, SUFFIX));
+    FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW,
+        StandardOpenOption.READ, StandardOpenOption.WRITE);
+    MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+    buffer.putInt(MAGIC).putInt(FORMAT_VERSION);
+    buffer.force(0, FILE_HEADER_SIZE);
+    AuditSegment segment = new AuditSegment(file, baseSequence, channel, buffer);
+    segment.forcedUpTo = FILE_HEADER_SIZE;
+    return segment;
+  }
+
+  /**
+   * Maps an existing segment for appending, after its last valid record. A torn or
+   * corrupt tail left by a crash is zeroed so it cannot be mistaken for data later.
+   */
+  static AuditSegment recover(Path file) throws IOException {
+    FileChannel channel = FileChannel.open(file, StandardOpenOption.READ,
+        StandardOpenOption.WRITE);
+    MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+    checkHeader(buffer, file);
+    AuditSegment segment = new AuditSegment(file, baseSequenceOf(file), channel, buffer);
+    Scan scan = scan(buffer, segment.crc, (offset, length) -> { });
+    if (!scan.clean()) {
+      for (int i = scan.end(); i < buffer.capacity(); i++) {
+        buffer.put(i, (byte) 0);
+      }
+      buffer.force(scan.end(), buffer.capacity() - scan.end());
+    }
+    buffer.position(scan.end());
+    segment.records = scan.records();
+    segment.forcedUpTo = scan.end();
+    return segment;
+  }
+
+  /**
+   * Appends one event; it is durable only after the next {@link #force()}.
+   *
+   * @return the event's sequence number
+   */
+  long append(DomainEvent event, BinaryDomainEventSerializer codec) {
+    int start = buffer.position();
+    buffer.position(start + RECORD_HEADER_SIZE);
+    try {
+      codec.encode(event, buffer);
+    } catch (RuntimeException e) {
+      buffer.position(start);
+      throw e;
+    }
+    int end = buffer.position();
+    int length = end - start - RECORD_HEADER_SIZE;
+    buffer.putInt(start + 4, checksum(buffer, start + RECORD_HEADER_SIZE, length, crc));
+    buffer.putInt(start, length);
+    buffer.position(end);
+    return baseSequence + records++;
+  }
+
+  /**
+   * @return the current end of the data, to {@link #truncate} back to
+   */
+  Mark mark() {
+    return new Mark(buffer.position(), records);
+  }
+
+  /**
+   * Drops every record appended after {@code mark}, zeroing them on disk so recovery
+   * cannot find them again.
+   */
+  void truncate(Mark mark) {
+    int end = buffer.position();
+    if (end <= mark.position()) {
+      return;
+    }
+    for (int i = mark.position(); i < end; i++) {
+      buffer.put(i, (byte) 0);
+    }
+    buffer.force(mark.position(), end - mark.position());
+    buffer.position(mark.position());
+    records = mark.records();
+    forcedUpTo = Math.min(forcedUpTo, mark.position());
+  }
+
+  /**
+   * @param maxEventSize upper bound of the next event's encoded size
+   */
+  boolean hasRoom(int maxEventSize) {
+    return buffer.remaining() >= RECORD_HEADER_SIZE + maxEventSize;
+  }
+
+  /**
+   * Flushes everything appended since the previous call to the storage device.
+   */
+  void force() {
+    int position = buffer.position();
+    if (position > forcedUpTo) {
+      buffer.force(forcedUpTo, position - forcedUpTo);
+      forcedUpTo = position;
+    }
+  }
+
+  long nextSequence() {
+    return baseSequence + records;
+  }
+
+  Path file() {
+    return file;
+  }
+
+  @Override
+  public void close() throws IOException {
+    force();
+    channel.close();
+  }
+
+  /**
+   * @return segment files of the directory, oldest first
+   */
+  static List<Path> list(Path directory) throws IOException {
+    try (Stream<Path> files = Files.list(directory)) {
+      return files
+          .filter(p -> p.getFileName().toString().startsWith(PREFIX)
+              && p.getFileName().toString().endsWith(SUFFIX))
+          .sorted()
+          .toList();
+    }
+  }
+
+  static long baseSequenceOf(Path file) {
+    String name = file.getFileName().toString();
+    return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+  }
+
+  static void checkHeader(ByteBuffer buffer, Path file) {
+    if (buffer.capacity() < FILE_HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+      throw new IllegalStateException(file + " is not an audit log segment");
+    }
+    int version = buffer.getInt(4);
+    if (version != FORMAT_VERSION) {
+      throw new IllegalStateException(file + " has unsupported format version " + version);
+    }
+  }
+
+  /**
+   * Walks the valid records of a segment in order, stopping at the end marker or at
+   * the first record whose length or checksum is wrong.
+   *
+   * @param segment whole segment; its position and limit are left unchanged
+   * @param visitor receives the payload offset and length of each valid record
+   */
+  static Scan scan(ByteBuffer segment, CRC32C crc, RecordVisitor visitor) {
+    int capacity = segment.capacity();
+    int position = FILE_HEADER_SIZE;
+    long records = 0;
+    while (capacity - position >= RECORD_HEADER_SIZE) {
+      int length = segment.getInt(position);
+      if (length == 0) {
+        return new Scan(position, records, true);
+      }
+      int payload = position + RECORD_HEADER_SIZE;
+      if (length < 0 || length > capacity - payload
+          || checksum(segment, payload, length, crc) != segment.getInt(position + 4)) {
+        return new Scan(position, records, false);
+      }
+      visitor.accept(payload, length);
+      position = payload + length;
+      records++;
+    }
+    return new Scan(position, records, true);
+  }
+
+  private static int checksum(ByteBuffer buffer, int offset, int length, CRC32C crc) {
+    int position = buffer.position();
+    int limit = buffer.limit();
+    buffer.limit(offset + length).position(offset);
+    crc.reset();
+    crc.update(buffer);
+    buffer.limit(limit).position(position);
+    return (int) crc.getValue();
+  }
+
+  /**
+   * @param position offset just after the last record at the time of the mark
+   * @param records  number of records at the time of the mark
+   */
+  record Mark(int position, long records) {
+  }
+
+  @FunctionalInterface
+  interface RecordVisitor {
+    void accept(int payloadOffset, int payloadLength);
+  }
+
+  /**
+   * @param end     offset just after the last valid record
+   * @param records number of valid records
+   * @param clean   false when the scan stopped on a torn or corrupt record
+   */
+  record Scan(int end, long records, boolean clean) {
+  }
+}
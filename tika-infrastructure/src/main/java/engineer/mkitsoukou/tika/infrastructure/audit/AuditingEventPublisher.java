@@ -0,0 +1,99 @@
+package engineer.mkitsoukou.tika.infrastructure.audit;
+
+import engineer.mkitsoukou.tika.application.auth.port.out.EventPublisherPort;
+import engineer.mkitsoukou.tika.domain.model.event.DomainEvent;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Writes events to the {@link MappedAuditLog} once the wrapped publisher has taken them.
+ *
+ * <p>The log only ever holds events that happened, so it can be replayed into
+ * projections: nothing is written when the delegate throws, and when a transaction is
+ * active the events are written after it commits, never for one that rolls back. Without
+ * a transaction the call returns once the events are on disk. The events are already
+ * published by the time they are audited, so an audit failure is logged rather than
+ * thrown at a caller that would otherwise publish them again.</p>
+ */
+public class AuditingEventPublisher implements EventPublisherPort, AutoCloseable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(AuditingEventPublisher.class);
+
+  private final EventPublisherPort delegate;
+  private final MappedAuditLog auditLog;
+  private final Duration commitTimeout;
+
+  /**
+   * @param delegate      publisher receiving the events once audited
+   * @param auditLog      local durable log
+   * @param commitTimeout longest wait for the group commit
+   */
+  public AuditingEventPublisher(
+      EventPublisherPort delegate,
+      MappedAuditLog auditLog,
+      Duration commitTimeout
+  ) {
+    this.delegate = Objects.requireNonNull(delegate, "delegate must not be null");
+    this.auditLog = Objects.requireNonNull(auditLog, "auditLog must not be null");
+    this.commitTimeout = Objects.requireNonNull(commitTimeout, "commitTimeout must not be null");
+  }
+
+  @Override
+  public void publish(DomainEvent event) {
+    delegate.publish(event);
+    auditWhenCommitted(List.of(event));
+  }
+
+  @Override
+  public void publishAll(List<DomainEvent> events) {
+    if (events.isEmpty()) {
+      return;
+    }
+    delegate.publishAll(events);
+    auditWhenCommitted(List.copyOf(events));
+  }
+
+  /**
+   * Closes the delegate if it holds resources; the audit log has its own lifecycle.
+   */
+  @Override
+  public void close() throws Exception {
+    if (delegate instanceof AutoCloseable closeable) {
+      closeable.close();
+    }
+  }
+
+  private void auditWhenCommitted(List<DomainEvent> events) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          audit(events);
+        }
+      });
+    } else {
+      audit(events);
+    }
+  }
+
+  private void audit(List<DomainEvent> events) {
+    try {
+      auditLog.append(events).get(commitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      LOG.error("Interrupted while writing {} published domain events to the audit log",
+          events.size(), e);
+    } catch (ExecutionException | TimeoutException e) {
+      LOG.error("{} published domain events could not be written to the audit log",
+          events.size(), e);
+    }
+  }
+}
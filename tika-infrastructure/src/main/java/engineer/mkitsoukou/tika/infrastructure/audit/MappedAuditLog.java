@@ -0,0 +1,309 @@
+package engineer.mkitsoukou.tika.infrastructure.audit;
+
+import engineer.mkitsoukou.tika.application.shared.ClockPort;
+import engineer.mkitsoukou.tika.domain.model.event.DomainEvent;
+import engineer.mkitsoukou.tika.infrastructure.messaging.codec.BinaryDomainEventSerializer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Append-only local log of domain events, written through memory-mapped segment files.
+ *
+ * <p>{@link #append(List)} queues the events and returns a future; a single writer
+ * thread drains everything queued, copies it into the active segment and then forces
+ * the dirty range to disk once for the whole batch (group commit). The futures complete
+ * after that force, so concurrent callers share one fsync instead of paying one each.
+ * Every event gets a sequence number, contiguous across segments, which
+ * {@link AuditLogReader} uses as a resume position.</p>
+ *
+ * <p>Events are stored in the {@link BinaryDomainEventSerializer} format with a CRC-32C
+ * per record. When the active segment cannot hold another record it is sealed and a new
+ * one is created; sealed segments older than {@code retention} are deleted at start, on
+ * every roll and, while appends are idle, once a minute. On start the last segment is
+ * scanned and appending resumes after its last valid record, discarding a record torn by
+ * a crash.</p>
+ *
+ * <p>Each {@link #append(List)} is all or nothing: if one of its events cannot be written,
+ * the events written before it are removed again, including any segment it rolled
+ * into, and none of them gets a sequence number.</p>
+ *
+ * <p>Metrics: {@code tika.audit.appended} (counter), {@code tika.audit.commit.size}
+ * (events per force), {@code tika.audit.commit.latency} (timer) and
+ * {@code tika.audit.segments.deleted} (counter).</p>
+ */
+public class MappedAuditLog implements AutoCloseable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(MappedAuditLog.class);
+  private static final long IDLE_POLL_MILLIS = 50;
+  private static final Duration RETENTION_CHECK_INTERVAL = Duration.ofMinutes(1);
+
+  private final Path directory;
+  private final BinaryDomainEventSerializer codec;
+  private final int segmentSize;
+  private final Duration retention;
+  private final int maxBatch;
+  private final ClockPort clock;
+  private final BlockingQueue<PendingAppend> queue = new LinkedBlockingQueue<>();
+  private final Counter appended;
+  private final Counter segmentsDeleted;
+  private final DistributionSummary commitSizes;
+  private final Timer commitLatency;
+  private final Thread writer;
+  private volatile AuditSegment active;
+  private volatile long nextSequence;
+  private volatile boolean running = true;
+
+  /**
+   * @param directory where segment files live; created if missing
+   * @param codec     event encoding; must stay readable for as long as segments are kept
+   * @param settings  segment sizing, retention and batching
+   * @param clock     time source for retention
+   * @param meters    registry receiving the audit log metrics
+   */
+  public MappedAuditLog(
+      Path directory,
+      BinaryDomainEventSerializer codec,
+      Settings settings,
+      ClockPort clock,
+      MeterRegistry meters
+  ) {
+    this.directory = Objects.requireNonNull(directory, "directory must not be null");
+    this.codec = Objects.requireNonNull(codec, "codec must not be null");
+    this.segmentSize = settings.segmentSize();
+    this.retention = settings.retention();
+    this.maxBatch = settings.maxBatch();
+    this.clock = Objects.requireNonNull(clock, "clock must not be null");
+    this.appended = Counter.builder("tika.audit.appended").register(meters);
+    this.segmentsDeleted = Counter.builder("tika.audit.segments.deleted").register(meters);
+    this.commitSizes = DistributionSummary.builder("tika.audit.commit.size").register(meters);
+    this.commitLatency = Timer.builder("tika.audit.commit.latency").register(meters);
+    try {
+      Files.createDirectories(directory);
+      List<Path> segments = AuditSegment.list(directory);
+      this.active = segments.isEmpty()
+          ? AuditSegment.create(directory, 0, segmentSize)
+          : AuditSegment.recover(segments.getLast());
+      this.nextSequence = active.nextSequence();
+      enforceRetention();
+    } catch (IOException e) {
+      throw new UncheckedIOException("Cannot open audit log in " + directory, e);
+    }
+    this.writer = new Thread(this::runWriter, "audit-log-writer");
+    this.writer.setDaemon(true);
+    this.writer.start();
+  }
+
+  /**
+   * Queues the events for the next group commit.
+   *
+   * @param events events to append, in order
+   * @return completes with the sequence number of the last event once all of them are on
+   *     disk, or exceptionally if they could not be written; already failed if the log is
+   *     closed or an event could never fit in a segment, in which case nothing is queued
+   */
+  public CompletableFuture<Long> append(List<? extends DomainEvent> events) {
+    if (!running) {
+      return CompletableFuture.failedFuture(new IllegalStateException("audit log is closed"));
+    }
+    List<DomainEvent> copy = List.copyOf(events);
+    try {
+      checkFits(copy);
+    } catch (IllegalArgumentException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+    PendingAppend pending = new PendingAppend(copy, new CompletableFuture<>());
+    queue.add(pending);
+    return pending.future();
+  }
+
+  /**
+   * @return the sequence number the next appended event will get
+   */
+  public long nextSequence() {
+    return nextSequence;
+  }
+
+  /**
+   * Deletes sealed segments last written before {@code now - retention}. The active
+   * segment is never deleted.
+   *
+   * @return number of segments deleted
+   */
+  public synchronized int enforceRetention() throws IOException {
+    Instant cutoff = clock.now().minus(retention);
+    int deleted = 0;
+    for (Path segment : AuditSegment.list(directory)) {
+      if (!segment.equals(active.file())
+          && Files.getLastModifiedTime(segment).toInstant().isBefore(cutoff)) {
+        Files.delete(segment);
+        deleted++;
+      }
+    }
+    segmentsDeleted.increment(deleted);
+    return deleted;
+  }
+
+  /**
+   * Stops accepting appends, commits what is queued and closes the active segment.
+   */
+  @Override
+  public void close() {
+    running = false;
+    try {
+      writer.join(TimeUnit.SECONDS.toMillis(10));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    try {
+      active.close();
+    } catch (IOException e) {
+      LOG.warn("Could not close audit segment {}", active.file(), e);
+    }
+  }
+
+  private void runWriter() {
+    List<PendingAppend> batch = new ArrayList<>(maxBatch);
+    Instant nextRetentionCheck = clock.now().plus(RETENTION_CHECK_INTERVAL);
+    while (running || !queue.isEmpty()) {
+      try {
+        PendingAppend first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+        if (first != null) {
+          batch.add(first);
+          queue.drainTo(batch, maxBatch - 1);
+          commit(batch);
+          batch.clear();
+        } else if (!clock.now().isBefore(nextRetentionCheck)) {
+          nextRetentionCheck = clock.now().plus(RETENTION_CHECK_INTERVAL);
+          enforceRetention();
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      } catch (IOException e) {
+        LOG.warn("Could not enforce audit log retention in {}", directory, e);
+      } catch (RuntimeException e) {
+        LOG.error("Audit log writer iteration failed", e);
+      }
+    }
+  }
+
+  private void commit(List<PendingAppend> batch) {
+    long start = System.nanoTime();
+    List<PendingAppend> written = new ArrayList<>(batch.size());
+    List<Long> lastSequences = new ArrayList<>(batch.size());
+    int events = 0;
+    for (PendingAppend pending : batch) {
+      AuditSegment first = active;
+      AuditSegment.Mark mark = first.mark();
+      try {
+        long last = active.nextSequence() - 1;
+        for (DomainEvent event : pending.events()) {
+          if (!active.hasRoom(codec.maxEncodedSize(event))) {
+            roll();
+          }
+          last = active.append(event, codec);
+        }
+        written.add(pending);
+        lastSequences.add(last);
+        events += pending.events().size();
+      } catch (IOException | RuntimeException e) {
+        try {
+          undo(first, mark);
+        } catch (IOException | RuntimeException undoFailure) {
+          e.addSuppressed(undoFailure);
+        }
+        pending.future().completeExceptionally(e);
+      }
+    }
+    try {
+      active.force();
+    } catch (UncheckedIOException e) {
+      written.forEach(p -> p.future().completeExceptionally(e));
+      return;
+    } finally {
+      nextSequence = active.nextSequence();
+    }
+    for (int i = 0; i < written.size(); i++) {
+      written.get(i).future().complete(lastSequences.get(i));
+    }
+    appended.increment(events);
+    commitSizes.record(events);
+    commitLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * Removes what a failed append wrote: the segments it rolled into are deleted and the
+   * segment it started in is reopened and cut back to {@code mark}.
+   */
+  private void undo(AuditSegment first, AuditSegment.Mark mark) throws IOException {
+    if (active != first) {
+      active.close();
+      for (Path segment : AuditSegment.list(directory)) {
+        if (AuditSegment.baseSequenceOf(segment) > AuditSegment.baseSequenceOf(first.file())) {
+          Files.delete(segment);
+        }
+      }
+      active = AuditSegment.recover(first.file());
+    }
+    active.truncate(mark);
+  }
+
+  private void checkFits(List<DomainEvent> events) {
+    for (DomainEvent event : events) {
+      if (AuditSegment.FILE_HEADER_SIZE + AuditSegment.RECORD_HEADER_SIZE
+          + codec.maxEncodedSize(event) > segmentSize) {
+        throw new IllegalArgumentException(event.getClass().getSimpleName()
+            + " is too large for a " + segmentSize + "-byte audit segment");
+      }
+    }
+  }
+
+  private void roll() throws IOException {
+    AuditSegment sealed = active;
+    sealed.close();
+    Files.setLastModifiedTime(sealed.file(), FileTime.from(clock.now()));
+    active = AuditSegment.create(directory, sealed.nextSequence(), segmentSize);
+    enforceRetention();
+  }
+
+  private record PendingAppend(List<DomainEvent> events, CompletableFuture<Long> future) {
+  }
+
+  /**
+   * Segment sizing, retention and batching.
+   *
+   * @param segmentSize bytes per segment file, at most 2 GiB
+   * @param retention   how long sealed segments are kept
+   * @param maxBatch    most appends grouped under one force
+   */
+  public record Settings(int segmentSize, Duration retention, int maxBatch) {
+
+    public Settings {
+      if (segmentSize < AuditSegment.FILE_HEADER_SIZE + AuditSegment.MAX_RECORD_SIZE) {
+        throw new IllegalArgumentException("segmentSize is too small to hold a record");
+      }
+      if (maxBatch < 1) {
+        throw new IllegalArgumentException("maxBatch must be positive");
+      }
+      Objects.requireNonNull(retention, "retention must not be null");
+    }
+  }
+}
@@ -0,0 +1,251 @@
+package engineer.mkitsoukou.tika.infrastructure.authorization;
+
+import engineer.mkitsoukou.tika.application.shared.ClockPort;
+import engineer.mkitsoukou.tika.domain.model.entity.Role;
+import engineer.mkitsoukou.tika.domain.model.event.DomainEvent;
+import engineer.mkitsoukou.tika.domain.model.event.PermissionAdded;
+import engineer.mkitsoukou.tika.domain.model.event.PermissionRemoved;
+import engineer.mkitsoukou.tika.domain.model.event.PermissionsChanged;
+import engineer.mkitsoukou.tika.domain.model.event.RoleAssigned;
+import engineer.mkitsoukou.tika.domain.model.event.RoleRemoved;
+import engineer.mkitsoukou.tika.domain.model.event.RolesAssigned;
+import engineer.mkitsoukou.tika.domain.model.event.RolesRemoved;
+import engineer.mkitsoukou.tika.domain.model.valueobject.Permission;
+import engineer.mkitsoukou.tika.domain.model.valueobject.RoleId;
+import engineer.mkitsoukou.tika.domain.model.valueobject.UserId;
+import engineer.mkitsoukou.tika.domain.repository.RoleRepository;
+import engineer.mkitsoukou.tika.domain.repository.UserRepository;
+import engineer.mkitsoukou.tika.infrastructure.replay.Projection;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Node-local copy of who has which role and which role grants which permission.
+ *
+ * <p>Entries are loaded from the repositories on first use and then kept current by
+ * applying changes in place, either one event at a time (as a {@link Projection} during
+ * replay) or as coalesced deltas from {@link AuthorizationEventConsumer}. Changes to an
+ * entry that is not cached are ignored; it will be loaded fresh when needed. A bulk
+ * event such as {@link PermissionsChanged} is one update, never seen half-applied.</p>
+ *
+ * <p>Values are immutable sets replaced atomically, so readers never see a half-applied
+ * change. Deltas are set additions and removals, which makes them idempotent: applying a
+ * change that a concurrent load already reflects is harmless.</p>
+ *
+ * <p>Entries expire {@code ttl} after they were loaded and are then loaded again, which
+ * bounds how long a missed change can linger. Each of the role and user maps holds at
+ * most {@code maxEntries}; when one is full, its expired entries are swept first, and if
+ * that frees nothing, one sixteenth of its entries, chosen arbitrarily, is dropped.</p>
+ */
+public class AuthorizationCache implements Projection {
+
+  private static final int DEFAULT_MAX_ENTRIES = 100_000;
+  private static final Duration DEFAULT_TTL = Duration.ofMinutes(10);
+  private static final int EVICTION_SLICE = 16;
+
+  private final RoleRepository roles;
+  private final UserRepository users;
+  private final int maxEntries;
+  private final Duration ttl;
+  private final ClockPort clock;
+  private final Map<RoleId, Entry<Permission>> rolePermissions = new ConcurrentHashMap<>();
+  private final Map<UserId, Entry<RoleId>> userRoles = new ConcurrentHashMap<>();
+  private final AtomicBoolean evicting = new AtomicBoolean();
+
+  public AuthorizationCache(RoleRepository roles, UserRepository users) {
+    this(roles, users, DEFAULT_MAX_ENTRIES, DEFAULT_TTL, ClockPort.SYSTEM);
+  }
+
+  /**
+   * @param roles      source of role permissions on a miss
+   * @param users      source of user roles on a miss
+   * @param maxEntries most roles, and most users, cached at once
+   * @param ttl        how long a loaded entry is served before it is loaded again
+   * @param clock      time source for entry expiry
+   */
+  public AuthorizationCache(
+      RoleRepository roles,
+      UserRepository users,
+      int maxEntries,
+      Duration ttl,
+      ClockPort clock
+  ) {
+    this.roles = Objects.requireNonNull(roles, "roles must not be null");
+    this.users = Objects.requireNonNull(users, "users must not be null");
+    this.ttl = Objects.requireNonNull(ttl, "ttl must not be null");
+    this.clock = Objects.requireNonNull(clock, "clock must not be null");
+    if (maxEntries < 1) {
+      throw new IllegalArgumentException("maxEntries must be positive");
+    }
+    if (ttl.isNegative() || ttl.isZero()) {
+      throw new IllegalArgumentException("ttl must be positive");
+    }
+    this.maxEntries = maxEntries;
+  }
+
+  /**
+   * @param roleId the role
+   * @return the permissions it grants, empty for an unknown role
+   */
+  public Set<Permission> permissionsOf(RoleId roleId) {
+    return cached(rolePermissions, roleId, id ->
+        roles.findById(id).map(role -> Set.copyOf(role.getPermissions())).orElse(null));
+  }
+
+  /**
+   * @param userId the user
+   * @return the roles assigned to the user, empty for an unknown user
+   */
+  public Set<RoleId> rolesOf(UserId userId) {
+    return cached(userRoles, userId, id ->
+        users.findById(id)
+            .map(user -> user.getRoles().stream().map(Role::getRoleId)
+                .collect(Collectors.toUnmodifiableSet()))
+            .orElse(null));
+  }
+
+  /**
+   * @param userId the user
+   * @return the union of the permissions of the user's roles
+   */
+  public Set<Permission> effectivePermissions(UserId userId) {
+    Set<Permission> permissions = new HashSet<>();
+    for (RoleId roleId : rolesOf(userId)) {
+      permissions.addAll(permissionsOf(roleId));
+    }
+    return Set.copyOf(permissions);
+  }
+
+  /**
+   * Applies a net permission change to a cached role.
+   *
+   * @return whether the role was cached
+   */
+  public boolean updateRole(RoleId roleId, Set<Permission> added, Set<Permission> removed) {
+    return rolePermissions.computeIfPresent(roleId,
+        (id, current) -> current.withDelta(added, removed)) != null;
+  }
+
+  /**
+   * Applies a net role assignment change to a cached user.
+   *
+   * @return whether the user was cached
+   */
+  public boolean updateUser(UserId userId, Set<RoleId> assigned, Set<RoleId> removed) {
+    return userRoles.computeIfPresent(userId,
+        (id, current) -> current.withDelta(assigned, removed)) != null;
+  }
+
+  public void invalidateRole(RoleId roleId) {
+    rolePermissions.remove(roleId);
+  }
+
+  public void invalidateUser(UserId userId) {
+    userRoles.remove(userId);
+  }
+
+  /**
+   * @return number of cached roles and users
+   */
+  public int size() {
+    return rolePermissions.size() + userRoles.size();
+  }
+
+  @Override
+  public String name() {
+    return "authorization-cache";
+  }
+
+  @Override
+  public void apply(DomainEvent event) {
+    switch (event) {
+      case PermissionAdded e -> updateRole(e.getRoleId(), Set.of(e.getPermission()), Set.of());
+      case PermissionRemoved e -> updateRole(e.getRoleId(), Set.of(), Set.of(e.getPermission()));
+      case RoleAssigned e -> updateUser(e.getUserId(), Set.of(e.getRoleId()), Set.of());
+      case RoleRemoved e -> updateUser(e.getUserId(), Set.of(), Set.of(e.getRoleId()));
+      case RolesAssigned e -> updateUser(e.getUserId(), e.getRoleIds(), Set.of());
+      case RolesRemoved e -> updateUser(e.getUserId(), Set.of(), e.getRoleIds());
+      case PermissionsChanged e -> updateRole(e.getRoleId(), e.getAdded(), e.getRemoved());
+      default -> { }
+    }
+  }
+
+  /**
+   * Serves a live entry, or loads it; a loader result of {@code null} means unknown and
+   * is not cached. The load runs inside the map's compute so that a concurrent update to
+   * the same key waits for it rather than being lost.
+   */
+  private <K, T> Set<T> cached(
+      Map<K, Entry<T>> entries,
+      K key,
+      Function<K, Set<T>> loader
+  ) {
+    Instant now = clock.now();
+    Entry<T> entry = entries.get(key);
+    if (entry != null && entry.liveAt(now)) {
+      return entry.value();
+    }
+    if (entry == null && entries.size() >= maxEntries) {
+      evict(entries, now);
+      if (entries.size() >= maxEntries) {
+        Set<T> loaded = loader.apply(key);
+        return loaded == null ? Set.of() : loaded;
+      }
+    }
+    Entry<T> current = entries.compute(key, (k, existing) -> {
+      if (existing != null && existing.liveAt(now)) {
+        return existing;
+      }
+      Set<T> loaded = loader.apply(k);
+      return loaded == null ? null : new Entry<>(loaded, now.plus(ttl));
+    });
+    return current == null ? Set.of() : current.value();
+  }
+
+  private <K, T> void evict(Map<K, Entry<T>> entries, Instant now) {
+    if (!evicting.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      entries.values().removeIf(entry -> !entry.liveAt(now));
+      if (entries.size() < maxEntries) {
+        return;
+      }
+      int dropped = Math.max(1, maxEntries / EVICTION_SLICE);
+      Iterator<K> keys = entries.keySet().iterator();
+      while (dropped-- > 0 && keys.hasNext()) {
+        keys.next();
+        keys.remove();
+      }
+    } finally {
+      evicting.set(false);
+    }
+  }
+
+  /**
+   * An immutable cached set and the instant it must be loaded again; deltas keep the
+   * expiry of the load they apply to.
+   */
+  private record Entry<T>(Set<T> value, Instant expiresAt) {
+
+    boolean liveAt(Instant now) {
+      return now.isBefore(expiresAt);
+    }
+
+    Entry<T> withDelta(Set<T> added, Set<T> removed) {
+      Set<T> next = new HashSet<>(value);
+      next.removeAll(removed);
+      next.addAll(added);
+      return new Entry<>(Set.copyOf(next), expiresAt);
+    }
+  }
+}
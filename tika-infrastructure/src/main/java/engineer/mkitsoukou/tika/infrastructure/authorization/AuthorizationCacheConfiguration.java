@@ -0,0 +1,69 @@
+package engineer.mkitsoukou.tika.infrastructure.authorization;
+
+import engineer.mkitsoukou.tika.domain.repository.RoleRepository;
+import engineer.mkitsoukou.tika.domain.repository.UserRepository;
+import engineer.mkitsoukou.tika.infrastructure.messaging.DomainEventSerializer;
+import engineer.mkitsoukou.tika.infrastructure.time.SystemClockAdapter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import java.util.Map;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Node-local authorization cache, enabled with {@code tika.authz.cache.enabled=true}.
+ * With {@code tika.authz.cache.propagation.enabled=true} as well, changes made on other
+ * nodes reach it through the domain-event topic. The cache is also a replay projection,
+ * so a startup replay warms it.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "tika.authz.cache", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties({AuthorizationCacheProperties.class, KafkaProperties.class})
+public class AuthorizationCacheConfiguration {
+
+  @Bean
+  AuthorizationCache authorizationCache(
+      RoleRepository roles,
+      UserRepository users,
+      AuthorizationCacheProperties properties
+  ) {
+    return new AuthorizationCache(roles, users, properties.maxEntries(), properties.ttl(),
+        new SystemClockAdapter());
+  }
+
+  @Bean(destroyMethod = "close")
+  @ConditionalOnProperty(prefix = "tika.authz.cache.propagation", name = "enabled",
+      havingValue = "true")
+  AuthorizationEventConsumer authorizationEventConsumer(
+      AuthorizationCache cache,
+      AuthorizationCacheProperties properties,
+      KafkaProperties kafka,
+      DomainEventSerializer serializer,
+      ObjectProvider<MeterRegistry> meters
+  ) {
+    Map<String, Object> config = kafka.buildConsumerProperties(null);
+    config.remove(ConsumerConfig.GROUP_ID_CONFIG);
+    config.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+    config.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, properties.maxPollRecords());
+    config.put(ConsumerConfig.FETCH_MAX_WAIT_MS_CONFIG,
+        (int) properties.fetchMaxWait().toMillis());
+    AuthorizationEventConsumer consumer = new AuthorizationEventConsumer(
+        new KafkaConsumer<>(config, new StringDeserializer(), new ByteArrayDeserializer()),
+        properties.topic(),
+        serializer,
+        cache,
+        properties.pollTimeout(),
+        new SystemClockAdapter(),
+        meters.getIfAvailable(() -> Metrics.globalRegistry));
+    consumer.start();
+    return consumer;
+  }
+}
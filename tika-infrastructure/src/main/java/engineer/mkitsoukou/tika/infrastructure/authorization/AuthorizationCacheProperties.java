@@ -0,0 +1,26 @@
+package engineer.mkitsoukou.tika.infrastructure.authorization;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for the node-local authorization cache, bound from {@code tika.authz.cache.*}.
+ *
+ * @param topic          domain-event topic carrying role and permission changes
+ * @param pollTimeout    longest wait of one poll
+ * @param maxPollRecords most records fetched per poll, and so coalesced together
+ * @param fetchMaxWait   how long the broker may hold a fetch to fill it
+ * @param maxEntries     most roles, and most users, cached at once
+ * @param ttl            how long a loaded entry is served before it is loaded again
+ */
+@ConfigurationProperties(prefix = "tika.authz.cache")
+public record AuthorizationCacheProperties(
+    @DefaultValue("tika.domain-events") String topic,
+    @DefaultValue("500ms") Duration pollTimeout,
+    @DefaultValue("2000") int maxPollRecords,
+    @DefaultValue("100ms") Duration fetchMaxWait,
+    @DefaultValue("100000") int maxEntries,
+    @DefaultValue("10m") Duration ttl
+) {
+}
@@ -0,0 +1,89 @@
+package engineer.mkitsoukou.tika.infrastructure.authorization;
+
+import engineer.mkitsoukou.tika.domain.model.event.DomainEvent;
+import engineer.mkitsoukou.tika.domain.model.event.PermissionAdded;
+import engineer.mkitsoukou.tika.domain.model.event.PermissionRemoved;
+import engineer.mkitsoukou.tika.domain.model.event.PermissionsChanged;
+import engineer.mkitsoukou.tika.domain.model.event.RoleAssigned;
+import engineer.mkitsoukou.tika.domain.model.event.RoleRemoved;
+import engineer.mkitsoukou.tika.domain.model.event.RolesAssigned;
+import engineer.mkitsoukou.tika.domain.model.event.RolesRemoved;
+import engineer.mkitsoukou.tika.domain.model.valueobject.Permission;
+import engineer.mkitsoukou.tika.domain.model.valueobject.RoleId;
+import engineer.mkitsoukou.tika.domain.model.valueobject.UserId;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Net effect of a sequence of authorization events, one delta per role and per user.
+ *
+ * <p>Events must be added in order. Adding then removing the same permission leaves it
+ * in {@code removed} only, so any number of edits to one role collapse into a single
+ * cache update.</p>
+ */
+final class AuthorizationChanges {
+
+  private final Map<RoleId, Delta<Permission>> roles = new HashMap<>();
+  private final Map<UserId, Delta<RoleId>> users = new HashMap<>();
+
+  /**
+   * @return whether the event affects authorization
+   */
+  boolean add(DomainEvent event) {
+    switch (event) {
+      case PermissionAdded e -> role(e.getRoleId()).add(e.getPermission());
+      case PermissionRemoved e -> role(e.getRoleId()).remove(e.getPermission());
+      case RoleAssigned e -> user(e.getUserId()).add(e.getRoleId());
+      case RoleRemoved e -> user(e.getUserId()).remove(e.getRoleId());
+      case RolesAssigned e -> e.getRoleIds().forEach(user(e.getUserId())::add);
+      case RolesRemoved e -> e.getRoleIds().forEach(user(e.getUserId())::remove);
+      case PermissionsChanged e -> {
+        Delta<Permission> delta = role(e.getRoleId());
+        e.getRemoved().forEach(delta::remove);
+        e.getAdded().forEach(delta::add);
+      }
+      default -> {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * @return number of cache updates applied
+   */
+  int applyTo(AuthorizationCache cache) {
+    roles.forEach((roleId, delta) -> cache.updateRole(roleId, delta.added, delta.removed));
+    users.forEach((userId, delta) -> cache.updateUser(userId, delta.added, delta.removed));
+    return roles.size() + users.size();
+  }
+
+  boolean isEmpty() {
+    return roles.isEmpty() && users.isEmpty();
+  }
+
+  private Delta<Permission> role(RoleId roleId) {
+    return roles.computeIfAbsent(roleId, id -> new Delta<>());
+  }
+
+  private Delta<RoleId> user(UserId userId) {
+    return users.computeIfAbsent(userId, id -> new Delta<>());
+  }
+
+  private static final class Delta<T> {
+    private final Set<T> added = new HashSet<>();
+    private final Set<T> removed = new HashSet<>();
+
+    void add(T value) {
+      removed.remove(value);
+      added.add(value);
+    }
+
+    void remove(T value) {
+      added.remove(value);
+      removed.add(value);
+    }
+  }
+}
@@ -0,0 +1,193 @@
+package engineer.mkitsoukou.tika.infrastructure.authorization;
+
+import engineer.mkitsoukou.tika.application.shared.ClockPort;
+import engineer.mkitsoukou.tika.domain.model.event.DomainEvent;
+import engineer.mkitsoukou.tika.infrastructure.messaging.DomainEventSerializer;
+import engineer.mkitsoukou.tika.infrastructure.messaging.EventProducerSettings;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.WakeupException;
+import org.apache.kafka.common.header.Header;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps this node's {@link AuthorizationCache} in step with role and permission changes
+ * made on any node.
+ *
+ * <p>Every node reads every partition of the domain-event topic: partitions are
+ * assigned manually, starting from the end, with no consumer group. Events whose type
+ * header shows they cannot affect authorization are skipped without decoding. The rest
+ * of a poll is coalesced into one delta per role and per user and applied in one pass,
+ * so a bulk edit costs one cache update per touched entry rather than one per event.</p>
+ *
+ * <p>Metrics: {@code tika.authz.events} (events applied),
+ * {@code tika.authz.cache.updates} (coalesced updates) and
+ * {@code tika.authz.propagation.delay}, the time from an event occurring to it reaching
+ * this cache, which bounds how stale a node's authorization data can be.</p>
+ *
+ * <p>A failed poll is logged and retried after a pause that doubles with each
+ * consecutive failure, up to 30 seconds, rather than straight away.</p>
+ */
+public class AuthorizationEventConsumer implements AutoCloseable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(AuthorizationEventConsumer.class);
+  private static final long MIN_BACKOFF_MILLIS = 100;
+  private static final long MAX_BACKOFF_MILLIS = 30_000;
+
+  static final Set<String> RELEVANT_TYPES = Set.of(
+      "PermissionAdded", "PermissionRemoved", "PermissionsChanged",
+      "RoleAssigned", "RoleRemoved", "RolesAssigned", "RolesRemoved");
+
+  private final Consumer<String, byte[]> consumer;
+  private final String topic;
+  private final DomainEventSerializer serializer;
+  private final AuthorizationCache cache;
+  private final Duration pollTimeout;
+  private final ClockPort clock;
+  private final Counter applied;
+  private final Counter updates;
+  private final Timer propagationDelay;
+  private Thread poller;
+  private volatile boolean running;
+
+  /**
+   * @param consumer    consumer owned and closed by this instance
+   * @param topic       domain-event topic
+   * @param serializer  decoder of record values
+   * @param cache       cache to keep current
+   * @param pollTimeout longest wait of one poll
+   * @param clock       time source for the propagation delay
+   * @param meters      registry receiving the consumer metrics
+   */
+  public AuthorizationEventConsumer(
+      Consumer<String, byte[]> consumer,
+      String topic,
+      DomainEventSerializer serializer,
+      AuthorizationCache cache,
+      Duration pollTimeout,
+      ClockPort clock,
+      MeterRegistry meters
+  ) {
+    this.consumer = Objects.requireNonNull(consumer, "consumer must not be null");
+    this.topic = Objects.requireNonNull(topic, "topic must not be null");
+    this.serializer = Objects.requireNonNull(serializer, "serializer must not be null");
+    this.cache = Objects.requireNonNull(cache, "cache must not be null");
+    this.pollTimeout = Objects.requireNonNull(pollTimeout, "pollTimeout must not be null");
+    this.clock = Objects.requireNonNull(clock, "clock must not be null");
+    this.applied = Counter.builder("tika.authz.events").register(meters);
+    this.updates = Counter.builder("tika.authz.cache.updates").register(meters);
+    this.propagationDelay = Timer.builder("tika.authz.propagation.delay")
+        .publishPercentiles(0.5, 0.99)
+        .register(meters);
+  }
+
+  /**
+   * Assigns every partition of the topic, positioned at its end.
+   */
+  public void assign() {
+    List<TopicPartition> partitions = consumer.partitionsFor(topic).stream()
+        .map(info -> new TopicPartition(info.topic(), info.partition()))
+        .toList();
+    consumer.assign(partitions);
+    consumer.seekToEnd(partitions);
+  }
+
+  /**
+   * Assigns the partitions and starts polling on a background thread.
+   */
+  public void start() {
+    assign();
+    running = true;
+    poller = new Thread(this::run, "authz-event-consumer");
+    poller.setDaemon(true);
+    poller.start();
+  }
+
+  /**
+   * Polls once and applies what arrived.
+   *
+   * @return number of authorization events applied
+   */
+  public int pollOnce() {
+    ConsumerRecords<String, byte[]> records = consumer.poll(pollTimeout);
+    AuthorizationChanges changes = new AuthorizationChanges();
+    int relevant = 0;
+    for (ConsumerRecord<String, byte[]> consumerRecord : records) {
+      if (!mayBeRelevant(consumerRecord)) {
+        continue;
+      }
+      DomainEvent event;
+      try {
+        event = serializer.deserialize(consumerRecord.value());
+      } catch (IllegalArgumentException e) {
+        LOG.warn("Skipping undecodable event at {}-{}@{}", consumerRecord.topic(),
+            consumerRecord.partition(), consumerRecord.offset(), e);
+        continue;
+      }
+      if (changes.add(event)) {
+        relevant++;
+        propagationDelay.record(
+            Duration.between(event.occurredAt(), clock.now()).toNanos(), TimeUnit.NANOSECONDS);
+      }
+    }
+    if (!changes.isEmpty()) {
+      updates.increment(changes.applyTo(cache));
+      applied.increment(relevant);
+    }
+    return relevant;
+  }
+
+  @Override
+  public void close() {
+    running = false;
+    if (poller != null) {
+      consumer.wakeup();
+      poller.interrupt();
+      try {
+        poller.join(pollTimeout.toMillis() + TimeUnit.SECONDS.toMillis(5));
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    consumer.close();
+  }
+
+  private void run() {
+    long backoff = 0;
+    while (running) {
+      try {
+        pollOnce();
+        backoff = 0;
+      } catch (WakeupException e) {
+        return;
+      } catch (RuntimeException e) {
+        backoff = Math.min(Math.max(backoff * 2, MIN_BACKOFF_MILLIS), MAX_BACKOFF_MILLIS);
+        LOG.error("Authorization event poll failed, retrying in {} ms", backoff, e);
+        try {
+          Thread.sleep(backoff);
+        } catch (InterruptedException interrupted) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+      }
+    }
+  }
+
+  private static boolean mayBeRelevant(ConsumerRecord<String, byte[]> consumerRecord) {
+    Header type = consumerRecord.headers().lastHeader(EventProducerSettings.EVENT_TYPE_HEADER);
+    return type == null
+        || RELEVANT_TYPES.contains(new String(type.value(), StandardCharsets.UTF_8));
+  }
+}
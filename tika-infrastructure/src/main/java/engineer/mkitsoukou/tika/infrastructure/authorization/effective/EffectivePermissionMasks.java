@@ -0,0 +1,60 @@
+package engineer.mkitsoukou.tika.infrastructure.authorization.effective;
+
+import engineer.mkitsoukou.tika.application.auth.dto.PermissionRegistryDto;
+import engineer.mkitsoukou.tika.application.auth.model.PermissionMask;
+import engineer.mkitsoukou.tika.application.auth.port.out.PermissionMaskPort;
+import engineer.mkitsoukou.tika.application.auth.port.out.PermissionRegistryPort;
+import engineer.mkitsoukou.tika.domain.model.valueobject.UserId;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Serves the projection's masks for embedding in access tokens, and the ordinal table
+ * their bits refer to.
+ *
+ * <p>A mask is one primary-key read. Its registry version is the size of the last loaded
+ * ordinal table, reloaded only when a mask sets a bit beyond it; since ordinals are never
+ * renumbered, a table that covers the mask's highest bit decodes all of it.</p>
+ */
+public class EffectivePermissionMasks implements PermissionMaskPort, PermissionRegistryPort {
+
+  private final EffectivePermissionStore store;
+  private volatile PermissionRegistryDto registry;
+
+  public EffectivePermissionMasks(EffectivePermissionStore store) {
+    this.store = Objects.requireNonNull(store, "store must not be null");
+  }
+
+  @Override
+  public Optional<PermissionMask> permissionMask(String userId) {
+    Optional<BitSet> mask = store.permissionMask(UserId.of(userId));
+    if (mask.isEmpty()) {
+      return Optional.empty();
+    }
+    BitSet granted = mask.get();
+    PermissionRegistryDto known = registry;
+    if (known == null || known.version() < granted.length()) {
+      known = currentRegistry();
+    }
+    return Optional.of(new PermissionMask(Math.max(known.version(), granted.length()), granted));
+  }
+
+  /**
+   * Reads the ordinal table afresh.
+   */
+  @Override
+  public PermissionRegistryDto currentRegistry() {
+    Map<String, Integer> ordinals = store.loadOrdinals();
+    int version = ordinals.values().stream().mapToInt(ordinal -> ordinal + 1).max().orElse(0);
+    List<String> permissions = new ArrayList<>(Collections.nCopies(version, null));
+    ordinals.forEach((permission, ordinal) -> permissions.set(ordinal, permission));
+    PermissionRegistryDto loaded = new PermissionRegistryDto(version, permissions);
+    registry = loaded;
+    return loaded;
+  }
+}
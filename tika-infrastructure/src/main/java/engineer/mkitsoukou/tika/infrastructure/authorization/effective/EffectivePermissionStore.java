@@ -0,0 +1,55 @@
+package engineer.mkitsoukou.tika.infrastructure.authorization.effective;
+
+import engineer.mkitsoukou.tika.domain.model.valueobject.RoleId;
+import engineer.mkitsoukou.tika.domain.model.valueobject.UserId;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Storage of the effective-permission projection. The {@code ForUpdate} and
+ * {@code ForShare} reads lock the rows they return until the surrounding transaction
+ * ends; callers lock roles before users so that concurrent changes cannot deadlock.
+ */
+public interface EffectivePermissionStore {
+
+  /**
+   * @return every permission value with its ordinal
+   */
+  Map<String, Integer> loadOrdinals();
+
+  /**
+   * Returns the permission's ordinal, allocating the next free one on first use.
+   */
+  int assignOrdinal(String permission);
+
+  Optional<BitSet> roleForUpdate(RoleId roleId);
+
+  Optional<BitSet> roleForShare(RoleId roleId);
+
+  /**
+   * Inserts or replaces a role's permission mask.
+   */
+  void saveRole(RoleId roleId, BitSet mask);
+
+  Optional<UserGrants> userForUpdate(UserId userId);
+
+  /**
+   * @return users holding the role, ordered by user id
+   */
+  List<UserGrants> usersWithRoleForUpdate(RoleId roleId);
+
+  /**
+   * Inserts or replaces the users' rows.
+   */
+  void saveUsers(Collection<UserGrants> users);
+
+  /**
+   * Authorization read: one primary-key lookup, no lock.
+   *
+   * @return the user's effective-permission mask, empty if the user is not projected
+   */
+  Optional<BitSet> permissionMask(UserId userId);
+}
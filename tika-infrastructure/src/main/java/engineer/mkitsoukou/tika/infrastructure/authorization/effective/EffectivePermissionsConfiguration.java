@@ -0,0 +1,97 @@
+package engineer.mkitsoukou.tika.infrastructure.authorization.effective;
+
+import engineer.mkitsoukou.tika.domain.repository.RoleRepository;
+import engineer.mkitsoukou.tika.domain.repository.UserRepository;
+import engineer.mkitsoukou.tika.infrastructure.messaging.DomainEventSerializer;
+import engineer.mkitsoukou.tika.infrastructure.time.SystemClockAdapter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import java.util.Map;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Effective-permission projection, enabled with
+ * {@code tika.authz.effective-permissions.enabled=true}; the tables are created by
+ * {@code db/user-effective-permissions.sql}. The projection follows the domain-event
+ * topic through {@link EffectivePermissionsEventConsumer}, which commits its group
+ * offsets only after applying the events, so nothing is lost to a full queue, a crash or
+ * a restart; it is also a replay projection for rebuilding the tables.
+ * {@link EffectivePermissionMasks} serves the masks to embed in access tokens and the
+ * ordinal table they refer to.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "tika.authz.effective-permissions", name = "enabled",
+    havingValue = "true")
+@EnableConfigurationProperties({EffectivePermissionsProperties.class, KafkaProperties.class})
+public class EffectivePermissionsConfiguration {
+
+  @Bean
+  EffectivePermissionStore effectivePermissionStore(
+      JdbcOperations jdbc,
+      PlatformTransactionManager transactionManager
+  ) {
+    TransactionTemplate ordinalTx = new TransactionTemplate(transactionManager);
+    ordinalTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    return new JdbcEffectivePermissionStore(jdbc, ordinalTx);
+  }
+
+  @Bean
+  PermissionOrdinals permissionOrdinals(EffectivePermissionStore store) {
+    return new PermissionOrdinals(store);
+  }
+
+  @Bean
+  EffectivePermissionMasks effectivePermissionMasks(EffectivePermissionStore store) {
+    return new EffectivePermissionMasks(store);
+  }
+
+  @Bean
+  EffectivePermissionsProjection effectivePermissionsProjection(
+      EffectivePermissionStore store,
+      PermissionOrdinals ordinals,
+      RoleRepository roles,
+      UserRepository users,
+      PlatformTransactionManager transactionManager
+  ) {
+    return new EffectivePermissionsProjection(store, ordinals, roles, users,
+        new TransactionTemplate(transactionManager));
+  }
+
+  @Bean(destroyMethod = "close")
+  EffectivePermissionsEventConsumer effectivePermissionsEventConsumer(
+      EffectivePermissionsProjection projection,
+      EffectivePermissionsProperties properties,
+      KafkaProperties kafka,
+      DomainEventSerializer serializer,
+      ObjectProvider<MeterRegistry> meters
+  ) {
+    Map<String, Object> config = kafka.buildConsumerProperties(null);
+    config.put(ConsumerConfig.GROUP_ID_CONFIG, properties.groupId());
+    config.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+    config.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+    config.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, properties.maxPollRecords());
+    EffectivePermissionsEventConsumer consumer = new EffectivePermissionsEventConsumer(
+        new KafkaConsumer<>(config, new StringDeserializer(), new ByteArrayDeserializer()),
+        properties.topic(),
+        serializer,
+        projection,
+        properties.pollTimeout(),
+        new SystemClockAdapter(),
+        meters.getIfAvailable(() -> Metrics.globalRegistry));
+    consumer.start();
+    return consumer;
+  }
+}
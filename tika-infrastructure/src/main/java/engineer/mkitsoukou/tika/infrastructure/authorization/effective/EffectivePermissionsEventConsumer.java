@@ -0,0 +1,222 @@
+package engineer.mkitsoukou.tika.infrastructure.authorization.effective;
+
+import engineer.mkitsoukou.tika.application.shared.ClockPort;
+import engineer.mkitsoukou.tika.domain.model.event.DomainEvent;
+import engineer.mkitsoukou.tika.infrastructure.messaging.DomainEventSerializer;
+import engineer.mkitsoukou.tika.infrastructure.messaging.EventProducerSettings;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.WakeupException;
+import org.apache.kafka.common.header.Header;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Feeds the {@link EffectivePermissionsProjection} from the durable domain-event topic.
+ *
+ * <p>Unlike the node-local cache consumers, this one joins a consumer group: the table
+ * is shared, so each event is applied by one node. Offsets are committed only once the
+ * events before them have been applied, so a crash, a shutdown or a rebalance resumes
+ * where the table left off, and a node starting for the first time catches up from the
+ * beginning of the topic. When the projection fails on an event, its partition is
+ * rewound to that event and retried after a growing pause, rather than skipped; the
+ * projection is idempotent, so events applied twice change nothing. Records whose type
+ * header shows they cannot affect permissions are skipped without decoding, and records
+ * that cannot be decoded at all are logged and skipped.</p>
+ *
+ * <p>Metrics: {@code tika.authz.effective-permissions.events} (events applied) and
+ * {@code tika.authz.effective-permissions.propagation.delay}, the time from an event
+ * occurring to it reaching the table.</p>
+ */
+public class EffectivePermissionsEventConsumer implements AutoCloseable {
+
+  private static final Logger LOG =
+      LoggerFactory.getLogger(EffectivePermissionsEventConsumer.class);
+  private static final long MIN_BACKOFF_MILLIS = 100;
+  private static final long MAX_BACKOFF_MILLIS = 30_000;
+
+  static final Set<String> RELEVANT_TYPES = Set.of(
+      "PermissionAdded", "PermissionRemoved", "PermissionsChanged",
+      "RoleAssigned", "RoleRemoved", "RolesAssigned", "RolesRemoved", "UserRegistered");
+
+  private final Consumer<String, byte[]> consumer;
+  private final String topic;
+  private final DomainEventSerializer serializer;
+  private final EffectivePermissionsProjection projection;
+  private final Duration pollTimeout;
+  private final ClockPort clock;
+  private final Counter applied;
+  private final Timer propagationDelay;
+  private Thread poller;
+  private volatile boolean running;
+
+  /**
+   * @param consumer    consumer owned and closed by this instance; it must belong to a
+   *                    group and not commit offsets on its own
+   * @param topic       domain-event topic
+   * @param serializer  decoder of record values
+   * @param projection  projection to keep current
+   * @param pollTimeout longest wait of one poll
+   * @param clock       time source for the propagation delay
+   * @param meters      registry receiving the consumer metrics
+   */
+  public EffectivePermissionsEventConsumer(
+      Consumer<String, byte[]> consumer,
+      String topic,
+      DomainEventSerializer serializer,
+      EffectivePermissionsProjection projection,
+      Duration pollTimeout,
+      ClockPort clock,
+      MeterRegistry meters
+  ) {
+    this.consumer = Objects.requireNonNull(consumer, "consumer must not be null");
+    this.topic = Objects.requireNonNull(topic, "topic must not be null");
+    this.serializer = Objects.requireNonNull(serializer, "serializer must not be null");
+    this.projection = Objects.requireNonNull(projection, "projection must not be null");
+    this.pollTimeout = Objects.requireNonNull(pollTimeout, "pollTimeout must not be null");
+    this.clock = Objects.requireNonNull(clock, "clock must not be null");
+    this.applied = Counter.builder("tika.authz.effective-permissions.events").register(meters);
+    this.propagationDelay = Timer.builder("tika.authz.effective-permissions.propagation.delay")
+        .publishPercentiles(0.5, 0.99)
+        .register(meters);
+  }
+
+  /**
+   * Joins the group on the topic; partitions arrive with the first poll.
+   */
+  public void subscribe() {
+    consumer.subscribe(List.of(topic));
+  }
+
+  /**
+   * Subscribes and starts polling on a background thread.
+   */
+  public void start() {
+    subscribe();
+    running = true;
+    poller = new Thread(this::run, "effective-permissions-consumer");
+    poller.setDaemon(true);
+    poller.start();
+  }
+
+  /**
+   * Polls once, applies what arrived in partition order and commits the offsets reached.
+   *
+   * @return number of permission events applied
+   * @throws IllegalStateException if the projection failed; the offsets of the events not
+   *                               applied are rewound so the next poll returns them again
+   */
+  public int pollOnce() {
+    ConsumerRecords<String, byte[]> records = consumer.poll(pollTimeout);
+    Map<TopicPartition, OffsetAndMetadata> reached = new HashMap<>();
+    int relevant = 0;
+    try {
+      for (TopicPartition partition : records.partitions()) {
+        for (ConsumerRecord<String, byte[]> consumerRecord : records.records(partition)) {
+          if (apply(consumerRecord)) {
+            relevant++;
+          }
+          reached.put(partition, new OffsetAndMetadata(consumerRecord.offset() + 1));
+        }
+      }
+    } catch (RuntimeException e) {
+      rewind(records, reached);
+      throw new IllegalStateException("Effective permissions projection failed", e);
+    } finally {
+      if (!reached.isEmpty()) {
+        consumer.commitSync(reached);
+      }
+      applied.increment(relevant);
+    }
+    return relevant;
+  }
+
+  @Override
+  public void close() {
+    running = false;
+    if (poller != null) {
+      consumer.wakeup();
+      poller.interrupt();
+      try {
+        poller.join(pollTimeout.toMillis() + TimeUnit.SECONDS.toMillis(5));
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    consumer.close();
+  }
+
+  private boolean apply(ConsumerRecord<String, byte[]> consumerRecord) {
+    if (!mayBeRelevant(consumerRecord)) {
+      return false;
+    }
+    DomainEvent event;
+    try {
+      event = serializer.deserialize(consumerRecord.value());
+    } catch (IllegalArgumentException e) {
+      LOG.warn("Skipping undecodable event at {}-{}@{}", consumerRecord.topic(),
+          consumerRecord.partition(), consumerRecord.offset(), e);
+      return false;
+    }
+    projection.apply(event);
+    propagationDelay.record(
+        Duration.between(event.occurredAt(), clock.now()).toNanos(), TimeUnit.NANOSECONDS);
+    return true;
+  }
+
+  /**
+   * Moves every partition of the poll back to its first event not applied.
+   */
+  private void rewind(
+      ConsumerRecords<String, byte[]> records,
+      Map<TopicPartition, OffsetAndMetadata> reached
+  ) {
+    for (TopicPartition partition : records.partitions()) {
+      OffsetAndMetadata done = reached.get(partition);
+      consumer.seek(partition, done != null
+          ? done.offset()
+          : records.records(partition).getFirst().offset());
+    }
+  }
+
+  private void run() {
+    long backoff = 0;
+    while (running) {
+      try {
+        pollOnce();
+        backoff = 0;
+      } catch (WakeupException e) {
+        return;
+      } catch (RuntimeException e) {
+        backoff = Math.min(Math.max(backoff * 2, MIN_BACKOFF_MILLIS), MAX_BACKOFF_MILLIS);
+        LOG.error("Effective permissions poll failed, retrying in {} ms", backoff, e);
+        try {
+          Thread.sleep(backoff);
+        } catch (InterruptedException interrupted) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+      }
+    }
+  }
+
+  private static boolean mayBeRelevant(ConsumerRecord<String, byte[]> consumerRecord) {
+    Header type = consumerRecord.headers().lastHeader(EventProducerSettings.EVENT_TYPE_HEADER);
+    return type == null
+        || RELEVANT_TYPES.contains(new String(type.value(), StandardCharsets.UTF_8));
+  }
+}
@@ -0,0 +1,194 @@
+package engineer.mkitsoukou.tika.infrastructure.authorization.effective;
+
+import engineer.mkitsoukou.tika.domain.model.entity.Role;
+import engineer.mkitsoukou.tika.domain.model.entity.User;
+import engineer.mkitsoukou.tika.domain.model.event.DomainEvent;
+import engineer.mkitsoukou.tika.domain.model.event.PermissionAdded;
+import engineer.mkitsoukou.tika.domain.model.event.PermissionRemoved;
+import engineer.mkitsoukou.tika.domain.model.event.PermissionsChanged;
+import engineer.mkitsoukou.tika.domain.model.event.RoleAssigned;
+import engineer.mkitsoukou.tika.domain.model.event.RoleRemoved;
+import engineer.mkitsoukou.tika.domain.model.event.RolesAssigned;
+import engineer.mkitsoukou.tika.domain.model.event.RolesRemoved;
+import engineer.mkitsoukou.tika.domain.model.event.UserRegistered;
+import engineer.mkitsoukou.tika.domain.model.valueobject.Permission;
+import engineer.mkitsoukou.tika.domain.model.valueobject.RoleId;
+import engineer.mkitsoukou.tika.domain.model.valueobject.UserId;
+import engineer.mkitsoukou.tika.domain.repository.RoleRepository;
+import engineer.mkitsoukou.tika.domain.repository.UserRepository;
+import engineer.mkitsoukou.tika.infrastructure.replay.Projection;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.springframework.transaction.support.TransactionOperations;
+
+/**
+ * Keeps {@code user_effective_permissions} current from role and permission events, so
+ * that "what may this user do" is one primary-key read returning a bitmask.
+ *
+ * <p>Changes are applied by set arithmetic on per-permission grant counts
+ * ({@link UserGrants}): assigning a role adds its mask, adding a permission to a role
+ * increments that one ordinal for the role's holders, and nothing is recomputed from
+ * the users, roles and permissions tables. Events are idempotent against the stored
+ * state: re-assigning a held role or re-adding a granted permission changes nothing.</p>
+ *
+ * <p>Roles are created without an event, so a user or role first seen by the projection
+ * is seeded from the repositories; later events then apply on top of that state. One
+ * missed revocation would leave a permission bit set for good, so the projection is fed
+ * from the durable event topic by {@link EffectivePermissionsEventConsumer}, never from
+ * the in-process bus, and can be rebuilt by replay as a {@link Projection}.</p>
+ */
+public class EffectivePermissionsProjection implements Projection {
+
+  private static final Comparator<RoleId> ROLE_ORDER = Comparator.comparing(RoleId::value);
+
+  private final EffectivePermissionStore store;
+  private final PermissionOrdinals ordinals;
+  private final RoleRepository roles;
+  private final UserRepository users;
+  private final TransactionOperations tx;
+
+  /**
+   * @param store    projection storage
+   * @param ordinals bit positions of permissions
+   * @param roles    source of roles the projection has not seen yet
+   * @param users    source of users the projection has not seen yet
+   * @param tx       transaction boundary of each event
+   */
+  public EffectivePermissionsProjection(
+      EffectivePermissionStore store,
+      PermissionOrdinals ordinals,
+      RoleRepository roles,
+      UserRepository users,
+      TransactionOperations tx
+  ) {
+    this.store = Objects.requireNonNull(store, "store must not be null");
+    this.ordinals = Objects.requireNonNull(ordinals, "ordinals must not be null");
+    this.roles = Objects.requireNonNull(roles, "roles must not be null");
+    this.users = Objects.requireNonNull(users, "users must not be null");
+    this.tx = Objects.requireNonNull(tx, "tx must not be null");
+  }
+
+  /**
+   * @return the user's effective permissions as a mask over {@link PermissionOrdinals},
+   *     empty if the user has not been projected yet
+   */
+  public Optional<BitSet> permissionMask(UserId userId) {
+    return store.permissionMask(userId);
+  }
+
+  /**
+   * @return the user's effective permissions, empty if the user has not been projected yet
+   */
+  public Optional<Set<Permission>> permissionsOf(UserId userId) {
+    return store.permissionMask(userId).map(ordinals::fromMask);
+  }
+
+  @Override
+  public String name() {
+    return "effective-permissions";
+  }
+
+  @Override
+  public void apply(DomainEvent event) {
+    switch (event) {
+      case PermissionAdded e -> changeRole(e.getRoleId(), Set.of(e.getPermission()), Set.of());
+      case PermissionRemoved e -> changeRole(e.getRoleId(), Set.of(), Set.of(e.getPermission()));
+      case PermissionsChanged e -> changeRole(e.getRoleId(), e.getAdded(), e.getRemoved());
+      case RoleAssigned e -> changeUser(e.getUserId(), Set.of(e.getRoleId()), Set.of());
+      case RoleRemoved e -> changeUser(e.getUserId(), Set.of(), Set.of(e.getRoleId()));
+      case RolesAssigned e -> changeUser(e.getUserId(), e.getRoleIds(), Set.of());
+      case RolesRemoved e -> changeUser(e.getUserId(), Set.of(), e.getRoleIds());
+      case UserRegistered e -> changeUser(e.getUserId(), Set.of(), Set.of());
+      default -> { }
+    }
+  }
+
+  private void changeRole(RoleId roleId, Set<Permission> added, Set<Permission> removed) {
+    BitSet addedBits = ordinals.toMask(added);
+    BitSet removedBits = ordinals.toMask(removed);
+    tx.executeWithoutResult(status -> {
+      Optional<BitSet> current = store.roleForUpdate(roleId);
+      if (current.isEmpty()) {
+        // nobody holds a role the projection has never seen; its seed is current
+        roles.findById(roleId).ifPresent(this::saveRole);
+        return;
+      }
+      BitSet mask = current.get();
+      addedBits.andNot(mask);
+      removedBits.and(mask);
+      if (addedBits.isEmpty() && removedBits.isEmpty()) {
+        return;
+      }
+      mask.or(addedBits);
+      mask.andNot(removedBits);
+      store.saveRole(roleId, mask);
+      List<UserGrants> holders = store.usersWithRoleForUpdate(roleId);
+      for (UserGrants holder : holders) {
+        addedBits.stream().forEach(holder::grant);
+        removedBits.stream().forEach(holder::revoke);
+      }
+      store.saveUsers(holders);
+    });
+  }
+
+  private void changeUser(UserId userId, Set<RoleId> assigned, Set<RoleId> removed) {
+    tx.executeWithoutResult(status -> {
+      List<RoleId> touched = Stream.concat(assigned.stream(), removed.stream())
+          .sorted(ROLE_ORDER)
+          .toList();
+      Map<RoleId, BitSet> masks = new HashMap<>();
+      for (RoleId roleId : touched) {
+        roleMask(roleId).ifPresent(mask -> masks.put(roleId, mask));
+      }
+      Optional<UserGrants> current = store.userForUpdate(userId);
+      if (current.isEmpty()) {
+        users.findById(userId).ifPresent(this::seedUser);
+        return;
+      }
+      UserGrants grants = current.get();
+      boolean changed = false;
+      for (RoleId roleId : removed) {
+        changed |= grants.remove(roleId, masks.getOrDefault(roleId, new BitSet()));
+      }
+      for (RoleId roleId : assigned) {
+        changed |= grants.assign(roleId, masks.getOrDefault(roleId, new BitSet()));
+      }
+      if (changed) {
+        store.saveUsers(List.of(grants));
+      }
+    });
+  }
+
+  private void seedUser(User user) {
+    UserGrants grants = UserGrants.empty(user.getId());
+    user.getRoles().stream()
+        .sorted(Comparator.comparing(Role::getRoleId, ROLE_ORDER))
+        .forEach(role -> grants.assign(role.getRoleId(),
+            store.roleForShare(role.getRoleId()).orElseGet(() -> saveRole(role))));
+    store.saveUsers(List.of(grants));
+  }
+
+  /**
+   * Reads and share-locks a role's mask, seeding it from the repository when unseen.
+   */
+  private Optional<BitSet> roleMask(RoleId roleId) {
+    Optional<BitSet> stored = store.roleForShare(roleId);
+    if (stored.isPresent()) {
+      return stored;
+    }
+    return roles.findById(roleId).map(this::saveRole);
+  }
+
+  private BitSet saveRole(Role role) {
+    BitSet mask = ordinals.toMask(role.getPermissions());
+    store.saveRole(role.getRoleId(), mask);
+    return mask;
+  }
+}
@@ -0,0 +1,23 @@
+package engineer.mkitsoukou.tika.infrastructure.authorization.effective;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for the effective-permission projection, bound from
+ * {@code tika.authz.effective-permissions.*}.
+ *
+ * @param topic          domain-event topic the projection follows
+ * @param groupId        consumer group sharing the topic between nodes
+ * @param pollTimeout    longest wait of one poll
+ * @param maxPollRecords most records fetched, applied and committed per poll
+ */
+@ConfigurationProperties(prefix = "tika.authz.effective-permissions")
+public record EffectivePermissionsProperties(
+    @DefaultValue("tika.domain-events") String topic,
+    @DefaultValue("tika-effective-permissions") String groupId,
+    @DefaultValue("500ms") Duration pollTimeout,
+    @DefaultValue("500") int maxPollRecords
+) {
+}
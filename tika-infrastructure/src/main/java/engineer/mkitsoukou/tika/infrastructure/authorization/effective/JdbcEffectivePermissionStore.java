@@ -0,0 +1,190 @@
+package engineer.mkitsoukou.tika.infrastructure.authorization.effective;
+
+import engineer.mkitsoukou.tika.domain.model.valueobject.RoleId;
+import engineer.mkitsoukou.tika.domain.model.valueobject.UserId;
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.support.TransactionOperations;
+
+/**
+ * Postgres store of the effective-permission projection. See
+ * {@code db/user-effective-permissions.sql} for the table definitions.
+ *
+ * <p>Ordinals are allocated in their own transaction: once {@link PermissionOrdinals}
+ * has cached one it must exist even if the event that needed it rolls back.</p>
+ */
+public class JdbcEffectivePermissionStore implements EffectivePermissionStore {
+
+  private static final String ORDINALS_SQL = "SELECT permission, ordinal FROM permission_ordinals";
+
+  private static final String ORDINAL_SQL =
+      "SELECT ordinal FROM permission_ordinals WHERE permission = ?";
+
+  private static final String INSERT_ORDINAL_SQL = """
+      INSERT INTO permission_ordinals (permission) VALUES (?)
+      ON CONFLICT (permission) DO NOTHING""";
+
+  private static final String ROLE_SQL =
+      "SELECT permission_mask FROM role_permission_masks WHERE role_id = ?";
+
+  private static final String UPSERT_ROLE_SQL = """
+      INSERT INTO role_permission_masks (role_id, permission_mask) VALUES (?, ?)
+      ON CONFLICT (role_id) DO UPDATE SET permission_mask = EXCLUDED.permission_mask""";
+
+  private static final String USER_SQL = """
+      SELECT user_id, role_ids, grant_counts
+        FROM user_effective_permissions
+       WHERE user_id = ?
+         FOR UPDATE""";
+
+  private static final String USERS_WITH_ROLE_SQL = """
+      SELECT user_id, role_ids, grant_counts
+        FROM user_effective_permissions
+       WHERE role_ids @> ARRAY[?]::uuid[]
+       ORDER BY user_id
+         FOR UPDATE""";
+
+  private static final String UPSERT_USER_SQL = """
+      INSERT INTO user_effective_permissions (user_id, role_ids, grant_counts, permission_mask)
+      VALUES (?, ?, ?, ?)
+      ON CONFLICT (user_id) DO UPDATE
+         SET role_ids = EXCLUDED.role_ids,
+             grant_counts = EXCLUDED.grant_counts,
+             permission_mask = EXCLUDED.permission_mask""";
+
+  private static final String MASK_SQL =
+      "SELECT permission_mask FROM user_effective_permissions WHERE user_id = ?";
+
+  private final JdbcOperations jdbc;
+  private final TransactionOperations ordinalTx;
+
+  /**
+   * @param jdbc      connection to the projection tables
+   * @param ordinalTx transaction template that always starts a new transaction
+   */
+  public JdbcEffectivePermissionStore(JdbcOperations jdbc, TransactionOperations ordinalTx) {
+    this.jdbc = Objects.requireNonNull(jdbc, "jdbc must not be null");
+    this.ordinalTx = Objects.requireNonNull(ordinalTx, "ordinalTx must not be null");
+  }
+
+  @Override
+  public Map<String, Integer> loadOrdinals() {
+    Map<String, Integer> ordinals = new HashMap<>();
+    jdbc.query(ORDINALS_SQL,
+        (RowCallbackHandler) rs -> ordinals.put(rs.getString("permission"), rs.getInt("ordinal")));
+    return ordinals;
+  }
+
+  @Override
+  public int assignOrdinal(String permission) {
+    Integer ordinal = ordinalTx.execute(status -> {
+      // select first: a conflicting insert would still burn an identity value
+      List<Integer> existing = jdbc.queryForList(ORDINAL_SQL, Integer.class, permission);
+      if (!existing.isEmpty()) {
+        return existing.getFirst();
+      }
+      jdbc.update(INSERT_ORDINAL_SQL, permission);
+      return jdbc.queryForObject(ORDINAL_SQL, Integer.class, permission);
+    });
+    return Objects.requireNonNull(ordinal, "ordinal");
+  }
+
+  @Override
+  public Optional<BitSet> roleForUpdate(RoleId roleId) {
+    return mask(ROLE_SQL + " FOR UPDATE", roleId.value());
+  }
+
+  @Override
+  public Optional<BitSet> roleForShare(RoleId roleId) {
+    return mask(ROLE_SQL + " FOR SHARE", roleId.value());
+  }
+
+  @Override
+  public void saveRole(RoleId roleId, BitSet mask) {
+    jdbc.update(UPSERT_ROLE_SQL, roleId.value(), mask.toByteArray());
+  }
+
+  @Override
+  public Optional<UserGrants> userForUpdate(UserId userId) {
+    return jdbc.query(USER_SQL, JdbcEffectivePermissionStore::userGrants, userId.value())
+        .stream()
+        .findFirst();
+  }
+
+  @Override
+  public List<UserGrants> usersWithRoleForUpdate(RoleId roleId) {
+    return jdbc.query(USERS_WITH_ROLE_SQL, JdbcEffectivePermissionStore::userGrants,
+        roleId.value());
+  }
+
+  @Override
+  public void saveUsers(Collection<UserGrants> users) {
+    if (users.isEmpty()) {
+      return;
+    }
+    // upsert in key order, matching the order rows are locked in
+    List<UserGrants> sorted = users.stream()
+        .sorted(Comparator.comparing(grants -> grants.userId().value()))
+        .toList();
+    jdbc.execute(UPSERT_USER_SQL, (PreparedStatement ps) -> {
+      for (UserGrants grants : sorted) {
+        ps.setObject(1, grants.userId().value());
+        ps.setArray(2, ps.getConnection().createArrayOf("uuid",
+            grants.roles().stream().map(RoleId::value).toArray()));
+        ps.setArray(3, ps.getConnection().createArrayOf("integer",
+            Arrays.stream(grants.grants()).boxed().toArray()));
+        ps.setBytes(4, grants.mask().toByteArray());
+        ps.addBatch();
+      }
+      return ps.executeBatch();
+    });
+  }
+
+  @Override
+  public Optional<BitSet> permissionMask(UserId userId) {
+    return mask(MASK_SQL, userId.value());
+  }
+
+  private Optional<BitSet> mask(String sql, UUID id) {
+    return jdbc.query(sql, (rs, rowNum) -> BitSet.valueOf(rs.getBytes(1)), id)
+        .stream()
+        .findFirst();
+  }
+
+  private static UserGrants userGrants(ResultSet rs, int rowNum) throws SQLException {
+    Set<RoleId> roles = new LinkedHashSet<>();
+    for (Object id : (Object[]) array(rs.getArray("role_ids"))) {
+      roles.add(RoleId.of((UUID) id));
+    }
+    Integer[] counts = (Integer[]) array(rs.getArray("grant_counts"));
+    int[] grants = new int[counts.length];
+    for (int i = 0; i < counts.length; i++) {
+      grants[i] = counts[i];
+    }
+    return new UserGrants(UserId.of(rs.getObject("user_id", UUID.class)), roles, grants);
+  }
+
+  private static Object array(Array array) throws SQLException {
+    try {
+      return array.getArray();
+    } finally {
+      array.free();
+    }
+  }
+}
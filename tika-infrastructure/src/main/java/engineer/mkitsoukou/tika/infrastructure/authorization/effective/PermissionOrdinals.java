@@ -0,0 +1,73 @@
+package engineer.mkitsoukou.tika.infrastructure.authorization.effective;
+
+import engineer.mkitsoukou.tika.domain.model.valueobject.Permission;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bit positions of permissions in effective-permission masks.
+ *
+ * <p>Ordinals are allocated by the store on first use and never change, so every node
+ * agrees on them and masks stay valid as permissions are added. Both directions are
+ * cached; only an unseen permission or ordinal reaches the store.</p>
+ */
+public class PermissionOrdinals {
+
+  private final EffectivePermissionStore store;
+  private final Map<Permission, Integer> ordinals = new ConcurrentHashMap<>();
+  private final Map<Integer, Permission> permissions = new ConcurrentHashMap<>();
+
+  public PermissionOrdinals(EffectivePermissionStore store) {
+    this.store = Objects.requireNonNull(store, "store must not be null");
+  }
+
+  public int ordinalOf(Permission permission) {
+    Integer cached = ordinals.get(permission);
+    if (cached != null) {
+      return cached;
+    }
+    int ordinal = store.assignOrdinal(permission.value());
+    remember(permission, ordinal);
+    return ordinal;
+  }
+
+  /**
+   * @throws IllegalArgumentException if no permission has the ordinal
+   */
+  public Permission permissionAt(int ordinal) {
+    Permission cached = permissions.get(ordinal);
+    if (cached != null) {
+      return cached;
+    }
+    store.loadOrdinals().forEach((value, o) -> remember(new Permission(value), o));
+    Permission loaded = permissions.get(ordinal);
+    if (loaded == null) {
+      throw new IllegalArgumentException("no permission has ordinal " + ordinal);
+    }
+    return loaded;
+  }
+
+  public BitSet toMask(Collection<Permission> granted) {
+    BitSet mask = new BitSet();
+    for (Permission permission : granted) {
+      mask.set(ordinalOf(permission));
+    }
+    return mask;
+  }
+
+  public Set<Permission> fromMask(BitSet mask) {
+    Set<Permission> granted = new HashSet<>(mask.cardinality() * 2);
+    mask.stream().forEach(ordinal -> granted.add(permissionAt(ordinal)));
+    return granted;
+  }
+
+  private void remember(Permission permission, int ordinal) {
+    ordinals.putIfAbsent(permission, ordinal);
+    permissions.putIfAbsent(ordinal, permission);
+  }
+}
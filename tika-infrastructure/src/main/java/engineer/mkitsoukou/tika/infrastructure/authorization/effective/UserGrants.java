@@ -0,0 +1,116 @@
+package engineer.mkitsoukou.tika.infrastructure.authorization.effective;
+
+import engineer.mkitsoukou.tika.domain.model.valueobject.RoleId;
+import engineer.mkitsoukou.tika.domain.model.valueobject.UserId;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * One user's row of the effective-permission projection: the roles held, and for every
+ * permission ordinal how many of those roles grant it. A permission is effective while
+ * its count is above zero, so every change is a counter update rather than a union
+ * over all roles.
+ */
+public final class UserGrants {
+
+  private final UserId userId;
+  private final Set<RoleId> roles;
+  private int[] grants;
+  private final BitSet mask = new BitSet();
+
+  /**
+   * @param userId the user
+   * @param roles  roles held by the user
+   * @param grants number of roles granting each ordinal
+   */
+  public UserGrants(UserId userId, Set<RoleId> roles, int[] grants) {
+    this.userId = Objects.requireNonNull(userId, "userId must not be null");
+    this.roles = new LinkedHashSet<>(roles);
+    this.grants = grants.clone();
+    for (int ordinal = 0; ordinal < grants.length; ordinal++) {
+      if (grants[ordinal] < 0) {
+        throw new IllegalArgumentException("negative grant count at ordinal " + ordinal);
+      }
+      mask.set(ordinal, grants[ordinal] > 0);
+    }
+  }
+
+  public static UserGrants empty(UserId userId) {
+    return new UserGrants(userId, Set.of(), new int[0]);
+  }
+
+  /**
+   * Adds a role and counts every permission it grants.
+   *
+   * @return whether the role was new to the user
+   */
+  public boolean assign(RoleId roleId, BitSet roleMask) {
+    if (!roles.add(roleId)) {
+      return false;
+    }
+    roleMask.stream().forEach(this::grant);
+    return true;
+  }
+
+  /**
+   * Removes a role and uncounts every permission it grants.
+   *
+   * @return whether the user held the role
+   */
+  public boolean remove(RoleId roleId, BitSet roleMask) {
+    if (!roles.remove(roleId)) {
+      return false;
+    }
+    roleMask.stream().forEach(this::revoke);
+    return true;
+  }
+
+  /**
+   * Counts one more role granting the ordinal.
+   */
+  public void grant(int ordinal) {
+    if (ordinal >= grants.length) {
+      grants = Arrays.copyOf(grants, Math.max(ordinal + 1, grants.length * 2));
+    }
+    grants[ordinal]++;
+    mask.set(ordinal);
+  }
+
+  /**
+   * Counts one role fewer granting the ordinal; the permission is revoked at zero.
+   */
+  public void revoke(int ordinal) {
+    if (ordinal >= grants.length || grants[ordinal] == 0) {
+      throw new IllegalStateException("user " + userId + " has no grant of ordinal " + ordinal);
+    }
+    if (--grants[ordinal] == 0) {
+      mask.clear(ordinal);
+    }
+  }
+
+  public UserId userId() {
+    return userId;
+  }
+
+  public Set<RoleId> roles() {
+    return Collections.unmodifiableSet(roles);
+  }
+
+  /**
+   * @return grant counts, trimmed after the highest effective ordinal
+   */
+  public int[] grants() {
+    return Arrays.copyOf(grants, mask.length());
+  }
+
+  /**
+   * @return the effective permissions, one bit per ordinal
+   */
+  public BitSet mask() {
+    return (BitSet) mask.clone();
+  }
+}
@@ -0,0 +1,45 @@
+package engineer.mkitsoukou.tika.infrastructure.loginactivity;
+
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.transaction.support.TransactionOperations;
+
+/**
+ * Postgres sink issuing one batched {@code INSERT ... ON CONFLICT} per flush.
+ * See {@code db/login-activity.sql} for the table definition.
+ */
+public class JdbcLoginActivitySink implements LoginActivitySink {
+
+  private static final String UPSERT_SQL = """
+      INSERT INTO user_login_activity (user_id, login_count, last_login_at)
+      VALUES (?, ?, ?)
+      ON CONFLICT (user_id) DO UPDATE
+         SET login_count   = user_login_activity.login_count + EXCLUDED.login_count,
+             last_login_at = GREATEST(user_login_activity.last_login_at, EXCLUDED.last_login_at)""";
+
+  private final JdbcOperations jdbc;
+  private final TransactionOperations tx;
+
+  public JdbcLoginActivitySink(JdbcOperations jdbc, TransactionOperations tx) {
+    this.jdbc = Objects.requireNonNull(jdbc, "jdbc must not be null");
+    this.tx = Objects.requireNonNull(tx, "tx must not be null");
+  }
+
+  @Override
+  public void upsertAll(Collection<LoginActivity> batch) {
+    if (batch.isEmpty()) {
+      return;
+    }
+    // sorted keys keep lock acquisition order stable across concurrent flushers
+    List<Object[]> rows = batch.stream()
+        .sorted((a, b) -> a.userId().compareTo(b.userId()))
+        .map(a -> new Object[] {
+            UUID.fromString(a.userId()), a.logins(), Timestamp.from(a.lastLoginAt())})
+        .toList();
+    tx.executeWithoutResult(status -> jdbc.batchUpdate(UPSERT_SQL, rows));
+  }
+}
@@ -0,0 +1,24 @@
+package engineer.mkitsoukou.tika.infrastructure.loginactivity;
+
+import java.time.Instant;
+
+/**
+ * Logins of one user coalesced over a flush window.
+ *
+ * @param userId      the user who logged in
+ * @param logins      number of successful logins in the window
+ * @param lastLoginAt most recent login in the window
+ */
+public record LoginActivity(String userId, long logins, Instant lastLoginAt) {
+
+  /**
+   * Combines two windows of the same user.
+   *
+   * @param other activity of the same user
+   * @return the summed count with the latest timestamp
+   */
+  LoginActivity merge(LoginActivity other) {
+    Instant latest = lastLoginAt.isAfter(other.lastLoginAt) ? lastLoginAt : other.lastLoginAt;
+    return new LoginActivity(userId, logins + other.logins, latest);
+  }
+}
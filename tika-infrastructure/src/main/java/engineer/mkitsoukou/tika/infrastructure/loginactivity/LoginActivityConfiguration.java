@@ -0,0 +1,42 @@
+package engineer.mkitsoukou.tika.infrastructure.loginactivity;
+
+import engineer.mkitsoukou.tika.application.auth.port.out.LoginActivityPort;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * The {@link LoginActivityPort}. With {@code tika.login-activity.enabled=true} logins are
+ * buffered by a {@link WriteBehindLoginActivityBuffer} and written to
+ * {@code user_login_activity} (see {@code db/login-activity.sql}); the buffer is flushed
+ * when the context closes. Otherwise login activity is not kept.
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(LoginActivityProperties.class)
+public class LoginActivityConfiguration {
+
+  @Bean(destroyMethod = "close")
+  @ConditionalOnProperty(prefix = "tika.login-activity", name = "enabled", havingValue = "true")
+  WriteBehindLoginActivityBuffer loginActivityBuffer(
+      JdbcOperations jdbc,
+      PlatformTransactionManager transactionManager,
+      LoginActivityProperties properties
+  ) {
+    return new WriteBehindLoginActivityBuffer(
+        new JdbcLoginActivitySink(jdbc, new TransactionTemplate(transactionManager)),
+        properties.flushInterval(),
+        properties.maxPendingUsers(),
+        properties.maxBufferedUsers());
+  }
+
+  @Bean
+  @ConditionalOnProperty(prefix = "tika.login-activity", name = "enabled", havingValue = "false",
+      matchIfMissing = true)
+  LoginActivityPort loginActivityPort() {
+    return LoginActivityPort.NONE;
+  }
+}
@@ -0,0 +1,21 @@
+package engineer.mkitsoukou.tika.infrastructure.loginactivity;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for the write-behind login activity buffer, bound from
+ * {@code tika.login-activity.*}.
+ *
+ * @param flushInterval    maximum time a login stays buffered on a healthy node
+ * @param maxPendingUsers  distinct buffered users that trigger an early flush
+ * @param maxBufferedUsers most distinct users held while the database is failing
+ */
+@ConfigurationProperties(prefix = "tika.login-activity")
+public record LoginActivityProperties(
+    @DefaultValue("5s") Duration flushInterval,
+    @DefaultValue("1000") int maxPendingUsers,
+    @DefaultValue("16000") int maxBufferedUsers
+) {
+}
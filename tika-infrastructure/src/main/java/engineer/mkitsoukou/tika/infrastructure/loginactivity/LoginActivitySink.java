@@ -0,0 +1,18 @@
+package engineer.mkitsoukou.tika.infrastructure.loginactivity;
+
+import java.util.Collection;
+
+/**
+ * Durable store receiving coalesced login activity in batches.
+ */
+@FunctionalInterface
+public interface LoginActivitySink {
+
+  /**
+   * Adds each entry's login count to the stored total and keeps the latest login time.
+   * Must be atomic for the whole batch: either every entry is applied or none.
+   *
+   * @param batch coalesced activity, at most one entry per user
+   */
+  void upsertAll(Collection<LoginActivity> batch);
+}
@@ -0,0 +1,221 @@
+package engineer.mkitsoukou.tika.infrastructure.loginactivity;
+
+import engineer.mkitsoukou.tika.application.auth.port.out.LoginActivityPort;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Write-behind {@link LoginActivityPort}: coalesces logins in memory and persists them in
+ * batches.
+ *
+ * <p>Repeated logins of the same user between two flushes collapse into a single entry
+ * (count summed, latest timestamp kept), so the database sees at most one row write per
+ * active user per window. A flush runs every {@code flushInterval}, as soon as
+ * {@code maxPendingUsers} distinct users are buffered, and on {@link #close()}.</p>
+ *
+ * <p>If the sink fails, the drained entries are merged back and retried on the next
+ * flush, so a short database outage delays the counters but does not lose them. After a
+ * failure the scheduled and threshold flushes back off, doubling from
+ * {@code flushInterval} up to 32 times it, so an outage is not
+ * met with a write attempt per login. At most {@code maxBufferedUsers} distinct users
+ * are held: logins of further users, and entries that no longer fit when a failed batch
+ * is merged back, are dropped and counted in {@link #droppedLogins()}, so a long outage
+ * costs counter accuracy rather than heap.</p>
+ *
+ * <p><strong>Crash recovery.</strong> The buffer is not durable. If the process dies
+ * without a clean shutdown, logins buffered since the last successful flush (at most one
+ * flush interval, or {@code maxPendingUsers} users) are lost: counts are under-reported
+ * and {@code last_login_at} can be stale by up to that window. This is acceptable
+ * because the data only feeds dashboards. Security decisions must not rely on it, and the
+ * authoritative login trail is the domain event stream.</p>
+ */
+public class WriteBehindLoginActivityBuffer implements LoginActivityPort, AutoCloseable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(WriteBehindLoginActivityBuffer.class);
+  private static final int DEFAULT_CAPACITY_FACTOR = 16;
+  private static final int MAX_BACKOFF_DOUBLINGS = 5;
+
+  private final LoginActivitySink sink;
+  private final long flushIntervalNanos;
+  private final int maxPendingUsers;
+  private final int maxBufferedUsers;
+  private final LongAdder droppedLogins = new LongAdder();
+  // guarded by flushLock
+  private int consecutiveFailures;
+  private long nextAttemptNanos;
+  private final Map<String, LoginActivity> pending = new ConcurrentHashMap<>();
+  private final ReentrantLock flushLock = new ReentrantLock();
+  private final AtomicBoolean flushScheduled = new AtomicBoolean();
+  private final ScheduledExecutorService scheduler;
+
+  /**
+   * Holds up to {@value #DEFAULT_CAPACITY_FACTOR} times {@code maxPendingUsers} users.
+   *
+   * @param sink            durable store receiving the batches
+   * @param flushInterval   maximum time a login stays buffered on a healthy node
+   * @param maxPendingUsers number of distinct buffered users that triggers an early flush
+   */
+  public WriteBehindLoginActivityBuffer(
+      LoginActivitySink sink,
+      Duration flushInterval,
+      int maxPendingUsers
+  ) {
+    this(sink, flushInterval, maxPendingUsers, maxPendingUsers * DEFAULT_CAPACITY_FACTOR);
+  }
+
+  /**
+   * @param sink             durable store receiving the batches
+   * @param flushInterval    maximum time a login stays buffered on a healthy node
+   * @param maxPendingUsers  number of distinct buffered users that triggers an early flush
+   * @param maxBufferedUsers most distinct users held while the sink is failing
+   */
+  public WriteBehindLoginActivityBuffer(
+      LoginActivitySink sink,
+      Duration flushInterval,
+      int maxPendingUsers,
+      int maxBufferedUsers
+  ) {
+    this.sink = Objects.requireNonNull(sink, "sink must not be null");
+    if (maxBufferedUsers < maxPendingUsers) {
+      throw new IllegalArgumentException("maxBufferedUsers must be at least maxPendingUsers");
+    }
+    this.flushIntervalNanos = flushInterval.toNanos();
+    this.maxPendingUsers = maxPendingUsers;
+    this.maxBufferedUsers = maxBufferedUsers;
+    this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+      Thread thread = new Thread(r, "login-activity-flusher");
+      thread.setDaemon(true);
+      return thread;
+    });
+    long periodMillis = flushInterval.toMillis();
+    scheduler.scheduleWithFixedDelay(this::flushQuietly, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  public void recordSuccessfulLogin(String userId, Instant loginAt) {
+    LoginActivity login = new LoginActivity(userId, 1, loginAt);
+    if (!hold(login)) {
+      return;
+    }
+    if (pending.size() >= maxPendingUsers && flushScheduled.compareAndSet(false, true)) {
+      scheduler.execute(() -> {
+        flushScheduled.set(false);
+        flushQuietly();
+      });
+    }
+  }
+
+  /**
+   * Drains the buffer into the sink, whether or not the background flushes are backing
+   * off. Concurrent calls are serialized.
+   *
+   * @return the number of users written
+   */
+  public int flush() {
+    flushLock.lock();
+    try {
+      List<LoginActivity> batch = new ArrayList<>(pending.size());
+      for (String userId : pending.keySet()) {
+        LoginActivity drained = pending.remove(userId);
+        if (drained != null) {
+          batch.add(drained);
+        }
+      }
+      if (batch.isEmpty()) {
+        return 0;
+      }
+      try {
+        sink.upsertAll(batch);
+      } catch (RuntimeException e) {
+        batch.forEach(this::hold);
+        backOff();
+        throw e;
+      }
+      consecutiveFailures = 0;
+      nextAttemptNanos = 0;
+      return batch.size();
+    } finally {
+      flushLock.unlock();
+    }
+  }
+
+  /**
+   * @return the number of distinct users waiting to be flushed
+   */
+  public int pendingUsers() {
+    return pending.size();
+  }
+
+  /**
+   * @return logins dropped because the buffer was full, since start
+   */
+  public long droppedLogins() {
+    return droppedLogins.sum();
+  }
+
+  /**
+   * Stops the scheduler and performs a final flush.
+   */
+  @Override
+  public void close() {
+    scheduler.shutdown();
+    try {
+      if (!scheduler.awaitTermination(5, TimeUnit.SECONDS)) {
+        scheduler.shutdownNow();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    flush();
+  }
+
+  /**
+   * Merges the activity into the buffer unless that would hold a user beyond
+   * {@code maxBufferedUsers}; the check is not atomic, so the cap can be overshot by the
+   * number of concurrent callers.
+   *
+   * @return whether the activity was kept
+   */
+  private boolean hold(LoginActivity activity) {
+    if (pending.size() >= maxBufferedUsers && !pending.containsKey(activity.userId())) {
+      droppedLogins.add(activity.logins());
+      return false;
+    }
+    pending.merge(activity.userId(), activity, LoginActivity::merge);
+    return true;
+  }
+
+  private void backOff() {
+    long delay = flushIntervalNanos << Math.min(consecutiveFailures, MAX_BACKOFF_DOUBLINGS);
+    consecutiveFailures++;
+    nextAttemptNanos = System.nanoTime() + delay;
+  }
+
+  private void flushQuietly() {
+    flushLock.lock();
+    try {
+      if (consecutiveFailures > 0 && System.nanoTime() - nextAttemptNanos < 0) {
+        return;
+      }
+      flush();
+    } catch (RuntimeException e) {
+      LOG.warn("Login activity flush failed {} time(s) in a row, {} users kept and {} logins "
+          + "dropped so far", consecutiveFailures, pending.size(), droppedLogins.sum(), e);
+    } finally {
+      flushLock.unlock();
+    }
+  }
+}
@@ -0,0 +1,33 @@
+package engineer.mkitsoukou.tika.infrastructure.messaging;
+
+import engineer.mkitsoukou.tika.domain.model.event.DomainEvent;
+
+/**
+ * Turns domain events into the bytes carried by outbox rows and Kafka records, and back.
+ */
+public interface DomainEventSerializer {
+
+  /**
+   * @param event the event to encode
+   * @return the wire representation
+   */
+  byte[] serialize(DomainEvent event);
+
+  /**
+   * @param payload bytes produced by {@link #serialize(DomainEvent)}
+   * @return the decoded event
+   * @throws IllegalArgumentException if the payload is not a known event
+   */
+  DomainEvent deserialize(byte[] payload);
+
+  /**
+   * Stable name of the event type, sent alongside the payload so that consumers can
+   * dispatch without decoding it.
+   *
+   * @param event the event to name
+   * @return the type name
+   */
+  default String eventType(DomainEvent event) {
+    return event.getClass().getSimpleName();
+  }
+}
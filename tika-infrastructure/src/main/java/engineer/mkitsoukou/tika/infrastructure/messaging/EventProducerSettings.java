@@ -0,0 +1,40 @@
+package engineer.mkitsoukou.tika.infrastructure.messaging;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.kafka.clients.producer.ProducerConfig;
+
+/**
+ * Producer defaults shared by every domain-event publisher.
+ *
+ * <p>Events are small and sent in bursts, so records are held for a few milliseconds
+ * and compressed together: the producer then issues one request per partition for a
+ * whole burst. Idempotence with {@code acks=all} keeps per-key order across retries.
+ * Explicit {@code spring.kafka.producer.*} settings win over these defaults.</p>
+ */
+public final class EventProducerSettings {
+
+  /** Record header carrying the event type name. */
+  public static final String EVENT_TYPE_HEADER = "event-type";
+
+  static final Map<String, Object> DEFAULTS = Map.of(
+      ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true,
+      ProducerConfig.ACKS_CONFIG, "all",
+      ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5,
+      ProducerConfig.LINGER_MS_CONFIG, 10,
+      ProducerConfig.BATCH_SIZE_CONFIG, 64 * 1024,
+      ProducerConfig.COMPRESSION_TYPE_CONFIG, "lz4");
+
+  private EventProducerSettings() {
+  }
+
+  /**
+   * @param configured producer properties resolved from the application configuration
+   * @return a copy with the event defaults filled in where nothing was configured
+   */
+  public static Map<String, Object> tuned(Map<String, Object> configured) {
+    Map<String, Object> properties = new HashMap<>(configured);
+    DEFAULTS.forEach(properties::putIfAbsent);
+    return properties;
+  }
+}
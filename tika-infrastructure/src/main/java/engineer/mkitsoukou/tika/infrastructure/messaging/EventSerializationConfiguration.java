@@ -0,0 +1,34 @@
+package engineer.mkitsoukou.tika.infrastructure.messaging;
+
+import engineer.mkitsoukou.tika.infrastructure.messaging.codec.BinaryDomainEventSerializer;
+import engineer.mkitsoukou.tika.infrastructure.messaging.codec.PermissionDictionary;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Selects the wire format of published domain events with {@code tika.events.format}:
+ * {@code json} (default) or {@code binary}. The binary format writes the permissions
+ * listed under {@code tika.events.permission-dictionary} as small codes; every producer
+ * and consumer of the topic must be configured with the same dictionary.
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(PermissionDictionaryProperties.class)
+public class EventSerializationConfiguration {
+
+  @Bean
+  @ConditionalOnMissingBean
+  @ConditionalOnProperty(prefix = "tika.events", name = "format", havingValue = "binary")
+  DomainEventSerializer binaryDomainEventSerializer(PermissionDictionaryProperties dictionary) {
+    return new BinaryDomainEventSerializer(
+        new PermissionDictionary(dictionary.generation(), dictionary.entries()));
+  }
+
+  @Bean
+  @ConditionalOnMissingBean
+  DomainEventSerializer jsonDomainEventSerializer() {
+    return new JsonDomainEventSerializer();
+  }
+}
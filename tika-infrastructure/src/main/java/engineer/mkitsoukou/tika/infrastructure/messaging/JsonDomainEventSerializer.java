@@ -0,0 +1,144 @@
+package engineer.mkitsoukou.tika.infrastructure.messaging;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import engineer.mkitsoukou.tika.domain.model.event.DomainEvent;
+import engineer.mkitsoukou.tika.domain.model.event.PasswordChanged;
+import engineer.mkitsoukou.tika.domain.model.event.PermissionAdded;
+import engineer.mkitsoukou.tika.domain.model.event.PermissionRemoved;
+import engineer.mkitsoukou.tika.domain.model.event.PermissionsChanged;
+import engineer.mkitsoukou.tika.domain.model.event.RoleAssigned;
+import engineer.mkitsoukou.tika.domain.model.event.RoleRemoved;
+import engineer.mkitsoukou.tika.domain.model.event.RolesAssigned;
+import engineer.mkitsoukou.tika.domain.model.event.RolesRemoved;
+import engineer.mkitsoukou.tika.domain.model.event.TokensRevoked;
+import engineer.mkitsoukou.tika.domain.model.event.UserActivationChanged;
+import engineer.mkitsoukou.tika.domain.model.event.UserRegistered;
+import engineer.mkitsoukou.tika.domain.model.valueobject.Email;
+import engineer.mkitsoukou.tika.domain.model.valueobject.Permission;
+import engineer.mkitsoukou.tika.domain.model.valueobject.RoleId;
+import engineer.mkitsoukou.tika.domain.model.valueobject.UserId;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * JSON encoding of domain events.
+ *
+ * <p>Fields are mapped explicitly rather than through bean introspection so that the
+ * wire format does not change when an event class gains a getter.</p>
+ */
+public class JsonDomainEventSerializer implements DomainEventSerializer {
+
+  private final ObjectMapper mapper;
+
+  public JsonDomainEventSerializer() {
+    this(new ObjectMapper());
+  }
+
+  public JsonDomainEventSerializer(ObjectMapper mapper) {
+    this.mapper = mapper;
+  }
+
+  @Override
+  public byte[] serialize(DomainEvent event) {
+    Map<String, Object> json = new LinkedHashMap<>();
+    json.put("type", eventType(event));
+    json.put("aggregateId", event.aggregateId());
+    json.put("occurredAt", event.occurredAt().toString());
+    switch (event) {
+      case UserRegistered e -> json.put("email", e.getEmail().value());
+      case UserActivationChanged e -> json.put("active", e.isActive());
+      case PasswordChanged e -> { }
+      case TokensRevoked e -> { }
+      case RoleAssigned e -> json.put("roleId", e.getRoleId().value().toString());
+      case RoleRemoved e -> json.put("roleId", e.getRoleId().value().toString());
+      case PermissionAdded e -> json.put("permission", e.getPermission().value());
+      case PermissionRemoved e -> json.put("permission", e.getPermission().value());
+      case RolesAssigned e -> json.put("roleIds", sorted(e.getRoleIds(), r -> r.value().toString()));
+      case RolesRemoved e -> json.put("roleIds", sorted(e.getRoleIds(), r -> r.value().toString()));
+      case PermissionsChanged e -> {
+        json.put("added", sorted(e.getAdded(), Permission::value));
+        json.put("removed", sorted(e.getRemoved(), Permission::value));
+      }
+      default -> throw new IllegalArgumentException(
+          "No JSON mapping for event type " + event.getClass().getName());
+    }
+    try {
+      return mapper.writeValueAsBytes(json);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Could not serialize " + eventType(event), e);
+    }
+  }
+
+  @Override
+  public DomainEvent deserialize(byte[] payload) {
+    JsonNode json;
+    try {
+      json = mapper.readTree(payload);
+    } catch (IOException e) {
+      throw new IllegalArgumentException("Malformed event JSON", e);
+    }
+    String type = text(json, "type");
+    String aggregateId = text(json, "aggregateId");
+    Instant occurredAt = Instant.parse(text(json, "occurredAt"));
+    return switch (type) {
+      case "UserRegistered" -> new UserRegistered(
+          UserId.of(aggregateId), new Email(text(json, "email")), occurredAt);
+      case "UserActivationChanged" -> new UserActivationChanged(
+          UserId.of(aggregateId), json.path("active").asBoolean(), occurredAt);
+      case "PasswordChanged" -> new PasswordChanged(UserId.of(aggregateId), occurredAt);
+      case "TokensRevoked" -> new TokensRevoked(UserId.of(aggregateId), occurredAt);
+      case "RoleAssigned" -> new RoleAssigned(
+          UserId.of(aggregateId), RoleId.of(text(json, "roleId")), occurredAt);
+      case "RoleRemoved" -> new RoleRemoved(
+          UserId.of(aggregateId), RoleId.of(text(json, "roleId")), occurredAt);
+      case "PermissionAdded" -> new PermissionAdded(
+          RoleId.of(aggregateId), new Permission(text(json, "permission")), occurredAt);
+      case "PermissionRemoved" -> new PermissionRemoved(
+          RoleId.of(aggregateId), new Permission(text(json, "permission")), occurredAt);
+      case "RolesAssigned" -> new RolesAssigned(
+          UserId.of(aggregateId), texts(json, "roleIds", RoleId::of), occurredAt);
+      case "RolesRemoved" -> new RolesRemoved(
+          UserId.of(aggregateId), texts(json, "roleIds", RoleId::of), occurredAt);
+      case "PermissionsChanged" -> new PermissionsChanged(RoleId.of(aggregateId),
+          texts(json, "added", Permission::new), texts(json, "removed", Permission::new),
+          occurredAt);
+      default -> throw new IllegalArgumentException("Unknown event type " + type);
+    };
+  }
+
+  private static String text(JsonNode json, String field) {
+    JsonNode value = json.get(field);
+    if (value == null || !value.isTextual()) {
+      throw new IllegalArgumentException("Event JSON has no '" + field + "' field");
+    }
+    return value.asText();
+  }
+
+  private static <T> Set<T> texts(JsonNode json, String field, Function<String, T> parser) {
+    JsonNode values = json.get(field);
+    if (values == null || !values.isArray()) {
+      throw new IllegalArgumentException("Event JSON has no '" + field + "' array");
+    }
+    Set<T> parsed = new HashSet<>();
+    for (JsonNode value : values) {
+      if (!value.isTextual()) {
+        throw new IllegalArgumentException("Event JSON '" + field + "' holds a non-text value");
+      }
+      parsed.add(parser.apply(value.asText()));
+    }
+    return parsed;
+  }
+
+  private static <T> List<String> sorted(Collection<T> values, Function<T, String> text) {
+    return values.stream().map(text).sorted().toList();
+  }
+}
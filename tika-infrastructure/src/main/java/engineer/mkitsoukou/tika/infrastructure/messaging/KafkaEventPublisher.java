@@ -0,0 +1,77 @@
+package engineer.mkitsoukou.tika.infrastructure.messaging;
+
+import engineer.mkitsoukou.tika.application.auth.port.out.EventPublisherPort;
+import engineer.mkitsoukou.tika.domain.model.event.DomainEvent;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.kafka.core.KafkaOperations;
+
+/**
+ * {@link EventPublisherPort} sending straight to Kafka, without an outbox.
+ *
+ * <p>{@link #publishAll(List)} enqueues every record before flushing once, so the
+ * producer packs them into one request per partition instead of one per event. Records
+ * are keyed by aggregate id, so one aggregate's events stay on one partition in order.
+ * The call returns once the whole list is acknowledged.</p>
+ */
+public class KafkaEventPublisher implements EventPublisherPort {
+
+  private final KafkaOperations<String, byte[]> kafka;
+  private final String topic;
+  private final DomainEventSerializer serializer;
+  private final Duration sendTimeout;
+
+  public KafkaEventPublisher(
+      KafkaOperations<String, byte[]> kafka,
+      String topic,
+      DomainEventSerializer serializer,
+      Duration sendTimeout
+  ) {
+    this.kafka = Objects.requireNonNull(kafka, "kafka must not be null");
+    this.topic = Objects.requireNonNull(topic, "topic must not be null");
+    this.serializer = Objects.requireNonNull(serializer, "serializer must not be null");
+    this.sendTimeout = Objects.requireNonNull(sendTimeout, "sendTimeout must not be null");
+  }
+
+  @Override
+  public void publish(DomainEvent event) {
+    publishAll(List.of(event));
+  }
+
+  @Override
+  public void publishAll(List<DomainEvent> events) {
+    if (events.isEmpty()) {
+      return;
+    }
+    List<CompletableFuture<?>> acks = new ArrayList<>(events.size());
+    for (DomainEvent event : events) {
+      acks.add(kafka.send(toRecord(event)));
+    }
+    kafka.flush();
+    try {
+      CompletableFuture.allOf(acks.toArray(CompletableFuture[]::new))
+          .get(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while publishing domain events", e);
+    } catch (ExecutionException | TimeoutException e) {
+      throw new IllegalStateException(events.size() + " domain events were not acknowledged", e);
+    }
+  }
+
+  private ProducerRecord<String, byte[]> toRecord(DomainEvent event) {
+    ProducerRecord<String, byte[]> producerRecord =
+        new ProducerRecord<>(topic, event.aggregateId(), serializer.serialize(event));
+    producerRecord.headers().add(EventProducerSettings.EVENT_TYPE_HEADER,
+        serializer.eventType(event).getBytes(StandardCharsets.UTF_8));
+    return producerRecord;
+  }
+}
@@ -0,0 +1,76 @@
+package engineer.mkitsoukou.tika.infrastructure.messaging;
+
+import engineer.mkitsoukou.tika.application.auth.port.out.EventPublisherPort;
+import engineer.mkitsoukou.tika.infrastructure.messaging.async.AsyncKafkaEventPublisher;
+import engineer.mkitsoukou.tika.infrastructure.messaging.async.PublishCallback;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+
+/**
+ * Publishes domain events directly to Kafka. Enabled with
+ * {@code tika.events.kafka.enabled=true}; {@code tika.events.kafka.mode} selects the
+ * blocking or the buffered adapter. Use the outbox instead when events must not outlive
+ * a rolled-back transaction; with {@code tika.outbox.enabled=true} this configuration
+ * stays off and the outbox relay is the only route to Kafka, so a single
+ * {@link EventPublisherPort} is defined.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "tika.events.kafka", name = "enabled", havingValue = "true")
+@ConditionalOnProperty(prefix = "tika.outbox", name = "enabled", havingValue = "false",
+    matchIfMissing = true)
+@EnableConfigurationProperties({KafkaEventPublisherProperties.class, KafkaProperties.class})
+public class KafkaEventPublisherConfiguration {
+
+  @Bean
+  @ConditionalOnProperty(prefix = "tika.events.kafka", name = "mode", havingValue = "SYNC",
+      matchIfMissing = true)
+  KafkaTemplate<String, byte[]> eventKafkaTemplate(KafkaProperties kafka) {
+    return new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(
+        EventProducerSettings.tuned(kafka.buildProducerProperties(null)),
+        new StringSerializer(), new ByteArraySerializer()));
+  }
+
+  @Bean
+  @ConditionalOnProperty(prefix = "tika.events.kafka", name = "mode", havingValue = "SYNC",
+      matchIfMissing = true)
+  EventPublisherPort kafkaEventPublisher(
+      KafkaTemplate<String, byte[]> eventKafkaTemplate,
+      DomainEventSerializer serializer,
+      KafkaEventPublisherProperties properties
+  ) {
+    return new KafkaEventPublisher(
+        eventKafkaTemplate, properties.topic(), serializer, properties.sendTimeout());
+  }
+
+  @Bean(destroyMethod = "close")
+  @ConditionalOnProperty(prefix = "tika.events.kafka", name = "mode", havingValue = "ASYNC")
+  EventPublisherPort asyncKafkaEventPublisher(
+      KafkaProperties kafka,
+      DomainEventSerializer serializer,
+      KafkaEventPublisherProperties properties,
+      ObjectProvider<PublishCallback> callback,
+      ObjectProvider<MeterRegistry> meters
+  ) {
+    KafkaEventPublisherProperties.Async async = properties.async();
+    return new AsyncKafkaEventPublisher(
+        new KafkaProducer<>(EventProducerSettings.tuned(kafka.buildProducerProperties(null)),
+            new StringSerializer(), new ByteArraySerializer()),
+        properties.topic(),
+        serializer,
+        new AsyncKafkaEventPublisher.Settings(async.capacity(), async.maxBatch(),
+            async.overflow(), async.blockTimeout(), async.spillDirectory()),
+        callback.getIfAvailable(() -> PublishCallback.NONE),
+        meters.getIfAvailable(() -> Metrics.globalRegistry));
+  }
+}
@@ -0,0 +1,54 @@
+package engineer.mkitsoukou.tika.infrastructure.messaging;
+
+import engineer.mkitsoukou.tika.infrastructure.messaging.async.OverflowPolicy;
+import java.nio.file.Path;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for direct Kafka publishing, bound from {@code tika.events.kafka.*}.
+ *
+ * @param topic       Kafka topic receiving domain events
+ * @param mode        whether publishing waits for acknowledgements
+ * @param sendTimeout how long a {@link Mode#SYNC} publish may wait for acknowledgements
+ * @param async       buffering used in {@link Mode#ASYNC}
+ */
+@ConfigurationProperties(prefix = "tika.events.kafka")
+public record KafkaEventPublisherProperties(
+    @DefaultValue("tika.domain-events") String topic,
+    @DefaultValue("SYNC") Mode mode,
+    @DefaultValue("10s") Duration sendTimeout,
+    @DefaultValue Async async
+) {
+
+  public enum Mode {
+    /** The publishing thread waits until the broker acknowledged the batch. */
+    SYNC,
+    /** Events are buffered and sent in the background. */
+    ASYNC
+  }
+
+  /**
+   * @param capacity       ring buffer slots
+   * @param maxBatch       events moved to the producer per sender iteration
+   * @param overflow       what to do when the buffer is full
+   * @param blockTimeout   longest wait for room under {@code BLOCK}
+   * @param spillDirectory where {@code SPILL} writes overflowing events; defaults to a
+   *                       directory under {@code java.io.tmpdir}
+   */
+  public record Async(
+      @DefaultValue("8192") int capacity,
+      @DefaultValue("512") int maxBatch,
+      @DefaultValue("DROP") OverflowPolicy overflow,
+      @DefaultValue("50ms") Duration blockTimeout,
+      Path spillDirectory
+  ) {
+
+    public Async {
+      if (spillDirectory == null) {
+        spillDirectory = Path.of(System.getProperty("java.io.tmpdir"), "tika-event-spill");
+      }
+    }
+  }
+}
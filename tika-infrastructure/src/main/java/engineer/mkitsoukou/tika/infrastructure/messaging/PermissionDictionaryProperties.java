@@ -0,0 +1,20 @@
+package engineer.mkitsoukou.tika.infrastructure.messaging;
+
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Permission dictionary of the binary event format, bound from
+ * {@code tika.events.permission-dictionary.*}.
+ *
+ * @param generation identifier of this exact table, in {@code [0, 255]}; change it with
+ *                   any edit other than appending entries
+ * @param entries    well-known permissions, encoded by position
+ */
+@ConfigurationProperties(prefix = "tika.events.permission-dictionary")
+public record PermissionDictionaryProperties(
+    @DefaultValue("0") int generation,
+    @DefaultValue List<String> entries
+) {
+}
@@ -0,0 +1,322 @@
+package engineer.mkitsoukou.tika.infrastructure.messaging.async;
+
+import engineer.mkitsoukou.tika.application.auth.port.out.EventPublisherPort;
+import engineer.mkitsoukou.tika.domain.model.event.DomainEvent;
+import engineer.mkitsoukou.tika.infrastructure.messaging.DomainEventSerializer;
+import engineer.mkitsoukou.tika.infrastructure.messaging.EventProducerSettings;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link EventPublisherPort} that hands events to Kafka without waiting for the broker.
+ *
+ * <p>{@code publish} serializes the event and puts it in a bounded ring buffer; a single
+ * sender thread drains the buffer in batches into the producer and completion is
+ * reported through {@link PublishCallback}. The request thread never waits on broker
+ * acknowledgements, metadata fetches or a full producer buffer. When the ring buffer
+ * itself is full, the {@link OverflowPolicy} decides:</p>
+ * <ul>
+ *   <li>{@code BLOCK} waits for room up to {@code blockTimeout}, then drops;</li>
+ *   <li>{@code DROP} drops at once;</li>
+ *   <li>{@code SPILL} writes to local files. While a spill is pending every new event
+ *       goes to disk too, so order is kept: the buffer drains first, then the files,
+ *       then publishing returns to memory. Sends the producer gives up on are spilled
+ *       as well and retried.</li>
+ * </ul>
+ *
+ * <p>Unlike the outbox, events still in memory are lost if the process dies; use this
+ * adapter where an occasional missing event is acceptable in exchange for latency.</p>
+ *
+ * <p>Metrics: {@code tika.events.produced}, {@code tika.events.failed},
+ * {@code tika.events.dropped}, {@code tika.events.spilled} (counters),
+ * {@code tika.events.batch.size} (events per sender drain),
+ * {@code tika.events.buffer.size} and {@code tika.events.in.flight} (gauges).</p>
+ */
+public class AsyncKafkaEventPublisher implements EventPublisherPort, AutoCloseable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(AsyncKafkaEventPublisher.class);
+  private static final long IDLE_POLL_MILLIS = 50;
+
+  private final Producer<String, byte[]> producer;
+  private final String topic;
+  private final DomainEventSerializer serializer;
+  private final OverflowPolicy overflow;
+  private final Duration blockTimeout;
+  private final int maxBatch;
+  private final PublishCallback callback;
+  private final BlockingQueue<EncodedEvent> buffer;
+  private final DiskSpill spill;
+  private final Object spillLock = new Object();
+  private volatile boolean spilling;
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final Counter produced;
+  private final Counter failed;
+  private final Counter dropped;
+  private final Counter spilled;
+  private final DistributionSummary batchSizes;
+  private final Thread sender;
+  private volatile boolean running = true;
+
+  /**
+   * @param producer   Kafka producer, owned and closed by this publisher
+   * @param topic      destination topic
+   * @param serializer event encoding
+   * @param settings   buffer sizing and overflow handling
+   * @param callback   completion notifications
+   * @param meters     registry receiving the publisher metrics
+   */
+  public AsyncKafkaEventPublisher(
+      Producer<String, byte[]> producer,
+      String topic,
+      DomainEventSerializer serializer,
+      Settings settings,
+      PublishCallback callback,
+      MeterRegistry meters
+  ) {
+    this.producer = Objects.requireNonNull(producer, "producer must not be null");
+    this.topic = Objects.requireNonNull(topic, "topic must not be null");
+    this.serializer = Objects.requireNonNull(serializer, "serializer must not be null");
+    this.overflow = settings.overflow();
+    this.blockTimeout = settings.blockTimeout();
+    this.maxBatch = settings.maxBatch();
+    this.callback = Objects.requireNonNull(callback, "callback must not be null");
+    this.buffer = new ArrayBlockingQueue<>(settings.capacity());
+    if (overflow == OverflowPolicy.SPILL) {
+      this.spill = new DiskSpill(Objects.requireNonNull(
+          settings.spillDirectory(), "spillDirectory is required with the SPILL policy"));
+      this.spilling = spill.hasPending();
+    } else {
+      this.spill = null;
+    }
+
+    this.produced = Counter.builder("tika.events.produced").register(meters);
+    this.failed = Counter.builder("tika.events.failed").register(meters);
+    this.dropped = Counter.builder("tika.events.dropped").register(meters);
+    this.spilled = Counter.builder("tika.events.spilled").register(meters);
+    this.batchSizes = DistributionSummary.builder("tika.events.batch.size").register(meters);
+    meters.gaugeCollectionSize("tika.events.buffer.size", List.of(), buffer);
+    meters.gauge("tika.events.in.flight", inFlight);
+
+    this.sender = new Thread(this::runSender, "kafka-event-sender");
+    this.sender.setDaemon(true);
+    this.sender.start();
+  }
+
+  @Override
+  public void publish(DomainEvent event) {
+    enqueue(new EncodedEvent(
+        event.aggregateId(),
+        serializer.eventType(event),
+        serializer.serialize(event),
+        event.occurredAt()));
+  }
+
+  /**
+   * @return events waiting in memory
+   */
+  public int buffered() {
+    return buffer.size();
+  }
+
+  /**
+   * @return events handed to the producer and not yet acknowledged or failed
+   */
+  public int inFlight() {
+    return inFlight.get();
+  }
+
+  /**
+   * Stops accepting work, sends what is buffered and flushes the producer.
+   */
+  @Override
+  public void close() {
+    running = false;
+    try {
+      sender.join(blockTimeout.toMillis() + TimeUnit.SECONDS.toMillis(5));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    producer.flush();
+    producer.close();
+    if (spill != null) {
+      try {
+        spill.close();
+      } catch (IOException e) {
+        LOG.warn("Could not close event spill file", e);
+      }
+    }
+  }
+
+  private void enqueue(EncodedEvent event) {
+    if (spill != null && spilling && spillIfPending(event)) {
+      return;
+    }
+    if (buffer.offer(event)) {
+      return;
+    }
+    switch (overflow) {
+      case BLOCK -> blockOrDrop(event);
+      case DROP -> drop(event);
+      case SPILL -> {
+        synchronized (spillLock) {
+          spilling = true;
+          spillToDisk(event);
+        }
+      }
+    }
+  }
+
+  private boolean spillIfPending(EncodedEvent event) {
+    synchronized (spillLock) {
+      if (!spilling) {
+        return false;
+      }
+      spillToDisk(event);
+      return true;
+    }
+  }
+
+  private void spillToDisk(EncodedEvent event) {
+    try {
+      spill.append(event);
+      spilled.increment();
+    } catch (IOException e) {
+      LOG.error("Could not spill event {} to disk", event.eventType(), e);
+      drop(event);
+    }
+  }
+
+  private void blockOrDrop(EncodedEvent event) {
+    try {
+      if (buffer.offer(event, blockTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+        return;
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    drop(event);
+  }
+
+  private void drop(EncodedEvent event) {
+    dropped.increment();
+    callback.onDropped(event);
+  }
+
+  private void runSender() {
+    List<EncodedEvent> batch = new ArrayList<>(maxBatch);
+    while (running || !buffer.isEmpty()) {
+      try {
+        EncodedEvent first = buffer.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+        if (first != null) {
+          batch.add(first);
+          buffer.drainTo(batch, maxBatch - 1);
+          batch.forEach(this::send);
+          batchSizes.record(batch.size());
+          batch.clear();
+        } else if (spilling) {
+          replaySpill();
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      } catch (RuntimeException e) {
+        LOG.error("Event sender iteration failed", e);
+      }
+    }
+  }
+
+  private void replaySpill() {
+    Optional<Path> next;
+    synchronized (spillLock) {
+      try {
+        next = spill.rotate();
+      } catch (IOException e) {
+        LOG.error("Could not rotate event spill file", e);
+        return;
+      }
+      if (next.isEmpty()) {
+        spilling = false;
+        return;
+      }
+    }
+    try {
+      DiskSpill.replay(next.get(), this::send);
+    } catch (IOException e) {
+      LOG.error("Could not replay event spill file {}", next.get(), e);
+    }
+  }
+
+  private void send(EncodedEvent event) {
+    ProducerRecord<String, byte[]> producerRecord =
+        new ProducerRecord<>(topic, event.key(), event.payload());
+    producerRecord.headers().add(EventProducerSettings.EVENT_TYPE_HEADER,
+        event.eventType().getBytes(StandardCharsets.UTF_8));
+    inFlight.incrementAndGet();
+    try {
+      producer.send(producerRecord, (metadata, error) -> complete(event, metadata, error));
+    } catch (RuntimeException e) {
+      complete(event, null, e);
+    }
+  }
+
+  private void complete(EncodedEvent event, RecordMetadata metadata, Exception error) {
+    inFlight.decrementAndGet();
+    if (error == null) {
+      produced.increment();
+      callback.onAcknowledged(event, metadata);
+      return;
+    }
+    failed.increment();
+    callback.onFailed(event, error);
+    if (spill != null) {
+      synchronized (spillLock) {
+        spilling = true;
+        spillToDisk(event);
+      }
+    }
+  }
+
+  /**
+   * Buffer sizing and overflow handling.
+   *
+   * @param capacity       ring buffer slots
+   * @param maxBatch       events moved to the producer per sender iteration
+   * @param overflow       what to do when the buffer is full
+   * @param blockTimeout   longest wait for room under {@link OverflowPolicy#BLOCK}
+   * @param spillDirectory where {@link OverflowPolicy#SPILL} writes, may be null otherwise
+   */
+  public record Settings(
+      int capacity,
+      int maxBatch,
+      OverflowPolicy overflow,
+      Duration blockTimeout,
+      Path spillDirectory
+  ) {
+
+    public Settings {
+      if (capacity < 1 || maxBatch < 1) {
+        throw new IllegalArgumentException("capacity and maxBatch must be positive");
+      }
+      Objects.requireNonNull(overflow, "overflow must not be null");
+      Objects.requireNonNull(blockTimeout, "blockTimeout must not be null");
+    }
+  }
+}
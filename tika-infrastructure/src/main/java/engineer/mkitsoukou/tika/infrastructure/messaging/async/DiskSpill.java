@@ -0,0 +1,174 @@
+package engineer.mkitsoukou.tika.infrastructure.messaging.async;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Overflow files for {@link AsyncKafkaEventPublisher}.
+ *
+ * <p>Events are appended to {@code spill-<sequence>.bin}. {@link #rotate()} seals the
+ * file being written and returns the oldest sealed one, so replay proceeds in spill
+ * order while new overflow goes to a fresh file. Files left over by a previous process
+ * are picked up on start. A record is written as key, type, occurrence millis and a
+ * length-prefixed payload, and is flushed to the file as soon as it is appended, so a
+ * process crash loses at most the record being written; a truncated trailing record is
+ * skipped on replay. A file that cannot be read to its end is renamed to
+ * {@code spill-<sequence>.bin.corrupt} and left for inspection rather than replayed
+ * again.</p>
+ */
+final class DiskSpill implements AutoCloseable {
+
+  private static final String PREFIX = "spill-";
+  private static final String SUFFIX = ".bin";
+  private static final String CORRUPT_SUFFIX = ".corrupt";
+
+  private final Path directory;
+  private long nextSequence;
+  private DataOutputStream writer;
+  private long written;
+
+  DiskSpill(Path directory) {
+    this.directory = directory;
+    try {
+      Files.createDirectories(directory);
+      // quarantined files count too, so a new file never takes their name
+      try (Stream<Path> files = Files.list(directory)
+          .filter(p -> p.getFileName().toString().startsWith(PREFIX))) {
+        nextSequence = files.map(DiskSpill::sequenceOf).max(Long::compare).orElse(0L) + 1;
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Cannot prepare spill directory " + directory, e);
+    }
+  }
+
+  /**
+   * @return whether files from an earlier run or earlier overflow are waiting
+   */
+  synchronized boolean hasPending() {
+    if (written > 0) {
+      return true;
+    }
+    try (Stream<Path> files = sealedFiles()) {
+      return files.findAny().isPresent();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  synchronized void append(EncodedEvent event) throws IOException {
+    if (writer == null) {
+      Path file = directory.resolve(PREFIX + nextSequence++ + SUFFIX);
+      writer = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)));
+    }
+    writer.writeUTF(event.key());
+    writer.writeUTF(event.eventType());
+    writer.writeLong(event.occurredAt().toEpochMilli());
+    writer.writeInt(event.payload().length);
+    writer.write(event.payload());
+    writer.flush();
+    written++;
+  }
+
+  /**
+   * Seals the file being written and returns the oldest sealed file.
+   *
+   * @return the next file to replay, empty when nothing is spilled
+   */
+  synchronized Optional<Path> rotate() throws IOException {
+    closeWriter();
+    try (Stream<Path> files = sealedFiles()) {
+      return files.min(Comparator.comparingLong(DiskSpill::sequenceOf));
+    }
+  }
+
+  /**
+   * Streams every complete record of a sealed file, then deletes it. When the file cannot
+   * be read to its end, the records before the damage have been streamed and the file is
+   * renamed with a {@code .corrupt} suffix so it is not replayed again.
+   *
+   * @throws IOException when the file could not be read; it has been quarantined unless
+   *                     the rename failed too
+   */
+  static void replay(Path file, Consumer<EncodedEvent> sink) throws IOException {
+    try {
+      long size = Files.size(file);
+      try (DataInputStream in = new DataInputStream(
+          new BufferedInputStream(Files.newInputStream(file)))) {
+        EncodedEvent event;
+        while ((event = read(in, size)) != null) {
+          sink.accept(event);
+        }
+      }
+    } catch (IOException e) {
+      Path quarantined = file.resolveSibling(file.getFileName() + CORRUPT_SUFFIX);
+      Files.move(file, quarantined, StandardCopyOption.REPLACE_EXISTING);
+      throw new IOException("Quarantined unreadable spill file as " + quarantined, e);
+    }
+    Files.delete(file);
+  }
+
+  /**
+   * @return the next record, or {@code null} at the end of the file or a truncated
+   *         trailing record
+   */
+  private static EncodedEvent read(DataInputStream in, long fileSize) throws IOException {
+    try {
+      String key = in.readUTF();
+      String type = in.readUTF();
+      Instant occurredAt = Instant.ofEpochMilli(in.readLong());
+      int length = in.readInt();
+      if (length < 0 || length > fileSize) {
+        throw new IOException("Invalid payload length " + length);
+      }
+      byte[] payload = new byte[length];
+      in.readFully(payload);
+      return new EncodedEvent(key, type, payload, occurredAt);
+    } catch (EOFException end) {
+      return null;
+    } catch (RuntimeException e) {
+      throw new IOException("Unreadable spill record", e);
+    }
+  }
+
+  @Override
+  public synchronized void close() throws IOException {
+    closeWriter();
+  }
+
+  private void closeWriter() throws IOException {
+    if (writer != null) {
+      writer.close();
+      writer = null;
+      written = 0;
+    }
+  }
+
+  private Stream<Path> sealedFiles() throws IOException {
+    Stream<Path> all = Files.list(directory)
+        .filter(p -> p.getFileName().toString().startsWith(PREFIX)
+            && p.getFileName().toString().endsWith(SUFFIX));
+    if (writer == null) {
+      return all;
+    }
+    long open = nextSequence - 1;
+    return all.filter(p -> sequenceOf(p) != open);
+  }
+
+  private static long sequenceOf(Path file) {
+    String name = file.getFileName().toString();
+    return Long.parseLong(name.substring(PREFIX.length(), name.indexOf('.')));
+  }
+}
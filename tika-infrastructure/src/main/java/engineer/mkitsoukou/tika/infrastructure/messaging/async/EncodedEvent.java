@@ -0,0 +1,22 @@
+package engineer.mkitsoukou.tika.infrastructure.messaging.async;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * A domain event serialized on the publishing thread and waiting to be sent.
+ *
+ * @param key        Kafka record key (aggregate id)
+ * @param eventType  type name sent as a record header
+ * @param payload    serialized event
+ * @param occurredAt when the event was recorded
+ */
+public record EncodedEvent(String key, String eventType, byte[] payload, Instant occurredAt) {
+
+  public EncodedEvent {
+    Objects.requireNonNull(key, "key must not be null");
+    Objects.requireNonNull(eventType, "eventType must not be null");
+    Objects.requireNonNull(payload, "payload must not be null");
+    Objects.requireNonNull(occurredAt, "occurredAt must not be null");
+  }
+}
@@ -0,0 +1,16 @@
+package engineer.mkitsoukou.tika.infrastructure.messaging.async;
+
+/**
+ * What {@link AsyncKafkaEventPublisher} does with an event when its buffer is full.
+ */
+public enum OverflowPolicy {
+
+  /** Wait for room, up to the configured block timeout, then drop. */
+  BLOCK,
+
+  /** Drop the event immediately and count it. */
+  DROP,
+
+  /** Append the event to a local file and send it once the buffer has drained. */
+  SPILL
+}
@@ -0,0 +1,34 @@
+package engineer.mkitsoukou.tika.infrastructure.messaging.async;
+
+import org.apache.kafka.clients.producer.RecordMetadata;
+
+/**
+ * Outcome notifications of {@link AsyncKafkaEventPublisher}. Invoked on producer or
+ * sender threads, so implementations must be quick and thread-safe.
+ */
+public interface PublishCallback {
+
+  PublishCallback NONE = new PublishCallback() { };
+
+  /**
+   * @param event    the delivered event
+   * @param metadata partition and offset assigned by the broker
+   */
+  default void onAcknowledged(EncodedEvent event, RecordMetadata metadata) {
+  }
+
+  /**
+   * Called once the producer has given up on the event.
+   *
+   * @param event the undelivered event
+   * @param error the last send error
+   */
+  default void onFailed(EncodedEvent event, Exception error) {
+  }
+
+  /**
+   * @param event the event rejected by the overflow policy
+   */
+  default void onDropped(EncodedEvent event) {
+  }
+}
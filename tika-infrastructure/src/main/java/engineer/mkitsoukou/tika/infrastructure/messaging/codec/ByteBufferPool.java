@@ -0,0 +1,61 @@
+package engineer.mkitsoukou.tika.infrastructure.messaging.codec;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Bounded pool of equally sized heap buffers.
+ *
+ * <p>{@link #acquire()} never blocks: when the pool is empty a fresh buffer is
+ * allocated, and {@link #release(ByteBuffer)} discards buffers beyond the pool size.
+ * Under steady load the encoder therefore allocates nothing.</p>
+ */
+public final class ByteBufferPool {
+
+  private final int bufferSize;
+  private final BlockingQueue<ByteBuffer> free;
+
+  /**
+   * @param bufferSize capacity of each buffer in bytes
+   * @param maxPooled  maximum number of idle buffers kept
+   */
+  public ByteBufferPool(int bufferSize, int maxPooled) {
+    if (bufferSize < 1 || maxPooled < 1) {
+      throw new IllegalArgumentException("bufferSize and maxPooled must be positive");
+    }
+    this.bufferSize = bufferSize;
+    this.free = new ArrayBlockingQueue<>(maxPooled);
+  }
+
+  /**
+   * @return a cleared buffer, ready for writing
+   */
+  public ByteBuffer acquire() {
+    ByteBuffer buffer = free.poll();
+    return buffer == null ? ByteBuffer.allocate(bufferSize) : buffer.clear();
+  }
+
+  /**
+   * @param buffer a buffer obtained from {@link #acquire()}
+   */
+  public void release(ByteBuffer buffer) {
+    if (buffer.capacity() == bufferSize) {
+      free.offer(buffer);
+    }
+  }
+
+  /**
+   * @return the capacity of every pooled buffer
+   */
+  public int bufferSize() {
+    return bufferSize;
+  }
+
+  /**
+   * @return the number of idle buffers
+   */
+  public int idle() {
+    return free.size();
+  }
+}
@@ -0,0 +1,74 @@
+package engineer.mkitsoukou.tika.infrastructure.messaging.codec;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Shared table of well-known permission strings, encoded on the wire as small integers.
+ *
+ * <p>Producers and consumers must agree on the table, so it carries a
+ * {@code generation} that is written into every event header. Entries may only be
+ * appended; a new generation is required for any other change. Permissions missing from
+ * the table are still encodable, as literals.</p>
+ */
+public final class PermissionDictionary {
+
+  /** A dictionary without entries; every permission is written as a literal. */
+  public static final PermissionDictionary EMPTY = new PermissionDictionary(0, List.of());
+
+  private final int generation;
+  private final List<String> entries;
+  private final Map<String, Integer> codes;
+
+  /**
+   * @param generation identifier in {@code [0, 255]} of this exact table
+   * @param entries    permission strings; position {@code i} is encoded as {@code i + 1}
+   */
+  public PermissionDictionary(int generation, List<String> entries) {
+    if (generation < 0 || generation > 255) {
+      throw new IllegalArgumentException("generation must fit in one unsigned byte");
+    }
+    this.generation = generation;
+    this.entries = List.copyOf(Objects.requireNonNull(entries, "entries must not be null"));
+    this.codes = new HashMap<>(this.entries.size() * 2);
+    for (int i = 0; i < this.entries.size(); i++) {
+      if (codes.putIfAbsent(this.entries.get(i), i + 1) != null) {
+        throw new IllegalArgumentException("duplicate permission " + this.entries.get(i));
+      }
+    }
+  }
+
+  public int generation() {
+    return generation;
+  }
+
+  /**
+   * @return the number of entries
+   */
+  public int size() {
+    return entries.size();
+  }
+
+  /**
+   * @param permission a permission string
+   * @return its code, or {@code 0} when it must be written as a literal
+   */
+  int codeOf(String permission) {
+    Integer code = codes.get(permission);
+    return code == null ? 0 : code;
+  }
+
+  /**
+   * @param code a non-zero code read from the wire
+   * @return the permission string it stands for
+   */
+  String valueOf(int code) {
+    if (code < 1 || code > entries.size()) {
+      throw new IllegalArgumentException(
+          "unknown permission code " + code + " for dictionary generation " + generation);
+    }
+    return entries.get(code - 1);
+  }
+}
@@ -0,0 +1,130 @@
+package engineer.mkitsoukou.tika.infrastructure.messaging.codec;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Primitive encoders of the binary event format. None of them allocate when writing
+ * ASCII, which covers every valid email address and permission.
+ */
+final class WireBuffers {
+
+  private WireBuffers() {
+  }
+
+  static void putVarInt(ByteBuffer out, int value) {
+    while ((value & ~0x7F) != 0) {
+      out.put((byte) ((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+    out.put((byte) value);
+  }
+
+  static int getVarInt(ByteBuffer in) {
+    int value = 0;
+    for (int shift = 0; shift < 32; shift += 7) {
+      byte b = in.get();
+      value |= (b & 0x7F) << shift;
+      if (b >= 0) {
+        return value;
+      }
+    }
+    throw new IllegalArgumentException("malformed varint");
+  }
+
+  static void putUuid(ByteBuffer out, UUID uuid) {
+    out.putLong(uuid.getMostSignificantBits());
+    out.putLong(uuid.getLeastSignificantBits());
+  }
+
+  static UUID getUuid(ByteBuffer in) {
+    return new UUID(in.getLong(), in.getLong());
+  }
+
+  /**
+   * Writes the instant as microseconds since the epoch; sub-microsecond precision is
+   * dropped.
+   */
+  static void putEpochMicros(ByteBuffer out, Instant instant) {
+    out.putLong(Math.addExact(
+        Math.multiplyExact(instant.getEpochSecond(), 1_000_000L), instant.getNano() / 1_000));
+  }
+
+  static Instant getEpochMicros(ByteBuffer in) {
+    long micros = in.getLong();
+    return Instant.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+        Math.floorMod(micros, 1_000_000L) * 1_000L);
+  }
+
+  /**
+   * Length-prefixed UTF-8. ASCII strings are copied char by char without an
+   * intermediate array.
+   */
+  static void putString(ByteBuffer out, String value) {
+    int length = value.length();
+    for (int i = 0; i < length; i++) {
+      if (value.charAt(i) >= 0x80) {
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        putVarInt(out, utf8.length);
+        out.put(utf8);
+        return;
+      }
+    }
+    putVarInt(out, length);
+    for (int i = 0; i < length; i++) {
+      out.put((byte) value.charAt(i));
+    }
+  }
+
+  /**
+   * @return the number of bytes {@link #putString} writes for the value, length included
+   */
+  static int stringSize(String value) {
+    int utf8 = 0;
+    int length = value.length();
+    for (int i = 0; i < length; i++) {
+      char c = value.charAt(i);
+      if (c < 0x80) {
+        utf8++;
+      } else if (c < 0x800) {
+        utf8 += 2;
+      } else if (Character.isHighSurrogate(c) && i + 1 < length
+          && Character.isLowSurrogate(value.charAt(i + 1))) {
+        utf8 += 4;
+        i++;
+      } else {
+        utf8 += 3;
+      }
+    }
+    return varIntSize(utf8) + utf8;
+  }
+
+  static int varIntSize(int value) {
+    int size = 1;
+    while ((value & ~0x7F) != 0) {
+      value >>>= 7;
+      size++;
+    }
+    return size;
+  }
+
+  static String getString(ByteBuffer in) {
+    int length = getVarInt(in);
+    if (length < 0 || length > in.remaining()) {
+      throw new IllegalArgumentException("string length " + length + " exceeds buffer");
+    }
+    String value;
+    if (in.hasArray()) {
+      value = new String(in.array(), in.arrayOffset() + in.position(), length,
+          StandardCharsets.UTF_8);
+      in.position(in.position() + length);
+    } else {
+      byte[] bytes = new byte[length];
+      in.get(bytes);
+      value = new String(bytes, StandardCharsets.UTF_8);
+    }
+    return value;
+  }
+}
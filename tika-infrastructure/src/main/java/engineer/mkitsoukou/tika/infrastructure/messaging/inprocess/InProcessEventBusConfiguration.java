@@ -0,0 +1,80 @@
+package engineer.mkitsoukou.tika.infrastructure.messaging.inprocess;
+
+import engineer.mkitsoukou.tika.application.auth.port.out.EventPublisherPort;
+import engineer.mkitsoukou.tika.application.shared.event.DomainEventSubscriber;
+import engineer.mkitsoukou.tika.application.shared.event.FanOutEventPublisher;
+import engineer.mkitsoukou.tika.application.shared.event.InProcessEventBus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Runs every {@link DomainEventSubscriber} bean on an {@link InProcessEventBus} fed by the
+ * active {@link EventPublisherPort}. Enabled with {@code tika.events.in-process.enabled=true}.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "tika.events.in-process", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(InProcessEventBusProperties.class)
+public class InProcessEventBusConfiguration {
+
+  private static final Logger LOG = LoggerFactory.getLogger(InProcessEventBus.class);
+
+  @Bean(destroyMethod = "close")
+  InProcessEventBus inProcessEventBus(
+      ObjectProvider<DomainEventSubscriber> subscribers,
+      InProcessEventBusProperties properties,
+      ObjectProvider<MeterRegistry> meters
+  ) {
+    int shards = properties.shards() > 0
+        ? properties.shards()
+        : Runtime.getRuntime().availableProcessors();
+    InProcessEventBus bus = new InProcessEventBus(
+        subscribers.orderedStream().toList(),
+        new InProcessEventBus.Settings(shards, properties.queueCapacity()),
+        (subscriber, event, error) -> LOG.warn("Subscriber {} failed on {} of aggregate {}",
+            subscriber, event.getClass().getSimpleName(), event.aggregateId(), error));
+    new InProcessEventBusMetrics(bus).bindTo(meters.getIfAvailable(() -> Metrics.globalRegistry));
+    return bus;
+  }
+
+  /**
+   * Wraps each {@link EventPublisherPort} bean in a {@link FanOutEventPublisher} that
+   * dispatches once the publishing transaction commits, or at once outside one.
+   */
+  @Bean
+  static BeanPostProcessor fanOutEventPublisherPostProcessor(ObjectProvider<InProcessEventBus> bus) {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof EventPublisherPort publisher
+            && !(bean instanceof FanOutEventPublisher)) {
+          return new FanOutEventPublisher(publisher, bus.getObject(),
+              InProcessEventBusConfiguration::afterCommit);
+        }
+        return bean;
+      }
+    };
+  }
+
+  private static void afterCommit(Runnable dispatch) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      dispatch.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        dispatch.run();
+      }
+    });
+  }
+}
@@ -0,0 +1,41 @@
+package engineer.mkitsoukou.tika.infrastructure.messaging.inprocess;
+
+import engineer.mkitsoukou.tika.application.shared.event.InProcessEventBus;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.Objects;
+
+/**
+ * Exports the {@link InProcessEventBus} counters, tagged with the subscriber name:
+ * {@code tika.eventbus.handled}, {@code tika.eventbus.failed} and
+ * {@code tika.eventbus.dropped} (counters), and {@code tika.eventbus.lag} (gauge of
+ * events queued but not yet handled).
+ */
+public class InProcessEventBusMetrics implements MeterBinder {
+
+  private final InProcessEventBus bus;
+
+  public InProcessEventBusMetrics(InProcessEventBus bus) {
+    this.bus = Objects.requireNonNull(bus, "bus must not be null");
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    for (String subscriber : bus.subscriberNames()) {
+      FunctionCounter.builder("tika.eventbus.handled", bus, b -> b.stats(subscriber).handled())
+          .tag("subscriber", subscriber)
+          .register(registry);
+      FunctionCounter.builder("tika.eventbus.failed", bus, b -> b.stats(subscriber).failed())
+          .tag("subscriber", subscriber)
+          .register(registry);
+      FunctionCounter.builder("tika.eventbus.dropped", bus, b -> b.stats(subscriber).dropped())
+          .tag("subscriber", subscriber)
+          .register(registry);
+      Gauge.builder("tika.eventbus.lag", bus, b -> b.stats(subscriber).lag())
+          .tag("subscriber", subscriber)
+          .register(registry);
+    }
+  }
+}
@@ -0,0 +1,18 @@
+package engineer.mkitsoukou.tika.infrastructure.messaging.inprocess;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings of the in-process event bus, bound from {@code tika.events.in-process.*}.
+ *
+ * @param shards        queues and virtual threads per subscriber; 0 means one per
+ *                      available processor
+ * @param queueCapacity events each queue holds before dropping
+ */
+@ConfigurationProperties(prefix = "tika.events.in-process")
+public record InProcessEventBusProperties(
+    @DefaultValue("0") int shards,
+    @DefaultValue("1024") int queueCapacity
+) {
+}
@@ -0,0 +1,73 @@
+package engineer.mkitsoukou.tika.infrastructure.messaging.outbox;
+
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import org.springframework.jdbc.core.JdbcOperations;
+
+/**
+ * Postgres outbox. See {@code db/event-outbox.sql} for the table definition.
+ *
+ * <p>{@link #claim(int)} uses {@code FOR UPDATE SKIP LOCKED}, so several relay nodes
+ * poll the same table without blocking on, or double-sending, each other's rows.</p>
+ */
+public class JdbcOutboxStore implements OutboxStore {
+
+  private static final String INSERT_SQL = """
+      INSERT INTO event_outbox (aggregate_id, event_type, payload, occurred_at)
+      VALUES (?, ?, ?, ?)""";
+
+  private static final String CLAIM_SQL = """
+      SELECT id, aggregate_id, event_type, payload, occurred_at
+        FROM event_outbox
+       ORDER BY id
+       LIMIT ?
+         FOR UPDATE SKIP LOCKED""";
+
+  private static final String DELETE_SQL = "DELETE FROM event_outbox WHERE id = ANY (?)";
+
+  private final JdbcOperations jdbc;
+
+  public JdbcOutboxStore(JdbcOperations jdbc) {
+    this.jdbc = Objects.requireNonNull(jdbc, "jdbc must not be null");
+  }
+
+  @Override
+  public void append(List<OutboxMessage> messages) {
+    if (messages.isEmpty()) {
+      return;
+    }
+    List<Object[]> rows = messages.stream()
+        .map(m -> new Object[] {
+            m.aggregateId(), m.eventType(), m.payload(), Timestamp.from(m.occurredAt())})
+        .toList();
+    jdbc.batchUpdate(INSERT_SQL, rows);
+  }
+
+  @Override
+  public List<OutboxEntry> claim(int limit) {
+    return jdbc.query(CLAIM_SQL, (rs, rowNum) -> new OutboxEntry(
+        rs.getLong("id"),
+        new OutboxMessage(
+            rs.getString("aggregate_id"),
+            rs.getString("event_type"),
+            rs.getBytes("payload"),
+            rs.getTimestamp("occurred_at").toInstant())), limit);
+  }
+
+  @Override
+  public void delete(Collection<Long> ids) {
+    if (ids.isEmpty()) {
+      return;
+    }
+    jdbc.update(con -> {
+      PreparedStatement ps = con.prepareStatement(DELETE_SQL);
+      Array array = con.createArrayOf("bigint", ids.toArray());
+      ps.setArray(1, array);
+      return ps;
+    });
+  }
+}
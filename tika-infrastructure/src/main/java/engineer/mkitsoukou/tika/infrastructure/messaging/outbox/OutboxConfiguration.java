@@ -0,0 +1,70 @@
+package engineer.mkitsoukou.tika.infrastructure.messaging.outbox;
+
+import engineer.mkitsoukou.tika.application.auth.port.out.EventPublisherPort;
+import engineer.mkitsoukou.tika.infrastructure.messaging.DomainEventSerializer;
+import engineer.mkitsoukou.tika.infrastructure.messaging.EventProducerSettings;
+import engineer.mkitsoukou.tika.infrastructure.time.SystemClockAdapter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Routes {@link EventPublisherPort} through the transactional outbox and runs the relay.
+ * Enabled with {@code tika.outbox.enabled=true}; the table is created by
+ * {@code db/event-outbox.sql}.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "tika.outbox", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties({OutboxProperties.class, KafkaProperties.class})
+public class OutboxConfiguration {
+
+  @Bean
+  OutboxStore outboxStore(JdbcOperations jdbc) {
+    return new JdbcOutboxStore(jdbc);
+  }
+
+  @Bean
+  EventPublisherPort outboxEventPublisher(OutboxStore store, DomainEventSerializer serializer) {
+    return new OutboxEventPublisher(store, serializer);
+  }
+
+  @Bean
+  KafkaTemplate<String, byte[]> outboxKafkaTemplate(KafkaProperties kafka) {
+    return new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(
+        EventProducerSettings.tuned(kafka.buildProducerProperties(null)),
+        new StringSerializer(), new ByteArraySerializer()));
+  }
+
+  @Bean(destroyMethod = "close")
+  OutboxRelay outboxRelay(
+      OutboxStore store,
+      PlatformTransactionManager transactionManager,
+      KafkaTemplate<String, byte[]> outboxKafkaTemplate,
+      OutboxProperties properties,
+      ObjectProvider<MeterRegistry> meters
+  ) {
+    OutboxRelay relay = new OutboxRelay(
+        store,
+        new TransactionTemplate(transactionManager),
+        outboxKafkaTemplate,
+        properties.topic(),
+        properties.batchSize(),
+        properties.sendTimeout(),
+        new SystemClockAdapter(),
+        meters.getIfAvailable(() -> Metrics.globalRegistry));
+    relay.start(properties.pollInterval());
+    return relay;
+  }
+}
@@ -0,0 +1,10 @@
+package engineer.mkitsoukou.tika.infrastructure.messaging.outbox;
+
+/**
+ * A stored outbox row claimed by a relay.
+ *
+ * @param id      position in the outbox; increasing in insertion order
+ * @param message the stored message
+ */
+public record OutboxEntry(long id, OutboxMessage message) {
+}
@@ -0,0 +1,46 @@
+package engineer.mkitsoukou.tika.infrastructure.messaging.outbox;
+
+import engineer.mkitsoukou.tika.application.auth.port.out.EventPublisherPort;
+import engineer.mkitsoukou.tika.domain.model.event.DomainEvent;
+import engineer.mkitsoukou.tika.infrastructure.messaging.DomainEventSerializer;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * {@link EventPublisherPort} that writes events to the outbox instead of the broker.
+ *
+ * <p>Called from a transactional use case, the row commits or rolls back with the
+ * aggregate change, so no event leaks from a failed transaction and a slow broker never
+ * blocks the request. {@link OutboxRelay} delivers the rows afterwards.</p>
+ */
+public class OutboxEventPublisher implements EventPublisherPort {
+
+  private final OutboxStore store;
+  private final DomainEventSerializer serializer;
+
+  public OutboxEventPublisher(OutboxStore store, DomainEventSerializer serializer) {
+    this.store = Objects.requireNonNull(store, "store must not be null");
+    this.serializer = Objects.requireNonNull(serializer, "serializer must not be null");
+  }
+
+  @Override
+  public void publish(DomainEvent event) {
+    store.append(List.of(toMessage(event)));
+  }
+
+  /**
+   * Appends all events with a single batched insert.
+   */
+  @Override
+  public void publishAll(List<DomainEvent> events) {
+    store.append(events.stream().map(this::toMessage).toList());
+  }
+
+  private OutboxMessage toMessage(DomainEvent event) {
+    return new OutboxMessage(
+        event.aggregateId(),
+        serializer.eventType(event),
+        serializer.serialize(event),
+        event.occurredAt());
+  }
+}
@@ -0,0 +1,22 @@
+package engineer.mkitsoukou.tika.infrastructure.messaging.outbox;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * An encoded domain event waiting in the outbox.
+ *
+ * @param aggregateId Kafka record key; keeps one aggregate's events on one partition
+ * @param eventType   type name sent as a record header
+ * @param payload     serialized event
+ * @param occurredAt  when the event was recorded, used to measure relay lag
+ */
+public record OutboxMessage(String aggregateId, String eventType, byte[] payload, Instant occurredAt) {
+
+  public OutboxMessage {
+    Objects.requireNonNull(aggregateId, "aggregateId must not be null");
+    Objects.requireNonNull(eventType, "eventType must not be null");
+    Objects.requireNonNull(payload, "payload must not be null");
+    Objects.requireNonNull(occurredAt, "occurredAt must not be null");
+  }
+}
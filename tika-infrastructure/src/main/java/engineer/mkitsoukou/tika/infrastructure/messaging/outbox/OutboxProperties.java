@@ -0,0 +1,22 @@
+package engineer.mkitsoukou.tika.infrastructure.messaging.outbox;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for the transactional outbox, bound from {@code tika.outbox.*}.
+ *
+ * @param topic        Kafka topic receiving domain events
+ * @param batchSize    maximum rows claimed per relay round
+ * @param pollInterval pause between rounds once the outbox is drained
+ * @param sendTimeout  how long a batch may wait for broker acknowledgements
+ */
+@ConfigurationProperties(prefix = "tika.outbox")
+public record OutboxProperties(
+    @DefaultValue("tika.domain-events") String topic,
+    @DefaultValue("500") int batchSize,
+    @DefaultValue("200ms") Duration pollInterval,
+    @DefaultValue("10s") Duration sendTimeout
+) {
+}
@@ -0,0 +1,34 @@
+package engineer.mkitsoukou.tika.infrastructure.messaging.outbox;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Table of events committed together with the aggregate changes that raised them.
+ */
+public interface OutboxStore {
+
+  /**
+   * Appends messages in the caller's transaction, so that they become visible only if
+   * that transaction commits.
+   *
+   * @param messages messages in recording order
+   */
+  void append(List<OutboxMessage> messages);
+
+  /**
+   * Locks up to {@code limit} of the oldest rows not already locked by another relay.
+   * Must run inside a transaction; the locks are held until it ends.
+   *
+   * @param limit maximum number of rows to claim
+   * @return claimed rows in insertion order
+   */
+  List<OutboxEntry> claim(int limit);
+
+  /**
+   * Removes rows that have been delivered.
+   *
+   * @param ids ids returned by {@link #claim(int)}
+   */
+  void delete(Collection<Long> ids);
+}
@@ -0,0 +1,109 @@
+package engineer.mkitsoukou.tika.infrastructure.persistence.count;
+
+import engineer.mkitsoukou.tika.application.shared.ClockPort;
+import engineer.mkitsoukou.tika.domain.repository.CountAccuracy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.JdbcOperations;
+
+/**
+ * Row counter backing the {@code count(CountAccuracy)} repository methods.
+ *
+ * <p>{@link CountAccuracy#EXACT} issues a plain {@code SELECT count(*)}.
+ * {@link CountAccuracy#APPROXIMATE} reads the planner statistic {@code pg_class.reltuples},
+ * which autovacuum/ANALYZE keeps current, and caches it per table for {@code ttl}. Small
+ * tables and tables that were never analyzed fall back to an exact count, since scanning
+ * them is cheap and the statistic would be meaningless.</p>
+ */
+public class TableRowCounter {
+
+  private static final Pattern TABLE_NAME = Pattern.compile("^[a-z_][a-z0-9_]*(\\.[a-z_][a-z0-9_]*)?$");
+  private static final String ESTIMATE_SQL =
+      "SELECT reltuples::bigint FROM pg_class WHERE oid = to_regclass(?)";
+
+  private final JdbcOperations jdbc;
+  private final ClockPort clock;
+  private final Duration ttl;
+  private final long exactBelow;
+  private final Map<String, CachedCount> estimates = new ConcurrentHashMap<>();
+
+  /**
+   * @param jdbc       JDBC access to the database holding the tables
+   * @param clock      time source for cache expiry
+   * @param ttl        how long an estimate is reused before re-reading the statistic
+   * @param exactBelow estimates under this value are replaced by an exact count
+   */
+  public TableRowCounter(JdbcOperations jdbc, ClockPort clock, Duration ttl, long exactBelow) {
+    this.jdbc = Objects.requireNonNull(jdbc, "jdbc must not be null");
+    this.clock = Objects.requireNonNull(clock, "clock must not be null");
+    this.ttl = Objects.requireNonNull(ttl, "ttl must not be null");
+    this.exactBelow = exactBelow;
+  }
+
+  /**
+   * Counts the rows of {@code table}.
+   *
+   * @param table    unquoted, lower-case table name, optionally schema-qualified
+   * @param accuracy whether an estimate is acceptable
+   * @return the exact or estimated row count
+   * @throws IllegalArgumentException if the table name is not a plain identifier
+   */
+  public long count(String table, CountAccuracy accuracy) {
+    requireIdentifier(table);
+    Objects.requireNonNull(accuracy, "accuracy must not be null");
+
+    if (accuracy == CountAccuracy.EXACT) {
+      return exact(table);
+    }
+
+    Instant now = clock.now();
+    CachedCount cached = estimates.get(table);
+    if (cached != null && now.isBefore(cached.expiresAt())) {
+      return cached.value();
+    }
+
+    long estimate = estimate(table);
+    long value = estimate < exactBelow ? exact(table) : estimate;
+    estimates.put(table, new CachedCount(value, now.plus(ttl)));
+    return value;
+  }
+
+  /**
+   * Drops the cached estimate of {@code table}, e.g. after a bulk import.
+   *
+   * @param table the table whose estimate must be re-read
+   */
+  public void invalidate(String table) {
+    estimates.remove(table);
+  }
+
+  private long estimate(String table) {
+    try {
+      Long reltuples = jdbc.queryForObject(ESTIMATE_SQL, Long.class, table);
+      // -1 means "never analyzed" on Postgres 14+
+      return reltuples == null ? -1 : reltuples;
+    } catch (EmptyResultDataAccessException e) {
+      // no pg_class row: the table does not exist, and the exact count reports it
+      return -1;
+    }
+  }
+
+  private long exact(String table) {
+    Long count = jdbc.queryForObject("SELECT count(*) FROM " + table, Long.class);
+    return count == null ? 0 : count;
+  }
+
+  private static void requireIdentifier(String table) {
+    if (table == null || !TABLE_NAME.matcher(table).matches()) {
+      throw new IllegalArgumentException("Invalid table name: " + table);
+    }
+  }
+
+  private record CachedCount(long value, Instant expiresAt) {
+  }
+}
@@ -0,0 +1,57 @@
+package engineer.mkitsoukou.tika.infrastructure.persistence.routing;
+
+import java.time.Duration;
+
+/**
+ * Thread-bound marker remembering that the current request already wrote to the primary.
+ *
+ * <p>Once a read-write transaction has touched the primary, subsequent read-only
+ * transactions on the same thread are pinned to the primary so the caller always sees
+ * its own writes, even if the replicas have not replayed them yet.</p>
+ *
+ * <p>{@link #reset()} runs at the end of each request: {@link ReplicaRoutingConfiguration}
+ * exposes it as a {@code RequestScopedState}, which the web adapter clears once the
+ * response is complete, so a pooled thread does not carry one request's pin into the
+ * next. As a safety net for threads that are never reset, the pin also expires on its
+ * own after the configured window, which is chosen to be at least the maximum tolerated
+ * replica lag.</p>
+ */
+public final class ReadYourWritesContext {
+
+  private static final ThreadLocal<Long> LAST_WRITE_NANOS = new ThreadLocal<>();
+
+  private ReadYourWritesContext() {
+  }
+
+  /**
+   * Records that the current thread has just written to the primary.
+   */
+  public static void markWrite() {
+    LAST_WRITE_NANOS.set(System.nanoTime());
+  }
+
+  /**
+   * Tells whether reads on the current thread must still go to the primary.
+   *
+   * @param window how long a write keeps the thread pinned to the primary
+   * @return {@code true} if a write happened on this thread within {@code window}
+   */
+  public static boolean isPinnedToPrimary(Duration window) {
+    Long lastWrite = LAST_WRITE_NANOS.get();
+    if (lastWrite == null) {
+      return false;
+    }
+    if (System.nanoTime() - lastWrite > window.toNanos()) {
+      LAST_WRITE_NANOS.remove();
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * Clears the marker; call at request boundaries.
+   */
+  public static void reset() {
+    LAST_WRITE_NANOS.remove();
+  }
+}
@@ -0,0 +1,91 @@
+package engineer.mkitsoukou.tika.infrastructure.persistence.routing;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Periodically probes every replica and feeds the results into the {@link ReplicaPool}.
+ */
+public class ReplicaLagMonitor implements AutoCloseable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+  private final ReplicaPool pool;
+  private final Map<String, DataSource> replicas;
+  private final ReplicaLagProbe probe;
+  private final Duration interval;
+  private ScheduledExecutorService scheduler;
+
+  /**
+   * @param pool     the pool whose rotation is maintained
+   * @param replicas replica data sources keyed by their lookup key
+   * @param probe    the lag measurement strategy
+   * @param interval delay between two probe rounds
+   */
+  public ReplicaLagMonitor(
+      ReplicaPool pool,
+      Map<String, DataSource> replicas,
+      ReplicaLagProbe probe,
+      Duration interval
+  ) {
+    this.pool = Objects.requireNonNull(pool, "pool must not be null");
+    this.replicas = Map.copyOf(Objects.requireNonNull(replicas, "replicas must not be null"));
+    this.probe = Objects.requireNonNull(probe, "probe must not be null");
+    this.interval = Objects.requireNonNull(interval, "interval must not be null");
+  }
+
+  /**
+   * Starts probing in the background.
+   */
+  public synchronized void start() {
+    if (scheduler != null) {
+      return;
+    }
+    scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+      Thread thread = new Thread(r, "replica-lag-monitor");
+      thread.setDaemon(true);
+      return thread;
+    });
+    scheduler.scheduleWithFixedDelay(
+        this::probeAll, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Runs one probe round synchronously.
+   */
+  public void probeAll() {
+    replicas.forEach((name, dataSource) -> {
+      Duration lag;
+      try {
+        lag = probe.measure(dataSource);
+      } catch (SQLException | RuntimeException e) {
+        LOG.warn("Replica {} could not be probed, pulling it from rotation: {}", name, e.getMessage());
+        lag = null;
+      }
+      boolean wasInRotation = pool.inRotation().contains(name);
+      pool.reportLag(name, lag);
+      boolean isInRotation = pool.inRotation().contains(name);
+      if (wasInRotation && !isInRotation && lag != null) {
+        LOG.warn("Replica {} lags by {} (max {}), pulling it from rotation", name, lag, pool.maxLag());
+      } else if (!wasInRotation && isInRotation) {
+        LOG.info("Replica {} caught up (lag {}), back in rotation", name, lag);
+      }
+    });
+  }
+
+  @Override
+  public synchronized void close() {
+    if (scheduler != null) {
+      scheduler.shutdownNow();
+      scheduler = null;
+    }
+  }
+}
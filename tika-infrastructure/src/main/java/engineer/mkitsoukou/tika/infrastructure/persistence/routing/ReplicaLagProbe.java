@@ -0,0 +1,46 @@
+package engineer.mkitsoukou.tika.infrastructure.persistence.routing;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import javax.sql.DataSource;
+
+/**
+ * Measures how far a replica is behind the primary.
+ */
+@FunctionalInterface
+public interface ReplicaLagProbe {
+
+  /**
+   * @param replica the replica to probe
+   * @return the current replication lag
+   * @throws SQLException if the replica cannot be reached
+   */
+  Duration measure(DataSource replica) throws SQLException;
+
+  /**
+   * Postgres streaming-replication probe.
+   *
+   * <p>Reports zero when the replica has replayed everything it received, otherwise the
+   * age of the last replayed transaction. A replica that has never replayed anything, or
+   * that is not in recovery at all, is reported as unreachable.</p>
+   */
+  ReplicaLagProbe POSTGRES = replica -> {
+    try (var connection = replica.getConnection();
+         var statement = connection.createStatement();
+         var rs = statement.executeQuery("""
+             SELECT CASE
+                      WHEN NOT pg_is_in_recovery() THEN NULL
+                      WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                      ELSE (EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000)::bigint
+                    END AS lag_ms""")) {
+      if (!rs.next()) {
+        throw new SQLException("Replica lag query returned no row");
+      }
+      long lagMillis = rs.getLong(1);
+      if (rs.wasNull()) {
+        throw new SQLException("Data source is not a streaming replica");
+      }
+      return Duration.ofMillis(lagMillis);
+    }
+  };
+}
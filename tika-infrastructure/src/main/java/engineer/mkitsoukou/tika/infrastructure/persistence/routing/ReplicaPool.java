@@ -0,0 +1,99 @@
+package engineer.mkitsoukou.tika.infrastructure.persistence.routing;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Set of read replicas with their rotation state.
+ *
+ * <p>Replicas are selected round-robin among those currently in rotation. Every replica
+ * starts in rotation until its first probe. A replica is pulled out of rotation when its
+ * measured lag exceeds {@code maxLag} or when the lag cannot be measured at all, and it is
+ * put back as soon as a probe reports it healthy.</p>
+ */
+public final class ReplicaPool {
+
+  private final List<String> replicas;
+  private final Duration maxLag;
+  private final Map<String, Duration> lastKnownLag = new ConcurrentHashMap<>();
+  private final AtomicInteger cursor = new AtomicInteger();
+  private volatile List<String> inRotation;
+
+  /**
+   * Creates a pool where every replica starts in rotation.
+   *
+   * @param replicas lookup keys of the replica data sources
+   * @param maxLag   highest tolerated replication lag
+   */
+  public ReplicaPool(List<String> replicas, Duration maxLag) {
+    this.replicas = List.copyOf(Objects.requireNonNull(replicas, "replicas must not be null"));
+    this.maxLag = Objects.requireNonNull(maxLag, "maxLag must not be null");
+    this.replicas.forEach(replica -> lastKnownLag.put(replica, Duration.ZERO));
+    this.inRotation = this.replicas;
+  }
+
+  /**
+   * Picks the next replica in rotation.
+   *
+   * @return the lookup key of a healthy replica, or empty if none is in rotation
+   */
+  public Optional<String> next() {
+    List<String> candidates = inRotation;
+    if (candidates.isEmpty()) {
+      return Optional.empty();
+    }
+    int index = Math.floorMod(cursor.getAndIncrement(), candidates.size());
+    return Optional.of(candidates.get(index));
+  }
+
+  /**
+   * Updates the rotation with a fresh lag measurement.
+   *
+   * @param replica the replica lookup key
+   * @param lag     the measured lag, or {@code null} if the replica could not be probed
+   */
+  public void reportLag(String replica, Duration lag) {
+    if (!replicas.contains(replica)) {
+      throw new IllegalArgumentException("Unknown replica: " + replica);
+    }
+    if (lag == null) {
+      lastKnownLag.remove(replica);
+    } else {
+      lastKnownLag.put(replica, lag);
+    }
+    inRotation = replicas.stream()
+        .filter(this::isHealthy)
+        .toList();
+  }
+
+  /**
+   * @return the replicas currently serving reads
+   */
+  public List<String> inRotation() {
+    return inRotation;
+  }
+
+  /**
+   * @return every configured replica, healthy or not
+   */
+  public List<String> replicas() {
+    return replicas;
+  }
+
+  /**
+   * @return the highest tolerated replication lag
+   */
+  public Duration maxLag() {
+    return maxLag;
+  }
+
+  private boolean isHealthy(String replica) {
+    Duration lag = lastKnownLag.get(replica);
+    return lag != null && lag.compareTo(maxLag) <= 0;
+  }
+}
@@ -0,0 +1,93 @@
+package engineer.mkitsoukou.tika.infrastructure.persistence.routing;
+
+import engineer.mkitsoukou.tika.application.shared.RequestScopedState;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * Replaces the single application {@link DataSource} with a primary/replica router.
+ *
+ * <p>The primary keeps using the regular {@code spring.datasource.*} settings; replicas
+ * come from {@code tika.datasource.routing.replicas}. Enabled with
+ * {@code tika.datasource.routing.enabled=true}. The pools are closed on shutdown through
+ * {@link RoutingTargets}, and the read-your-writes pin is cleared at the end of each
+ * request through the {@link RequestScopedState} bean.</p>
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "tika.datasource.routing", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties({ReplicaRoutingProperties.class, DataSourceProperties.class})
+public class ReplicaRoutingConfiguration {
+
+  @Bean
+  ReplicaPool replicaPool(ReplicaRoutingProperties properties) {
+    return new ReplicaPool(
+        properties.replicas().stream().map(ReplicaRoutingProperties.Replica::name).toList(),
+        properties.maxLag());
+  }
+
+  @Bean(destroyMethod = "close")
+  RoutingTargets routingTargets(
+      DataSourceProperties primaryProperties,
+      ReplicaRoutingProperties properties
+  ) {
+    Map<String, DataSource> replicas = new LinkedHashMap<>();
+    for (ReplicaRoutingProperties.Replica replica : properties.replicas()) {
+      replicas.put(replica.name(), DataSourceBuilder.create()
+          .url(replica.url())
+          .username(replica.username())
+          .password(replica.password())
+          .build());
+    }
+    return new RoutingTargets(primaryProperties.initializeDataSourceBuilder().build(), replicas);
+  }
+
+  @Bean
+  @Qualifier("replicaDataSources")
+  Map<String, DataSource> replicaDataSources(RoutingTargets targets) {
+    return targets.replicas();
+  }
+
+  @Bean
+  RequestScopedState readYourWritesPin() {
+    return ReadYourWritesContext::reset;
+  }
+
+  @Bean(initMethod = "start", destroyMethod = "close")
+  ReplicaLagMonitor replicaLagMonitor(
+      ReplicaPool pool,
+      @Qualifier("replicaDataSources") Map<String, DataSource> replicas,
+      ReplicaRoutingProperties properties
+  ) {
+    return new ReplicaLagMonitor(pool, replicas, ReplicaLagProbe.POSTGRES, properties.probeInterval());
+  }
+
+  @Bean
+  @Primary
+  DataSource dataSource(
+      RoutingTargets routingTargets,
+      ReplicaPool pool,
+      ReplicaRoutingProperties properties
+  ) {
+    Map<Object, Object> targets = new HashMap<>(routingTargets.replicas());
+    targets.put(ReplicaRoutingDataSource.PRIMARY, routingTargets.primary());
+
+    ReplicaRoutingDataSource routing =
+        new ReplicaRoutingDataSource(pool, properties.readYourWritesWindow());
+    routing.setTargetDataSources(targets);
+    routing.setDefaultTargetDataSource(targets.get(ReplicaRoutingDataSource.PRIMARY));
+    routing.afterPropertiesSet();
+
+    return new LazyConnectionDataSourceProxy(routing);
+  }
+}
@@ -0,0 +1,56 @@
+package engineer.mkitsoukou.tika.infrastructure.persistence.routing;
+
+import java.time.Duration;
+import java.util.Objects;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Routes read-only transactions to a replica and everything else to the primary.
+ *
+ * <p>Routing rules, evaluated when a connection is requested:</p>
+ * <ol>
+ *   <li>a read-write transaction goes to the primary and pins the thread to it
+ *       (see {@link ReadYourWritesContext});</li>
+ *   <li>a read-only transaction on a pinned thread goes to the primary;</li>
+ *   <li>any other read-only transaction goes to the next replica in rotation, or to the
+ *       primary when no replica is healthy;</li>
+ *   <li>work outside a transaction goes to the primary.</li>
+ * </ol>
+ *
+ * <p>The routing key is resolved on {@code getConnection()}, so this data source must be
+ * wrapped in a {@code LazyConnectionDataSourceProxy}: the transaction manager then knows
+ * the read-only flag before the physical connection is chosen.</p>
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+  public static final String PRIMARY = "primary";
+
+  private final ReplicaPool replicas;
+  private final Duration readYourWritesWindow;
+
+  /**
+   * @param replicas             the replica pool used for read-only transactions
+   * @param readYourWritesWindow how long a write keeps the thread pinned to the primary
+   */
+  public ReplicaRoutingDataSource(ReplicaPool replicas, Duration readYourWritesWindow) {
+    this.replicas = Objects.requireNonNull(replicas, "replicas must not be null");
+    this.readYourWritesWindow =
+        Objects.requireNonNull(readYourWritesWindow, "readYourWritesWindow must not be null");
+  }
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+      return PRIMARY;
+    }
+    if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+      ReadYourWritesContext.markWrite();
+      return PRIMARY;
+    }
+    if (ReadYourWritesContext.isPinnedToPrimary(readYourWritesWindow)) {
+      return PRIMARY;
+    }
+    return replicas.next().orElse(PRIMARY);
+  }
+}
@@ -0,0 +1,36 @@
+package engineer.mkitsoukou.tika.infrastructure.persistence.routing;
+
+import java.time.Duration;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for read/write splitting, bound from {@code tika.datasource.routing.*}.
+ *
+ * @param replicas             connection settings of each read replica
+ * @param maxLag               lag above which a replica is pulled from rotation
+ * @param probeInterval        delay between two lag probe rounds
+ * @param readYourWritesWindow how long a write pins the thread to the primary
+ */
+@ConfigurationProperties(prefix = "tika.datasource.routing")
+public record ReplicaRoutingProperties(
+    List<Replica> replicas,
+    @DefaultValue("5s") Duration maxLag,
+    @DefaultValue("2s") Duration probeInterval,
+    @DefaultValue("10s") Duration readYourWritesWindow
+) {
+
+  public ReplicaRoutingProperties {
+    replicas = replicas == null ? List.of() : List.copyOf(replicas);
+  }
+
+  /**
+   * @param name     lookup key of the replica, unique within the pool
+   * @param url      JDBC URL
+   * @param username database user
+   * @param password database password
+   */
+  public record Replica(String name, String url, String username, String password) {
+  }
+}
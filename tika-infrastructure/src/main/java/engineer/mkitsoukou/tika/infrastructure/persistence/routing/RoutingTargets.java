@@ -0,0 +1,60 @@
+package engineer.mkitsoukou.tika.infrastructure.persistence.routing;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The pooled data sources behind a {@link ReplicaRoutingDataSource}: the primary and
+ * the replicas keyed by their lookup key.
+ *
+ * <p>They are built by hand rather than exposed as beans, so the container does not close
+ * them; {@link #close()} does, on shutdown, once nothing routes to them any more.</p>
+ */
+public final class RoutingTargets implements AutoCloseable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(RoutingTargets.class);
+
+  private final DataSource primary;
+  private final Map<String, DataSource> replicas;
+
+  /**
+   * @param primary  the read-write data source
+   * @param replicas read-only data sources keyed by their lookup key, in probe order
+   */
+  public RoutingTargets(DataSource primary, Map<String, DataSource> replicas) {
+    this.primary = Objects.requireNonNull(primary, "primary must not be null");
+    this.replicas = Objects.requireNonNull(replicas, "replicas must not be null");
+  }
+
+  public DataSource primary() {
+    return primary;
+  }
+
+  public Map<String, DataSource> replicas() {
+    return replicas;
+  }
+
+  /**
+   * Closes every pool that holds connections; one failing to close does not keep the
+   * others open.
+   */
+  @Override
+  public void close() {
+    List<DataSource> all = new ArrayList<>(replicas.values());
+    all.add(primary);
+    for (DataSource dataSource : all) {
+      if (dataSource instanceof AutoCloseable closeable) {
+        try {
+          closeable.close();
+        } catch (Exception e) {
+          LOG.warn("Could not close data source {}", dataSource, e);
+        }
+      }
+    }
+  }
+}
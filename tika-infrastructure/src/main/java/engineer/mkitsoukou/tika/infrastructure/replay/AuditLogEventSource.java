@@ -0,0 +1,61 @@
+package engineer.mkitsoukou.tika.infrastructure.replay;
+
+import engineer.mkitsoukou.tika.domain.model.event.DomainEvent;
+import engineer.mkitsoukou.tika.infrastructure.audit.AuditLogReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Replays the local {@link engineer.mkitsoukou.tika.infrastructure.audit.MappedAuditLog};
+ * the position is the audit sequence number. Only what retention kept can be replayed.
+ * The log holds events once published and, inside a transaction, committed, so nothing
+ * replayed from it was rolled back.
+ */
+public class AuditLogEventSource implements EventSource {
+
+  static final String STREAM = "audit-log";
+
+  private final AuditLogReader reader;
+  private final int batchSize;
+
+  /**
+   * @param reader    scanner over the audit log directory
+   * @param batchSize events per batch handed to the consumer
+   */
+  public AuditLogEventSource(AuditLogReader reader, int batchSize) {
+    this.reader = Objects.requireNonNull(reader, "reader must not be null");
+    if (batchSize < 1) {
+      throw new IllegalArgumentException("batchSize must be positive");
+    }
+    this.batchSize = batchSize;
+  }
+
+  @Override
+  public void read(Checkpoint from, BatchConsumer consumer) {
+    List<DomainEvent> batch = new ArrayList<>(batchSize);
+    long[] next = {from.position(STREAM).orElse(0)};
+    try {
+      reader.read(next[0], (sequence, event) -> {
+        batch.add(event);
+        next[0] = sequence + 1;
+        if (batch.size() == batchSize) {
+          consumer.accept(List.copyOf(batch), checkpoint(from, next[0]));
+          batch.clear();
+        }
+      });
+    } catch (IOException e) {
+      throw new UncheckedIOException("Cannot read the audit log", e);
+    }
+    if (!batch.isEmpty()) {
+      consumer.accept(List.copyOf(batch), checkpoint(from, next[0]));
+    }
+  }
+
+  private static Checkpoint checkpoint(Checkpoint from, long next) {
+    return from.advance(Map.of(STREAM, next));
+  }
+}
@@ -0,0 +1,43 @@
+package engineer.mkitsoukou.tika.infrastructure.replay;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.OptionalLong;
+
+/**
+ * Replay position, as the next position to read for each stream of a source: the audit
+ * log sequence, or one offset per Kafka partition.
+ *
+ * @param positions next position per stream name
+ */
+public record Checkpoint(Map<String, Long> positions) {
+
+  public static final Checkpoint EMPTY = new Checkpoint(Map.of());
+
+  public Checkpoint {
+    positions = Map.copyOf(Objects.requireNonNull(positions, "positions must not be null"));
+  }
+
+  /**
+   * @param stream stream name
+   * @return the next position to read, empty if the stream was never read
+   */
+  public OptionalLong position(String stream) {
+    Long position = positions.get(stream);
+    return position == null ? OptionalLong.empty() : OptionalLong.of(position);
+  }
+
+  /**
+   * @param advanced next positions of the streams that moved
+   * @return a checkpoint with those streams updated and the others unchanged
+   */
+  public Checkpoint advance(Map<String, Long> advanced) {
+    if (advanced.isEmpty()) {
+      return this;
+    }
+    Map<String, Long> merged = new HashMap<>(positions);
+    merged.putAll(advanced);
+    return new Checkpoint(merged);
+  }
+}
@@ -0,0 +1,35 @@
+package engineer.mkitsoukou.tika.infrastructure.replay;
+
+/**
+ * Persists replay positions so that a restart only replays what the projections have
+ * not seen. The store must outlive the projection state it describes: pair a durable
+ * store with persisted projections, and in-memory projections with no store at all.
+ */
+public interface CheckpointStore {
+
+  /**
+   * @param name replay name
+   * @return the last saved checkpoint, or {@link Checkpoint#EMPTY}
+   */
+  Checkpoint load(String name);
+
+  /**
+   * @param name       replay name
+   * @param checkpoint position up to which every event has been applied
+   */
+  void save(String name, Checkpoint checkpoint);
+
+  /**
+   * A store that remembers nothing, so each replay starts from the beginning.
+   */
+  CheckpointStore NONE = new CheckpointStore() {
+    @Override
+    public Checkpoint load(String name) {
+      return Checkpoint.EMPTY;
+    }
+
+    @Override
+    public void save(String name, Checkpoint checkpoint) {
+    }
+  };
+}
@@ -0,0 +1,32 @@
+package engineer.mkitsoukou.tika.infrastructure.replay;
+
+import engineer.mkitsoukou.tika.domain.model.event.DomainEvent;
+import java.util.List;
+
+/**
+ * A replayable stream of domain events.
+ */
+public interface EventSource {
+
+  /**
+   * Reads every event after {@code from} that is available now, in batches, and returns
+   * once caught up.
+   *
+   * @param from     where the previous replay stopped
+   * @param consumer receives each batch with the checkpoint just after it
+   */
+  void read(Checkpoint from, BatchConsumer consumer);
+
+  /**
+   * Receives consecutive batches of a source.
+   */
+  @FunctionalInterface
+  interface BatchConsumer {
+
+    /**
+     * @param events the batch, in stream order
+     * @param after  checkpoint covering this batch and everything before it
+     */
+    void accept(List<DomainEvent> events, Checkpoint after);
+  }
+}
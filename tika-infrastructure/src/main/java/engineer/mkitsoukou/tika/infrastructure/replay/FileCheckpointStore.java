@@ -0,0 +1,66 @@
+package engineer.mkitsoukou.tika.infrastructure.replay;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * {@link CheckpointStore} keeping one small text file per replay name, with one
+ * {@code stream=position} line per stream. Saves write a temporary file and move it into
+ * place, so a crash leaves either the old or the new checkpoint.
+ */
+public class FileCheckpointStore implements CheckpointStore {
+
+  private final Path directory;
+
+  public FileCheckpointStore(Path directory) {
+    this.directory = Objects.requireNonNull(directory, "directory must not be null");
+  }
+
+  @Override
+  public Checkpoint load(String name) {
+    try {
+      Map<String, Long> positions = new HashMap<>();
+      for (String line : Files.readAllLines(file(name), StandardCharsets.UTF_8)) {
+        int separator = line.lastIndexOf('=');
+        if (separator > 0) {
+          positions.put(line.substring(0, separator),
+              Long.parseLong(line.substring(separator + 1).trim()));
+        }
+      }
+      return new Checkpoint(positions);
+    } catch (NoSuchFileException e) {
+      return Checkpoint.EMPTY;
+    } catch (IOException e) {
+      throw new UncheckedIOException("Cannot read checkpoint " + name, e);
+    }
+  }
+
+  @Override
+  public void save(String name, Checkpoint checkpoint) {
+    StringBuilder content = new StringBuilder();
+    new TreeMap<>(checkpoint.positions()).forEach((stream, position) ->
+        content.append(stream).append('=').append(position).append('\n'));
+    try {
+      Files.createDirectories(directory);
+      Path temp = directory.resolve(name + ".checkpoint.tmp");
+      Files.writeString(temp, content, StandardCharsets.UTF_8);
+      Files.move(temp, file(name),
+          StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Cannot save checkpoint " + name, e);
+    }
+  }
+
+  private Path file(String name) {
+    return directory.resolve(name + ".checkpoint");
+  }
+}
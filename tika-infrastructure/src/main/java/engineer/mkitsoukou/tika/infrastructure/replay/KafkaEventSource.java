@@ -0,0 +1,128 @@
+package engineer.mkitsoukou.tika.infrastructure.replay;
+
+import engineer.mkitsoukou.tika.domain.model.event.DomainEvent;
+import engineer.mkitsoukou.tika.infrastructure.messaging.DomainEventSerializer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.OptionalLong;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Replays the domain-event topic from Kafka, up to the end offsets observed when the
+ * read starts. Partitions are assigned manually and offsets are tracked in the
+ * {@link Checkpoint}, one stream per partition, so no consumer group is involved. One
+ * poll becomes one batch.
+ *
+ * <p>An end offset may never be reached, for instance when the records before it were
+ * compacted away or the offsets have a gap. After {@code maxIdlePolls} consecutive empty
+ * polls the read gives up with a warning and returns what it has, so startup does not
+ * hang.</p>
+ */
+public class KafkaEventSource implements EventSource {
+
+  private static final Logger LOG = LoggerFactory.getLogger(KafkaEventSource.class);
+
+  private final Consumer<String, byte[]> consumer;
+  private final String topic;
+  private final DomainEventSerializer serializer;
+  private final Duration pollTimeout;
+  private final int maxIdlePolls;
+
+  /**
+   * @param consumer     consumer used by this source only
+   * @param topic        domain-event topic
+   * @param serializer   decoder of record values
+   * @param pollTimeout  longest wait of one poll
+   * @param maxIdlePolls consecutive empty polls after which the read stops short of the
+   *                     end offsets
+   */
+  public KafkaEventSource(
+      Consumer<String, byte[]> consumer,
+      String topic,
+      DomainEventSerializer serializer,
+      Duration pollTimeout,
+      int maxIdlePolls
+  ) {
+    this.consumer = Objects.requireNonNull(consumer, "consumer must not be null");
+    this.topic = Objects.requireNonNull(topic, "topic must not be null");
+    this.serializer = Objects.requireNonNull(serializer, "serializer must not be null");
+    this.pollTimeout = Objects.requireNonNull(pollTimeout, "pollTimeout must not be null");
+    if (maxIdlePolls < 1) {
+      throw new IllegalArgumentException("maxIdlePolls must be positive");
+    }
+    this.maxIdlePolls = maxIdlePolls;
+  }
+
+  @Override
+  public void read(Checkpoint from, BatchConsumer batches) {
+    List<TopicPartition> partitions = consumer.partitionsFor(topic).stream()
+        .map(info -> new TopicPartition(info.topic(), info.partition()))
+        .toList();
+    consumer.assign(partitions);
+    for (TopicPartition partition : partitions) {
+      OptionalLong position = from.position(stream(partition));
+      if (position.isPresent()) {
+        consumer.seek(partition, position.getAsLong());
+      } else {
+        consumer.seekToBeginning(List.of(partition));
+      }
+    }
+    Map<TopicPartition, Long> end = consumer.endOffsets(partitions);
+
+    Checkpoint checkpoint = from;
+    int idlePolls = 0;
+    while (!caughtUp(end)) {
+      ConsumerRecords<String, byte[]> records = consumer.poll(pollTimeout);
+      if (records.isEmpty()) {
+        if (++idlePolls >= maxIdlePolls) {
+          LOG.warn("Replay of {} stopped after {} empty polls short of the end offsets {}",
+              topic, idlePolls, lagging(end));
+          return;
+        }
+        continue;
+      }
+      idlePolls = 0;
+      List<DomainEvent> events = new ArrayList<>(records.count());
+      Map<String, Long> advanced = new HashMap<>();
+      for (ConsumerRecord<String, byte[]> consumerRecord : records) {
+        events.add(serializer.deserialize(consumerRecord.value()));
+        advanced.put(stream(new TopicPartition(consumerRecord.topic(),
+            consumerRecord.partition())), consumerRecord.offset() + 1);
+      }
+      checkpoint = checkpoint.advance(advanced);
+      batches.accept(events, checkpoint);
+    }
+  }
+
+  private boolean caughtUp(Map<TopicPartition, Long> end) {
+    for (Map.Entry<TopicPartition, Long> partition : end.entrySet()) {
+      if (consumer.position(partition.getKey()) < partition.getValue()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private Map<TopicPartition, Long> lagging(Map<TopicPartition, Long> end) {
+    Map<TopicPartition, Long> lagging = new HashMap<>();
+    end.forEach((partition, offset) -> {
+      if (consumer.position(partition) < offset) {
+        lagging.put(partition, offset);
+      }
+    });
+    return lagging;
+  }
+
+  private static String stream(TopicPartition partition) {
+    return partition.topic() + "-" + partition.partition();
+  }
+}
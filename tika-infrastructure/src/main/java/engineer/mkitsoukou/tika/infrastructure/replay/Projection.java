@@ -0,0 +1,33 @@
+package engineer.mkitsoukou.tika.infrastructure.replay;
+
+import engineer.mkitsoukou.tika.domain.model.event.DomainEvent;
+
+/**
+ * Read model or cache rebuilt from the domain-event stream by {@link EventReplayEngine}.
+ *
+ * <p>Events of one aggregate arrive in order on one thread, but events of different
+ * aggregates are applied concurrently, so implementations must be thread-safe across
+ * aggregates. Delivery is at least once: after a failure the last batch is replayed, so
+ * {@link #apply(DomainEvent)} must be idempotent.</p>
+ *
+ * <p>Lanes are chosen by aggregate id alone. A projection whose rows combine several
+ * aggregates, such as a user's roles and each role's permissions, sees their events
+ * concurrently and in no particular relative order; the replay gives it no ordering
+ * between them, so its correctness rests on its own store, typically row locks or
+ * upserts that converge whatever the interleaving.</p>
+ */
+public interface Projection {
+
+  /**
+   * @return stable name, used in logs and metric tags
+   */
+  String name();
+
+  /**
+   * Folds one event into the projection. Events the projection does not care about are
+   * ignored.
+   *
+   * @param event the next event of its aggregate
+   */
+  void apply(DomainEvent event);
+}
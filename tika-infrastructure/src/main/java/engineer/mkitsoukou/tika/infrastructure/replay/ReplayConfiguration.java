@@ -0,0 +1,71 @@
+package engineer.mkitsoukou.tika.infrastructure.replay;
+
+import engineer.mkitsoukou.tika.infrastructure.audit.AuditLogReader;
+import engineer.mkitsoukou.tika.infrastructure.messaging.DomainEventSerializer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Replays domain events into every {@link Projection} bean on startup, before the
+ * application reports ready. Enabled with {@code tika.replay.enabled=true}.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "tika.replay", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties({ReplayProperties.class, KafkaProperties.class})
+public class ReplayConfiguration {
+
+  @Bean(destroyMethod = "close")
+  EventReplayEngine eventReplayEngine(
+      ObjectProvider<Projection> projections,
+      ReplayProperties properties,
+      ObjectProvider<MeterRegistry> meters
+  ) {
+    CheckpointStore checkpoints = properties.checkpointDirectory() == null
+        ? CheckpointStore.NONE
+        : new FileCheckpointStore(properties.checkpointDirectory());
+    return new EventReplayEngine(
+        properties.name(),
+        projections.orderedStream().toList(),
+        checkpoints,
+        properties.partitions(),
+        meters.getIfAvailable(() -> Metrics.globalRegistry));
+  }
+
+  @Bean
+  ApplicationRunner replayOnStartup(
+      EventReplayEngine engine,
+      ReplayProperties properties,
+      ObjectProvider<AuditLogReader> auditLogReader,
+      ObjectProvider<KafkaProperties> kafka,
+      DomainEventSerializer serializer
+  ) {
+    return args -> {
+      switch (properties.source()) {
+        case AUDIT_LOG -> engine.replay(
+            new AuditLogEventSource(auditLogReader.getObject(), properties.batchSize()));
+        case KAFKA -> {
+          var config = kafka.getObject().buildConsumerProperties(null);
+          config.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+          config.remove(ConsumerConfig.GROUP_ID_CONFIG);
+          try (KafkaConsumer<String, byte[]> consumer = new KafkaConsumer<>(
+              config, new StringDeserializer(), new ByteArrayDeserializer())) {
+            engine.replay(new KafkaEventSource(
+                consumer, properties.topic(), serializer, properties.pollTimeout(),
+                properties.maxIdlePolls()));
+          }
+        }
+      }
+    };
+  }
+}
@@ -0,0 +1,46 @@
+package engineer.mkitsoukou.tika.infrastructure.replay;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for the startup replay, bound from {@code tika.replay.*}.
+ *
+ * @param name                replay name, keying the checkpoint
+ * @param source              where events are read from
+ * @param topic               domain-event topic, for {@link Source#KAFKA}
+ * @param partitions          parallel lanes; defaults to the number of processors
+ * @param batchSize           events per batch, for {@link Source#AUDIT_LOG}
+ * @param pollTimeout         longest wait of one Kafka poll
+ * @param maxIdlePolls        consecutive empty Kafka polls before the replay gives up on
+ *                            end offsets it cannot reach
+ * @param checkpointDirectory where checkpoints are saved; unset means every start
+ *                            replays from the beginning, as suits in-memory projections
+ */
+@ConfigurationProperties(prefix = "tika.replay")
+public record ReplayProperties(
+    @DefaultValue("projections") String name,
+    @DefaultValue("AUDIT_LOG") Source source,
+    @DefaultValue("tika.domain-events") String topic,
+    @DefaultValue("0") int partitions,
+    @DefaultValue("10000") int batchSize,
+    @DefaultValue("500ms") Duration pollTimeout,
+    @DefaultValue("20") int maxIdlePolls,
+    Path checkpointDirectory
+) {
+
+  public ReplayProperties {
+    if (partitions <= 0) {
+      partitions = Runtime.getRuntime().availableProcessors();
+    }
+  }
+
+  public enum Source {
+    /** The local audit log; requires {@code tika.audit.enabled=true}. */
+    AUDIT_LOG,
+    /** The domain-event Kafka topic. */
+    KAFKA
+  }
+}
@@ -0,0 +1,165 @@
+package engineer.mkitsoukou.tika.infrastructure.tokenblacklist;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A Bloom filter of strings: {@link #mightContain} is never wrong about a string that was
+ * added and, for one that was not, wrong with a probability near the configured rate as
+ * long as no more than the expected number of strings has been added.
+ *
+ * <p>The filter has {@code m = -n ln p / (ln 2)^2} bits and sets {@code k = (m / n) ln 2}
+ * of them per string, derived by double hashing from one 128-bit hash of its UTF-8
+ * bytes. Bits are set with compare-and-set, so additions and lookups may run
+ * concurrently; a lookup racing an addition of the same string may miss it.</p>
+ */
+public class BloomFilter {
+
+  private static final double LN2 = Math.log(2);
+  private static final long C1 = 0x87c37b91114253d5L;
+  private static final long C2 = 0x4cf5ad432745937fL;
+
+  private final AtomicLongArray words;
+  private final long bits;
+  private final int hashes;
+  private final LongAdder setBits = new LongAdder();
+
+  /**
+   * @param expectedInsertions strings the filter is sized for
+   * @param falsePositiveRate  wrong "might contain" answers tolerated at that size
+   */
+  public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+    if (expectedInsertions < 1) {
+      throw new IllegalArgumentException("expectedInsertions must be positive");
+    }
+    if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+      throw new IllegalArgumentException("falsePositiveRate must lie between 0 and 1");
+    }
+    long wanted = (long) Math.ceil(
+        -expectedInsertions * Math.log(falsePositiveRate) / (LN2 * LN2));
+    long wordCount = Math.max(1, (wanted + Long.SIZE - 1) / Long.SIZE);
+    if (wordCount > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("filter would exceed " + Integer.MAX_VALUE + " words");
+    }
+    this.words = new AtomicLongArray((int) wordCount);
+    this.bits = wordCount * Long.SIZE;
+    this.hashes = (int) Math.max(1, Math.round((double) bits / expectedInsertions * LN2));
+  }
+
+  /**
+   * Adds {@code value}.
+   */
+  public void add(String value) {
+    long[] hash = hash(value);
+    long combined = hash[0];
+    for (int i = 0; i < hashes; i++) {
+      set((combined & Long.MAX_VALUE) % bits);
+      combined += hash[1];
+    }
+  }
+
+  /**
+   * @return {@code false} if {@code value} was certainly never added
+   */
+  public boolean mightContain(String value) {
+    long[] hash = hash(value);
+    long combined = hash[0];
+    for (int i = 0; i < hashes; i++) {
+      long bit = (combined & Long.MAX_VALUE) % bits;
+      if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+        return false;
+      }
+      combined += hash[1];
+    }
+    return true;
+  }
+
+  /**
+   * @return the false-positive rate the filter's current fill gives,
+   *         {@code (set bits / bits)^k}
+   */
+  public double expectedFalsePositiveRate() {
+    return Math.pow((double) setBits.sum() / bits, hashes);
+  }
+
+  /**
+   * @return size of the filter in bits
+   */
+  public long bitSize() {
+    return bits;
+  }
+
+  /**
+   * @return bits set per string
+   */
+  public int hashFunctions() {
+    return hashes;
+  }
+
+  private void set(long bit) {
+    int index = (int) (bit >>> 6);
+    long mask = 1L << bit;
+    long word = words.get(index);
+    while ((word & mask) == 0) {
+      long witness = words.compareAndExchange(index, word, word | mask);
+      if (witness == word) {
+        setBits.increment();
+        return;
+      }
+      word = witness;
+    }
+  }
+
+  // MurmurHash3 x64 128-bit, seed 0
+  private static long[] hash(String value) {
+    byte[] data = value.getBytes(StandardCharsets.UTF_8);
+    int blocks = data.length / 16;
+    long h1 = 0;
+    long h2 = 0;
+    for (int i = 0; i < blocks; i++) {
+      long k1 = littleEndian(data, i * 16, 8);
+      long k2 = littleEndian(data, i * 16 + 8, 8);
+      h1 ^= Long.rotateLeft(k1 * C1, 31) * C2;
+      h1 = (Long.rotateLeft(h1, 27) + h2) * 5 + 0x52dce729;
+      h2 ^= Long.rotateLeft(k2 * C2, 33) * C1;
+      h2 = (Long.rotateLeft(h2, 31) + h1) * 5 + 0x38495ab5;
+    }
+    int tail = blocks * 16;
+    int remaining = data.length - tail;
+    if (remaining > 8) {
+      long k2 = littleEndian(data, tail + 8, remaining - 8);
+      h2 ^= Long.rotateLeft(k2 * C2, 33) * C1;
+    }
+    if (remaining > 0) {
+      long k1 = littleEndian(data, tail, Math.min(remaining, 8));
+      h1 ^= Long.rotateLeft(k1 * C1, 31) * C2;
+    }
+    h1 ^= data.length;
+    h2 ^= data.length;
+    h1 += h2;
+    h2 += h1;
+    h1 = mix(h1);
+    h2 = mix(h2);
+    h1 += h2;
+    h2 += h1;
+    return new long[] {h1, h2};
+  }
+
+  private static long littleEndian(byte[] data, int offset, int length) {
+    long value = 0;
+    for (int i = length - 1; i >= 0; i--) {
+      value = (value << 8) | (data[offset + i] & 0xffL);
+    }
+    return value;
+  }
+
+  private static long mix(long h) {
+    h ^= h >>> 33;
+    h *= 0xff51afd7ed558ccdL;
+    h ^= h >>> 33;
+    h *= 0xc4ceb9fe1a85ec53L;
+    h ^= h >>> 33;
+    return h;
+  }
+}
@@ -0,0 +1,90 @@
+package engineer.mkitsoukou.tika.infrastructure.tokenblacklist;
+
+import engineer.mkitsoukou.tika.application.shared.ClockPort;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * Black-listed JTIs kept in Redis, one key per JTI under {@value #KEY_PREFIX}, expiring
+ * once no token carrying it can still be valid.
+ *
+ * <p>Each addition is published on a channel as {@code <epoch millis>:<jti>}, the
+ * announcement {@link TokenBlacklistAnnouncementListener} reads on every node.</p>
+ */
+public class RedisTokenBlacklistStore implements TokenBlacklistStore {
+
+  static final String KEY_PREFIX = "tika:blacklist:";
+  private static final String PRESENT = "1";
+  private static final int SCAN_COUNT = 1000;
+
+  private final StringRedisTemplate redis;
+  private final String channel;
+  private final Duration ttl;
+  private final ClockPort clock;
+
+  /**
+   * @param redis   connection to the shared Redis
+   * @param channel pub/sub channel additions are announced on
+   * @param ttl     how long a JTI is kept, the longest token lifetime
+   * @param clock   time source for the announcement's timestamp
+   */
+  public RedisTokenBlacklistStore(
+      StringRedisTemplate redis,
+      String channel,
+      Duration ttl,
+      ClockPort clock
+  ) {
+    this.redis = Objects.requireNonNull(redis, "redis must not be null");
+    this.channel = Objects.requireNonNull(channel, "channel must not be null");
+    this.ttl = Objects.requireNonNull(ttl, "ttl must not be null");
+    this.clock = Objects.requireNonNull(clock, "clock must not be null");
+  }
+
+  @Override
+  public void add(String jti) {
+    redis.opsForValue().set(KEY_PREFIX + jti, PRESENT, ttl);
+    redis.convertAndSend(channel, announcement(jti, clock.now().toEpochMilli()));
+  }
+
+  @Override
+  public boolean contains(String jti) {
+    return Boolean.TRUE.equals(redis.hasKey(KEY_PREFIX + jti));
+  }
+
+  @Override
+  public Set<String> containedAmong(Collection<String> jtis) {
+    List<String> candidates = List.copyOf(jtis);
+    List<String> values = redis.opsForValue()
+        .multiGet(candidates.stream().map(jti -> KEY_PREFIX + jti).toList());
+    Set<String> contained = new HashSet<>();
+    for (int i = 0; values != null && i < candidates.size(); i++) {
+      if (values.get(i) != null) {
+        contained.add(candidates.get(i));
+      }
+    }
+    return contained;
+  }
+
+  @Override
+  public void forEach(Consumer<String> action) {
+    ScanOptions options = ScanOptions.scanOptions()
+        .match(KEY_PREFIX + "*")
+        .count(SCAN_COUNT)
+        .build();
+    try (Cursor<String> keys = redis.scan(options)) {
+      keys.forEachRemaining(key -> action.accept(key.substring(KEY_PREFIX.length())));
+    }
+  }
+
+  static String announcement(String jti, long publishedAtMillis) {
+    return publishedAtMillis + ":" + jti;
+  }
+}
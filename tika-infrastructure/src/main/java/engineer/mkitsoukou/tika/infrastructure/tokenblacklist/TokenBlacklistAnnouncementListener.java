@@ -0,0 +1,47 @@
+package engineer.mkitsoukou.tika.infrastructure.tokenblacklist;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Objects;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+
+/**
+ * Adds JTIs announced by {@link RedisTokenBlacklistStore} on any node, this one
+ * included, to this node's {@link TwoTierTokenBlacklist}. Malformed announcements are
+ * logged and skipped; the next resync covers whatever they carried.
+ */
+public class TokenBlacklistAnnouncementListener implements MessageListener {
+
+  private static final Logger LOG =
+      LoggerFactory.getLogger(TokenBlacklistAnnouncementListener.class);
+
+  private final TwoTierTokenBlacklist blacklist;
+
+  /**
+   * @param blacklist black-list to keep current
+   */
+  public TokenBlacklistAnnouncementListener(TwoTierTokenBlacklist blacklist) {
+    this.blacklist = Objects.requireNonNull(blacklist, "blacklist must not be null");
+  }
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    String body = new String(message.getBody(), StandardCharsets.UTF_8);
+    int separator = body.indexOf(':');
+    if (separator < 1 || separator == body.length() - 1) {
+      LOG.warn("Skipping malformed black-list announcement: {}", body);
+      return;
+    }
+    long publishedAt;
+    try {
+      publishedAt = Long.parseLong(body, 0, separator, 10);
+    } catch (NumberFormatException e) {
+      LOG.warn("Skipping malformed black-list announcement: {}", body);
+      return;
+    }
+    blacklist.announced(body.substring(separator + 1), Instant.ofEpochMilli(publishedAt));
+  }
+}
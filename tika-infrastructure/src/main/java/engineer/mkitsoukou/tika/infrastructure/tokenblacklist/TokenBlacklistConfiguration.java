@@ -0,0 +1,67 @@
+package engineer.mkitsoukou.tika.infrastructure.tokenblacklist;
+
+import engineer.mkitsoukou.tika.infrastructure.time.SystemClockAdapter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * The token black-list, enabled with {@code tika.security.token-blacklist.enabled=true}.
+ * {@link TwoTierTokenBlacklist} is the
+ * {@link engineer.mkitsoukou.tika.application.auth.port.out.TokenBlacklistPort} the
+ * services and the access token validator use, with Redis as the shared tier. Additions
+ * reach the other nodes through Redis pub/sub rather than the domain-event topic: the
+ * store announces them itself, on the connection it already holds.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "tika.security.token-blacklist", name = "enabled",
+    havingValue = "true")
+@EnableConfigurationProperties(TokenBlacklistProperties.class)
+public class TokenBlacklistConfiguration {
+
+  @Bean
+  TokenBlacklistStore tokenBlacklistStore(
+      StringRedisTemplate redis,
+      TokenBlacklistProperties properties
+  ) {
+    return new RedisTokenBlacklistStore(
+        redis, properties.channel(), properties.ttl(), new SystemClockAdapter());
+  }
+
+  @Bean(destroyMethod = "close")
+  TwoTierTokenBlacklist tokenBlacklist(
+      TokenBlacklistStore store,
+      TokenBlacklistProperties properties,
+      ObjectProvider<MeterRegistry> meters
+  ) {
+    TwoTierTokenBlacklist blacklist = new TwoTierTokenBlacklist(
+        store,
+        properties.expectedEntries(),
+        properties.falsePositiveRate(),
+        new SystemClockAdapter(),
+        meters.getIfAvailable(() -> Metrics.globalRegistry));
+    blacklist.start(properties.resyncInterval());
+    return blacklist;
+  }
+
+  @Bean
+  RedisMessageListenerContainer tokenBlacklistListenerContainer(
+      RedisConnectionFactory connections,
+      TwoTierTokenBlacklist blacklist,
+      TokenBlacklistProperties properties
+  ) {
+    RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+    container.setConnectionFactory(connections);
+    container.addMessageListener(new TokenBlacklistAnnouncementListener(blacklist),
+        new ChannelTopic(properties.channel()));
+    return container;
+  }
+}
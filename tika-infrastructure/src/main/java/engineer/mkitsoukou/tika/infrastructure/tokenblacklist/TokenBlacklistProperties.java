@@ -0,0 +1,25 @@
+package engineer.mkitsoukou.tika.infrastructure.tokenblacklist;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for the two-tier token black-list, bound from
+ * {@code tika.security.token-blacklist.*}.
+ *
+ * @param expectedEntries   JTIs black-listed at once the local filter is sized for
+ * @param falsePositiveRate share of lookups of other JTIs allowed to reach Redis
+ * @param ttl               how long Redis keeps a JTI, at least the refresh token lifetime
+ * @param channel           Redis pub/sub channel announcing additions
+ * @param resyncInterval    how often the local filter is rebuilt from Redis
+ */
+@ConfigurationProperties(prefix = "tika.security.token-blacklist")
+public record TokenBlacklistProperties(
+    @DefaultValue("1000000") long expectedEntries,
+    @DefaultValue("0.001") double falsePositiveRate,
+    @DefaultValue("7d") Duration ttl,
+    @DefaultValue("tika.token-blacklist") String channel,
+    @DefaultValue("5m") Duration resyncInterval
+) {
+}
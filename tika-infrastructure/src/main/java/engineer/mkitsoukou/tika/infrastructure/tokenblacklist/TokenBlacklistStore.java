@@ -0,0 +1,32 @@
+package engineer.mkitsoukou.tika.infrastructure.tokenblacklist;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Shared storage of black-listed JTIs.
+ */
+public interface TokenBlacklistStore {
+
+  /**
+   * Stores {@code jti} and announces it to the other nodes.
+   */
+  void add(String jti);
+
+  /**
+   * @return {@code true} if {@code jti} is stored
+   */
+  boolean contains(String jti);
+
+  /**
+   * @return the stored JTIs among {@code jtis}, looked up in one round-trip
+   */
+  Set<String> containedAmong(Collection<String> jtis);
+
+  /**
+   * Passes every stored JTI to {@code action}, including at least every JTI stored
+   * before the call and still stored after it.
+   */
+  void forEach(Consumer<String> action);
+}
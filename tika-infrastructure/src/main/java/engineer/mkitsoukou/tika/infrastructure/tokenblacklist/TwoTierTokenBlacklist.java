@@ -0,0 +1,213 @@
+package engineer.mkitsoukou.tika.infrastructure.tokenblacklist;
+
+import engineer.mkitsoukou.tika.application.auth.port.out.TokenBlacklistPort;
+import engineer.mkitsoukou.tika.application.shared.ClockPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A black-list answered locally when it can be: a {@link BloomFilter} of every
+ * black-listed JTI sits in front of the {@link TokenBlacklistStore}. Nearly every token
+ * checked was never black-listed, and the filter says so without a round-trip; only the
+ * JTIs it might contain, the black-listed ones and a small share of false positives, are
+ * looked up in the store.
+ *
+ * <p>Black-listing writes the store, which announces the JTI, then this node's filter.
+ * Other nodes add announced JTIs through {@link #announced}. Announcements can be lost,
+ * and the filter can neither forget expired JTIs nor grow, so {@link #resync()} rebuilds
+ * it from a scan of the store on a fixed interval: a JTI black-listed elsewhere reaches
+ * this node within one announcement delay, and within one interval at worst. While a
+ * rebuild runs, additions go to both filters, and any JTI stored before the scan starts
+ * is found by it, so the swap loses nothing.</p>
+ *
+ * <p>Metrics: {@code tika.token-blacklist.lookups} tagged {@code result=local-negative} or
+ * {@code remote}, {@code tika.token-blacklist.false-positives} (remote lookups the store
+ * answered no), {@code tika.token-blacklist.false-positive-rate} (false positives among
+ * JTIs not black-listed), {@code tika.token-blacklist.filter.expected-fpp},
+ * {@code tika.token-blacklist.sync.lag} (from an announcement's publication to it reaching
+ * this node) and {@code tika.token-blacklist.resync.age}, in seconds.</p>
+ */
+public class TwoTierTokenBlacklist implements TokenBlacklistPort, AutoCloseable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(TwoTierTokenBlacklist.class);
+
+  private final TokenBlacklistStore store;
+  private final long expectedEntries;
+  private final double falsePositiveRate;
+  private final ClockPort clock;
+  private final Counter localNegatives;
+  private final Counter remoteLookups;
+  private final Counter falsePositives;
+  private final Timer syncLag;
+  private volatile BloomFilter current;
+  private volatile BloomFilter next;
+  private volatile Instant lastResync;
+  private ScheduledExecutorService scheduler;
+
+  /**
+   * @param store             the shared black-list
+   * @param expectedEntries   JTIs black-listed at once the filter is sized for
+   * @param falsePositiveRate share of lookups of other JTIs allowed to reach the store
+   * @param clock             time source for the sync lag
+   * @param meters            registry receiving the black-list metrics
+   */
+  public TwoTierTokenBlacklist(
+      TokenBlacklistStore store,
+      long expectedEntries,
+      double falsePositiveRate,
+      ClockPort clock,
+      MeterRegistry meters
+  ) {
+    this.store = Objects.requireNonNull(store, "store must not be null");
+    this.expectedEntries = expectedEntries;
+    this.falsePositiveRate = falsePositiveRate;
+    this.clock = Objects.requireNonNull(clock, "clock must not be null");
+    this.current = new BloomFilter(expectedEntries, falsePositiveRate);
+    this.lastResync = clock.now();
+    this.localNegatives = Counter.builder("tika.token-blacklist.lookups")
+        .tag("result", "local-negative")
+        .register(meters);
+    this.remoteLookups = Counter.builder("tika.token-blacklist.lookups")
+        .tag("result", "remote")
+        .register(meters);
+    this.falsePositives = Counter.builder("tika.token-blacklist.false-positives")
+        .register(meters);
+    this.syncLag = Timer.builder("tika.token-blacklist.sync.lag")
+        .publishPercentiles(0.5, 0.99)
+        .register(meters);
+    Gauge.builder("tika.token-blacklist.false-positive-rate", this,
+            TwoTierTokenBlacklist::observedFalsePositiveRate)
+        .register(meters);
+    Gauge.builder("tika.token-blacklist.filter.expected-fpp", this,
+            blacklist -> blacklist.current.expectedFalsePositiveRate())
+        .register(meters);
+    Gauge.builder("tika.token-blacklist.resync.age", this,
+            blacklist -> Duration.between(blacklist.lastResync, clock.now()).toSeconds())
+        .baseUnit("seconds")
+        .register(meters);
+  }
+
+  @Override
+  public boolean isBlacklisted(String jti) {
+    if (!current.mightContain(jti)) {
+      localNegatives.increment();
+      return false;
+    }
+    remoteLookups.increment();
+    boolean blacklisted = store.contains(jti);
+    if (!blacklisted) {
+      falsePositives.increment();
+    }
+    return blacklisted;
+  }
+
+  @Override
+  public void blacklist(String jti) {
+    store.add(jti);
+    remember(jti);
+  }
+
+  @Override
+  public Set<String> blacklistedAmong(Collection<String> jtis) {
+    BloomFilter filter = current;
+    List<String> candidates = jtis.stream().filter(filter::mightContain).toList();
+    localNegatives.increment(jtis.size() - candidates.size());
+    if (candidates.isEmpty()) {
+      return Set.of();
+    }
+    remoteLookups.increment(candidates.size());
+    Set<String> blacklisted = store.containedAmong(candidates);
+    falsePositives.increment(candidates.size() - blacklisted.size());
+    return blacklisted;
+  }
+
+  /**
+   * Adds a JTI another node black-listed and stored.
+   *
+   * @param publishedAt when that node announced it
+   */
+  public void announced(String jti, Instant publishedAt) {
+    remember(jti);
+    syncLag.record(Duration.between(publishedAt, clock.now()).toNanos(), TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * Replaces the filter with one built from every JTI in the store.
+   */
+  public synchronized void resync() {
+    BloomFilter rebuilt = new BloomFilter(expectedEntries, falsePositiveRate);
+    next = rebuilt;
+    try {
+      store.forEach(rebuilt::add);
+    } catch (RuntimeException e) {
+      next = null;
+      throw e;
+    }
+    current = rebuilt;
+    next = null;
+    lastResync = clock.now();
+  }
+
+  /**
+   * Loads the filter, then rebuilds it every {@code interval} in the background.
+   *
+   * @throws RuntimeException if the store cannot be scanned, since an empty filter would
+   *                          accept every black-listed token
+   */
+  public synchronized void start(Duration interval) {
+    if (scheduler != null) {
+      return;
+    }
+    resync();
+    scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+      Thread thread = new Thread(r, "token-blacklist-resync");
+      thread.setDaemon(true);
+      return thread;
+    });
+    scheduler.scheduleWithFixedDelay(this::resyncQuietly,
+        interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  public synchronized void close() {
+    if (scheduler != null) {
+      scheduler.shutdownNow();
+      scheduler = null;
+    }
+  }
+
+  private void remember(String jti) {
+    BloomFilter rebuilding = next;
+    if (rebuilding != null) {
+      rebuilding.add(jti);
+    }
+    current.add(jti);
+  }
+
+  private void resyncQuietly() {
+    try {
+      resync();
+    } catch (RuntimeException e) {
+      LOG.warn("Token black-list resync failed, keeping the current filter", e);
+    }
+  }
+
+  private double observedFalsePositiveRate() {
+    double wrong = falsePositives.count();
+    double negatives = localNegatives.count() + wrong;
+    return negatives == 0 ? 0 : wrong / negatives;
+  }
+}
@@ -0,0 +1,43 @@
+package engineer.mkitsoukou.tika.infrastructure.tokenepoch;
+
+import engineer.mkitsoukou.tika.domain.model.valueobject.UserId;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Optional;
+import org.springframework.jdbc.core.JdbcOperations;
+
+/**
+ * Postgres store of token epochs. See {@code db/user-token-epochs.sql} for the table
+ * definition. Advancing is a single upsert that keeps the later of the two cut-offs, so
+ * concurrent revocations need no lock.
+ */
+public class JdbcTokenEpochStore implements TokenEpochStore {
+
+  private static final String SELECT_SQL =
+      "SELECT valid_after FROM user_token_epochs WHERE user_id = ?";
+
+  private static final String UPSERT_SQL = """
+      INSERT INTO user_token_epochs (user_id, valid_after) VALUES (?, ?)
+      ON CONFLICT (user_id) DO UPDATE
+         SET valid_after = GREATEST(user_token_epochs.valid_after, EXCLUDED.valid_after)""";
+
+  private final JdbcOperations jdbc;
+
+  public JdbcTokenEpochStore(JdbcOperations jdbc) {
+    this.jdbc = Objects.requireNonNull(jdbc, "jdbc must not be null");
+  }
+
+  @Override
+  public Optional<Instant> validAfter(UserId userId) {
+    return jdbc.query(SELECT_SQL, (rs, rowNum) -> rs.getTimestamp(1).toInstant(),
+            userId.value())
+        .stream()
+        .findFirst();
+  }
+
+  @Override
+  public void advance(UserId userId, Instant cutoff) {
+    jdbc.update(UPSERT_SQL, userId.value(), Timestamp.from(cutoff));
+  }
+}
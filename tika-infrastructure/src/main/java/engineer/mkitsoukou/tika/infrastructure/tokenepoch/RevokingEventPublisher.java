@@ -0,0 +1,82 @@
+package engineer.mkitsoukou.tika.infrastructure.tokenepoch;
+
+import engineer.mkitsoukou.tika.application.auth.port.out.EventPublisherPort;
+import engineer.mkitsoukou.tika.domain.model.event.DomainEvent;
+import engineer.mkitsoukou.tika.domain.model.event.PasswordChanged;
+import java.util.List;
+import java.util.Objects;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Revokes a user's earlier tokens where their password change is committed: publishing
+ * a {@link PasswordChanged} writes the user's cut-off to the {@link TokenEpochStore}
+ * before the event reaches the wrapped publisher, on the caller's thread and so in the
+ * caller's transaction. The cut-off commits or rolls back with the change, and a failed
+ * write fails the publish.
+ *
+ * <p>This node's copy in {@link TokenEpochs} moves once the transaction commits, or at
+ * once without one. Other nodes follow through {@link TokenEpochEventConsumer} or their
+ * cache expiry.</p>
+ */
+public class RevokingEventPublisher implements EventPublisherPort, AutoCloseable {
+
+  private final EventPublisherPort delegate;
+  private final TokenEpochStore store;
+  private final TokenEpochs epochs;
+
+  /**
+   * @param delegate publisher receiving the events
+   * @param store    durable cut-offs, written in the caller's transaction
+   * @param epochs   this node's copies
+   */
+  public RevokingEventPublisher(
+      EventPublisherPort delegate,
+      TokenEpochStore store,
+      TokenEpochs epochs
+  ) {
+    this.delegate = Objects.requireNonNull(delegate, "delegate must not be null");
+    this.store = Objects.requireNonNull(store, "store must not be null");
+    this.epochs = Objects.requireNonNull(epochs, "epochs must not be null");
+  }
+
+  @Override
+  public void publish(DomainEvent event) {
+    revoke(event);
+    delegate.publish(event);
+  }
+
+  @Override
+  public void publishAll(List<DomainEvent> events) {
+    events.forEach(this::revoke);
+    delegate.publishAll(events);
+  }
+
+  /**
+   * Closes the delegate if it holds resources.
+   */
+  @Override
+  public void close() throws Exception {
+    if (delegate instanceof AutoCloseable closeable) {
+      closeable.close();
+    }
+  }
+
+  private void revoke(DomainEvent event) {
+    if (!(event instanceof PasswordChanged changed)) {
+      return;
+    }
+    store.advance(changed.getUserId(), changed.occurredAt());
+    String userId = changed.getUserId().value().toString();
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          epochs.advance(userId, changed.occurredAt());
+        }
+      });
+    } else {
+      epochs.advance(userId, changed.occurredAt());
+    }
+  }
+}
@@ -0,0 +1,96 @@
+package engineer.mkitsoukou.tika.infrastructure.tokenepoch;
+
+import engineer.mkitsoukou.tika.application.auth.port.out.EventPublisherPort;
+import engineer.mkitsoukou.tika.infrastructure.messaging.DomainEventSerializer;
+import engineer.mkitsoukou.tika.infrastructure.time.SystemClockAdapter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import java.util.Map;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcOperations;
+
+/**
+ * Per-user token epochs, enabled with {@code tika.security.token-epochs.enabled=true};
+ * the table is created by {@code db/user-token-epochs.sql}. {@link TokenEpochs} is the
+ * {@link engineer.mkitsoukou.tika.application.auth.port.out.TokenEpochPort} the access
+ * token validator consults, and every {@link EventPublisherPort} bean is wrapped in a
+ * {@link RevokingEventPublisher} so a password change revokes the user's tokens in its
+ * own transaction. With {@code tika.security.token-epochs.propagation.enabled=true} as
+ * well, revocations made on other nodes reach it through the domain-event topic;
+ * without it, within {@code cache-ttl}.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "tika.security.token-epochs", name = "enabled",
+    havingValue = "true")
+@EnableConfigurationProperties({TokenEpochProperties.class, KafkaProperties.class})
+public class TokenEpochConfiguration {
+
+  @Bean
+  TokenEpochStore tokenEpochStore(JdbcOperations jdbc) {
+    return new JdbcTokenEpochStore(jdbc);
+  }
+
+  @Bean
+  TokenEpochs tokenEpochs(TokenEpochStore store, TokenEpochProperties properties) {
+    return new TokenEpochs(store, properties.cacheSize(), properties.cacheTtl(),
+        new SystemClockAdapter());
+  }
+
+  /**
+   * Wraps each {@link EventPublisherPort} bean in a {@link RevokingEventPublisher}.
+   */
+  @Bean
+  static BeanPostProcessor revokingEventPublisherPostProcessor(
+      ObjectProvider<TokenEpochStore> store,
+      ObjectProvider<TokenEpochs> epochs
+  ) {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof EventPublisherPort publisher
+            && !(bean instanceof RevokingEventPublisher)) {
+          return new RevokingEventPublisher(publisher, store.getObject(), epochs.getObject());
+        }
+        return bean;
+      }
+    };
+  }
+
+  @Bean(destroyMethod = "close")
+  @ConditionalOnProperty(prefix = "tika.security.token-epochs.propagation", name = "enabled",
+      havingValue = "true")
+  TokenEpochEventConsumer tokenEpochEventConsumer(
+      TokenEpochs epochs,
+      TokenEpochProperties properties,
+      KafkaProperties kafka,
+      DomainEventSerializer serializer,
+      ObjectProvider<MeterRegistry> meters
+  ) {
+    Map<String, Object> config = kafka.buildConsumerProperties(null);
+    config.remove(ConsumerConfig.GROUP_ID_CONFIG);
+    config.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+    config.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, properties.maxPollRecords());
+    config.put(ConsumerConfig.FETCH_MAX_WAIT_MS_CONFIG,
+        (int) properties.fetchMaxWait().toMillis());
+    TokenEpochEventConsumer consumer = new TokenEpochEventConsumer(
+        new KafkaConsumer<>(config, new StringDeserializer(), new ByteArrayDeserializer()),
+        properties.topic(),
+        serializer,
+        epochs,
+        properties.pollTimeout(),
+        new SystemClockAdapter(),
+        meters.getIfAvailable(() -> Metrics.globalRegistry));
+    consumer.start();
+    return consumer;
+  }
+}
@@ -0,0 +1,182 @@
+package engineer.mkitsoukou.tika.infrastructure.tokenepoch;
+
+import engineer.mkitsoukou.tika.application.shared.ClockPort;
+import engineer.mkitsoukou.tika.domain.model.event.DomainEvent;
+import engineer.mkitsoukou.tika.domain.model.event.PasswordChanged;
+import engineer.mkitsoukou.tika.domain.model.event.TokensRevoked;
+import engineer.mkitsoukou.tika.infrastructure.messaging.DomainEventSerializer;
+import engineer.mkitsoukou.tika.infrastructure.messaging.EventProducerSettings;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.WakeupException;
+import org.apache.kafka.common.header.Header;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Brings revocations made on any node into this node's {@link TokenEpochs}.
+ *
+ * <p>Like the authorization event consumer, every node reads every partition of the
+ * domain-event topic, assigned manually from the end with no consumer group, and skips
+ * records whose type header is neither {@link PasswordChanged} nor {@link TokensRevoked}
+ * without decoding them. The revoking node has already stored the cut-off, so applying
+ * an event only moves the in-memory copy forward; this node's own events coming back are
+ * no-ops.</p>
+ *
+ * <p>Metrics: {@code tika.token-epochs.events} (events applied) and
+ * {@code tika.token-epochs.propagation.delay}, the time from a revocation to it reaching
+ * this node, during which its tokens are still accepted here.</p>
+ */
+public class TokenEpochEventConsumer implements AutoCloseable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(TokenEpochEventConsumer.class);
+
+  static final Set<String> RELEVANT_TYPES = Set.of("PasswordChanged", "TokensRevoked");
+
+  private final Consumer<String, byte[]> consumer;
+  private final String topic;
+  private final DomainEventSerializer serializer;
+  private final TokenEpochs epochs;
+  private final Duration pollTimeout;
+  private final ClockPort clock;
+  private final Counter applied;
+  private final Timer propagationDelay;
+  private Thread poller;
+  private volatile boolean running;
+
+  /**
+   * @param consumer    consumer owned and closed by this instance
+   * @param topic       domain-event topic
+   * @param serializer  decoder of record values
+   * @param epochs      epochs to keep current
+   * @param pollTimeout longest wait of one poll
+   * @param clock       time source for the propagation delay
+   * @param meters      registry receiving the consumer metrics
+   */
+  public TokenEpochEventConsumer(
+      Consumer<String, byte[]> consumer,
+      String topic,
+      DomainEventSerializer serializer,
+      TokenEpochs epochs,
+      Duration pollTimeout,
+      ClockPort clock,
+      MeterRegistry meters
+  ) {
+    this.consumer = Objects.requireNonNull(consumer, "consumer must not be null");
+    this.topic = Objects.requireNonNull(topic, "topic must not be null");
+    this.serializer = Objects.requireNonNull(serializer, "serializer must not be null");
+    this.epochs = Objects.requireNonNull(epochs, "epochs must not be null");
+    this.pollTimeout = Objects.requireNonNull(pollTimeout, "pollTimeout must not be null");
+    this.clock = Objects.requireNonNull(clock, "clock must not be null");
+    this.applied = Counter.builder("tika.token-epochs.events").register(meters);
+    this.propagationDelay = Timer.builder("tika.token-epochs.propagation.delay")
+        .publishPercentiles(0.5, 0.99)
+        .register(meters);
+  }
+
+  /**
+   * Assigns every partition of the topic, positioned at its end.
+   */
+  public void assign() {
+    List<TopicPartition> partitions = consumer.partitionsFor(topic).stream()
+        .map(info -> new TopicPartition(info.topic(), info.partition()))
+        .toList();
+    consumer.assign(partitions);
+    consumer.seekToEnd(partitions);
+  }
+
+  /**
+   * Assigns the partitions and starts polling on a background thread.
+   */
+  public void start() {
+    assign();
+    running = true;
+    poller = new Thread(this::run, "token-epoch-consumer");
+    poller.setDaemon(true);
+    poller.start();
+  }
+
+  /**
+   * Polls once and applies what arrived.
+   *
+   * @return number of revocations applied
+   */
+  public int pollOnce() {
+    int relevant = 0;
+    for (ConsumerRecord<String, byte[]> consumerRecord : consumer.poll(pollTimeout)) {
+      if (!mayBeRelevant(consumerRecord)) {
+        continue;
+      }
+      DomainEvent event;
+      try {
+        event = serializer.deserialize(consumerRecord.value());
+      } catch (IllegalArgumentException e) {
+        LOG.warn("Skipping undecodable event at {}-{}@{}", consumerRecord.topic(),
+            consumerRecord.partition(), consumerRecord.offset(), e);
+        continue;
+      }
+      if (apply(event)) {
+        relevant++;
+        propagationDelay.record(
+            Duration.between(event.occurredAt(), clock.now()).toNanos(), TimeUnit.NANOSECONDS);
+      }
+    }
+    applied.increment(relevant);
+    return relevant;
+  }
+
+  @Override
+  public void close() {
+    running = false;
+    if (poller != null) {
+      consumer.wakeup();
+      try {
+        poller.join(pollTimeout.toMillis() + TimeUnit.SECONDS.toMillis(5));
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    consumer.close();
+  }
+
+  private boolean apply(DomainEvent event) {
+    switch (event) {
+      case PasswordChanged changed ->
+          epochs.advance(changed.getUserId().value().toString(), changed.occurredAt());
+      case TokensRevoked revoked ->
+          epochs.advance(revoked.getUserId().value().toString(), revoked.occurredAt());
+      default -> {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private void run() {
+    while (running) {
+      try {
+        pollOnce();
+      } catch (WakeupException e) {
+        return;
+      } catch (RuntimeException e) {
+        LOG.error("Token epoch event poll failed", e);
+      }
+    }
+  }
+
+  private static boolean mayBeRelevant(ConsumerRecord<String, byte[]> consumerRecord) {
+    Header type = consumerRecord.headers().lastHeader(EventProducerSettings.EVENT_TYPE_HEADER);
+    return type == null
+        || RELEVANT_TYPES.contains(new String(type.value(), StandardCharsets.UTF_8));
+  }
+}
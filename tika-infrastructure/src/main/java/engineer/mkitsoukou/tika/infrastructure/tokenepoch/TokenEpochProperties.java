@@ -0,0 +1,28 @@
+package engineer.mkitsoukou.tika.infrastructure.tokenepoch;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for per-user token epochs, bound from {@code tika.security.token-epochs.*}.
+ *
+ * @param cacheSize      most users whose cut-off is held in memory
+ * @param cacheTtl       how long a held cut-off is trusted before the store is read
+ *                       again; bounds how late a revocation reaches a node that missed
+ *                       its event
+ * @param topic          domain-event topic carrying revocations from other nodes
+ * @param pollTimeout    longest wait of one poll
+ * @param maxPollRecords most records fetched per poll
+ * @param fetchMaxWait   how long the broker may hold a fetch to fill it
+ */
+@ConfigurationProperties(prefix = "tika.security.token-epochs")
+public record TokenEpochProperties(
+    @DefaultValue("100000") int cacheSize,
+    @DefaultValue("30s") Duration cacheTtl,
+    @DefaultValue("tika.domain-events") String topic,
+    @DefaultValue("500ms") Duration pollTimeout,
+    @DefaultValue("2000") int maxPollRecords,
+    @DefaultValue("100ms") Duration fetchMaxWait
+) {
+}
@@ -0,0 +1,21 @@
+package engineer.mkitsoukou.tika.infrastructure.tokenepoch;
+
+import engineer.mkitsoukou.tika.domain.model.valueobject.UserId;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Storage of per-user token epochs.
+ */
+public interface TokenEpochStore {
+
+  /**
+   * @return the user's cut-off, empty if the user's tokens were never revoked
+   */
+  Optional<Instant> validAfter(UserId userId);
+
+  /**
+   * Moves the user's cut-off to {@code cutoff}, unless it is already later.
+   */
+  void advance(UserId userId, Instant cutoff);
+}
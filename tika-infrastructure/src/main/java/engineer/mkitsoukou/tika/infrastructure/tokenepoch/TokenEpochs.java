@@ -0,0 +1,129 @@
+package engineer.mkitsoukou.tika.infrastructure.tokenepoch;
+
+import engineer.mkitsoukou.tika.application.auth.port.out.TokenEpochPort;
+import engineer.mkitsoukou.tika.application.shared.ClockPort;
+import engineer.mkitsoukou.tika.domain.model.valueobject.UserId;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Token epochs answered from memory: each user's cut-off is read from the
+ * {@link TokenEpochStore} on first use and kept, including the absence of one, so
+ * validation costs a map lookup once a user has been seen.
+ *
+ * <p>Revoking writes the store and this node's copy. Other nodes learn of it through
+ * {@link TokenEpochEventConsumer}, which calls {@link #advance}, and in any case when
+ * their copy is older than {@code cacheTtl} and is read from the store again; that
+ * bounds how long a revocation made elsewhere goes unseen, even with propagation off or
+ * an event lost. Copies only ever move forward, so events applied twice or out of order
+ * leave the later cut-off. A password change is revoked by
+ * {@link RevokingEventPublisher}, in the transaction that publishes it.</p>
+ *
+ * <p>At most {@code maxEntries} users are held. When full, one sixteenth of them, chosen
+ * arbitrarily, is dropped and read again from the store when next needed.</p>
+ */
+public class TokenEpochs implements TokenEpochPort {
+
+  private static final int EVICTION_SLICE = 16;
+
+  private final TokenEpochStore store;
+  private final int maxEntries;
+  private final Duration cacheTtl;
+  private final ClockPort clock;
+  private final Map<String, Cutoff> cutoffs = new ConcurrentHashMap<>();
+  private final AtomicBoolean evicting = new AtomicBoolean();
+
+  /**
+   * @param store      durable cut-offs
+   * @param maxEntries most users held at once
+   * @param cacheTtl   how long a copy is trusted before the store is read again
+   * @param clock      time source for the copies' age
+   */
+  public TokenEpochs(TokenEpochStore store, int maxEntries, Duration cacheTtl, ClockPort clock) {
+    this.store = Objects.requireNonNull(store, "store must not be null");
+    if (maxEntries < 1) {
+      throw new IllegalArgumentException("maxEntries must be positive");
+    }
+    if (cacheTtl.isNegative() || cacheTtl.isZero()) {
+      throw new IllegalArgumentException("cacheTtl must be positive");
+    }
+    this.maxEntries = maxEntries;
+    this.cacheTtl = cacheTtl;
+    this.clock = Objects.requireNonNull(clock, "clock must not be null");
+  }
+
+  @Override
+  public Instant validAfter(String userId) {
+    Cutoff cutoff = cutoffs.get(userId);
+    Instant now = clock.now();
+    if (cutoff != null && now.isBefore(cutoff.readAt().plus(cacheTtl))) {
+      return cutoff.validAfter();
+    }
+    return advance(userId, store.validAfter(UserId.of(userId)).orElse(Instant.EPOCH), now);
+  }
+
+  @Override
+  public void revokeAllBefore(String userId, Instant cutoff) {
+    store.advance(UserId.of(userId), cutoff);
+    advance(userId, cutoff);
+  }
+
+  /**
+   * Moves this node's copy of the user's cut-off forward without touching the store, for
+   * revocations already stored by another node or transaction.
+   *
+   * @return the user's cut-off afterwards
+   */
+  public Instant advance(String userId, Instant cutoff) {
+    Cutoff held = cutoffs.get(userId);
+    if (held != null && !held.validAfter().isBefore(cutoff)) {
+      return held.validAfter();
+    }
+    // a copy that was never read from the store is due for a read straight away
+    return advance(userId, cutoff, held == null ? Instant.MIN : held.readAt());
+  }
+
+  /**
+   * @return number of users currently held
+   */
+  public int size() {
+    return cutoffs.size();
+  }
+
+  private Instant advance(String userId, Instant cutoff, Instant readAt) {
+    if (!cutoffs.containsKey(userId) && cutoffs.size() >= maxEntries) {
+      evict();
+    }
+    return cutoffs.merge(userId, new Cutoff(cutoff, readAt), Cutoff::later).validAfter();
+  }
+
+  private void evict() {
+    if (!evicting.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      int dropped = Math.max(1, maxEntries / EVICTION_SLICE);
+      Iterator<String> users = cutoffs.keySet().iterator();
+      while (dropped-- > 0 && users.hasNext()) {
+        users.next();
+        users.remove();
+      }
+    } finally {
+      evicting.set(false);
+    }
+  }
+
+  private record Cutoff(Instant validAfter, Instant readAt) {
+
+    private Cutoff later(Cutoff other) {
+      return new Cutoff(
+          validAfter.isAfter(other.validAfter) ? validAfter : other.validAfter,
+          readAt.isAfter(other.readAt) ? readAt : other.readAt);
+    }
+  }
+}
@@ -0,0 +1,10 @@
+-- Transactional outbox written by OutboxEventPublisher and drained by OutboxRelay.
+-- Rows are deleted once Kafka acknowledges them, so the table only holds the
+-- undelivered backlog and the primary key is enough to serve the ordered claim.
+CREATE TABLE IF NOT EXISTS event_outbox (
+  id           BIGSERIAL    PRIMARY KEY,
+  aggregate_id VARCHAR(64)  NOT NULL,
+  event_type   VARCHAR(128) NOT NULL,
+  payload      BYTEA        NOT NULL,
+  occurred_at  TIMESTAMPTZ  NOT NULL
+);
@@ -0,0 +1,8 @@
+-- Per-user login bookkeeping written by WriteBehindLoginActivityBuffer.
+-- Kept out of the users table so that coalesced upserts never contend with
+-- aggregate writes (and never bump the user's optimistic-locking version).
+CREATE TABLE IF NOT EXISTS user_login_activity (
+  user_id       UUID        PRIMARY KEY,
+  login_count   BIGINT      NOT NULL,
+  last_login_at TIMESTAMPTZ NOT NULL
+);
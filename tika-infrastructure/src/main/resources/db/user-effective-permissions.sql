@@ -0,0 +1,24 @@
+-- Denormalized authorization state maintained by EffectivePermissionsProjection.
+-- Masks are BYTEA in java.util.BitSet byte order (little-endian), bit i standing
+-- for the permission whose ordinal is i. Ordinals are never reused or renumbered.
+CREATE TABLE IF NOT EXISTS permission_ordinals (
+  permission VARCHAR(100) PRIMARY KEY,
+  ordinal    INT          GENERATED BY DEFAULT AS IDENTITY (MINVALUE 0 START WITH 0) UNIQUE
+);
+
+CREATE TABLE IF NOT EXISTS role_permission_masks (
+  role_id         UUID  PRIMARY KEY,
+  permission_mask BYTEA NOT NULL
+);
+
+-- grant_counts[i + 1] is the number of the user's roles granting ordinal i, so a
+-- permission is only revoked when the last role granting it goes.
+CREATE TABLE IF NOT EXISTS user_effective_permissions (
+  user_id         UUID   PRIMARY KEY,
+  role_ids        UUID[] NOT NULL,
+  grant_counts    INT[]  NOT NULL,
+  permission_mask BYTEA  NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS user_effective_permissions_role_ids
+  ON user_effective_permissions USING GIN (role_ids);
@@ -0,0 +1,7 @@
+-- Per-user token epoch kept by TokenEpochs: every token issued to the user before
+-- valid_after is void. A row is written only when a user's tokens are revoked all at
+-- once (logout everywhere, password change), and valid_after only moves forward.
+CREATE TABLE IF NOT EXISTS user_token_epochs (
+  user_id     UUID        PRIMARY KEY,
+  valid_after TIMESTAMPTZ NOT NULL
+);
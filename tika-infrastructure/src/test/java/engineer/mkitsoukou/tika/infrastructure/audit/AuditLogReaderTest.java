@@ -0,0 +1,108 @@
+package engineer.mkitsoukou.tika.infrastructure.audit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import engineer.mkitsoukou.tika.domain.model.event.DomainEvent;
+import engineer.mkitsoukou.tika.domain.model.event.PasswordChanged;
+import engineer.mkitsoukou.tika.domain.model.valueobject.UserId;
+import engineer.mkitsoukou.tika.infrastructure.messaging.codec.BinaryDomainEventSerializer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class AuditLogReaderTest {
+
+  private static final Instant T0 = Instant.parse("2026-01-01T10:00:00Z");
+
+  @TempDir
+  Path dir;
+
+  private final BinaryDomainEventSerializer codec = new BinaryDomainEventSerializer();
+
+  @Test
+  void emptyDirectoryShouldReturnTheStartingSequence() throws IOException {
+    long next = new AuditLogReader(dir, codec).read(7, (sequence, event) -> { });
+
+    assertThat(next).isEqualTo(7);
+  }
+
+  @Test
+  void readFromSequenceShouldSkipEarlierSegmentsAndRecords() throws IOException {
+    List<DomainEvent> written = write(300);
+    List<Long> sequences = new ArrayList<>();
+    List<DomainEvent> read = new ArrayList<>();
+
+    long next = new AuditLogReader(dir, codec).read(250, (sequence, event) -> {
+      sequences.add(sequence);
+      read.add(event);
+    });
+
+    assertThat(next).isEqualTo(300);
+    assertThat(sequences).first().isEqualTo(250L);
+    assertThat(sequences).last().isEqualTo(299L);
+    assertThat(read).containsExactlyElementsOf(written.subList(250, 300));
+  }
+
+  @Test
+  void returnedSequenceShouldResumeWhereTheLastReadStopped() throws IOException {
+    write(10);
+    AuditLogReader reader = new AuditLogReader(dir, codec);
+    long checkpoint = reader.read((sequence, event) -> { });
+
+    List<Long> again = new ArrayList<>();
+    long next = reader.read(checkpoint, (sequence, event) -> again.add(sequence));
+
+    assertThat(checkpoint).isEqualTo(10);
+    assertThat(again).isEmpty();
+    assertThat(next).isEqualTo(10);
+  }
+
+  @Test
+  void corruptSealedSegmentShouldBeCutShortAndTheScanContinue() throws IOException {
+    List<DomainEvent> written = write(300);
+    Path first = AuditSegment.list(dir).getFirst();
+    Path second = AuditSegment.list(dir).get(1);
+    long firstSize = AuditSegment.baseSequenceOf(second);
+    corruptPayloadOfSecondRecord(first);
+
+    List<Long> sequences = new ArrayList<>();
+    new AuditLogReader(dir, codec).read((sequence, event) -> sequences.add(sequence));
+
+    assertThat(sequences).startsWith(0L).doesNotContain(1L, firstSize - 1);
+    assertThat(sequences).contains(firstSize).endsWith(299L);
+    assertThat(sequences).hasSize(written.size() - (int) firstSize + 1);
+  }
+
+  private List<DomainEvent> write(int count) {
+    List<DomainEvent> events = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      events.add(new PasswordChanged(UserId.generate(), T0.plusSeconds(i)));
+    }
+    try (MappedAuditLog log = new MappedAuditLog(dir, codec,
+        new MappedAuditLog.Settings(4096, Duration.ofDays(1), 64), () -> T0,
+        new SimpleMeterRegistry())) {
+      log.append(events).join();
+    }
+    return events;
+  }
+
+  private static void corruptPayloadOfSecondRecord(Path segment) throws IOException {
+    try (FileChannel channel = FileChannel.open(segment,
+        StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+      int second = AuditSegment.FILE_HEADER_SIZE + AuditSegment.RECORD_HEADER_SIZE
+          + buffer.getInt(AuditSegment.FILE_HEADER_SIZE);
+      int payload = second + AuditSegment.RECORD_HEADER_SIZE;
+      buffer.put(payload + 5, (byte) ~buffer.get(payload + 5));
+    }
+  }
+}
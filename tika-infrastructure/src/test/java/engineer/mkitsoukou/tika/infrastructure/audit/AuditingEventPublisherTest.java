@@ -0,0 +1,126 @@
+package engineer.mkitsoukou.tika.infrastructure.audit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import engineer.mkitsoukou.tika.application.auth.port.out.EventPublisherPort;
+import engineer.mkitsoukou.tika.domain.model.event.DomainEvent;
+import engineer.mkitsoukou.tika.domain.model.event.PasswordChanged;
+import engineer.mkitsoukou.tika.domain.model.valueobject.UserId;
+import engineer.mkitsoukou.tika.infrastructure.messaging.codec.BinaryDomainEventSerializer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class AuditingEventPublisherTest {
+
+  private static final Instant T0 = Instant.parse("2026-01-01T10:00:00Z");
+
+  @TempDir
+  Path dir;
+
+  private final EventPublisherPort delegate = mock(EventPublisherPort.class);
+  private MappedAuditLog auditLog;
+  private AuditingEventPublisher publisher;
+
+  @BeforeEach
+  void setUp() {
+    auditLog = new MappedAuditLog(dir, new BinaryDomainEventSerializer(),
+        new MappedAuditLog.Settings(64 * 1024, Duration.ofDays(1), 64), () -> T0,
+        new SimpleMeterRegistry());
+    publisher = new AuditingEventPublisher(delegate, auditLog, Duration.ofSeconds(5));
+  }
+
+  @AfterEach
+  void tearDown() {
+    auditLog.close();
+  }
+
+  @Test
+  void publishAllShouldDelegateThenAudit() throws IOException {
+    List<DomainEvent> events = List.of(
+        new PasswordChanged(UserId.generate(), T0),
+        new PasswordChanged(UserId.generate(), T0));
+
+    publisher.publishAll(events);
+
+    verify(delegate).publishAll(events);
+    assertThat(audited()).containsExactlyElementsOf(events);
+  }
+
+  @Test
+  void eventsShouldNotBeAuditedWhenTheDelegateFails() throws IOException {
+    DomainEvent event = new PasswordChanged(UserId.generate(), T0);
+    doThrow(new IllegalStateException("kafka down")).when(delegate).publish(event);
+
+    assertThatThrownBy(() -> publisher.publish(event)).hasMessage("kafka down");
+    assertThat(audited()).isEmpty();
+  }
+
+  @Test
+  void eventsShouldBeAuditedOnlyOnceTheirTransactionCommits() throws IOException {
+    DomainEvent committed = new PasswordChanged(UserId.generate(), T0);
+    DomainEvent rolledBack = new PasswordChanged(UserId.generate(), T0);
+
+    inTransaction(() -> publisher.publish(committed), true);
+    inTransaction(() -> publisher.publish(rolledBack), false);
+
+    verify(delegate).publish(rolledBack);
+    assertThat(audited()).containsExactly(committed);
+  }
+
+  @Test
+  void auditFailureShouldNotFailAPublishedCall() {
+    auditLog.close();
+    List<DomainEvent> events = List.of(new PasswordChanged(UserId.generate(), T0));
+
+    publisher.publishAll(events);
+
+    verify(delegate).publishAll(events);
+  }
+
+  @Test
+  void emptyListShouldNotTouchEitherSide() {
+    publisher.publishAll(List.of());
+
+    assertThat(auditLog.nextSequence()).isZero();
+    verify(delegate, never()).publishAll(anyList());
+  }
+
+  private static void inTransaction(Runnable work, boolean commit) {
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      work.run();
+      List<TransactionSynchronization> synchronizations =
+          TransactionSynchronizationManager.getSynchronizations();
+      if (commit) {
+        assertThat(synchronizations).isNotEmpty();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+      }
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  private List<DomainEvent> audited() throws IOException {
+    List<DomainEvent> read = new ArrayList<>();
+    new AuditLogReader(dir, new BinaryDomainEventSerializer())
+        .read((sequence, event) -> read.add(event));
+    return read;
+  }
+}
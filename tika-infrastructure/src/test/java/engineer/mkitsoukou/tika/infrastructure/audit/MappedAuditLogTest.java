@@ -0,0 +1,280 @@
+package engineer.mkitsoukou.tika.infrastructure.audit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import engineer.mkitsoukou.tika.domain.model.event.DomainEvent;
+import engineer.mkitsoukou.tika.domain.model.event.PasswordChanged;
+import engineer.mkitsoukou.tika.domain.model.event.RoleAssigned;
+import engineer.mkitsoukou.tika.domain.model.event.RolesAssigned;
+import engineer.mkitsoukou.tika.domain.model.event.UserRegistered;
+import engineer.mkitsoukou.tika.domain.model.valueobject.Email;
+import engineer.mkitsoukou.tika.domain.model.valueobject.RoleId;
+import engineer.mkitsoukou.tika.domain.model.valueobject.UserId;
+import engineer.mkitsoukou.tika.infrastructure.messaging.codec.BinaryDomainEventSerializer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MappedAuditLogTest {
+
+  private static final Instant T0 = Instant.parse("2026-01-01T10:00:00Z");
+  private static final int SEGMENT_SIZE = 4096;
+
+  @TempDir
+  Path dir;
+
+  private final AtomicReference<Instant> now = new AtomicReference<>(T0);
+  private final DomainEvent poison = new PasswordChanged(UserId.generate(), T0);
+  private final BinaryDomainEventSerializer codec = new BinaryDomainEventSerializer() {
+    @Override
+    public void encode(DomainEvent event, ByteBuffer out) {
+      if (event == poison) {
+        throw new IllegalStateException("cannot encode");
+      }
+      super.encode(event, out);
+    }
+  };
+  private SimpleMeterRegistry meters;
+  private MappedAuditLog log;
+
+  @BeforeEach
+  void setUp() {
+    meters = new SimpleMeterRegistry();
+    log = open();
+  }
+
+  @AfterEach
+  void tearDown() {
+    log.close();
+  }
+
+  @Test
+  void appendShouldCompleteWithTheLastSequenceOnceDurable() {
+    Long first = log.append(events(3)).join();
+    Long second = log.append(events(2)).join();
+
+    assertThat(first).isEqualTo(2);
+    assertThat(second).isEqualTo(4);
+    assertThat(log.nextSequence()).isEqualTo(5);
+  }
+
+  @Test
+  void appendedEventsShouldBeReadBackInOrder() throws IOException {
+    List<DomainEvent> written = events(10);
+    log.append(written).join();
+
+    assertThat(readAll()).containsExactlyElementsOf(written);
+  }
+
+  @Test
+  void concurrentAppendsShouldAllBeCommitted() {
+    List<CompletableFuture<Long>> futures = IntStream.range(0, 200)
+        .mapToObj(i -> CompletableFuture.supplyAsync(() -> log.append(events(1)).join()))
+        .toList();
+    futures.forEach(CompletableFuture::join);
+
+    assertThat(log.nextSequence()).isEqualTo(200);
+    assertThat(meters.summary("tika.audit.commit.size").totalAmount()).isEqualTo(200.0);
+    assertThat(meters.summary("tika.audit.commit.size").count()).isLessThanOrEqualTo(200);
+    assertThat(futures).extracting(CompletableFuture::join).doesNotHaveDuplicates();
+  }
+
+  @Test
+  void fullSegmentShouldRollIntoANewFile() throws IOException {
+    List<DomainEvent> written = events(300);
+    log.append(written).join();
+
+    assertThat(AuditSegment.list(dir)).hasSizeGreaterThan(2);
+    assertThat(readAll()).containsExactlyElementsOf(written);
+  }
+
+  @Test
+  void reopenedLogShouldContinueAfterTheLastRecord() throws IOException {
+    List<DomainEvent> before = events(5);
+    log.append(before).join();
+    log.close();
+
+    log = open();
+    List<DomainEvent> after = events(3);
+    log.append(after).join();
+
+    assertThat(log.nextSequence()).isEqualTo(8);
+    List<DomainEvent> all = new ArrayList<>(before);
+    all.addAll(after);
+    assertThat(readAll()).containsExactlyElementsOf(all);
+  }
+
+  @Test
+  void tornRecordShouldBeDiscardedOnRecovery() throws IOException {
+    List<DomainEvent> written = events(4);
+    log.append(written).join();
+    log.close();
+    corruptLastByteOfRecord(AuditSegment.list(dir).getLast(), written.size());
+
+    log = open();
+
+    assertThat(log.nextSequence()).isEqualTo(3);
+    DomainEvent replacement = new PasswordChanged(UserId.generate(), T0);
+    log.append(List.of(replacement)).join();
+    assertThat(readAll()).containsExactly(
+        written.get(0), written.get(1), written.get(2), replacement);
+  }
+
+  @Test
+  void retentionShouldDeleteOldSealedSegmentsOnly() throws IOException {
+    log.append(events(300)).join();
+    int segments = AuditSegment.list(dir).size();
+    now.set(T0.plus(Duration.ofDays(2)));
+
+    int deleted = log.enforceRetention();
+
+    assertThat(deleted).isEqualTo(segments - 1);
+    assertThat(AuditSegment.list(dir)).hasSize(1);
+    assertThat(meters.counter("tika.audit.segments.deleted").count()).isEqualTo(deleted);
+  }
+
+  @Test
+  void idleWriterShouldEnforceRetention() throws IOException {
+    log.append(events(300)).join();
+    now.set(T0.plus(Duration.ofDays(2)));
+
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (AuditSegment.list(dir).size() > 1 && System.nanoTime() < deadline) {
+      LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+    }
+
+    assertThat(AuditSegment.list(dir)).hasSize(1);
+  }
+
+  @Test
+  void failedAppendShouldLeaveNothingBehind() throws IOException {
+    List<DomainEvent> before = events(2);
+    log.append(before).join();
+    List<DomainEvent> failing = new ArrayList<>(events(3));
+    failing.add(poison);
+
+    assertThat(log.append(failing)).failsWithin(Duration.ofSeconds(5));
+    assertThat(log.nextSequence()).isEqualTo(2);
+    log.close();
+    log = open();
+
+    assertThat(log.nextSequence()).isEqualTo(2);
+    assertThat(readAll()).containsExactlyElementsOf(before);
+  }
+
+  @Test
+  void failedAppendShouldRemoveTheSegmentsItRolledInto() throws IOException {
+    List<DomainEvent> before = events(2);
+    log.append(before).join();
+    List<DomainEvent> failing = new ArrayList<>(events(300));
+    failing.add(poison);
+
+    assertThat(log.append(failing)).failsWithin(Duration.ofSeconds(5));
+    List<DomainEvent> after = events(1);
+    assertThat(log.append(after).join()).isEqualTo(2);
+
+    assertThat(AuditSegment.list(dir)).hasSize(1);
+    List<DomainEvent> all = new ArrayList<>(before);
+    all.addAll(after);
+    assertThat(readAll()).containsExactlyElementsOf(all);
+  }
+
+  @Test
+  void bulkEventsShouldBeSizedByTheirMembers() throws IOException {
+    List<DomainEvent> written = new ArrayList<>(events(2));
+    written.add(new RolesAssigned(UserId.generate(), roleIds(150), T0));
+    log.append(written).join();
+
+    assertThat(readAll()).containsExactlyElementsOf(written);
+  }
+
+  @Test
+  void registrationsShouldBeSizedByTheirEmail() throws IOException {
+    List<DomainEvent> written = new ArrayList<>(events(60));
+    written.add(new UserRegistered(
+        UserId.generate(), new Email("a".repeat(2000) + "@example.com"), T0));
+    log.append(written).join();
+
+    assertThat(readAll()).containsExactlyElementsOf(written);
+  }
+
+  @Test
+  void eventLargerThanASegmentShouldBeRejectedBeforeItIsQueued() {
+    var tooLarge = new RolesAssigned(UserId.generate(), roleIds(300), T0);
+
+    assertThat(log.append(List.of(tooLarge))).isCompletedExceptionally()
+        .failsWithin(Duration.ZERO)
+        .withThrowableOfType(ExecutionException.class)
+        .withCauseInstanceOf(IllegalArgumentException.class);
+    assertThat(log.nextSequence()).isZero();
+  }
+
+  @Test
+  void closedLogShouldRejectAppends() {
+    log.close();
+
+    assertThat(log.append(events(1))).isCompletedExceptionally();
+  }
+
+  private MappedAuditLog open() {
+    return new MappedAuditLog(dir, codec,
+        new MappedAuditLog.Settings(SEGMENT_SIZE, Duration.ofDays(1), 64), now::get, meters);
+  }
+
+  private List<DomainEvent> readAll() throws IOException {
+    List<DomainEvent> read = new ArrayList<>();
+    new AuditLogReader(dir, codec).read((sequence, event) -> read.add(event));
+    return read;
+  }
+
+  private static List<DomainEvent> events(int count) {
+    List<DomainEvent> events = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      events.add(i % 2 == 0
+          ? new PasswordChanged(UserId.generate(), T0.plusSeconds(i))
+          : new RoleAssigned(UserId.generate(), RoleId.generate(), T0.plusSeconds(i)));
+    }
+    return events;
+  }
+
+  private static Set<RoleId> roleIds(int count) {
+    Set<RoleId> roleIds = new HashSet<>();
+    while (roleIds.size() < count) {
+      roleIds.add(RoleId.generate());
+    }
+    return roleIds;
+  }
+
+  /** Flips the last payload byte of the {@code record}-th record (1-based). */
+  private static void corruptLastByteOfRecord(Path segment, int record) throws IOException {
+    try (FileChannel channel = FileChannel.open(segment,
+        StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+      int position = AuditSegment.FILE_HEADER_SIZE;
+      for (int i = 1; i < record; i++) {
+        position += AuditSegment.RECORD_HEADER_SIZE + buffer.getInt(position);
+      }
+      int last = position + AuditSegment.RECORD_HEADER_SIZE + buffer.getInt(position) - 1;
+      buffer.put(last, (byte) ~buffer.get(last));
+    }
+  }
+}
@@ -0,0 +1,192 @@
+package engineer.mkitsoukou.tika.infrastructure.authorization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import engineer.mkitsoukou.tika.domain.model.entity.Role;
+import engineer.mkitsoukou.tika.domain.model.entity.User;
+import engineer.mkitsoukou.tika.domain.model.event.PermissionAdded;
+import engineer.mkitsoukou.tika.domain.model.event.PermissionRemoved;
+import engineer.mkitsoukou.tika.domain.model.event.PermissionsChanged;
+import engineer.mkitsoukou.tika.domain.model.event.RoleAssigned;
+import engineer.mkitsoukou.tika.domain.model.event.RolesAssigned;
+import engineer.mkitsoukou.tika.domain.model.event.RolesRemoved;
+import engineer.mkitsoukou.tika.domain.model.valueobject.Permission;
+import engineer.mkitsoukou.tika.domain.model.valueobject.RoleId;
+import engineer.mkitsoukou.tika.domain.model.valueobject.UserId;
+import engineer.mkitsoukou.tika.domain.repository.RoleRepository;
+import engineer.mkitsoukou.tika.domain.repository.UserRepository;
+import engineer.mkitsoukou.tika.application.shared.ClockPort;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AuthorizationCacheTest {
+
+  private static final Instant T0 = Instant.parse("2026-01-01T10:00:00Z");
+  private static final Permission READ = new Permission("users.read");
+  private static final Permission WRITE = new Permission("users.write");
+
+  private final RoleRepository roles = mock(RoleRepository.class);
+  private final UserRepository users = mock(UserRepository.class);
+  private final RoleId roleId = RoleId.generate();
+  private final UserId userId = UserId.generate();
+  private Instant now = T0;
+  private AuthorizationCache cache;
+
+  @BeforeEach
+  void setUp() {
+    Role role = mock(Role.class);
+    when(role.getRoleId()).thenReturn(roleId);
+    when(role.getPermissions()).thenReturn(Set.of(READ));
+    User user = mock(User.class);
+    when(user.getRoles()).thenReturn(Set.of(role));
+    when(roles.findById(roleId)).thenReturn(Optional.of(role));
+    when(users.findById(userId)).thenReturn(Optional.of(user));
+    cache = new AuthorizationCache(roles, users, 32, Duration.ofMinutes(10), () -> now);
+  }
+
+  @Test
+  void entriesShouldBeLoadedOnceThenServedFromMemory() {
+    cache.effectivePermissions(userId);
+    Set<Permission> permissions = cache.effectivePermissions(userId);
+
+    assertThat(permissions).containsExactly(READ);
+    verify(roles, times(1)).findById(roleId);
+    verify(users, times(1)).findById(userId);
+  }
+
+  @Test
+  void unknownEntriesShouldBeEmptyAndNotCached() {
+    RoleId unknown = RoleId.generate();
+    when(roles.findById(unknown)).thenReturn(Optional.empty());
+
+    assertThat(cache.permissionsOf(unknown)).isEmpty();
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  void updatesShouldChangeCachedEntriesInPlace() {
+    cache.permissionsOf(roleId);
+
+    boolean cached = cache.updateRole(roleId, Set.of(WRITE), Set.of(READ));
+
+    assertThat(cached).isTrue();
+    assertThat(cache.permissionsOf(roleId)).containsExactly(WRITE);
+    verify(roles, times(1)).findById(roleId);
+  }
+
+  @Test
+  void updatesToUncachedEntriesShouldBeIgnored() {
+    assertThat(cache.updateRole(roleId, Set.of(WRITE), Set.of())).isFalse();
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  void appliedEventsShouldUpdateCachedEntries() {
+    RoleId other = RoleId.generate();
+    cache.rolesOf(userId);
+    cache.permissionsOf(roleId);
+
+    cache.apply(new PermissionAdded(roleId, WRITE, T0));
+    cache.apply(new PermissionRemoved(roleId, READ, T0));
+    cache.apply(new RoleAssigned(userId, other, T0));
+
+    assertThat(cache.permissionsOf(roleId)).containsExactly(WRITE);
+    assertThat(cache.rolesOf(userId)).containsExactlyInAnyOrder(roleId, other);
+  }
+
+  @Test
+  void bulkEventsShouldBeAppliedAsOneUpdate() {
+    RoleId other = RoleId.generate();
+    cache.rolesOf(userId);
+    cache.permissionsOf(roleId);
+
+    cache.apply(new PermissionsChanged(roleId, Set.of(WRITE), Set.of(READ), T0));
+    cache.apply(new RolesAssigned(userId, Set.of(other), T0));
+    cache.apply(new RolesRemoved(userId, Set.of(roleId), T0));
+
+    assertThat(cache.permissionsOf(roleId)).containsExactly(WRITE);
+    assertThat(cache.rolesOf(userId)).containsExactly(other);
+  }
+
+  @Test
+  void invalidatedEntriesShouldBeReloaded() {
+    cache.permissionsOf(roleId);
+
+    cache.invalidateRole(roleId);
+    cache.permissionsOf(roleId);
+
+    verify(roles, times(2)).findById(roleId);
+  }
+
+  @Test
+  void expiredEntriesShouldBeReloaded() {
+    cache.permissionsOf(roleId);
+
+    now = T0.plus(Duration.ofMinutes(9));
+    cache.permissionsOf(roleId);
+    verify(roles, times(1)).findById(roleId);
+
+    now = T0.plus(Duration.ofMinutes(10));
+    cache.permissionsOf(roleId);
+    verify(roles, times(2)).findById(roleId);
+  }
+
+  @Test
+  void updatesShouldNotExtendTheLifeOfAnEntry() {
+    cache.permissionsOf(roleId);
+
+    now = T0.plus(Duration.ofMinutes(9));
+    cache.updateRole(roleId, Set.of(WRITE), Set.of());
+    now = T0.plus(Duration.ofMinutes(10));
+    cache.permissionsOf(roleId);
+
+    verify(roles, times(2)).findById(roleId);
+  }
+
+  @Test
+  void cacheShouldNeverHoldMoreThanMaxEntriesPerMap() {
+    Role other = mock(Role.class);
+    when(other.getPermissions()).thenReturn(Set.of(WRITE));
+    when(roles.findById(any())).thenReturn(Optional.of(other));
+
+    for (int i = 0; i < 100; i++) {
+      assertThat(cache.permissionsOf(RoleId.generate())).containsExactly(WRITE);
+    }
+
+    assertThat(cache.size()).isLessThanOrEqualTo(32);
+  }
+
+  @Test
+  void fullCacheShouldSweepExpiredEntriesBeforeDroppingLiveOnes() {
+    Role other = mock(Role.class);
+    when(other.getPermissions()).thenReturn(Set.of(WRITE));
+    when(roles.findById(any())).thenReturn(Optional.of(other));
+    for (int i = 0; i < 32; i++) {
+      cache.permissionsOf(RoleId.generate());
+    }
+
+    now = T0.plus(Duration.ofMinutes(10));
+    cache.permissionsOf(roleId);
+
+    assertThat(cache.size()).isEqualTo(1);
+  }
+
+  @Test
+  void nonPositiveLimitsShouldBeRejected() {
+    ClockPort clock = () -> now;
+    assertThatThrownBy(() -> new AuthorizationCache(roles, users, 0, Duration.ofMinutes(1), clock))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new AuthorizationCache(roles, users, 1, Duration.ZERO, clock))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
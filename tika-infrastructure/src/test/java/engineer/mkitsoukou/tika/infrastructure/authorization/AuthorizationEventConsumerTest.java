@@ -0,0 +1,139 @@
+package engineer.mkitsoukou.tika.infrastructure.authorization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import engineer.mkitsoukou.tika.domain.model.entity.Role;
+import engineer.mkitsoukou.tika.domain.model.event.DomainEvent;
+import engineer.mkitsoukou.tika.domain.model.event.PasswordChanged;
+import engineer.mkitsoukou.tika.domain.model.event.PermissionAdded;
+import engineer.mkitsoukou.tika.domain.model.event.PermissionRemoved;
+import engineer.mkitsoukou.tika.domain.model.event.PermissionsChanged;
+import engineer.mkitsoukou.tika.domain.model.valueobject.Permission;
+import engineer.mkitsoukou.tika.domain.model.valueobject.RoleId;
+import engineer.mkitsoukou.tika.domain.model.valueobject.UserId;
+import engineer.mkitsoukou.tika.domain.repository.RoleRepository;
+import engineer.mkitsoukou.tika.domain.repository.UserRepository;
+import engineer.mkitsoukou.tika.infrastructure.messaging.EventProducerSettings;
+import engineer.mkitsoukou.tika.infrastructure.messaging.JsonDomainEventSerializer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AuthorizationEventConsumerTest {
+
+  private static final String TOPIC = "events";
+  private static final TopicPartition P0 = new TopicPartition(TOPIC, 0);
+  private static final Instant T0 = Instant.parse("2026-01-01T10:00:00Z");
+  private static final Permission READ = new Permission("users.read");
+  private static final Permission WRITE = new Permission("users.write");
+  private static final Permission DELETE = new Permission("users.delete");
+
+  private final JsonDomainEventSerializer serializer = spy(new JsonDomainEventSerializer());
+  private final SimpleMeterRegistry meters = new SimpleMeterRegistry();
+  private final RoleId roleId = RoleId.generate();
+  private MockConsumer<String, byte[]> kafka;
+  private AuthorizationCache cache;
+  private AuthorizationEventConsumer consumer;
+  private long offset;
+
+  @BeforeEach
+  void setUp() {
+    kafka = new MockConsumer<>(OffsetResetStrategy.LATEST);
+    Node node = new Node(0, "localhost", 9092);
+    kafka.updatePartitions(TOPIC,
+        List.of(new PartitionInfo(TOPIC, 0, node, new Node[0], new Node[0])));
+    kafka.updateEndOffsets(Map.of(P0, 0L));
+
+    Role role = mock(Role.class);
+    when(role.getPermissions()).thenReturn(Set.of(READ));
+    RoleRepository roles = mock(RoleRepository.class);
+    when(roles.findById(roleId)).thenReturn(Optional.of(role));
+    cache = new AuthorizationCache(roles, mock(UserRepository.class));
+    cache.permissionsOf(roleId);
+
+    consumer = new AuthorizationEventConsumer(kafka, TOPIC, serializer, cache,
+        Duration.ofMillis(10), () -> T0.plusMillis(250), meters);
+    consumer.assign();
+  }
+
+  @Test
+  void changesWithinOnePollShouldCoalesceIntoOneUpdatePerRole() {
+    send(new PermissionAdded(roleId, WRITE, T0));
+    send(new PermissionAdded(roleId, DELETE, T0));
+    send(new PermissionRemoved(roleId, DELETE, T0));
+    send(new PermissionRemoved(roleId, READ, T0));
+
+    int applied = consumer.pollOnce();
+
+    assertThat(applied).isEqualTo(4);
+    assertThat(cache.permissionsOf(roleId)).containsExactly(WRITE);
+    assertThat(meters.counter("tika.authz.cache.updates").count()).isEqualTo(1.0);
+    assertThat(meters.counter("tika.authz.events").count()).isEqualTo(4.0);
+  }
+
+  @Test
+  void bulkEventsShouldMergeWithSingleEventsInOrder() {
+    send(new PermissionsChanged(roleId, Set.of(WRITE, DELETE), Set.of(READ), T0));
+    send(new PermissionRemoved(roleId, DELETE, T0));
+
+    int applied = consumer.pollOnce();
+
+    assertThat(applied).isEqualTo(2);
+    assertThat(cache.permissionsOf(roleId)).containsExactly(WRITE);
+    assertThat(meters.counter("tika.authz.cache.updates").count()).isEqualTo(1.0);
+  }
+
+  @Test
+  void propagationDelayShouldBeMeasuredFromTheEventTime() {
+    send(new PermissionAdded(roleId, WRITE, T0));
+
+    consumer.pollOnce();
+
+    assertThat(meters.timer("tika.authz.propagation.delay").max(TimeUnit.MILLISECONDS))
+        .isEqualTo(250.0);
+  }
+
+  @Test
+  void unrelatedEventsShouldBeSkippedWithoutDecoding() {
+    send(new PasswordChanged(UserId.generate(), T0));
+    ConsumerRecord<String, byte[]> garbage = new ConsumerRecord<>(TOPIC, 0, offset++, "key",
+        "not an event".getBytes(StandardCharsets.UTF_8));
+    garbage.headers().add(EventProducerSettings.EVENT_TYPE_HEADER,
+        "PasswordChanged".getBytes(StandardCharsets.UTF_8));
+    kafka.addRecord(garbage);
+
+    int applied = consumer.pollOnce();
+
+    assertThat(applied).isZero();
+    verify(serializer, never()).deserialize(any());
+    assertThat(meters.counter("tika.authz.cache.updates").count()).isZero();
+  }
+
+  private void send(DomainEvent event) {
+    ConsumerRecord<String, byte[]> consumerRecord = new ConsumerRecord<>(TOPIC, 0, offset++,
+        event.aggregateId(), serializer.serialize(event));
+    consumerRecord.headers().add(EventProducerSettings.EVENT_TYPE_HEADER,
+        serializer.eventType(event).getBytes(StandardCharsets.UTF_8));
+    kafka.addRecord(consumerRecord);
+  }
+}
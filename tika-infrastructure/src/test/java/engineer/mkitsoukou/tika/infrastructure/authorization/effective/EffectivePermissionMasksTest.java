@@ -0,0 +1,75 @@
+package engineer.mkitsoukou.tika.infrastructure.authorization.effective;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import engineer.mkitsoukou.tika.application.auth.model.PermissionMask;
+import engineer.mkitsoukou.tika.domain.model.valueobject.UserId;
+import java.util.BitSet;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+class EffectivePermissionMasksTest {
+
+  private final EffectivePermissionStore store = mock(EffectivePermissionStore.class);
+  private final EffectivePermissionMasks masks = new EffectivePermissionMasks(store);
+
+  @Test
+  void registryShouldListPermissionsByOrdinal() {
+    when(store.loadOrdinals()).thenReturn(Map.of("user:read", 0, "user:write", 2));
+
+    assertThat(masks.currentRegistry().version()).isEqualTo(3);
+    assertThat(masks.currentRegistry().permissions())
+        .containsExactly("user:read", null, "user:write");
+  }
+
+  @Test
+  void maskShouldCarryTheRegistryVersion() {
+    UserId user = UserId.generate();
+    when(store.loadOrdinals()).thenReturn(Map.of("user:read", 0, "user:write", 1));
+    when(store.permissionMask(user)).thenReturn(Optional.of(bits(1)));
+
+    Optional<PermissionMask> mask = masks.permissionMask(user.value().toString());
+    masks.permissionMask(user.value().toString());
+
+    assertThat(mask).hasValueSatisfying(found -> {
+      assertThat(found.registryVersion()).isEqualTo(2);
+      assertThat(found.grants(1)).isTrue();
+    });
+    verify(store, times(1)).loadOrdinals();
+  }
+
+  @Test
+  void maskBeyondTheKnownRegistryShouldReloadIt() {
+    UserId user = UserId.generate();
+    when(store.loadOrdinals())
+        .thenReturn(Map.of("user:read", 0))
+        .thenReturn(Map.of("user:read", 0, "user:write", 1, "role:read", 2));
+    masks.currentRegistry();
+    when(store.permissionMask(user)).thenReturn(Optional.of(bits(2)));
+
+    assertThat(masks.permissionMask(user.value().toString()))
+        .map(PermissionMask::registryVersion)
+        .hasValue(3);
+  }
+
+  @Test
+  void unprojectedUserShouldHaveNoMask() {
+    when(store.permissionMask(any())).thenReturn(Optional.empty());
+
+    assertThat(masks.permissionMask(UserId.generate().value().toString())).isEmpty();
+  }
+
+  private static BitSet bits(int... ordinals) {
+    BitSet bits = new BitSet();
+    for (int ordinal : ordinals) {
+      bits.set(ordinal);
+    }
+    return bits;
+  }
+}
@@ -0,0 +1,126 @@
+package engineer.mkitsoukou.tika.infrastructure.authorization.effective;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import engineer.mkitsoukou.tika.domain.model.event.DomainEvent;
+import engineer.mkitsoukou.tika.domain.model.event.PasswordChanged;
+import engineer.mkitsoukou.tika.domain.model.event.PermissionAdded;
+import engineer.mkitsoukou.tika.domain.model.event.PermissionRemoved;
+import engineer.mkitsoukou.tika.domain.model.valueobject.Permission;
+import engineer.mkitsoukou.tika.domain.model.valueobject.RoleId;
+import engineer.mkitsoukou.tika.domain.model.valueobject.UserId;
+import engineer.mkitsoukou.tika.infrastructure.messaging.EventProducerSettings;
+import engineer.mkitsoukou.tika.infrastructure.messaging.JsonDomainEventSerializer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class EffectivePermissionsEventConsumerTest {
+
+  private static final String TOPIC = "events";
+  private static final TopicPartition P0 = new TopicPartition(TOPIC, 0);
+  private static final Instant T0 = Instant.parse("2026-01-01T10:00:00Z");
+  private static final Permission READ = new Permission("users.read");
+
+  private final JsonDomainEventSerializer serializer = new JsonDomainEventSerializer();
+  private final SimpleMeterRegistry meters = new SimpleMeterRegistry();
+  private final EffectivePermissionsProjection projection =
+      mock(EffectivePermissionsProjection.class);
+  private final RoleId roleId = RoleId.generate();
+  private MockConsumer<String, byte[]> kafka;
+  private EffectivePermissionsEventConsumer consumer;
+  private long offset;
+
+  @BeforeEach
+  void setUp() {
+    kafka = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+    consumer = new EffectivePermissionsEventConsumer(kafka, TOPIC, serializer, projection,
+        Duration.ofMillis(10), () -> T0.plusMillis(250), meters);
+    consumer.subscribe();
+    kafka.rebalance(List.of(P0));
+    kafka.updateBeginningOffsets(Map.of(P0, 0L));
+  }
+
+  @Test
+  void eventsShouldBeAppliedInOrderThenCommitted() {
+    DomainEvent added = send(new PermissionAdded(roleId, READ, T0));
+    DomainEvent removed = send(new PermissionRemoved(roleId, READ, T0));
+
+    int applied = consumer.pollOnce();
+
+    assertThat(applied).isEqualTo(2);
+    var order = inOrder(projection);
+    order.verify(projection).apply(added);
+    order.verify(projection).apply(removed);
+    assertThat(committed()).isEqualTo(2);
+    assertThat(meters.counter("tika.authz.effective-permissions.events").count())
+        .isEqualTo(2.0);
+  }
+
+  @Test
+  void failedEventShouldBeRetriedRatherThanSkipped() {
+    DomainEvent added = send(new PermissionAdded(roleId, READ, T0));
+    DomainEvent revocation = send(new PermissionRemoved(roleId, READ, T0));
+    doThrow(new IllegalStateException("database unavailable"))
+        .doNothing()
+        .when(projection).apply(revocation);
+
+    assertThatThrownBy(consumer::pollOnce).isInstanceOf(IllegalStateException.class);
+    assertThat(committed()).isEqualTo(1);
+    assertThat(kafka.position(P0)).isEqualTo(1);
+
+    // the broker serves the rewound partition again from the failed offset
+    offset = 1;
+    send(revocation);
+    assertThat(consumer.pollOnce()).isEqualTo(1);
+    verify(projection).apply(added);
+    verify(projection, times(2)).apply(revocation);
+    assertThat(committed()).isEqualTo(2);
+  }
+
+  @Test
+  void unrelatedEventsShouldBeSkippedWithoutDecodingAndStillCommitted() {
+    ConsumerRecord<String, byte[]> garbage = new ConsumerRecord<>(TOPIC, 0, offset++, "key",
+        "not an event".getBytes(StandardCharsets.UTF_8));
+    garbage.headers().add(EventProducerSettings.EVENT_TYPE_HEADER,
+        "PasswordChanged".getBytes(StandardCharsets.UTF_8));
+    kafka.addRecord(garbage);
+    send(new PasswordChanged(UserId.generate(), T0));
+
+    assertThat(consumer.pollOnce()).isZero();
+
+    verify(projection, never()).apply(any());
+    assertThat(committed()).isEqualTo(2);
+  }
+
+  private long committed() {
+    return kafka.committed(Set.of(P0)).get(P0).offset();
+  }
+
+  private DomainEvent send(DomainEvent event) {
+    ConsumerRecord<String, byte[]> consumerRecord = new ConsumerRecord<>(TOPIC, 0, offset++,
+        event.aggregateId(), serializer.serialize(event));
+    consumerRecord.headers().add(EventProducerSettings.EVENT_TYPE_HEADER,
+        serializer.eventType(event).getBytes(StandardCharsets.UTF_8));
+    kafka.addRecord(consumerRecord);
+    return event;
+  }
+}
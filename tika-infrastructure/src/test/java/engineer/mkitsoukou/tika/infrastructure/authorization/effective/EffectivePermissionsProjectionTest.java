@@ -0,0 +1,201 @@
+package engineer.mkitsoukou.tika.infrastructure.authorization.effective;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import engineer.mkitsoukou.tika.domain.model.entity.Role;
+import engineer.mkitsoukou.tika.domain.model.entity.User;
+import engineer.mkitsoukou.tika.domain.model.event.PasswordChanged;
+import engineer.mkitsoukou.tika.domain.model.event.PermissionAdded;
+import engineer.mkitsoukou.tika.domain.model.event.PermissionRemoved;
+import engineer.mkitsoukou.tika.domain.model.event.PermissionsChanged;
+import engineer.mkitsoukou.tika.domain.model.event.RoleAssigned;
+import engineer.mkitsoukou.tika.domain.model.event.RoleRemoved;
+import engineer.mkitsoukou.tika.domain.model.event.RolesAssigned;
+import engineer.mkitsoukou.tika.domain.model.valueobject.Permission;
+import engineer.mkitsoukou.tika.domain.model.valueobject.RoleId;
+import engineer.mkitsoukou.tika.domain.model.valueobject.UserId;
+import engineer.mkitsoukou.tika.domain.repository.RoleRepository;
+import engineer.mkitsoukou.tika.domain.repository.UserRepository;
+import java.time.Instant;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionOperations;
+
+class EffectivePermissionsProjectionTest {
+
+  private static final Instant T0 = Instant.parse("2026-01-01T10:00:00Z");
+  private static final Permission READ = new Permission("users.read");
+  private static final Permission WRITE = new Permission("users.write");
+  private static final Permission AUDIT = new Permission("audit.read");
+
+  private final InMemoryStore store = new InMemoryStore();
+  private final RoleRepository roles = mock(RoleRepository.class);
+  private final UserRepository users = mock(UserRepository.class);
+  private final RoleId editor = RoleId.generate();
+  private final RoleId auditor = RoleId.generate();
+  private final UserId userId = UserId.generate();
+  private EffectivePermissionsProjection projection;
+
+  @BeforeEach
+  void setUp() {
+    Role editorRole = role(editor, READ, WRITE);
+    role(auditor, READ, AUDIT);
+    User user = mock(User.class);
+    when(user.getId()).thenReturn(userId);
+    when(user.getRoles()).thenReturn(Set.of(editorRole));
+    when(users.findById(userId)).thenReturn(Optional.of(user));
+    projection = new EffectivePermissionsProjection(store, new PermissionOrdinals(store),
+        roles, users, TransactionOperations.withoutTransaction());
+  }
+
+  @Test
+  void firstEventOfAUserShouldSeedItFromTheRepositories() {
+    projection.apply(new RoleAssigned(userId, editor, T0));
+
+    assertThat(projection.permissionsOf(userId)).contains(Set.of(READ, WRITE));
+    assertThat(store.users.get(userId).roles()).containsExactly(editor);
+  }
+
+  @Test
+  void rolesShouldBeAddedAndRemovedBySetArithmetic() {
+    projection.apply(new RoleAssigned(userId, editor, T0));
+
+    projection.apply(new RoleAssigned(userId, auditor, T0));
+    assertThat(projection.permissionsOf(userId)).contains(Set.of(READ, WRITE, AUDIT));
+
+    projection.apply(new RoleRemoved(userId, editor, T0));
+    assertThat(projection.permissionsOf(userId)).contains(Set.of(READ, AUDIT));
+  }
+
+  @Test
+  void permissionChangesShouldReachEveryHolderOfTheRole() {
+    UserId other = UserId.generate();
+    store.saveUsers(List.of(UserGrants.empty(other)));
+    projection.apply(new RoleAssigned(userId, editor, T0));
+    projection.apply(new RoleAssigned(other, editor, T0));
+
+    projection.apply(new PermissionAdded(editor, AUDIT, T0));
+    projection.apply(new PermissionRemoved(editor, WRITE, T0));
+
+    assertThat(projection.permissionsOf(userId)).contains(Set.of(READ, AUDIT));
+    assertThat(projection.permissionsOf(other)).contains(Set.of(READ, AUDIT));
+  }
+
+  @Test
+  void permissionGrantedByAnotherRoleShouldSurviveItsRemoval() {
+    projection.apply(new RoleAssigned(userId, editor, T0));
+    projection.apply(new RolesAssigned(userId, Set.of(editor, auditor), T0));
+
+    projection.apply(new PermissionsChanged(editor, Set.of(), Set.of(READ), T0));
+
+    assertThat(projection.permissionsOf(userId)).contains(Set.of(READ, WRITE, AUDIT));
+  }
+
+  @Test
+  void replayedEventsShouldChangeNothing() {
+    projection.apply(new RoleAssigned(userId, editor, T0));
+    projection.apply(new PermissionAdded(editor, AUDIT, T0));
+    BitSet before = projection.permissionMask(userId).orElseThrow();
+    int[] grants = store.users.get(userId).grants();
+
+    projection.apply(new RoleAssigned(userId, editor, T0));
+    projection.apply(new PermissionAdded(editor, AUDIT, T0));
+
+    assertThat(projection.permissionMask(userId)).contains(before);
+    assertThat(store.users.get(userId).grants()).containsExactly(grants);
+  }
+
+  @Test
+  void unseenRoleShouldBeSeededWithoutTouchingUsers() {
+    projection.apply(new PermissionAdded(auditor, WRITE, T0));
+
+    assertThat(store.roles).containsKey(auditor);
+    assertThat(store.users).isEmpty();
+  }
+
+  @Test
+  void unrelatedEventsShouldBeIgnored() {
+    projection.apply(new PasswordChanged(userId, T0));
+
+    assertThat(projection.permissionMask(userId)).isEmpty();
+    verify(users, never()).findById(userId);
+  }
+
+  private Role role(RoleId roleId, Permission... permissions) {
+    Role role = mock(Role.class);
+    when(role.getRoleId()).thenReturn(roleId);
+    when(role.getPermissions()).thenReturn(Set.of(permissions));
+    when(roles.findById(roleId)).thenReturn(Optional.of(role));
+    return role;
+  }
+
+  private static final class InMemoryStore implements EffectivePermissionStore {
+
+    private final Map<String, Integer> ordinals = new HashMap<>();
+    private final Map<RoleId, BitSet> roles = new HashMap<>();
+    private final Map<UserId, UserGrants> users = new HashMap<>();
+
+    @Override
+    public Map<String, Integer> loadOrdinals() {
+      return Map.copyOf(ordinals);
+    }
+
+    @Override
+    public int assignOrdinal(String permission) {
+      return ordinals.computeIfAbsent(permission, p -> ordinals.size());
+    }
+
+    @Override
+    public Optional<BitSet> roleForUpdate(RoleId roleId) {
+      return roleForShare(roleId);
+    }
+
+    @Override
+    public Optional<BitSet> roleForShare(RoleId roleId) {
+      return Optional.ofNullable(roles.get(roleId)).map(mask -> (BitSet) mask.clone());
+    }
+
+    @Override
+    public void saveRole(RoleId roleId, BitSet mask) {
+      roles.put(roleId, (BitSet) mask.clone());
+    }
+
+    @Override
+    public Optional<UserGrants> userForUpdate(UserId userId) {
+      return Optional.ofNullable(users.get(userId)).map(InMemoryStore::copy);
+    }
+
+    @Override
+    public List<UserGrants> usersWithRoleForUpdate(RoleId roleId) {
+      return users.values().stream()
+          .filter(grants -> grants.roles().contains(roleId))
+          .map(InMemoryStore::copy)
+          .toList();
+    }
+
+    @Override
+    public void saveUsers(Collection<UserGrants> grants) {
+      grants.forEach(g -> users.put(g.userId(), copy(g)));
+    }
+
+    @Override
+    public Optional<BitSet> permissionMask(UserId userId) {
+      return Optional.ofNullable(users.get(userId)).map(UserGrants::mask);
+    }
+
+    private static UserGrants copy(UserGrants grants) {
+      return new UserGrants(grants.userId(), grants.roles(), grants.grants());
+    }
+  }
+}
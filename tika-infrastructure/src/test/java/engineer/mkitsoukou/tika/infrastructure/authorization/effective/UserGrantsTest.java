@@ -0,0 +1,69 @@
+package engineer.mkitsoukou.tika.infrastructure.authorization.effective;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import engineer.mkitsoukou.tika.domain.model.valueobject.RoleId;
+import engineer.mkitsoukou.tika.domain.model.valueobject.UserId;
+import java.util.BitSet;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class UserGrantsTest {
+
+  private final UserId userId = UserId.generate();
+  private final RoleId admin = RoleId.generate();
+  private final RoleId auditor = RoleId.generate();
+
+  @Test
+  void permissionShouldStayWhileAnyRoleGrantsIt() {
+    UserGrants grants = UserGrants.empty(userId);
+    grants.assign(admin, mask(0, 1));
+    grants.assign(auditor, mask(1, 5));
+
+    grants.remove(admin, mask(0, 1));
+
+    assertThat(grants.mask()).isEqualTo(mask(1, 5));
+    assertThat(grants.roles()).containsExactly(auditor);
+    assertThat(grants.grants()).containsExactly(0, 1, 0, 0, 0, 1);
+  }
+
+  @Test
+  void assignAndRemoveShouldBeIdempotent() {
+    UserGrants grants = UserGrants.empty(userId);
+
+    assertThat(grants.assign(admin, mask(2))).isTrue();
+    assertThat(grants.assign(admin, mask(2))).isFalse();
+    assertThat(grants.remove(auditor, mask(3))).isFalse();
+    assertThat(grants.grants()).containsExactly(0, 0, 1);
+  }
+
+  @Test
+  void grantsShouldBeTrimmedAfterTheLastEffectiveOrdinal() {
+    UserGrants grants = new UserGrants(userId, Set.of(admin), new int[] {1, 0, 0, 0});
+
+    assertThat(grants.grants()).containsExactly(1);
+    assertThat(grants.mask()).isEqualTo(mask(0));
+  }
+
+  @Test
+  void revokingAnUngrantedOrdinalShouldFail() {
+    UserGrants grants = UserGrants.empty(userId);
+
+    assertThatThrownBy(() -> grants.revoke(4)).isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  void negativeCountsShouldBeRejected() {
+    assertThatThrownBy(() -> new UserGrants(userId, Set.of(), new int[] {0, -1}))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static BitSet mask(int... ordinals) {
+    BitSet mask = new BitSet();
+    for (int ordinal : ordinals) {
+      mask.set(ordinal);
+    }
+    return mask;
+  }
+}
@@ -0,0 +1,164 @@
+package engineer.mkitsoukou.tika.infrastructure.loginactivity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class WriteBehindLoginActivityBufferTest {
+
+  private static final Instant T0 = Instant.parse("2026-01-01T10:00:00Z");
+
+  private final RecordingSink sink = new RecordingSink();
+  private WriteBehindLoginActivityBuffer buffer;
+
+  @AfterEach
+  void tearDown() {
+    if (buffer != null) {
+      buffer.close();
+    }
+  }
+
+  @Test
+  void repeatedLoginsShouldCoalesceIntoOneRow() {
+    buffer = new WriteBehindLoginActivityBuffer(sink, Duration.ofHours(1), 1_000);
+
+    buffer.recordSuccessfulLogin("u1", T0);
+    buffer.recordSuccessfulLogin("u1", T0.plusSeconds(30));
+    buffer.recordSuccessfulLogin("u1", T0.plusSeconds(10));
+    buffer.recordSuccessfulLogin("u2", T0);
+
+    assertThat(buffer.flush()).isEqualTo(2);
+    assertThat(sink.batches).hasSize(1);
+    assertThat(sink.batches.get(0)).containsExactlyInAnyOrder(
+        new LoginActivity("u1", 3, T0.plusSeconds(30)),
+        new LoginActivity("u2", 1, T0));
+    assertThat(buffer.pendingUsers()).isZero();
+  }
+
+  @Test
+  void emptyFlushShouldNotTouchTheSink() {
+    buffer = new WriteBehindLoginActivityBuffer(sink, Duration.ofHours(1), 1_000);
+
+    assertThat(buffer.flush()).isZero();
+    assertThat(sink.batches).isEmpty();
+  }
+
+  @Test
+  void failedFlushShouldKeepEntriesForTheNextAttempt() {
+    buffer = new WriteBehindLoginActivityBuffer(sink, Duration.ofHours(1), 1_000);
+    buffer.recordSuccessfulLogin("u1", T0);
+    sink.failNext = true;
+
+    assertThatThrownBy(buffer::flush).isInstanceOf(IllegalStateException.class);
+    buffer.recordSuccessfulLogin("u1", T0.plusSeconds(5));
+
+    assertThat(buffer.flush()).isEqualTo(1);
+    assertThat(sink.batches.get(0)).containsExactly(new LoginActivity("u1", 2, T0.plusSeconds(5)));
+  }
+
+  @Test
+  void reachingThresholdShouldTriggerAnEarlyFlush() throws InterruptedException {
+    buffer = new WriteBehindLoginActivityBuffer(sink, Duration.ofHours(1), 2);
+
+    buffer.recordSuccessfulLogin("u1", T0);
+    buffer.recordSuccessfulLogin("u2", T0);
+
+    long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+    while (sink.batches.isEmpty() && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+    }
+    assertThat(sink.batches).isNotEmpty();
+  }
+
+  @Test
+  void fullBufferShouldDropAndCountLoginsOfNewUsers() {
+    buffer = new WriteBehindLoginActivityBuffer(sink, Duration.ofHours(1), 1, 2);
+    sink.failing = true;
+
+    buffer.recordSuccessfulLogin("u1", T0);
+    buffer.recordSuccessfulLogin("u2", T0);
+    buffer.recordSuccessfulLogin("u3", T0);
+    buffer.recordSuccessfulLogin("u1", T0.plusSeconds(5));
+
+    assertThat(buffer.pendingUsers()).isLessThanOrEqualTo(2);
+    assertThat(buffer.droppedLogins()).isGreaterThanOrEqualTo(1);
+    sink.failing = false;
+    buffer.flush();
+    long flushed = sink.batches.stream().flatMap(List::stream)
+        .mapToLong(LoginActivity::logins).sum();
+    assertThat(flushed + buffer.droppedLogins()).isEqualTo(4);
+  }
+
+  @Test
+  void entriesBeyondTheCapShouldBeDroppedWhenAFailedBatchIsMergedBack() {
+    buffer = new WriteBehindLoginActivityBuffer(sink, Duration.ofHours(1), 2, 2);
+    buffer.recordSuccessfulLogin("u1", T0);
+    sink.failNext = true;
+    // u3 and u4 arrive while the batch holding u1 is failing
+    sink.duringUpsert = () -> {
+      buffer.recordSuccessfulLogin("u3", T0);
+      buffer.recordSuccessfulLogin("u4", T0);
+    };
+
+    assertThatThrownBy(buffer::flush).isInstanceOf(IllegalStateException.class);
+    sink.duringUpsert = () -> { };
+
+    assertThat(buffer.pendingUsers()).isEqualTo(2);
+    assertThat(buffer.droppedLogins()).isEqualTo(1);
+  }
+
+  @Test
+  void failedFlushShouldHoldBackThresholdFlushes() throws InterruptedException {
+    buffer = new WriteBehindLoginActivityBuffer(sink, Duration.ofHours(1), 2);
+    buffer.recordSuccessfulLogin("u1", T0);
+    sink.failing = true;
+    assertThatThrownBy(buffer::flush).isInstanceOf(IllegalStateException.class);
+
+    buffer.recordSuccessfulLogin("u2", T0);
+    buffer.recordSuccessfulLogin("u3", T0);
+    Thread.sleep(200);
+
+    assertThat(sink.attempts).hasValue(1);
+    sink.failing = false;
+    assertThat(buffer.flush()).isEqualTo(3);
+  }
+
+  @Test
+  void closeShouldFlushRemainingEntries() {
+    buffer = new WriteBehindLoginActivityBuffer(sink, Duration.ofHours(1), 1_000);
+    buffer.recordSuccessfulLogin("u1", T0);
+
+    buffer.close();
+    buffer = null;
+
+    assertThat(sink.batches).hasSize(1);
+  }
+
+  private static final class RecordingSink implements LoginActivitySink {
+    private final List<List<LoginActivity>> batches = new CopyOnWriteArrayList<>();
+    private final AtomicInteger attempts = new AtomicInteger();
+    private volatile boolean failNext;
+    private volatile boolean failing;
+    private volatile Runnable duringUpsert = () -> { };
+
+    @Override
+    public void upsertAll(Collection<LoginActivity> activities) {
+      attempts.incrementAndGet();
+      duringUpsert.run();
+      if (failing || failNext) {
+        failNext = false;
+        throw new IllegalStateException("database unavailable");
+      }
+      batches.add(new ArrayList<>(activities));
+    }
+  }
+}
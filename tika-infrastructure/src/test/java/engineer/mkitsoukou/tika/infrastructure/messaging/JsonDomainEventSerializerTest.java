@@ -0,0 +1,78 @@
+package engineer.mkitsoukou.tika.infrastructure.messaging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import engineer.mkitsoukou.tika.domain.model.event.DomainEvent;
+import engineer.mkitsoukou.tika.domain.model.event.PasswordChanged;
+import engineer.mkitsoukou.tika.domain.model.event.PermissionAdded;
+import engineer.mkitsoukou.tika.domain.model.event.PermissionRemoved;
+import engineer.mkitsoukou.tika.domain.model.event.PermissionsChanged;
+import engineer.mkitsoukou.tika.domain.model.event.RoleAssigned;
+import engineer.mkitsoukou.tika.domain.model.event.RoleRemoved;
+import engineer.mkitsoukou.tika.domain.model.event.RolesAssigned;
+import engineer.mkitsoukou.tika.domain.model.event.RolesRemoved;
+import engineer.mkitsoukou.tika.domain.model.event.TokensRevoked;
+import engineer.mkitsoukou.tika.domain.model.event.UserActivationChanged;
+import engineer.mkitsoukou.tika.domain.model.event.UserRegistered;
+import engineer.mkitsoukou.tika.domain.model.valueobject.Email;
+import engineer.mkitsoukou.tika.domain.model.valueobject.Permission;
+import engineer.mkitsoukou.tika.domain.model.valueobject.RoleId;
+import engineer.mkitsoukou.tika.domain.model.valueobject.UserId;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class JsonDomainEventSerializerTest {
+
+  private static final Instant AT = Instant.parse("2026-03-01T08:15:30.123456789Z");
+  private static final UserId USER = UserId.generate();
+  private static final RoleId ROLE = RoleId.generate();
+
+  private final JsonDomainEventSerializer serializer = new JsonDomainEventSerializer();
+
+  static Stream<DomainEvent> everyEventType() {
+    return Stream.of(
+        new UserRegistered(USER, new Email("alice@example.com"), AT),
+        new UserActivationChanged(USER, false, AT),
+        new PasswordChanged(USER, AT),
+        new RoleAssigned(USER, ROLE, AT),
+        new RoleRemoved(USER, ROLE, AT),
+        new PermissionAdded(ROLE, new Permission("users.write"), AT),
+        new PermissionRemoved(ROLE, new Permission("users.write"), AT),
+        new RolesAssigned(USER, Set.of(ROLE, RoleId.generate()), AT),
+        new RolesRemoved(USER, Set.of(ROLE), AT),
+        new PermissionsChanged(ROLE, Set.of(new Permission("users.read")),
+            Set.of(new Permission("users.write")), AT),
+        new TokensRevoked(USER, AT));
+  }
+
+  @ParameterizedTest
+  @MethodSource("everyEventType")
+  void deserializeShouldReverseSerialize(DomainEvent event) {
+    DomainEvent decoded = serializer.deserialize(serializer.serialize(event));
+
+    assertThat(decoded).isEqualTo(event).hasSameClassAs(event);
+    assertThat(decoded.occurredAt()).isEqualTo(AT);
+  }
+
+  @Test
+  void unknownTypeShouldBeRejected() {
+    byte[] json = ("{\"type\":\"Teleported\",\"aggregateId\":\"" + USER.value()
+        + "\",\"occurredAt\":\"2026-03-01T08:15:30Z\"}").getBytes(StandardCharsets.UTF_8);
+
+    assertThatThrownBy(() -> serializer.deserialize(json))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("Teleported");
+  }
+
+  @Test
+  void malformedJsonShouldBeRejected() {
+    assertThatThrownBy(() -> serializer.deserialize("{".getBytes(StandardCharsets.UTF_8)))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,107 @@
+package engineer.mkitsoukou.tika.infrastructure.messaging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import engineer.mkitsoukou.tika.domain.model.event.DomainEvent;
+import engineer.mkitsoukou.tika.domain.model.event.PasswordChanged;
+import engineer.mkitsoukou.tika.domain.model.event.RoleAssigned;
+import engineer.mkitsoukou.tika.domain.model.valueobject.RoleId;
+import engineer.mkitsoukou.tika.domain.model.valueobject.UserId;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.kafka.core.KafkaOperations;
+
+class KafkaEventPublisherTest {
+
+  private static final Instant T0 = Instant.parse("2026-01-01T10:00:00Z");
+
+  private KafkaOperations<String, byte[]> kafka;
+  private List<ProducerRecord<String, byte[]>> sent;
+  private KafkaEventPublisher publisher;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    kafka = mock(KafkaOperations.class);
+    sent = new ArrayList<>();
+    when(kafka.send(any(ProducerRecord.class))).thenAnswer(inv -> {
+      sent.add(inv.getArgument(0));
+      return CompletableFuture.completedFuture(null);
+    });
+    publisher = new KafkaEventPublisher(
+        kafka, "events", new JsonDomainEventSerializer(), Duration.ofSeconds(1));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void publishAllShouldEnqueueEverythingThenFlushOnce() {
+    UserId alice = UserId.generate();
+    UserId bob = UserId.generate();
+    List<DomainEvent> events = List.of(
+        new RoleAssigned(alice, RoleId.generate(), T0),
+        new PasswordChanged(bob, T0),
+        new PasswordChanged(alice, T0));
+
+    publisher.publishAll(events);
+
+    assertThat(sent).extracting(ProducerRecord::key).containsExactly(
+        alice.value().toString(), bob.value().toString(), alice.value().toString());
+    InOrder order = inOrder(kafka);
+    order.verify(kafka, times(3)).send(any(ProducerRecord.class));
+    order.verify(kafka).flush();
+  }
+
+  @Test
+  void recordsShouldCarryTheEventType() {
+    publisher.publish(new PasswordChanged(UserId.generate(), T0));
+
+    assertThat(new String(sent.get(0).headers()
+        .lastHeader(EventProducerSettings.EVENT_TYPE_HEADER).value()))
+        .isEqualTo("PasswordChanged");
+  }
+
+  @Test
+  void emptyListShouldNotTouchKafka() {
+    publisher.publishAll(List.of());
+
+    verify(kafka, times(0)).flush();
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void unacknowledgedSendShouldFailThePublish() {
+    when(kafka.send(any(ProducerRecord.class)))
+        .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+
+    assertThatThrownBy(() -> publisher.publish(new PasswordChanged(UserId.generate(), T0)))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("not acknowledged");
+  }
+
+  @Test
+  void tunedSettingsShouldKeepExplicitConfiguration() {
+    Map<String, Object> tuned = EventProducerSettings.tuned(
+        Map.of(ProducerConfig.LINGER_MS_CONFIG, 50));
+
+    assertThat(tuned)
+        .containsEntry(ProducerConfig.LINGER_MS_CONFIG, 50)
+        .containsEntry(ProducerConfig.COMPRESSION_TYPE_CONFIG, "lz4")
+        .containsEntry(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+  }
+}
@@ -0,0 +1,218 @@
+package engineer.mkitsoukou.tika.infrastructure.messaging.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import engineer.mkitsoukou.tika.domain.model.event.PasswordChanged;
+import engineer.mkitsoukou.tika.domain.model.valueobject.UserId;
+import engineer.mkitsoukou.tika.infrastructure.messaging.JsonDomainEventSerializer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import org.apache.kafka.clients.producer.Callback;
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class AsyncKafkaEventPublisherTest {
+
+  private static final Instant T0 = Instant.parse("2026-01-01T10:00:00Z");
+
+  @TempDir
+  Path spillDir;
+
+  private GatedProducer producer;
+  private SimpleMeterRegistry meters;
+  private RecordingCallback callback;
+  private AsyncKafkaEventPublisher publisher;
+
+  @BeforeEach
+  void setUp() {
+    producer = new GatedProducer();
+    meters = new SimpleMeterRegistry();
+    callback = new RecordingCallback();
+  }
+
+  @AfterEach
+  void tearDown() {
+    producer.gate.countDown();
+    if (publisher != null) {
+      publisher.close();
+    }
+  }
+
+  @Test
+  void publishShouldReturnBeforeTheBrokerAcknowledges() {
+    producer.gate.countDown();
+    publisher = publisher(OverflowPolicy.DROP, 16);
+    UserId user = UserId.generate();
+
+    publisher.publish(new PasswordChanged(user, T0));
+
+    await(() -> producer.history().size() == 1);
+    assertThat(publisher.inFlight()).isEqualTo(1);
+    assertThat(callback.acknowledged).isEmpty();
+
+    producer.completeNext();
+
+    assertThat(callback.acknowledged).containsExactly(user.value().toString());
+    assertThat(publisher.inFlight()).isZero();
+    assertThat(meters.counter("tika.events.produced").count()).isEqualTo(1.0);
+    assertThat(meters.summary("tika.events.batch.size").count()).isEqualTo(1);
+  }
+
+  @Test
+  void brokerFailureShouldBeReportedThroughTheCallback() {
+    producer.gate.countDown();
+    publisher = publisher(OverflowPolicy.DROP, 16);
+
+    publisher.publish(new PasswordChanged(UserId.generate(), T0));
+    await(() -> producer.history().size() == 1);
+    producer.errorNext(new RuntimeException("broker down"));
+
+    assertThat(callback.failed).hasSize(1);
+    assertThat(meters.counter("tika.events.failed").count()).isEqualTo(1.0);
+  }
+
+  @Test
+  void dropPolicyShouldCountOverflow() {
+    publisher = publisher(OverflowPolicy.DROP, 1);
+    publishStalled(3);
+
+    assertThat(meters.counter("tika.events.dropped").count()).isEqualTo(1.0);
+    assertThat(callback.dropped).hasSize(1);
+    assertThat(publisher.buffered()).isEqualTo(1);
+  }
+
+  @Test
+  void blockPolicyShouldWaitThenDrop() {
+    publisher = publisher(OverflowPolicy.BLOCK, 1);
+    long start = System.nanoTime();
+    publishStalled(3);
+
+    assertThat(Duration.ofNanos(System.nanoTime() - start))
+        .isGreaterThanOrEqualTo(Duration.ofMillis(20));
+    assertThat(meters.counter("tika.events.dropped").count()).isEqualTo(1.0);
+  }
+
+  @Test
+  void spillPolicyShouldKeepEveryEventInOrder() {
+    publisher = publisher(OverflowPolicy.SPILL, 1);
+    List<String> keys = publishStalled(5);
+
+    assertThat(meters.counter("tika.events.spilled").count()).isEqualTo(3.0);
+    producer.gate.countDown();
+
+    await(() -> producer.history().size() == 5);
+    assertThat(producer.history()).extracting(ProducerRecord::key).containsExactlyElementsOf(keys);
+    assertThat(meters.counter("tika.events.dropped").count()).isZero();
+  }
+
+  @Test
+  void closeShouldSendWhatIsBuffered() {
+    producer.gate.countDown();
+    publisher = publisher(OverflowPolicy.DROP, 16);
+    for (int i = 0; i < 10; i++) {
+      publisher.publish(new PasswordChanged(UserId.generate(), T0));
+    }
+
+    publisher.close();
+    publisher = null;
+
+    assertThat(producer.history()).hasSize(10);
+  }
+
+  /**
+   * Publishes {@code count} events while the sender is stuck inside its first send, so
+   * that the buffer fills up deterministically.
+   */
+  private List<String> publishStalled(int count) {
+    List<String> keys = new CopyOnWriteArrayList<>();
+    UserId first = UserId.generate();
+    keys.add(first.value().toString());
+    publisher.publish(new PasswordChanged(first, T0));
+    await(() -> producer.entered.getCount() == 0);
+    for (int i = 1; i < count; i++) {
+      UserId user = UserId.generate();
+      keys.add(user.value().toString());
+      publisher.publish(new PasswordChanged(user, T0));
+    }
+    return keys;
+  }
+
+  private AsyncKafkaEventPublisher publisher(OverflowPolicy policy, int capacity) {
+    return new AsyncKafkaEventPublisher(
+        producer,
+        "events",
+        new JsonDomainEventSerializer(),
+        new AsyncKafkaEventPublisher.Settings(
+            capacity, 8, policy, Duration.ofMillis(20), spillDir),
+        callback,
+        meters);
+  }
+
+  private static void await(BooleanSupplier condition) {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (!condition.getAsBoolean()) {
+      if (System.nanoTime() > deadline) {
+        throw new AssertionError("condition not met within 5s");
+      }
+      Thread.onSpinWait();
+    }
+  }
+
+  /** Mock producer whose first send blocks until {@link #gate} opens. */
+  private static final class GatedProducer extends MockProducer<String, byte[]> {
+    private final CountDownLatch gate = new CountDownLatch(1);
+    private final CountDownLatch entered = new CountDownLatch(1);
+
+    GatedProducer() {
+      super(false, new StringSerializer(), new ByteArraySerializer());
+    }
+
+    @Override
+    public Future<RecordMetadata> send(
+        ProducerRecord<String, byte[]> producerRecord, Callback callback) {
+      entered.countDown();
+      try {
+        gate.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return super.send(producerRecord, callback);
+    }
+  }
+
+  private static final class RecordingCallback implements PublishCallback {
+    private final List<String> acknowledged = new CopyOnWriteArrayList<>();
+    private final List<String> failed = new CopyOnWriteArrayList<>();
+    private final List<String> dropped = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void onAcknowledged(EncodedEvent event, RecordMetadata metadata) {
+      acknowledged.add(event.key());
+    }
+
+    @Override
+    public void onFailed(EncodedEvent event, Exception error) {
+      failed.add(event.key());
+    }
+
+    @Override
+    public void onDropped(EncodedEvent event) {
+      dropped.add(event.key());
+    }
+  }
+}
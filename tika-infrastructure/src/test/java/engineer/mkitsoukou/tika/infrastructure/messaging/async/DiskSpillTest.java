@@ -0,0 +1,123 @@
+package engineer.mkitsoukou.tika.infrastructure.messaging.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class DiskSpillTest {
+
+  private static final Instant T0 = Instant.parse("2026-01-01T10:00:00Z");
+
+  @TempDir
+  Path dir;
+
+  @Test
+  void emptyDirectoryShouldHaveNothingPending() throws IOException {
+    DiskSpill spill = new DiskSpill(dir);
+
+    assertThat(spill.hasPending()).isFalse();
+    assertThat(spill.rotate()).isEmpty();
+  }
+
+  @Test
+  void rotateShouldReplayFilesInSpillOrder() throws IOException {
+    DiskSpill spill = new DiskSpill(dir);
+    spill.append(event("a"));
+    spill.append(event("b"));
+    Path first = spill.rotate().orElseThrow();
+    spill.append(event("c"));
+
+    assertThat(replay(first)).containsExactly("a", "b");
+    assertThat(replay(spill.rotate().orElseThrow())).containsExactly("c");
+    assertThat(spill.rotate()).isEmpty();
+  }
+
+  @Test
+  void filesFromAnEarlierRunShouldBePickedUp() throws IOException {
+    DiskSpill previous = new DiskSpill(dir);
+    previous.append(event("a"));
+    previous.close();
+
+    DiskSpill restarted = new DiskSpill(dir);
+    restarted.append(event("b"));
+
+    assertThat(restarted.hasPending()).isTrue();
+    assertThat(replay(restarted.rotate().orElseThrow())).containsExactly("a");
+    assertThat(replay(restarted.rotate().orElseThrow())).containsExactly("b");
+  }
+
+  @Test
+  void truncatedTrailingRecordShouldBeSkipped() throws IOException {
+    DiskSpill spill = new DiskSpill(dir);
+    spill.append(event("a"));
+    Path file = spill.rotate().orElseThrow();
+    Files.write(file, new byte[] {0, 5, 'x'}, StandardOpenOption.APPEND);
+
+    assertThat(replay(file)).containsExactly("a");
+    assertThat(file).doesNotExist();
+  }
+
+  @Test
+  void appendedEventsShouldReachTheFileBeforeItIsSealed() throws IOException {
+    DiskSpill spill = new DiskSpill(dir);
+
+    spill.append(event("a"));
+
+    try (var files = Files.list(dir)) {
+      assertThat(files.findFirst().orElseThrow()).isNotEmptyFile();
+    }
+  }
+
+  @Test
+  void corruptFileShouldBeQuarantinedAfterItsReadablePrefix() throws IOException {
+    DiskSpill spill = new DiskSpill(dir);
+    spill.append(event("a"));
+    Path file = spill.rotate().orElseThrow();
+    // a whole record whose payload length is negative
+    Files.write(file, new byte[] {0, 1, 'b', 0, 1, 't', 0, 0, 0, 0, 0, 0, 0, 0, -1, -1, -1, -1},
+        StandardOpenOption.APPEND);
+    List<String> keys = new ArrayList<>();
+
+    assertThatThrownBy(() -> DiskSpill.replay(file, e -> keys.add(e.key())))
+        .isInstanceOf(IOException.class);
+
+    assertThat(keys).containsExactly("a");
+    assertThat(file).doesNotExist();
+    assertThat(file.resolveSibling(file.getFileName() + ".corrupt")).exists();
+    assertThat(spill.rotate()).isEmpty();
+  }
+
+  @Test
+  void quarantinedFilesShouldNotBeReusedAfterARestart() throws IOException {
+    DiskSpill previous = new DiskSpill(dir);
+    previous.append(event("a"));
+    Path file = previous.rotate().orElseThrow();
+    Files.write(file, new byte[] {0, 1, (byte) 0xC0, 0, 0}, StandardOpenOption.APPEND);
+    assertThatThrownBy(() -> replay(file)).isInstanceOf(IOException.class);
+
+    DiskSpill restarted = new DiskSpill(dir);
+    restarted.append(event("b"));
+
+    assertThat(replay(restarted.rotate().orElseThrow())).containsExactly("b");
+    assertThat(file.resolveSibling(file.getFileName() + ".corrupt")).exists();
+  }
+
+  private static List<String> replay(Path file) throws IOException {
+    List<String> keys = new ArrayList<>();
+    DiskSpill.replay(file, e -> keys.add(e.key()));
+    return keys;
+  }
+
+  private static EncodedEvent event(String key) {
+    return new EncodedEvent(key, "PasswordChanged", new byte[] {1, 2, 3}, T0);
+  }
+}
@@ -0,0 +1,303 @@
+package engineer.mkitsoukou.tika.infrastructure.messaging.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import engineer.mkitsoukou.tika.domain.model.event.DomainEvent;
+import engineer.mkitsoukou.tika.domain.model.event.PasswordChanged;
+import engineer.mkitsoukou.tika.domain.model.event.PermissionAdded;
+import engineer.mkitsoukou.tika.domain.model.event.PermissionRemoved;
+import engineer.mkitsoukou.tika.domain.model.event.PermissionsChanged;
+import engineer.mkitsoukou.tika.domain.model.event.RoleAssigned;
+import engineer.mkitsoukou.tika.domain.model.event.RoleRemoved;
+import engineer.mkitsoukou.tika.domain.model.event.RolesAssigned;
+import engineer.mkitsoukou.tika.domain.model.event.RolesRemoved;
+import engineer.mkitsoukou.tika.domain.model.event.TokensRevoked;
+import engineer.mkitsoukou.tika.domain.model.event.UserActivationChanged;
+import engineer.mkitsoukou.tika.domain.model.event.UserRegistered;
+import engineer.mkitsoukou.tika.domain.model.valueobject.Email;
+import engineer.mkitsoukou.tika.domain.model.valueobject.Permission;
+import engineer.mkitsoukou.tika.domain.model.valueobject.RoleId;
+import engineer.mkitsoukou.tika.domain.model.valueobject.UserId;
+import engineer.mkitsoukou.tika.infrastructure.messaging.JsonDomainEventSerializer;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class BinaryDomainEventSerializerTest {
+
+  private static final Instant AT = Instant.parse("2026-03-01T08:15:30.123456Z");
+  private static final UserId USER = UserId.generate();
+  private static final RoleId ROLE = RoleId.generate();
+  private static final RoleId OTHER_ROLE = RoleId.generate();
+
+  private static final PermissionDictionary DICTIONARY =
+      new PermissionDictionary(3, List.of("users.read", "users.write", "roles.manage"));
+
+  private final BinaryDomainEventSerializer codec =
+      new BinaryDomainEventSerializer(DICTIONARY, new ByteBufferPool(1024, 4));
+
+  static Stream<DomainEvent> everyEventType() {
+    return Stream.of(
+        new UserRegistered(USER, new Email("alice@example.com"), AT),
+        new UserActivationChanged(USER, true, AT),
+        new UserActivationChanged(USER, false, AT),
+        new PasswordChanged(USER, AT),
+        new RoleAssigned(USER, ROLE, AT),
+        new RoleRemoved(USER, ROLE, AT),
+        new PermissionAdded(ROLE, new Permission("users.write"), AT),
+        new PermissionRemoved(ROLE, new Permission("reports.export"), AT),
+        new RolesAssigned(USER, Set.of(ROLE, OTHER_ROLE), AT),
+        new RolesRemoved(USER, Set.of(ROLE), AT),
+        new PermissionsChanged(ROLE, Set.of(new Permission("users.read"),
+            new Permission("reports.export")), Set.of(new Permission("users.write")), AT),
+        new TokensRevoked(USER, AT));
+  }
+
+  @Nested
+  class RoundTrip {
+
+    @ParameterizedTest
+    @MethodSource("engineer.mkitsoukou.tika.infrastructure.messaging.codec.BinaryDomainEventSerializerTest#everyEventType")
+    void decodedEventShouldEqualTheOriginal(DomainEvent event) {
+      DomainEvent decoded = codec.deserialize(codec.serialize(event));
+
+      assertThat(decoded).isEqualTo(event).hasSameClassAs(event);
+      assertThat(decoded.occurredAt()).isEqualTo(event.occurredAt());
+      assertThat(decoded.aggregateId()).isEqualTo(event.aggregateId());
+    }
+
+    @ParameterizedTest
+    @MethodSource("engineer.mkitsoukou.tika.infrastructure.messaging.codec.BinaryDomainEventSerializerTest#everyEventType")
+    void binaryShouldBeSmallerThanJson(DomainEvent event) {
+      int json = new JsonDomainEventSerializer().serialize(event).length;
+
+      assertThat(codec.serialize(event).length).isLessThan(json / 2);
+    }
+
+    @Test
+    void consecutiveEventsShouldDecodeFromOneBuffer() {
+      ByteBuffer buffer = ByteBuffer.allocate(4096);
+      everyEventType().forEach(e -> codec.encode(e, buffer));
+      buffer.flip();
+
+      List<DomainEvent> decoded = everyEventType().map(e -> codec.decode(buffer)).toList();
+
+      assertThat(decoded).containsExactlyElementsOf(everyEventType().toList());
+      assertThat(buffer.hasRemaining()).isFalse();
+    }
+  }
+
+  @Nested
+  class Layout {
+
+    @Test
+    void roleAssignedShouldUseFixedWidthFields() {
+      byte[] bytes = codec.serialize(new RoleAssigned(USER, ROLE, AT));
+
+      assertThat(bytes).hasSize(43);
+      assertThat(bytes[0]).isEqualTo((byte) BinaryDomainEventSerializer.SCHEMA_VERSION);
+      assertThat(bytes[1]).isEqualTo(BinaryDomainEventSerializer.ROLE_ASSIGNED);
+      assertThat(bytes[2]).isEqualTo((byte) 3);
+      assertThat(ByteBuffer.wrap(bytes, 3, 8).getLong()).isEqualTo(1_772_352_930_123_456L);
+    }
+
+    @Test
+    void knownPermissionShouldBeWrittenAsItsCode() {
+      byte[] known = codec.serialize(new PermissionAdded(ROLE, new Permission("users.write"), AT));
+      byte[] literal = codec.serialize(
+          new PermissionAdded(ROLE, new Permission("reports.export"), AT));
+
+      assertThat(known).hasSize(3 + 8 + 16 + 1);
+      assertThat(known[known.length - 1]).isEqualTo((byte) 2);
+      assertThat(literal).hasSize(3 + 8 + 16 + 1 + 1 + "reports.export".length());
+    }
+
+    @Test
+    void rolesAssignedShouldWriteOneUuidPerRole() {
+      byte[] bytes = codec.serialize(
+          new RolesAssigned(USER, Set.of(ROLE, RoleId.generate(), RoleId.generate()), AT));
+
+      assertThat(bytes).hasSize(3 + 8 + 16 + 1 + 3 * 16);
+      assertThat(bytes[1]).isEqualTo(BinaryDomainEventSerializer.ROLES_ASSIGNED);
+    }
+
+    @Test
+    void bulkEventsLargerThanAPooledBufferShouldRoundTrip() {
+      Set<RoleId> roleIds = new HashSet<>();
+      for (int i = 0; i < 200; i++) {
+        roleIds.add(RoleId.generate());
+      }
+      RolesAssigned event = new RolesAssigned(USER, roleIds, AT);
+
+      byte[] bytes = codec.serialize(event);
+
+      assertThat(bytes.length).isGreaterThan(1024).isLessThanOrEqualTo(codec.maxEncodedSize(event));
+      assertThat(codec.deserialize(bytes)).isEqualTo(event);
+    }
+
+    @ParameterizedTest
+    @MethodSource("engineer.mkitsoukou.tika.infrastructure.messaging.codec.BinaryDomainEventSerializerTest#everyEventType")
+    void maxEncodedSizeShouldBeTheExactEncodedSize(DomainEvent event) {
+      assertThat(codec.serialize(event)).hasSize(codec.maxEncodedSize(event));
+    }
+
+    @Test
+    void registrationWithAnEmailLargerThanAPooledBufferShouldRoundTrip() {
+      UserRegistered event = new UserRegistered(
+          USER, new Email("a".repeat(2000) + "@example.com"), AT);
+
+      byte[] bytes = codec.serialize(event);
+
+      assertThat(bytes).hasSize(3 + 8 + 16 + 2 + 2012);
+      assertThat(codec.deserialize(bytes)).isEqualTo(event);
+    }
+
+    @Test
+    void timestampsShouldBeTruncatedToMicros() {
+      Instant nanos = Instant.parse("2026-03-01T08:15:30.123456789Z");
+
+      DomainEvent decoded = codec.deserialize(codec.serialize(new PasswordChanged(USER, nanos)));
+
+      assertThat(decoded.occurredAt()).isEqualTo(Instant.parse("2026-03-01T08:15:30.123456Z"));
+    }
+
+    @Test
+    void instantsBeforeTheEpochShouldRoundTrip() {
+      Instant before = Instant.parse("1969-12-31T23:59:59.999999Z");
+
+      assertThat(codec.deserialize(codec.serialize(new PasswordChanged(USER, before)))
+          .occurredAt()).isEqualTo(before);
+    }
+  }
+
+  @Nested
+  class Decoding {
+
+    @Test
+    void decodedDictionaryPermissionsShouldBeShared() {
+      byte[] bytes = codec.serialize(new PermissionAdded(ROLE, new Permission("users.read"), AT));
+
+      var first = (PermissionAdded) codec.deserialize(bytes);
+      var second = (PermissionAdded) codec.deserialize(bytes);
+
+      assertThat(first.getPermission()).isSameAs(second.getPermission());
+    }
+
+    @Test
+    void decodedLiteralPermissionsShouldBeInterned() {
+      byte[] bytes = codec.serialize(
+          new PermissionRemoved(ROLE, new Permission("audit.read"), AT));
+
+      var first = (PermissionRemoved) codec.deserialize(bytes);
+      var second = (PermissionRemoved) codec.deserialize(bytes);
+
+      assertThat(first.getPermission()).isSameAs(second.getPermission());
+    }
+
+    @Test
+    void unknownSchemaVersionShouldBeRejected() {
+      byte[] bytes = codec.serialize(new PasswordChanged(USER, AT));
+      bytes[0] = 9;
+
+      assertThatThrownBy(() -> codec.deserialize(bytes))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessageContaining("schema version 9");
+    }
+
+    @Test
+    void unknownTypeShouldBeRejected() {
+      byte[] bytes = codec.serialize(new PasswordChanged(USER, AT));
+      bytes[1] = 42;
+
+      assertThatThrownBy(() -> codec.deserialize(bytes))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessageContaining("type code 42");
+    }
+
+    @Test
+    void memberCountBeyondThePayloadShouldBeRejected() {
+      byte[] bytes = codec.serialize(new RolesRemoved(USER, Set.of(ROLE), AT));
+      bytes[3 + 8 + 16] = 100;
+
+      assertThatThrownBy(() -> codec.deserialize(bytes))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessageContaining("member count 100");
+    }
+
+    @Test
+    void mismatchedDictionaryShouldBeRejected() {
+      byte[] bytes = codec.serialize(new PermissionAdded(ROLE, new Permission("users.read"), AT));
+      var other = new BinaryDomainEventSerializer(
+          new PermissionDictionary(4, List.of("users.read")), new ByteBufferPool(1024, 1));
+
+      assertThatThrownBy(() -> other.deserialize(bytes))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessageContaining("generation 3");
+    }
+
+    @Test
+    void literalPermissionsShouldNotDependOnTheDictionary() {
+      byte[] bytes = codec.serialize(
+          new PermissionAdded(ROLE, new Permission("reports.export"), AT));
+
+      assertThat(new BinaryDomainEventSerializer().deserialize(bytes))
+          .isEqualTo(new PermissionAdded(ROLE, new Permission("reports.export"), AT));
+    }
+  }
+
+  @Nested
+  class Buffers {
+
+    @Test
+    void serializeShouldReturnItsBufferToThePool() {
+      ByteBufferPool pool = new ByteBufferPool(1024, 2);
+      var pooled = new BinaryDomainEventSerializer(PermissionDictionary.EMPTY, pool);
+
+      pooled.serialize(new PasswordChanged(USER, AT));
+      pooled.serialize(new PasswordChanged(USER, AT));
+
+      assertThat(pool.idle()).isEqualTo(1);
+    }
+
+    @Test
+    void varIntsShouldRoundTripAcrossByteBoundaries() {
+      ByteBuffer buffer = ByteBuffer.allocate(64);
+      int[] values = {0, 1, 127, 128, 16_383, 16_384, Integer.MAX_VALUE};
+      for (int value : values) {
+        WireBuffers.putVarInt(buffer, value);
+      }
+      buffer.flip();
+
+      for (int value : values) {
+        assertThat(WireBuffers.getVarInt(buffer)).isEqualTo(value);
+      }
+    }
+
+    @Test
+    void nonAsciiStringsShouldFallBackToUtf8() {
+      ByteBuffer buffer = ByteBuffer.allocate(64);
+
+      WireBuffers.putString(buffer, "zoë");
+      buffer.flip();
+
+      assertThat(buffer.get(0)).isEqualTo((byte) 4);
+      assertThat(WireBuffers.getString(buffer)).isEqualTo("zoë");
+    }
+
+    @Test
+    void dictionaryShouldRejectDuplicatesAndOversizedGenerations() {
+      assertThatThrownBy(() -> new PermissionDictionary(1, List.of("a.b", "a.b")))
+          .isInstanceOf(IllegalArgumentException.class);
+      assertThatThrownBy(() -> new PermissionDictionary(256, List.of()))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+  }
+}
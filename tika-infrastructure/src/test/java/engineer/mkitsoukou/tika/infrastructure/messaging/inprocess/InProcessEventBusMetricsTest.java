@@ -0,0 +1,50 @@
+package engineer.mkitsoukou.tika.infrastructure.messaging.inprocess;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import engineer.mkitsoukou.tika.application.shared.event.DomainEventSubscriber;
+import engineer.mkitsoukou.tika.application.shared.event.InProcessEventBus;
+import engineer.mkitsoukou.tika.domain.model.event.DomainEvent;
+import engineer.mkitsoukou.tika.domain.model.event.PasswordChanged;
+import engineer.mkitsoukou.tika.domain.model.valueobject.UserId;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class InProcessEventBusMetricsTest {
+
+  @Test
+  void countersShouldBeExportedPerSubscriber() {
+    SimpleMeterRegistry meters = new SimpleMeterRegistry();
+    try (InProcessEventBus bus = new InProcessEventBus(List.of(new Failing()),
+        new InProcessEventBus.Settings(1, 8), InProcessEventBus.FailureHandler.IGNORE)) {
+      new InProcessEventBusMetrics(bus).bindTo(meters);
+
+      bus.dispatch(new PasswordChanged(UserId.generate(), Instant.EPOCH));
+      long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+      while (bus.stats("failing").failed() == 0 && System.nanoTime() < deadline) {
+        Thread.onSpinWait();
+      }
+
+      assertThat(meters.get("tika.eventbus.failed").tag("subscriber", "failing")
+          .functionCounter().count()).isEqualTo(1.0);
+      assertThat(meters.get("tika.eventbus.handled").functionCounter().count()).isZero();
+      assertThat(meters.get("tika.eventbus.dropped").functionCounter().count()).isZero();
+      assertThat(meters.get("tika.eventbus.lag").gauge().value()).isZero();
+    }
+  }
+
+  private static final class Failing implements DomainEventSubscriber {
+    @Override
+    public String name() {
+      return "failing";
+    }
+
+    @Override
+    public void handle(DomainEvent event) {
+      throw new IllegalStateException("boom");
+    }
+  }
+}
@@ -0,0 +1,53 @@
+package engineer.mkitsoukou.tika.infrastructure.messaging.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import engineer.mkitsoukou.tika.domain.model.event.PasswordChanged;
+import engineer.mkitsoukou.tika.domain.model.valueobject.UserId;
+import engineer.mkitsoukou.tika.infrastructure.messaging.JsonDomainEventSerializer;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class OutboxEventPublisherTest {
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void publishShouldAppendEncodedEventToTheOutbox() {
+    OutboxStore store = mock(OutboxStore.class);
+    var publisher = new OutboxEventPublisher(store, new JsonDomainEventSerializer());
+    UserId userId = UserId.generate();
+    Instant at = Instant.parse("2026-01-01T10:00:00Z");
+
+    publisher.publish(new PasswordChanged(userId, at));
+
+    ArgumentCaptor<List<OutboxMessage>> captor = ArgumentCaptor.forClass(List.class);
+    verify(store).append(captor.capture());
+    OutboxMessage message = captor.getValue().get(0);
+    assertThat(message.aggregateId()).isEqualTo(userId.value().toString());
+    assertThat(message.eventType()).isEqualTo("PasswordChanged");
+    assertThat(message.occurredAt()).isEqualTo(at);
+    assertThat(new String(message.payload()))
+        .contains("\"type\":\"PasswordChanged\"")
+        .contains(userId.value().toString());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void publishAllShouldAppendTheWholeListInOneCall() {
+    OutboxStore store = mock(OutboxStore.class);
+    var publisher = new OutboxEventPublisher(store, new JsonDomainEventSerializer());
+    Instant at = Instant.parse("2026-01-01T10:00:00Z");
+
+    publisher.publishAll(List.of(
+        new PasswordChanged(UserId.generate(), at),
+        new PasswordChanged(UserId.generate(), at)));
+
+    ArgumentCaptor<List<OutboxMessage>> captor = ArgumentCaptor.forClass(List.class);
+    verify(store).append(captor.capture());
+    assertThat(captor.getValue()).hasSize(2);
+  }
+}
@@ -0,0 +1,135 @@
+package engineer.mkitsoukou.tika.infrastructure.messaging.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import engineer.mkitsoukou.tika.application.shared.ClockPort;
+import engineer.mkitsoukou.tika.infrastructure.messaging.EventProducerSettings;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.KafkaOperations;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.transaction.support.TransactionOperations;
+
+class OutboxRelayTest {
+
+  private static final Instant T0 = Instant.parse("2026-01-01T10:00:00Z");
+
+  private InMemoryOutboxStore store;
+  private KafkaOperations<String, byte[]> kafka;
+  private List<ProducerRecord<String, byte[]>> sent;
+  private SimpleMeterRegistry meters;
+  private OutboxRelay relay;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    store = new InMemoryOutboxStore();
+    kafka = mock(KafkaOperations.class);
+    sent = new ArrayList<>();
+    when(kafka.send(any(ProducerRecord.class))).thenAnswer(inv -> {
+      sent.add(inv.getArgument(0));
+      return CompletableFuture.completedFuture(null);
+    });
+    meters = new SimpleMeterRegistry();
+    ClockPort clock = () -> T0.plusMillis(250);
+    relay = new OutboxRelay(store, TransactionOperations.withoutTransaction(), kafka,
+        "events", 2, Duration.ofSeconds(1), clock, meters);
+  }
+
+  @Test
+  void shouldSendInOrderKeyedByAggregateAndDeleteDelivered() {
+    store.append(List.of(message("a", "UserRegistered"), message("b", "RoleAssigned"),
+        message("a", "PasswordChanged")));
+
+    assertThat(relay.drain()).isEqualTo(3);
+
+    assertThat(sent).extracting(ProducerRecord::key).containsExactly("a", "b", "a");
+    assertThat(sent).allSatisfy(r -> assertThat(r.topic()).isEqualTo("events"));
+    assertThat(new String(sent.get(0).headers().lastHeader(EventProducerSettings.EVENT_TYPE_HEADER).value(),
+        StandardCharsets.UTF_8)).isEqualTo("UserRegistered");
+    assertThat(store.rows).isEmpty();
+  }
+
+  @Test
+  void batchShouldBeBoundedBySize() {
+    store.append(List.of(message("a", "E"), message("b", "E"), message("c", "E")));
+
+    assertThat(relay.relayBatch()).isEqualTo(2);
+    assertThat(store.rows).hasSize(1);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void failedSendShouldKeepRowsAndCountFailure() {
+    store.append(List.of(message("a", "E")));
+    CompletableFuture<SendResult<String, byte[]>> failed =
+        CompletableFuture.failedFuture(new IllegalStateException("broker down"));
+    when(kafka.send(any(ProducerRecord.class))).thenReturn(failed);
+
+    assertThatThrownBy(relay::relayBatch).isInstanceOf(IllegalStateException.class);
+
+    assertThat(store.rows).hasSize(1);
+    assertThat(meters.counter("tika.outbox.relay.failures").count()).isEqualTo(1.0);
+  }
+
+  @Test
+  void shouldRecordThroughputAndLag() {
+    store.append(List.of(message("a", "E"), message("b", "E")));
+
+    relay.drain();
+
+    assertThat(meters.counter("tika.outbox.relayed").count()).isEqualTo(2.0);
+    assertThat(meters.timer("tika.outbox.lag").count()).isEqualTo(2);
+    assertThat(meters.timer("tika.outbox.lag").max(TimeUnit.MILLISECONDS))
+        .isEqualTo(250.0);
+  }
+
+  @Test
+  void emptyOutboxShouldNotTouchKafka() {
+    assertThat(relay.drain()).isZero();
+    assertThat(sent).isEmpty();
+  }
+
+  private static OutboxMessage message(String aggregateId, String type) {
+    return new OutboxMessage(aggregateId, type, new byte[] {1}, T0);
+  }
+
+  private static final class InMemoryOutboxStore implements OutboxStore {
+    private final Map<Long, OutboxMessage> rows = new TreeMap<>();
+    private long nextId = 1;
+
+    @Override
+    public void append(List<OutboxMessage> messages) {
+      messages.forEach(m -> rows.put(nextId++, m));
+    }
+
+    @Override
+    public List<OutboxEntry> claim(int limit) {
+      return rows.entrySet().stream()
+          .limit(limit)
+          .map(e -> new OutboxEntry(e.getKey(), e.getValue()))
+          .toList();
+    }
+
+    @Override
+    public void delete(Collection<Long> ids) {
+      ids.forEach(rows::remove);
+    }
+  }
+}
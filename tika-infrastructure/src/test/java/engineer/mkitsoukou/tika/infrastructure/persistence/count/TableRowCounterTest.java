@@ -0,0 +1,117 @@
+package engineer.mkitsoukou.tika.infrastructure.persistence.count;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import engineer.mkitsoukou.tika.application.shared.ClockPort;
+import engineer.mkitsoukou.tika.domain.repository.CountAccuracy;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcOperations;
+
+class TableRowCounterTest {
+
+  private static final String EXACT_SQL = "SELECT count(*) FROM users";
+
+  private JdbcOperations jdbc;
+  private AtomicReference<Instant> now;
+  private TableRowCounter counter;
+
+  @BeforeEach
+  void setUp() {
+    jdbc = mock(JdbcOperations.class);
+    now = new AtomicReference<>(Instant.parse("2025-07-07T12:00:00Z"));
+    ClockPort clock = now::get;
+    counter = new TableRowCounter(jdbc, clock, Duration.ofSeconds(30), 10_000);
+  }
+
+  @Test
+  void exactModeShouldAlwaysScan() {
+    when(jdbc.queryForObject(EXACT_SQL, Long.class)).thenReturn(42L);
+
+    assertThat(counter.count("users", CountAccuracy.EXACT)).isEqualTo(42L);
+    assertThat(counter.count("users", CountAccuracy.EXACT)).isEqualTo(42L);
+
+    verify(jdbc, times(2)).queryForObject(EXACT_SQL, Long.class);
+  }
+
+  @Test
+  void approximateModeShouldUsePlannerStatistics() {
+    when(jdbc.queryForObject(anyString(), eq(Long.class), eq("users"))).thenReturn(1_250_000L);
+
+    assertThat(counter.count("users", CountAccuracy.APPROXIMATE)).isEqualTo(1_250_000L);
+
+    verify(jdbc, never()).queryForObject(EXACT_SQL, Long.class);
+  }
+
+  @Test
+  void approximateModeShouldCacheUntilTtlExpires() {
+    when(jdbc.queryForObject(anyString(), eq(Long.class), eq("users")))
+        .thenReturn(1_250_000L, 1_300_000L);
+
+    counter.count("users", CountAccuracy.APPROXIMATE);
+    assertThat(counter.count("users", CountAccuracy.APPROXIMATE)).isEqualTo(1_250_000L);
+
+    now.set(now.get().plusSeconds(31));
+    assertThat(counter.count("users", CountAccuracy.APPROXIMATE)).isEqualTo(1_300_000L);
+  }
+
+  @Test
+  void smallTablesShouldFallBackToExactCount() {
+    when(jdbc.queryForObject(anyString(), eq(Long.class), eq("users"))).thenReturn(120L);
+    when(jdbc.queryForObject(EXACT_SQL, Long.class)).thenReturn(118L);
+
+    assertThat(counter.count("users", CountAccuracy.APPROXIMATE)).isEqualTo(118L);
+  }
+
+  @Test
+  void neverAnalyzedTableShouldFallBackToExactCount() {
+    when(jdbc.queryForObject(anyString(), eq(Long.class), eq("users"))).thenReturn(-1L);
+    when(jdbc.queryForObject(EXACT_SQL, Long.class)).thenReturn(7L);
+
+    assertThat(counter.count("users", CountAccuracy.APPROXIMATE)).isEqualTo(7L);
+  }
+
+  @Test
+  void missingTableShouldBeReportedByTheExactCount() {
+    when(jdbc.queryForObject(anyString(), eq(Long.class), eq("users")))
+        .thenThrow(new EmptyResultDataAccessException(1));
+    when(jdbc.queryForObject(EXACT_SQL, Long.class)).thenThrow(new BadSqlGrammarException(
+        "count", EXACT_SQL, new SQLException("relation \"users\" does not exist")));
+
+    assertThatThrownBy(() -> counter.count("users", CountAccuracy.APPROXIMATE))
+        .isInstanceOf(BadSqlGrammarException.class);
+  }
+
+  @Test
+  void invalidateShouldForceFreshEstimate() {
+    when(jdbc.queryForObject(anyString(), eq(Long.class), eq("users")))
+        .thenReturn(1_250_000L, 1_400_000L);
+
+    counter.count("users", CountAccuracy.APPROXIMATE);
+    counter.invalidate("users");
+
+    assertThat(counter.count("users", CountAccuracy.APPROXIMATE)).isEqualTo(1_400_000L);
+  }
+
+  @Test
+  void shouldRejectTableNamesThatAreNotPlainIdentifiers() {
+    assertThatThrownBy(() -> counter.count("users; DROP TABLE users", CountAccuracy.EXACT))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> counter.count(null, CountAccuracy.EXACT))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
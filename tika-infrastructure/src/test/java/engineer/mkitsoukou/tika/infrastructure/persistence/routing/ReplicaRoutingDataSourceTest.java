@@ -0,0 +1,203 @@
+package engineer.mkitsoukou.tika.infrastructure.persistence.routing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Routing harness with one primary and two replica "instances" whose lag is simulated.
+ *
+ * <p>Coverage mapping:</p>
+ * - O (One/happy): read-only transactions land on replicas
+ * - M (Many): round-robin across replicas
+ * - B (Boundary): lag exactly at the threshold, every replica lagging
+ * - I (Interface): read-your-writes pinning after a write transaction
+ * - E (Exceptions): unreachable replica pulled from rotation
+ */
+class ReplicaRoutingDataSourceTest {
+
+  private static final Duration MAX_LAG = Duration.ofSeconds(5);
+
+  private final Map<String, Duration> simulatedLag = new ConcurrentHashMap<>();
+  private final Map<DataSource, String> names = new ConcurrentHashMap<>();
+  private final Map<Connection, String> owners = new ConcurrentHashMap<>();
+
+  private ReplicaPool pool;
+  private ReplicaLagMonitor monitor;
+  private ReplicaRoutingDataSource routing;
+
+  @BeforeEach
+  void setUp() throws SQLException {
+    DataSource primary = instance("primary");
+    DataSource replicaA = instance("replica-a");
+    DataSource replicaB = instance("replica-b");
+
+    pool = new ReplicaPool(List.of("replica-a", "replica-b"), MAX_LAG);
+    monitor = new ReplicaLagMonitor(
+        pool,
+        Map.of("replica-a", replicaA, "replica-b", replicaB),
+        this::simulatedProbe,
+        Duration.ofSeconds(1));
+
+    routing = new ReplicaRoutingDataSource(pool, Duration.ofSeconds(10));
+    routing.setTargetDataSources(Map.of(
+        ReplicaRoutingDataSource.PRIMARY, primary,
+        "replica-a", replicaA,
+        "replica-b", replicaB));
+    routing.afterPropertiesSet();
+
+    simulatedLag.put("replica-a", Duration.ZERO);
+    simulatedLag.put("replica-b", Duration.ZERO);
+  }
+
+  @AfterEach
+  void tearDown() {
+    monitor.close();
+    ReadYourWritesContext.reset();
+    TransactionSynchronizationManager.setActualTransactionActive(false);
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+  }
+
+  @Nested
+  class ReadOnlyTransactions {
+
+    @Test
+    void shouldRouteReadsToReplicasRoundRobin() throws SQLException {
+      List<String> targets = new ArrayList<>();
+      for (int i = 0; i < 4; i++) {
+        targets.add(inTransaction(true));
+      }
+
+      assertThat(targets).containsExactly("replica-a", "replica-b", "replica-a", "replica-b");
+    }
+
+    @Test
+    void shouldRouteNonTransactionalWorkToPrimary() throws SQLException {
+      assertThat(owners.get(routing.getConnection())).isEqualTo("primary");
+    }
+  }
+
+  @Nested
+  class ReadYourWrites {
+
+    @Test
+    void shouldPinReadsToPrimaryAfterWrite() throws SQLException {
+      assertThat(inTransaction(false)).isEqualTo("primary");
+
+      assertThat(inTransaction(true)).isEqualTo("primary");
+    }
+
+    @Test
+    void shouldReturnToReplicasAfterReset() throws SQLException {
+      inTransaction(false);
+      ReadYourWritesContext.reset();
+
+      assertThat(inTransaction(true)).startsWith("replica-");
+    }
+
+    @Test
+    void shouldReleasePinOnceWindowElapsed() throws SQLException {
+      routing = new ReplicaRoutingDataSource(pool, Duration.ZERO);
+      routing.setTargetDataSources(Map.of(
+          ReplicaRoutingDataSource.PRIMARY, instance("primary"),
+          "replica-a", instance("replica-a"),
+          "replica-b", instance("replica-b")));
+      routing.afterPropertiesSet();
+
+      inTransaction(false);
+
+      assertThat(inTransaction(true)).startsWith("replica-");
+    }
+  }
+
+  @Nested
+  class LagTracking {
+
+    @Test
+    void shouldPullLaggingReplicaFromRotation() throws SQLException {
+      simulatedLag.put("replica-b", Duration.ofSeconds(30));
+      monitor.probeAll();
+
+      assertThat(pool.inRotation()).containsExactly("replica-a");
+      assertThat(inTransaction(true)).isEqualTo("replica-a");
+      assertThat(inTransaction(true)).isEqualTo("replica-a");
+    }
+
+    @Test
+    void shouldPutReplicaBackOnceCaughtUp() {
+      simulatedLag.put("replica-b", Duration.ofSeconds(30));
+      monitor.probeAll();
+      simulatedLag.put("replica-b", Duration.ofMillis(200));
+      monitor.probeAll();
+
+      assertThat(pool.inRotation()).containsExactly("replica-a", "replica-b");
+    }
+
+    @Test
+    void shouldKeepReplicaWhenLagEqualsThreshold() {
+      simulatedLag.put("replica-a", MAX_LAG);
+      monitor.probeAll();
+
+      assertThat(pool.inRotation()).contains("replica-a");
+    }
+
+    @Test
+    void shouldFallBackToPrimaryWhenEveryReplicaLags() throws SQLException {
+      simulatedLag.put("replica-a", Duration.ofMinutes(1));
+      simulatedLag.put("replica-b", Duration.ofMinutes(1));
+      monitor.probeAll();
+
+      assertThat(inTransaction(true)).isEqualTo("primary");
+    }
+
+    @Test
+    void shouldPullUnreachableReplicaFromRotation() {
+      simulatedLag.remove("replica-a");
+      monitor.probeAll();
+
+      assertThat(pool.inRotation()).containsExactly("replica-b");
+    }
+  }
+
+  private String inTransaction(boolean readOnly) throws SQLException {
+    TransactionSynchronizationManager.setActualTransactionActive(true);
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+    try {
+      return owners.get(routing.getConnection());
+    } finally {
+      TransactionSynchronizationManager.setActualTransactionActive(false);
+      TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+  }
+
+  private Duration simulatedProbe(DataSource replica) throws SQLException {
+    Duration lag = simulatedLag.get(names.get(replica));
+    if (lag == null) {
+      throw new SQLException("connection refused");
+    }
+    return lag;
+  }
+
+  private DataSource instance(String name) throws SQLException {
+    DataSource dataSource = mock(DataSource.class);
+    Connection connection = mock(Connection.class);
+    when(dataSource.getConnection()).thenReturn(connection);
+    names.put(dataSource, name);
+    owners.put(connection, name);
+    return dataSource;
+  }
+}
@@ -0,0 +1,45 @@
+package engineer.mkitsoukou.tika.infrastructure.persistence.routing;
+
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.withSettings;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Test;
+
+class RoutingTargetsTest {
+
+  @Test
+  void closeShouldCloseThePrimaryAndEveryReplica() throws Exception {
+    DataSource primary = closeable();
+    DataSource replica1 = closeable();
+    DataSource replica2 = closeable();
+    Map<String, DataSource> replicas = new LinkedHashMap<>();
+    replicas.put("replica-1", replica1);
+    replicas.put("replica-2", replica2);
+
+    new RoutingTargets(primary, replicas).close();
+
+    verify((AutoCloseable) primary).close();
+    verify((AutoCloseable) replica1).close();
+    verify((AutoCloseable) replica2).close();
+  }
+
+  @Test
+  void failureToCloseOnePoolShouldNotKeepTheOthersOpen() throws Exception {
+    DataSource primary = closeable();
+    DataSource replica = closeable();
+    doThrow(new IllegalStateException("already closed")).when((AutoCloseable) replica).close();
+
+    new RoutingTargets(primary, Map.of("replica-1", replica)).close();
+
+    verify((AutoCloseable) primary).close();
+  }
+
+  private static DataSource closeable() {
+    return mock(DataSource.class, withSettings().extraInterfaces(AutoCloseable.class));
+  }
+}
@@ -0,0 +1,74 @@
+package engineer.mkitsoukou.tika.infrastructure.replay;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import engineer.mkitsoukou.tika.domain.model.event.DomainEvent;
+import engineer.mkitsoukou.tika.domain.model.event.PasswordChanged;
+import engineer.mkitsoukou.tika.domain.model.valueobject.UserId;
+import engineer.mkitsoukou.tika.infrastructure.audit.AuditLogReader;
+import engineer.mkitsoukou.tika.infrastructure.audit.MappedAuditLog;
+import engineer.mkitsoukou.tika.infrastructure.messaging.codec.BinaryDomainEventSerializer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class AuditLogEventSourceTest {
+
+  private static final Instant T0 = Instant.parse("2026-01-01T10:00:00Z");
+
+  @TempDir
+  Path dir;
+
+  private final BinaryDomainEventSerializer codec = new BinaryDomainEventSerializer();
+  private final List<DomainEvent> written = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() {
+    for (int i = 0; i < 25; i++) {
+      written.add(new PasswordChanged(UserId.generate(), T0.plusSeconds(i)));
+    }
+    try (MappedAuditLog log = new MappedAuditLog(dir, codec,
+        new MappedAuditLog.Settings(64 * 1024, Duration.ofDays(1), 64), () -> T0,
+        new SimpleMeterRegistry())) {
+      log.append(written).join();
+    }
+  }
+
+  @Test
+  void eventsShouldArriveInBatchesWithTheirSequenceCheckpoint() {
+    List<Integer> sizes = new ArrayList<>();
+    List<Long> checkpoints = new ArrayList<>();
+    List<DomainEvent> read = new ArrayList<>();
+
+    source().read(Checkpoint.EMPTY, (events, after) -> {
+      sizes.add(events.size());
+      checkpoints.add(after.position(AuditLogEventSource.STREAM).getAsLong());
+      read.addAll(events);
+    });
+
+    assertThat(sizes).containsExactly(10, 10, 5);
+    assertThat(checkpoints).containsExactly(10L, 20L, 25L);
+    assertThat(read).containsExactlyElementsOf(written);
+  }
+
+  @Test
+  void readShouldResumeFromTheCheckpoint() {
+    List<DomainEvent> read = new ArrayList<>();
+
+    source().read(new Checkpoint(Map.of(AuditLogEventSource.STREAM, 20L)),
+        (events, after) -> read.addAll(events));
+
+    assertThat(read).containsExactlyElementsOf(written.subList(20, 25));
+  }
+
+  private AuditLogEventSource source() {
+    return new AuditLogEventSource(new AuditLogReader(dir, codec), 10);
+  }
+}
@@ -0,0 +1,169 @@
+package engineer.mkitsoukou.tika.infrastructure.replay;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import engineer.mkitsoukou.tika.domain.model.event.DomainEvent;
+import engineer.mkitsoukou.tika.domain.model.event.PasswordChanged;
+import engineer.mkitsoukou.tika.domain.model.valueobject.UserId;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class EventReplayEngineTest {
+
+  private static final Instant T0 = Instant.parse("2026-01-01T10:00:00Z");
+
+  private final RecordingStore store = new RecordingStore();
+  private final SimpleMeterRegistry meters = new SimpleMeterRegistry();
+  private EventReplayEngine engine;
+
+  @AfterEach
+  void tearDown() {
+    if (engine != null) {
+      engine.close();
+    }
+  }
+
+  @Test
+  void eventsOfOneAggregateShouldBeAppliedInOrder() {
+    OrderRecordingProjection projection = new OrderRecordingProjection();
+    engine = new EventReplayEngine("test", List.of(projection), store, 4, meters);
+    List<UserId> users = List.of(UserId.generate(), UserId.generate(), UserId.generate());
+    List<DomainEvent> events = new ArrayList<>();
+    for (int i = 0; i < 300; i++) {
+      events.add(new PasswordChanged(users.get(i % 3), T0.plusSeconds(i)));
+    }
+
+    engine.replay(new ListSource(events, 50));
+
+    for (UserId user : users) {
+      assertThat(projection.seen.get(user.value().toString()))
+          .hasSize(100)
+          .isSortedAccordingTo(Instant::compareTo);
+    }
+    assertThat(meters.get("tika.replay.events").tag("replay", "test").counter().count())
+        .isEqualTo(300.0);
+  }
+
+  @Test
+  void everyProjectionShouldSeeEveryEvent() {
+    OrderRecordingProjection first = new OrderRecordingProjection();
+    OrderRecordingProjection second = new OrderRecordingProjection();
+    engine = new EventReplayEngine("test", List.of(first, second), store, 2, meters);
+
+    engine.replay(new ListSource(events(10), 4));
+
+    assertThat(first.total()).isEqualTo(10);
+    assertThat(second.total()).isEqualTo(10);
+  }
+
+  @Test
+  void checkpointShouldBeSavedAfterEachBatchAndUsedOnRestart() {
+    engine = new EventReplayEngine("test", List.of(new OrderRecordingProjection()), store, 2,
+        meters);
+    ListSource source = new ListSource(events(10), 4);
+
+    Checkpoint reached = engine.replay(source);
+    engine.replay(source);
+
+    assertThat(store.saved).extracting(c -> c.position("list").getAsLong())
+        .containsExactly(4L, 8L, 10L);
+    assertThat(reached.position("list")).hasValue(10);
+    assertThat(source.startedFrom).containsExactly(0L, 10L);
+  }
+
+  @Test
+  void failedBatchShouldNotAdvanceTheCheckpoint() {
+    Projection failing = new Projection() {
+      private int applied;
+
+      @Override
+      public String name() {
+        return "failing";
+      }
+
+      @Override
+      public synchronized void apply(DomainEvent event) {
+        if (++applied > 5) {
+          throw new IllegalArgumentException("boom");
+        }
+      }
+    };
+    engine = new EventReplayEngine("test", List.of(failing), store, 1, meters);
+
+    assertThatThrownBy(() -> engine.replay(new ListSource(events(10), 4)))
+        .isInstanceOf(IllegalStateException.class)
+        .hasRootCauseMessage("boom");
+    assertThat(store.load("test").position("list")).hasValue(4);
+  }
+
+  private static List<DomainEvent> events(int count) {
+    List<DomainEvent> events = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      events.add(new PasswordChanged(UserId.generate(), T0));
+    }
+    return events;
+  }
+
+  /** Source over a list, positioned by list index. */
+  private static final class ListSource implements EventSource {
+    private final List<DomainEvent> events;
+    private final int batchSize;
+    private final List<Long> startedFrom = new ArrayList<>();
+
+    ListSource(List<DomainEvent> events, int batchSize) {
+      this.events = events;
+      this.batchSize = batchSize;
+    }
+
+    @Override
+    public void read(Checkpoint from, BatchConsumer consumer) {
+      int start = (int) from.position("list").orElse(0);
+      startedFrom.add((long) start);
+      for (int i = start; i < events.size(); i += batchSize) {
+        int end = Math.min(events.size(), i + batchSize);
+        consumer.accept(events.subList(i, end), from.advance(Map.of("list", (long) end)));
+      }
+    }
+  }
+
+  private static final class OrderRecordingProjection implements Projection {
+    private final Map<String, List<Instant>> seen = new ConcurrentHashMap<>();
+
+    @Override
+    public String name() {
+      return "order";
+    }
+
+    @Override
+    public void apply(DomainEvent event) {
+      seen.computeIfAbsent(event.aggregateId(), id -> new CopyOnWriteArrayList<>())
+          .add(event.occurredAt());
+    }
+
+    int total() {
+      return seen.values().stream().mapToInt(List::size).sum();
+    }
+  }
+
+  private static final class RecordingStore implements CheckpointStore {
+    private final List<Checkpoint> saved = new ArrayList<>();
+
+    @Override
+    public Checkpoint load(String name) {
+      return saved.isEmpty() ? Checkpoint.EMPTY : saved.getLast();
+    }
+
+    @Override
+    public void save(String name, Checkpoint checkpoint) {
+      saved.add(checkpoint);
+    }
+  }
+}
@@ -0,0 +1,41 @@
+package engineer.mkitsoukou.tika.infrastructure.replay;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FileCheckpointStoreTest {
+
+  @TempDir
+  Path dir;
+
+  @Test
+  void missingCheckpointShouldBeEmpty() {
+    assertThat(new FileCheckpointStore(dir.resolve("absent")).load("projections"))
+        .isEqualTo(Checkpoint.EMPTY);
+  }
+
+  @Test
+  void savedCheckpointShouldSurviveANewStore() {
+    Checkpoint checkpoint = new Checkpoint(Map.of("tika.domain-events-0", 42L,
+        "tika.domain-events-1", 7L));
+
+    new FileCheckpointStore(dir).save("projections", checkpoint);
+
+    assertThat(new FileCheckpointStore(dir).load("projections")).isEqualTo(checkpoint);
+  }
+
+  @Test
+  void laterSaveShouldReplaceTheEarlierOne() {
+    FileCheckpointStore store = new FileCheckpointStore(dir);
+
+    store.save("projections", new Checkpoint(Map.of("audit-log", 10L)));
+    store.save("projections", new Checkpoint(Map.of("audit-log", 25L)));
+
+    assertThat(store.load("projections").position("audit-log")).hasValue(25);
+    assertThat(dir.resolve("projections.checkpoint.tmp")).doesNotExist();
+  }
+}
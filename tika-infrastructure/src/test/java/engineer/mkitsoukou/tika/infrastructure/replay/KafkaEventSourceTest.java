@@ -0,0 +1,121 @@
+package engineer.mkitsoukou.tika.infrastructure.replay;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import engineer.mkitsoukou.tika.domain.model.event.DomainEvent;
+import engineer.mkitsoukou.tika.domain.model.event.PasswordChanged;
+import engineer.mkitsoukou.tika.domain.model.valueobject.UserId;
+import engineer.mkitsoukou.tika.infrastructure.messaging.JsonDomainEventSerializer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class KafkaEventSourceTest {
+
+  private static final String TOPIC = "events";
+  private static final Instant T0 = Instant.parse("2026-01-01T10:00:00Z");
+  private static final TopicPartition P0 = new TopicPartition(TOPIC, 0);
+  private static final TopicPartition P1 = new TopicPartition(TOPIC, 1);
+
+  private final JsonDomainEventSerializer serializer = new JsonDomainEventSerializer();
+  private MockConsumer<String, byte[]> consumer;
+
+  @BeforeEach
+  void setUp() {
+    consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+    Node node = new Node(0, "localhost", 9092);
+    consumer.updatePartitions(TOPIC, List.of(
+        new PartitionInfo(TOPIC, 0, node, new Node[0], new Node[0]),
+        new PartitionInfo(TOPIC, 1, node, new Node[0], new Node[0])));
+    consumer.updateBeginningOffsets(Map.of(P0, 0L, P1, 0L));
+  }
+
+  @Test
+  void readShouldStopAtTheEndOffsetsAndCheckpointEachPartition() {
+    List<DomainEvent> p0 = List.of(event(), event());
+    List<DomainEvent> p1 = List.of(event());
+    consumer.updateEndOffsets(Map.of(P0, 2L, P1, 1L));
+    consumer.schedulePollTask(() -> {
+      add(P0, 0, p0.get(0));
+      add(P0, 1, p0.get(1));
+      add(P1, 0, p1.get(0));
+    });
+    List<DomainEvent> read = new ArrayList<>();
+    List<Checkpoint> checkpoints = new ArrayList<>();
+
+    source().read(Checkpoint.EMPTY, (events, after) -> {
+      read.addAll(events);
+      checkpoints.add(after);
+    });
+
+    assertThat(read).containsExactlyInAnyOrder(p0.get(0), p0.get(1), p1.get(0));
+    assertThat(checkpoints.getLast().positions())
+        .containsEntry("events-0", 2L)
+        .containsEntry("events-1", 1L);
+  }
+
+  @Test
+  void readShouldSeekToTheCheckpoint() {
+    DomainEvent fresh = event();
+    consumer.updateEndOffsets(Map.of(P0, 6L, P1, 3L));
+    consumer.schedulePollTask(() -> add(P0, 5, fresh));
+    List<DomainEvent> read = new ArrayList<>();
+
+    source().read(new Checkpoint(Map.of("events-0", 5L, "events-1", 3L)),
+        (events, after) -> read.addAll(events));
+
+    assertThat(read).containsExactly(fresh);
+    assertThat(consumer.position(P0)).isEqualTo(6);
+  }
+
+  @Test
+  void caughtUpSourceShouldNotPoll() {
+    consumer.updateEndOffsets(Map.of(P0, 0L, P1, 0L));
+    List<DomainEvent> read = new ArrayList<>();
+
+    source().read(Checkpoint.EMPTY, (events, after) -> read.addAll(events));
+
+    assertThat(read).isEmpty();
+  }
+
+  @Test
+  void unreachableEndOffsetShouldEndTheReadAfterIdlePolls() {
+    DomainEvent kept = event();
+    // offsets 1 to 4 were compacted away
+    consumer.updateEndOffsets(Map.of(P0, 5L, P1, 0L));
+    consumer.schedulePollTask(() -> add(P0, 0, kept));
+    List<DomainEvent> read = new ArrayList<>();
+    List<Checkpoint> checkpoints = new ArrayList<>();
+
+    source().read(Checkpoint.EMPTY, (events, after) -> {
+      read.addAll(events);
+      checkpoints.add(after);
+    });
+
+    assertThat(read).containsExactly(kept);
+    assertThat(checkpoints.getLast().positions()).containsEntry("events-0", 1L);
+  }
+
+  private KafkaEventSource source() {
+    return new KafkaEventSource(consumer, TOPIC, serializer, Duration.ofMillis(10), 3);
+  }
+
+  private void add(TopicPartition partition, long offset, DomainEvent event) {
+    consumer.addRecord(new ConsumerRecord<>(TOPIC, partition.partition(), offset,
+        event.aggregateId(), serializer.serialize(event)));
+  }
+
+  private static DomainEvent event() {
+    return new PasswordChanged(UserId.generate(), T0);
+  }
+}
@@ -0,0 +1,78 @@
+package engineer.mkitsoukou.tika.infrastructure.tokenblacklist;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class BloomFilterTest {
+
+  @Test
+  void addedStringsShouldAlwaysBeFound() {
+    BloomFilter filter = new BloomFilter(10_000, 0.01);
+    String[] added = IntStream.range(0, 10_000)
+        .mapToObj(i -> UUID.randomUUID().toString())
+        .toArray(String[]::new);
+
+    for (String value : added) {
+      filter.add(value);
+    }
+
+    for (String value : added) {
+      assertThat(filter.mightContain(value)).isTrue();
+    }
+  }
+
+  @Test
+  void falsePositivesShouldStayNearTheConfiguredRate() {
+    BloomFilter filter = new BloomFilter(10_000, 0.01);
+    IntStream.range(0, 10_000).forEach(i -> filter.add("jti-" + i));
+
+    long wrong = IntStream.range(0, 100_000)
+        .filter(i -> filter.mightContain("other-" + i))
+        .count();
+
+    assertThat(wrong / 100_000.0).isLessThan(0.02);
+    assertThat(filter.expectedFalsePositiveRate()).isBetween(0.005, 0.015);
+  }
+
+  @Test
+  void emptyFilterShouldContainNothing() {
+    BloomFilter filter = new BloomFilter(100, 0.01);
+
+    assertThat(filter.mightContain("")).isFalse();
+    assertThat(filter.mightContain("jti-1")).isFalse();
+    assertThat(filter.expectedFalsePositiveRate()).isZero();
+  }
+
+  @Test
+  void sizeShouldFollowTheExpectedInsertionsAndRate() {
+    BloomFilter filter = new BloomFilter(1_000_000, 0.001);
+
+    // 1.44 * log2(1 / 0.001) = 14.4 bits and 10 hash functions per string
+    assertThat(filter.bitSize()).isBetween(14_370_000L, 14_380_000L);
+    assertThat(filter.hashFunctions()).isEqualTo(10);
+  }
+
+  @Test
+  void concurrentAdditionsShouldAllBeFound() {
+    BloomFilter filter = new BloomFilter(50_000, 0.01);
+
+    IntStream.range(0, 50_000).parallel().forEach(i -> filter.add("jti-" + i));
+
+    assertThat(IntStream.range(0, 50_000).allMatch(i -> filter.mightContain("jti-" + i)))
+        .isTrue();
+  }
+
+  @Test
+  void unusableSettingsShouldBeRejected() {
+    assertThatThrownBy(() -> new BloomFilter(0, 0.01))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new BloomFilter(100, 0))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new BloomFilter(100, 1))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
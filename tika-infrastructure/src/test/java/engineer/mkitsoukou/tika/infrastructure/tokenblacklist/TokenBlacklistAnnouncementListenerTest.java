@@ -0,0 +1,43 @@
+package engineer.mkitsoukou.tika.infrastructure.tokenblacklist;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+
+class TokenBlacklistAnnouncementListenerTest {
+
+  private final TwoTierTokenBlacklist blacklist = mock(TwoTierTokenBlacklist.class);
+  private final TokenBlacklistAnnouncementListener listener =
+      new TokenBlacklistAnnouncementListener(blacklist);
+
+  @Test
+  void announcementsShouldReachTheBlacklist() {
+    Instant publishedAt = Instant.parse("2026-01-01T10:00:00.250Z");
+
+    listener.onMessage(message(RedisTokenBlacklistStore.announcement(
+        "jti:with:colons", publishedAt.toEpochMilli())), null);
+
+    verify(blacklist).announced("jti:with:colons", publishedAt);
+  }
+
+  @Test
+  void malformedAnnouncementsShouldBeSkipped() {
+    for (String body : new String[] {"", "jti", ":jti", "123:", "abc:jti"}) {
+      listener.onMessage(message(body), null);
+    }
+
+    verify(blacklist, never()).announced(anyString(), any());
+  }
+
+  private static DefaultMessage message(String body) {
+    return new DefaultMessage("tika.token-blacklist".getBytes(StandardCharsets.UTF_8),
+        body.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -0,0 +1,179 @@
+package engineer.mkitsoukou.tika.infrastructure.tokenblacklist;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class TwoTierTokenBlacklistTest {
+
+  private static final Instant NOW = Instant.parse("2026-01-01T10:00:00Z");
+
+  private final CountingStore store = new CountingStore();
+  private final AtomicReference<Instant> now = new AtomicReference<>(NOW);
+  private final SimpleMeterRegistry meters = new SimpleMeterRegistry();
+  private final TwoTierTokenBlacklist blacklist =
+      new TwoTierTokenBlacklist(store, 1000, 0.01, now::get, meters);
+
+  @Test
+  void unknownJtisShouldBeAnsweredLocally() {
+    IntStream.range(0, 100).forEach(i -> assertThat(blacklist.isBlacklisted("jti-" + i))
+        .isFalse());
+
+    assertThat(store.lookups).isZero();
+    assertThat(lookups("local-negative")).isEqualTo(100.0);
+  }
+
+  @Test
+  void blacklistedJtisShouldBeConfirmedByTheStore() {
+    blacklist.blacklist("revoked");
+
+    assertThat(blacklist.isBlacklisted("revoked")).isTrue();
+
+    assertThat(store.jtis).contains("revoked");
+    assertThat(store.lookups).isEqualTo(1);
+    assertThat(lookups("remote")).isEqualTo(1.0);
+  }
+
+  @Test
+  void filterHitsTheStoreDeniesShouldCountAsFalsePositives() {
+    blacklist.blacklist("revoked");
+    store.jtis.remove("revoked");
+
+    assertThat(blacklist.isBlacklisted("revoked")).isFalse();
+    blacklist.isBlacklisted("other");
+
+    assertThat(meters.counter("tika.token-blacklist.false-positives").count()).isEqualTo(1.0);
+    assertThat(meters.get("tika.token-blacklist.false-positive-rate").gauge().value())
+        .isEqualTo(0.5);
+  }
+
+  @Test
+  void batchesShouldSendOnlyFilterHitsToTheStoreInOneCall() {
+    blacklist.blacklist("revoked-1");
+    blacklist.blacklist("revoked-2");
+
+    Set<String> revoked = blacklist.blacklistedAmong(
+        List.of("revoked-1", "valid-1", "revoked-2", "valid-2"));
+
+    assertThat(revoked).containsExactlyInAnyOrder("revoked-1", "revoked-2");
+    assertThat(store.batches).containsExactly(List.of("revoked-1", "revoked-2"));
+    assertThat(blacklist.blacklistedAmong(List.of("valid-1", "valid-2"))).isEmpty();
+    assertThat(store.batches).hasSize(1);
+  }
+
+  @Test
+  void announcedJtisShouldBeAddedWithTheirSyncLag() {
+    store.jtis.add("elsewhere");
+    assertThat(blacklist.isBlacklisted("elsewhere")).isFalse();
+
+    blacklist.announced("elsewhere", NOW.minusMillis(40));
+
+    assertThat(blacklist.isBlacklisted("elsewhere")).isTrue();
+    assertThat(meters.timer("tika.token-blacklist.sync.lag").totalTime(TimeUnit.MILLISECONDS))
+        .isEqualTo(40.0);
+  }
+
+  @Test
+  void resyncShouldLoadTheStoreAndForgetExpiredJtis() {
+    store.jtis.add("stored");
+    blacklist.blacklist("expiring");
+    store.jtis.remove("expiring");
+    now.set(NOW.plusSeconds(30));
+
+    blacklist.resync();
+
+    assertThat(blacklist.isBlacklisted("stored")).isTrue();
+    store.lookups = 0;
+    assertThat(blacklist.isBlacklisted("expiring")).isFalse();
+    assertThat(store.lookups).isZero();
+    assertThat(meters.get("tika.token-blacklist.resync.age").gauge().value()).isZero();
+  }
+
+  @Test
+  void additionsDuringAResyncShouldSurviveTheSwap() {
+    // stored and announced after the scan has passed it
+    store.duringScan = () -> {
+      store.jtis.add("late");
+      blacklist.announced("late", NOW);
+    };
+
+    blacklist.resync();
+
+    assertThat(blacklist.isBlacklisted("late")).isTrue();
+  }
+
+  @Test
+  void failedResyncShouldKeepTheCurrentFilter() {
+    blacklist.blacklist("revoked");
+    store.duringScan = () -> {
+      throw new IllegalStateException("connection lost");
+    };
+
+    assertThatThrownBy(blacklist::resync).isInstanceOf(IllegalStateException.class);
+
+    assertThat(blacklist.isBlacklisted("revoked")).isTrue();
+  }
+
+  @Test
+  void startShouldLoadTheFilterBeforeReturning() {
+    store.jtis.add("stored");
+
+    blacklist.start(Duration.ofMinutes(5));
+    try {
+      assertThat(blacklist.isBlacklisted("stored")).isTrue();
+    } finally {
+      blacklist.close();
+    }
+  }
+
+  private double lookups(String result) {
+    return meters.counter("tika.token-blacklist.lookups", "result", result).count();
+  }
+
+  private static final class CountingStore implements TokenBlacklistStore {
+
+    final Set<String> jtis = ConcurrentHashMap.newKeySet();
+    final List<List<String>> batches = new ArrayList<>();
+    int lookups;
+    Runnable duringScan = () -> {
+    };
+
+    @Override
+    public void add(String jti) {
+      jtis.add(jti);
+    }
+
+    @Override
+    public boolean contains(String jti) {
+      lookups++;
+      return jtis.contains(jti);
+    }
+
+    @Override
+    public Set<String> containedAmong(Collection<String> candidates) {
+      batches.add(List.copyOf(candidates));
+      return candidates.stream().filter(jtis::contains).collect(Collectors.toSet());
+    }
+
+    @Override
+    public void forEach(Consumer<String> action) {
+      List<String> scanned = List.copyOf(jtis);
+      duringScan.run();
+      scanned.forEach(action);
+    }
+  }
+}
@@ -0,0 +1,97 @@
+package engineer.mkitsoukou.tika.infrastructure.tokenepoch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import engineer.mkitsoukou.tika.application.auth.port.out.EventPublisherPort;
+import engineer.mkitsoukou.tika.domain.model.event.DomainEvent;
+import engineer.mkitsoukou.tika.domain.model.event.PasswordChanged;
+import engineer.mkitsoukou.tika.domain.model.event.TokensRevoked;
+import engineer.mkitsoukou.tika.domain.model.valueobject.UserId;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class RevokingEventPublisherTest {
+
+  private static final Instant T0 = Instant.parse("2026-01-01T10:00:00Z");
+
+  private final EventPublisherPort delegate = mock(EventPublisherPort.class);
+  private final TokenEpochStore store = mock(TokenEpochStore.class);
+  private final TokenEpochs epochs =
+      new TokenEpochs(store, 64, Duration.ofSeconds(30), () -> T0);
+  private final RevokingEventPublisher publisher =
+      new RevokingEventPublisher(delegate, store, epochs);
+  private final UserId user = UserId.generate();
+  private final String userId = user.value().toString();
+
+  @Test
+  void passwordChangeShouldBeStoredBeforeItIsPublished() {
+    epochs.validAfter(userId);
+    DomainEvent changed = new PasswordChanged(user, T0);
+
+    publisher.publish(changed);
+
+    verify(store).advance(user, T0);
+    verify(delegate).publish(changed);
+    assertThat(epochs.validAfter(userId)).isEqualTo(T0);
+  }
+
+  @Test
+  void otherEventsShouldOnlyBePublished() {
+    List<DomainEvent> events = List.of(new TokensRevoked(user, T0));
+
+    publisher.publishAll(events);
+
+    verify(store, never()).advance(any(), any());
+    verify(delegate).publishAll(events);
+  }
+
+  @Test
+  void failedStoreWriteShouldFailThePublish() {
+    DomainEvent changed = new PasswordChanged(user, T0);
+    doThrow(new IllegalStateException("db down")).when(store).advance(user, T0);
+
+    assertThatThrownBy(() -> publisher.publish(changed)).hasMessage("db down");
+    verify(delegate, never()).publish(changed);
+  }
+
+  @Test
+  void localCopyShouldMoveOnlyOnceTheTransactionCommits() {
+    epochs.validAfter(userId);
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      publisher.publishAll(List.of(new PasswordChanged(user, T0)));
+
+      verify(store).advance(user, T0);
+      assertThat(epochs.validAfter(userId)).isEqualTo(Instant.EPOCH);
+      TransactionSynchronizationManager.getSynchronizations()
+          .forEach(TransactionSynchronization::afterCommit);
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    assertThat(epochs.validAfter(userId)).isEqualTo(T0);
+  }
+
+  @Test
+  void rolledBackTransactionShouldLeaveTheLocalCopy() {
+    epochs.validAfter(userId);
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      publisher.publish(new PasswordChanged(user, T0));
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    assertThat(epochs.validAfter(userId)).isEqualTo(Instant.EPOCH);
+  }
+}
@@ -0,0 +1,104 @@
+package engineer.mkitsoukou.tika.infrastructure.tokenepoch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import engineer.mkitsoukou.tika.domain.model.event.DomainEvent;
+import engineer.mkitsoukou.tika.domain.model.event.PasswordChanged;
+import engineer.mkitsoukou.tika.domain.model.event.RoleAssigned;
+import engineer.mkitsoukou.tika.domain.model.event.TokensRevoked;
+import engineer.mkitsoukou.tika.domain.model.valueobject.RoleId;
+import engineer.mkitsoukou.tika.domain.model.valueobject.UserId;
+import engineer.mkitsoukou.tika.infrastructure.messaging.EventProducerSettings;
+import engineer.mkitsoukou.tika.infrastructure.messaging.JsonDomainEventSerializer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TokenEpochEventConsumerTest {
+
+  private static final String TOPIC = "events";
+  private static final TopicPartition P0 = new TopicPartition(TOPIC, 0);
+  private static final Instant T0 = Instant.parse("2026-01-01T10:00:00Z");
+
+  private final JsonDomainEventSerializer serializer = new JsonDomainEventSerializer();
+  private final SimpleMeterRegistry meters = new SimpleMeterRegistry();
+  private final TokenEpochStore store = mock(TokenEpochStore.class);
+  private final TokenEpochs epochs = new TokenEpochs(store, 64, Duration.ofSeconds(30), () -> T0);
+  private final UserId user = UserId.generate();
+  private MockConsumer<String, byte[]> kafka;
+  private TokenEpochEventConsumer consumer;
+  private long offset;
+
+  @BeforeEach
+  void setUp() {
+    kafka = new MockConsumer<>(OffsetResetStrategy.LATEST);
+    Node node = new Node(0, "localhost", 9092);
+    kafka.updatePartitions(TOPIC,
+        List.of(new PartitionInfo(TOPIC, 0, node, new Node[0], new Node[0])));
+    kafka.updateEndOffsets(Map.of(P0, 0L));
+
+    consumer = new TokenEpochEventConsumer(kafka, TOPIC, serializer, epochs,
+        Duration.ofMillis(10), () -> T0.plusMillis(250), meters);
+    consumer.assign();
+  }
+
+  @Test
+  void revocationsShouldAdvanceTheCopyWithoutWriting() {
+    send(new TokensRevoked(user, T0));
+    send(new PasswordChanged(user, T0.plusSeconds(30)));
+    send(new TokensRevoked(user, T0.plusSeconds(10)));
+
+    int applied = consumer.pollOnce();
+
+    assertThat(applied).isEqualTo(3);
+    assertThat(epochs.validAfter(user.value().toString())).isEqualTo(T0.plusSeconds(30));
+    assertThat(meters.counter("tika.token-epochs.events").count()).isEqualTo(3.0);
+    verify(store, never()).advance(any(), any());
+  }
+
+  @Test
+  void propagationDelayShouldBeMeasuredFromTheRevocation() {
+    send(new TokensRevoked(user, T0));
+
+    consumer.pollOnce();
+
+    assertThat(meters.timer("tika.token-epochs.propagation.delay")
+        .max(TimeUnit.MILLISECONDS)).isEqualTo(250.0);
+  }
+
+  @Test
+  void unrelatedEventsShouldBeSkippedWithoutDecoding() {
+    send(new RoleAssigned(user, RoleId.generate(), T0));
+    kafka.addRecord(new ConsumerRecord<>(TOPIC, 0, offset++, "key",
+        "not an event".getBytes(StandardCharsets.UTF_8)));
+
+    int applied = consumer.pollOnce();
+
+    assertThat(applied).isZero();
+    assertThat(epochs.size()).isZero();
+  }
+
+  private void send(DomainEvent event) {
+    ConsumerRecord<String, byte[]> consumerRecord = new ConsumerRecord<>(TOPIC, 0, offset++,
+        event.aggregateId(), serializer.serialize(event));
+    consumerRecord.headers().add(EventProducerSettings.EVENT_TYPE_HEADER,
+        serializer.eventType(event).getBytes(StandardCharsets.UTF_8));
+    kafka.addRecord(consumerRecord);
+  }
+}
@@ -0,0 +1,131 @@
+package engineer.mkitsoukou.tika.infrastructure.tokenepoch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import engineer.mkitsoukou.tika.application.auth.model.JwtClaims;
+import engineer.mkitsoukou.tika.domain.model.valueobject.UserId;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+
+class TokenEpochsTest {
+
+  private static final Instant T0 = Instant.parse("2026-01-01T10:00:00Z");
+  private static final Duration TTL = Duration.ofSeconds(30);
+
+  private final CountingStore store = new CountingStore();
+  private final UserId user = UserId.generate();
+  private final String userId = user.value().toString();
+  private final AtomicReference<Instant> now = new AtomicReference<>(T0);
+  private final TokenEpochs epochs = new TokenEpochs(store, 64, TTL, now::get);
+
+  @Test
+  void usersNeverRevokedShouldBeReadOnce() {
+    assertThat(epochs.validAfter(userId)).isEqualTo(Instant.EPOCH);
+    assertThat(epochs.validAfter(userId)).isEqualTo(Instant.EPOCH);
+
+    assertThat(store.reads).isEqualTo(1);
+  }
+
+  @Test
+  void storedCutoffShouldBeLoaded() {
+    store.cutoffs.put(user, T0);
+
+    assertThat(epochs.validAfter(userId)).isEqualTo(T0);
+  }
+
+  @Test
+  void revokingShouldWriteTheStoreAndTheCopy() {
+    epochs.validAfter(userId);
+
+    epochs.revokeAllBefore(userId, T0);
+
+    assertThat(store.cutoffs).containsEntry(user, T0);
+    assertThat(epochs.validAfter(userId)).isEqualTo(T0);
+    assertThat(store.reads).isEqualTo(1);
+  }
+
+  @Test
+  void tokensIssuedBeforeTheCutoffShouldBeRevoked() {
+    epochs.revokeAllBefore(userId, T0);
+
+    assertThat(epochs.isRevoked(claims(T0.minusSeconds(1)))).isTrue();
+    assertThat(epochs.isRevoked(claims(T0))).isFalse();
+    assertThat(epochs.isRevoked(claims(T0.plusSeconds(1)))).isFalse();
+  }
+
+  @Test
+  void cutoffShouldOnlyMoveForward() {
+    epochs.revokeAllBefore(userId, T0.plusSeconds(60));
+
+    epochs.advance(userId, T0);
+
+    assertThat(epochs.validAfter(userId)).isEqualTo(T0.plusSeconds(60));
+  }
+
+  @Test
+  void revocationsStoredElsewhereShouldBeSeenOnceTheCopyExpires() {
+    assertThat(epochs.validAfter(userId)).isEqualTo(Instant.EPOCH);
+    store.cutoffs.put(user, T0);
+
+    now.set(T0.plus(TTL).minusSeconds(1));
+    assertThat(epochs.validAfter(userId)).isEqualTo(Instant.EPOCH);
+    now.set(T0.plus(TTL));
+    assertThat(epochs.validAfter(userId)).isEqualTo(T0);
+
+    assertThat(store.reads).isEqualTo(2);
+  }
+
+  @Test
+  void advancedCopyShouldBeReadFromTheStoreWhenNeverLoaded() {
+    store.cutoffs.put(user, T0.plusSeconds(60));
+
+    epochs.advance(userId, T0);
+
+    assertThat(epochs.validAfter(userId)).isEqualTo(T0.plusSeconds(60));
+  }
+
+  @Test
+  void heldUsersShouldStayWithinTheBound() {
+    TokenEpochs small = new TokenEpochs(store, 16, TTL, now::get);
+    for (int i = 0; i < 40; i++) {
+      small.validAfter(UserId.generate().value().toString());
+    }
+
+    assertThat(small.size()).isLessThanOrEqualTo(16);
+  }
+
+  @Test
+  void nonPositiveBoundShouldBeRejected() {
+    assertThatThrownBy(() -> new TokenEpochs(store, 0, TTL, now::get))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new TokenEpochs(store, 16, Duration.ZERO, now::get))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private JwtClaims claims(Instant issuedAt) {
+    return new JwtClaims(userId, "jti", issuedAt, issuedAt.plusSeconds(900), Set.of());
+  }
+
+  private static final class CountingStore implements TokenEpochStore {
+    final Map<UserId, Instant> cutoffs = new HashMap<>();
+    int reads;
+
+    @Override
+    public Optional<Instant> validAfter(UserId userId) {
+      reads++;
+      return Optional.ofNullable(cutoffs.get(userId));
+    }
+
+    @Override
+    public void advance(UserId userId, Instant cutoff) {
+      cutoffs.merge(userId, cutoff, (held, later) -> held.isAfter(later) ? held : later);
+    }
+  }
+}
@@ -0,0 +1,249 @@
+package engineer.mkitsoukou.tika.security.jwt;
+
+import engineer.mkitsoukou.tika.application.auth.exception.InvalidCredentialsException;
+import engineer.mkitsoukou.tika.application.auth.model.JwtClaims;
+import engineer.mkitsoukou.tika.application.auth.port.out.JwtValidatorPort;
+import engineer.mkitsoukou.tika.application.auth.port.out.TokenBlacklistPort;
+import engineer.mkitsoukou.tika.application.auth.port.out.TokenEpochPort;
+import engineer.mkitsoukou.tika.application.shared.ClockPort;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+/**
+ * Remembers access tokens that passed validation, so a token presented again costs a
+ * SHA-256 and a map lookup instead of a signature verification.
+ *
+ * <p>Entries are keyed by the token's digest, not the token, and live until the token's
+ * own expiry. The blacklist and the user's {@link TokenEpochPort token epoch} are
+ * consulted on every call, hit or miss, so logging out takes effect immediately.
+ * Refresh tokens are used once each and always go to the delegate, then through the
+ * epoch check.</p>
+ *
+ * <p>{@link #validateAccessTokens(List)} verifies the batch's misses in parallel and
+ * checks the whole batch against the blacklist with one
+ * {@link TokenBlacklistPort#blacklistedAmong} call.</p>
+ *
+ * <p>The cache holds at most {@code maxEntries}. When full, expired entries are swept
+ * first; if that frees nothing, one sixteenth of the entries, chosen arbitrarily, is
+ * dropped.</p>
+ */
+public class CachingJwtValidator implements JwtValidatorPort {
+
+  private static final int EVICTION_SLICE = 16;
+
+  private final JwtValidatorPort delegate;
+  private final TokenBlacklistPort blacklist;
+  private final TokenEpochPort epochs;
+  private final ClockPort clock;
+  private final int maxEntries;
+  private final Map<TokenDigest, JwtClaims> verified = new ConcurrentHashMap<>();
+  private final AtomicBoolean evicting = new AtomicBoolean();
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  /**
+   * @param delegate   validator doing the full check on a miss
+   * @param blacklist  revoked token ids
+   * @param clock      time source for entry expiry
+   * @param maxEntries most tokens remembered at once
+   */
+  public CachingJwtValidator(
+      JwtValidatorPort delegate,
+      TokenBlacklistPort blacklist,
+      ClockPort clock,
+      int maxEntries
+  ) {
+    this(delegate, blacklist, TokenEpochPort.NONE, clock, maxEntries);
+  }
+
+  /**
+   * @param delegate   validator doing the full check on a miss
+   * @param blacklist  revoked token ids
+   * @param epochs     per-user cut-offs revoking all of a user's earlier tokens
+   * @param clock      time source for entry expiry
+   * @param maxEntries most tokens remembered at once
+   */
+  public CachingJwtValidator(
+      JwtValidatorPort delegate,
+      TokenBlacklistPort blacklist,
+      TokenEpochPort epochs,
+      ClockPort clock,
+      int maxEntries
+  ) {
+    this.delegate = Objects.requireNonNull(delegate, "delegate must not be null");
+    this.blacklist = Objects.requireNonNull(blacklist, "blacklist must not be null");
+    this.epochs = Objects.requireNonNull(epochs, "epochs must not be null");
+    this.clock = Objects.requireNonNull(clock, "clock must not be null");
+    if (maxEntries < 1) {
+      throw new IllegalArgumentException("maxEntries must be positive");
+    }
+    this.maxEntries = maxEntries;
+  }
+
+  @Override
+  public JwtClaims validateAccessToken(String accessToken) {
+    TokenDigest digest = TokenDigest.of(accessToken);
+    Instant now = clock.now();
+    JwtClaims claims = verified.get(digest);
+    if (claims != null && now.isBefore(claims.expiresAt())) {
+      hits.increment();
+    } else {
+      if (claims != null) {
+        verified.remove(digest, claims);
+      }
+      misses.increment();
+      claims = delegate.validateAccessToken(accessToken);
+      remember(digest, claims, now);
+    }
+    if (epochs.isRevoked(claims) || blacklist.isBlacklisted(claims.jti())) {
+      throw new InvalidCredentialsException();
+    }
+    return claims;
+  }
+
+  @Override
+  public List<Optional<JwtClaims>> validateAccessTokens(List<String> accessTokens) {
+    Instant now = clock.now();
+    int size = accessTokens.size();
+    TokenDigest[] digests = new TokenDigest[size];
+    JwtClaims[] claims = new JwtClaims[size];
+    List<Integer> missed = new ArrayList<>();
+    for (int i = 0; i < size; i++) {
+      digests[i] = TokenDigest.of(accessTokens.get(i));
+      JwtClaims cached = verified.get(digests[i]);
+      if (cached != null && now.isBefore(cached.expiresAt())) {
+        claims[i] = cached;
+      } else {
+        if (cached != null) {
+          verified.remove(digests[i], cached);
+        }
+        missed.add(i);
+      }
+    }
+    hits.add(size - missed.size());
+    misses.add(missed.size());
+    IntStream lanes = missed.stream().mapToInt(Integer::intValue);
+    (missed.size() > 1 ? lanes.parallel() : lanes).forEach(i -> {
+      try {
+        claims[i] = delegate.validateAccessToken(accessTokens.get(i));
+      } catch (InvalidCredentialsException e) {
+        claims[i] = null;
+      }
+    });
+    for (int i : missed) {
+      if (claims[i] != null) {
+        remember(digests[i], claims[i], now);
+      }
+    }
+    for (int i = 0; i < size; i++) {
+      if (claims[i] != null && epochs.isRevoked(claims[i])) {
+        claims[i] = null;
+      }
+    }
+    Set<String> revoked = blacklist.blacklistedAmong(Arrays.stream(claims)
+        .filter(Objects::nonNull)
+        .map(JwtClaims::jti)
+        .distinct()
+        .toList());
+    List<Optional<JwtClaims>> results = new ArrayList<>(size);
+    for (JwtClaims valid : claims) {
+      results.add(valid == null || revoked.contains(valid.jti())
+          ? Optional.empty()
+          : Optional.of(valid));
+    }
+    return results;
+  }
+
+  @Override
+  public JwtClaims validateRefreshToken(String refreshToken) {
+    JwtClaims claims = delegate.validateRefreshToken(refreshToken);
+    if (epochs.isRevoked(claims)) {
+      throw new InvalidCredentialsException();
+    }
+    return claims;
+  }
+
+  /**
+   * @return hit and miss counts since creation, and the current size
+   */
+  public Stats stats() {
+    return new Stats(hits.sum(), misses.sum(), verified.size());
+  }
+
+  private void remember(TokenDigest digest, JwtClaims claims, Instant now) {
+    if (verified.size() >= maxEntries) {
+      evict(now);
+    }
+    if (verified.size() < maxEntries) {
+      verified.put(digest, claims);
+    }
+  }
+
+  private void evict(Instant now) {
+    if (!evicting.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      verified.values().removeIf(claims -> !now.isBefore(claims.expiresAt()));
+      if (verified.size() < maxEntries) {
+        return;
+      }
+      int dropped = Math.max(1, maxEntries / EVICTION_SLICE);
+      Iterator<TokenDigest> keys = verified.keySet().iterator();
+      while (dropped-- > 0 && keys.hasNext()) {
+        keys.next();
+        keys.remove();
+      }
+    } finally {
+      evicting.set(false);
+    }
+  }
+
+  /**
+   * @param hits    validations answered from the cache
+   * @param misses  validations passed to the delegate
+   * @param entries tokens currently remembered
+   */
+  public record Stats(long hits, long misses, int entries) {
+
+    /**
+     * @return share of validations answered from the cache, 0 before the first one
+     */
+    public double hitRatio() {
+      long total = hits + misses;
+      return total == 0 ? 0 : (double) hits / total;
+    }
+  }
+
+  /**
+   * SHA-256 of a token, held as four longs.
+   */
+  private record TokenDigest(long a, long b, long c, long d) {
+
+    static TokenDigest of(String token) {
+      try {
+        ByteBuffer digest = ByteBuffer.wrap(MessageDigest.getInstance("SHA-256")
+            .digest(token.getBytes(StandardCharsets.UTF_8)));
+        return new TokenDigest(digest.getLong(), digest.getLong(), digest.getLong(),
+            digest.getLong());
+      } catch (NoSuchAlgorithmException e) {
+        throw new IllegalStateException("SHA-256 is not available", e);
+      }
+    }
+  }
+}
@@ -0,0 +1,33 @@
+package engineer.mkitsoukou.tika.security.jwt;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.Objects;
+
+/**
+ * Exports the {@link CachingJwtValidator} statistics: {@code tika.jwt.cache.hits} and
+ * {@code tika.jwt.cache.misses} (counters), {@code tika.jwt.cache.hit.ratio} and
+ * {@code tika.jwt.cache.size} (gauges).
+ */
+public class CachingJwtValidatorMetrics implements MeterBinder {
+
+  private final CachingJwtValidator validator;
+
+  public CachingJwtValidatorMetrics(CachingJwtValidator validator) {
+    this.validator = Objects.requireNonNull(validator, "validator must not be null");
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    FunctionCounter.builder("tika.jwt.cache.hits", validator, v -> v.stats().hits())
+        .register(registry);
+    FunctionCounter.builder("tika.jwt.cache.misses", validator, v -> v.stats().misses())
+        .register(registry);
+    Gauge.builder("tika.jwt.cache.hit.ratio", validator, v -> v.stats().hitRatio())
+        .register(registry);
+    Gauge.builder("tika.jwt.cache.size", validator, v -> v.stats().entries())
+        .register(registry);
+  }
+}
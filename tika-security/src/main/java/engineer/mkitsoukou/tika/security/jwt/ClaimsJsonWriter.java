@@ -0,0 +1,233 @@
+package engineer.mkitsoukou.tika.security.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Minimal JSON object writer for JWT headers and claim sets, writing UTF-8 straight
+ * into a reusable byte array. Writers are pooled by {@link NimbusJwtIssuer}, so under
+ * steady load building a payload allocates nothing beyond the token itself.
+ *
+ * <p>Not thread-safe; one writer builds one object at a time.</p>
+ */
+final class ClaimsJsonWriter {
+
+  private static final byte[] BASE64URL =
+      "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_"
+          .getBytes(StandardCharsets.US_ASCII);
+  private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+  private byte[] buf;
+  private int length;
+  private boolean first;
+
+  ClaimsJsonWriter(int initialCapacity) {
+    this.buf = new byte[initialCapacity];
+  }
+
+  /**
+   * Starts a new object, discarding whatever was written before.
+   */
+  ClaimsJsonWriter begin() {
+    length = 0;
+    first = true;
+    put('{');
+    return this;
+  }
+
+  /**
+   * Continues an object whose start was written elsewhere, as in a claim template: the
+   * next field is preceded by a comma.
+   */
+  ClaimsJsonWriter resume() {
+    length = 0;
+    first = false;
+    return this;
+  }
+
+  /**
+   * Pads with spaces, which JSON ignores between tokens, until the length is a multiple
+   * of {@code multiple}. A prefix padded to a multiple of three base64url-encodes to
+   * whole quanta, so it can be encoded once and have other encoded bytes appended.
+   */
+  ClaimsJsonWriter padTo(int multiple) {
+    while (length % multiple != 0) {
+      put(' ');
+    }
+    return this;
+  }
+
+  ClaimsJsonWriter field(String name, String value) {
+    name(name);
+    string(value);
+    return this;
+  }
+
+  ClaimsJsonWriter field(String name, long value) {
+    name(name);
+    if (value < 0) {
+      Long.toString(value).chars().forEach(c -> put((char) c));
+      return this;
+    }
+    ensure(19);
+    int start = length;
+    do {
+      buf[length++] = (byte) ('0' + value % 10);
+      value /= 10;
+    } while (value != 0);
+    reverse(start, length - 1);
+    return this;
+  }
+
+  ClaimsJsonWriter field(String name, Collection<String> values) {
+    name(name);
+    put('[');
+    boolean firstValue = true;
+    for (String value : values) {
+      if (!firstValue) {
+        put(',');
+      }
+      string(value);
+      firstValue = false;
+    }
+    put(']');
+    return this;
+  }
+
+  /**
+   * Starts an object-valued field; its fields follow until {@link #endObject()}.
+   */
+  ClaimsJsonWriter beginObject(String name) {
+    name(name);
+    put('{');
+    first = true;
+    return this;
+  }
+
+  ClaimsJsonWriter endObject() {
+    put('}');
+    first = false;
+    return this;
+  }
+
+  ClaimsJsonWriter end() {
+    put('}');
+    return this;
+  }
+
+  int length() {
+    return length;
+  }
+
+  byte[] toByteArray() {
+    return Arrays.copyOf(buf, length);
+  }
+
+  /**
+   * @return length of the unpadded base64url encoding of {@code bytes} bytes
+   */
+  static int encodedLength(int bytes) {
+    return (bytes * 4 + 2) / 3;
+  }
+
+  /**
+   * Writes what was written so far, base64url-encoded without padding, into {@code dst}.
+   *
+   * @return the offset after the last byte written
+   */
+  int encodeTo(byte[] dst, int offset) {
+    int i = 0;
+    int out = offset;
+    for (; i + 2 < length; i += 3) {
+      int bits = (buf[i] & 0xff) << 16 | (buf[i + 1] & 0xff) << 8 | (buf[i + 2] & 0xff);
+      dst[out++] = BASE64URL[bits >>> 18];
+      dst[out++] = BASE64URL[bits >>> 12 & 0x3f];
+      dst[out++] = BASE64URL[bits >>> 6 & 0x3f];
+      dst[out++] = BASE64URL[bits & 0x3f];
+    }
+    int rest = length - i;
+    if (rest == 1) {
+      int bits = (buf[i] & 0xff) << 16;
+      dst[out++] = BASE64URL[bits >>> 18];
+      dst[out++] = BASE64URL[bits >>> 12 & 0x3f];
+    } else if (rest == 2) {
+      int bits = (buf[i] & 0xff) << 16 | (buf[i + 1] & 0xff) << 8;
+      dst[out++] = BASE64URL[bits >>> 18];
+      dst[out++] = BASE64URL[bits >>> 12 & 0x3f];
+      dst[out++] = BASE64URL[bits >>> 6 & 0x3f];
+    }
+    return out;
+  }
+
+  private void name(String name) {
+    if (!first) {
+      put(',');
+    }
+    first = false;
+    string(name);
+    put(':');
+  }
+
+  private void string(String value) {
+    put('"');
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c == '"' || c == '\\') {
+        put('\\');
+        put(c);
+      } else if (c < 0x20) {
+        ensure(6);
+        buf[length++] = '\\';
+        buf[length++] = 'u';
+        buf[length++] = '0';
+        buf[length++] = '0';
+        buf[length++] = HEX[c >> 4];
+        buf[length++] = HEX[c & 0xf];
+      } else if (c < 0x80) {
+        put(c);
+      } else {
+        int codePoint = value.codePointAt(i);
+        if (Character.isSupplementaryCodePoint(codePoint)) {
+          i++;
+        }
+        utf8(codePoint);
+      }
+    }
+    put('"');
+  }
+
+  private void utf8(int codePoint) {
+    ensure(4);
+    if (codePoint < 0x800) {
+      buf[length++] = (byte) (0xc0 | codePoint >> 6);
+    } else if (codePoint < 0x10000) {
+      buf[length++] = (byte) (0xe0 | codePoint >> 12);
+      buf[length++] = (byte) (0x80 | codePoint >> 6 & 0x3f);
+    } else {
+      buf[length++] = (byte) (0xf0 | codePoint >> 18);
+      buf[length++] = (byte) (0x80 | codePoint >> 12 & 0x3f);
+      buf[length++] = (byte) (0x80 | codePoint >> 6 & 0x3f);
+    }
+    buf[length++] = (byte) (0x80 | codePoint & 0x3f);
+  }
+
+  private void put(char c) {
+    ensure(1);
+    buf[length++] = (byte) c;
+  }
+
+  private void ensure(int extra) {
+    if (length + extra > buf.length) {
+      buf = Arrays.copyOf(buf, Math.max(length + extra, buf.length * 2));
+    }
+  }
+
+  private void reverse(int from, int to) {
+    while (from < to) {
+      byte tmp = buf[from];
+      buf[from++] = buf[to];
+      buf[to--] = tmp;
+    }
+  }
+}
@@ -0,0 +1,69 @@
+package engineer.mkitsoukou.tika.security.jwt;
+
+import engineer.mkitsoukou.tika.application.auth.model.ServiceClient;
+import engineer.mkitsoukou.tika.application.auth.port.out.ServiceClientRegistryPort;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Service clients listed in configuration, each with the SHA-256 of its secret.
+ *
+ * <p>Secrets are generated, high-entropy values rather than passwords, so a single
+ * SHA-256 is enough to keep them out of the configuration and costs a microsecond per
+ * request where a password hash would cost the minting fast path its point. Digests are
+ * compared in constant time.</p>
+ */
+public class ConfiguredServiceClients implements ServiceClientRegistryPort {
+
+  private final Map<String, Entry> clients;
+
+  /**
+   * @param clients client settings by client id
+   * @throws IllegalArgumentException if a client has no audience or a malformed digest
+   */
+  public ConfiguredServiceClients(Map<String, ServiceTokenProperties.Client> clients) {
+    Objects.requireNonNull(clients, "clients must not be null");
+    this.clients = clients.entrySet().stream()
+        .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey,
+            client -> entry(client.getKey(), client.getValue())));
+  }
+
+  @Override
+  public Optional<ServiceClient> authenticate(String clientId, String clientSecret) {
+    Entry entry = clients.get(clientId);
+    if (entry == null || !MessageDigest.isEqual(entry.secretSha256(), sha256(clientSecret))) {
+      return Optional.empty();
+    }
+    return Optional.of(entry.client());
+  }
+
+  private static Entry entry(String clientId, ServiceTokenProperties.Client settings) {
+    if (settings.audience() == null || settings.secretSha256() == null) {
+      throw new IllegalArgumentException(
+          "Service client " + clientId + " needs an audience and a secret digest");
+    }
+    byte[] digest = HexFormat.of().parseHex(settings.secretSha256());
+    if (digest.length != 32) {
+      throw new IllegalArgumentException(
+          "Service client " + clientId + " secret digest is not a SHA-256");
+    }
+    return new Entry(new ServiceClient(clientId, settings.audience(), settings.scopes()), digest);
+  }
+
+  static byte[] sha256(String secret) {
+    try {
+      return MessageDigest.getInstance("SHA-256").digest(secret.getBytes(StandardCharsets.UTF_8));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
+
+  private record Entry(ServiceClient client, byte[] secretSha256) {
+  }
+}
@@ -0,0 +1,14 @@
+package engineer.mkitsoukou.tika.security.jwt;
+
+import java.time.Instant;
+
+/**
+ * A DPoP proof accepted by {@link DpopProofVerifier}.
+ *
+ * @param keyThumbprint JWK SHA-256 thumbprint (RFC 7638) of the key the proof is signed
+ *                      with, as carried in a bound token's {@code cnf.jkt}
+ * @param proofId       the proof's {@code jti}, to be claimed in a {@link ProofReplayCache}
+ * @param issuedAt      the proof's {@code iat}
+ */
+public record DpopProof(String keyThumbprint, String proofId, Instant issuedAt) {
+}
@@ -0,0 +1,260 @@
+package engineer.mkitsoukou.tika.security.jwt;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JOSEObjectType;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.crypto.ECDSAVerifier;
+import com.nimbusds.jose.crypto.RSASSAVerifier;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.OctetKeyPair;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.util.Base64URL;
+import com.nimbusds.jose.util.JSONObjectUtils;
+import engineer.mkitsoukou.tika.application.auth.exception.InvalidCredentialsException;
+import engineer.mkitsoukou.tika.application.shared.ClockPort;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.spec.X509EncodedKeySpec;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Verifies DPoP proofs (RFC 9449): JWTs a client signs per request with the key its
+ * tokens are bound to.
+ *
+ * <p>A proof's header carries the client's public key, and a client sends the same
+ * header with every proof. Verifiers are therefore cached by the encoded header: a known
+ * client costs one signature check and a small JSON parse per proof, with no JWK parsing,
+ * key import or thumbprint hashing. The cache holds at most {@code maxKeys} headers; when
+ * full, one sixteenth of them, chosen arbitrarily, is dropped. Rejected headers are never
+ * cached.</p>
+ *
+ * <p>Proofs must be typed {@value #TYPE}, signed with ES256, RS256 or EdDSA, fresh within
+ * the configured age and skew, and name the request's method and URI; the URI is
+ * compared without its query and fragment. A proof sent with an access token must carry
+ * its hash in {@code ath}. Replays are not detected here: the caller claims
+ * {@link DpopProof#proofId()} in a {@link ProofReplayCache} once the proof is otherwise
+ * accepted. Any rejection is an {@link InvalidCredentialsException}.</p>
+ *
+ * <p>Thread-safe.</p>
+ */
+public class DpopProofVerifier {
+
+  public static final String TYPE = "dpop+jwt";
+
+  private static final JOSEObjectType PROOF_TYPE = new JOSEObjectType(TYPE);
+  private static final Set<JWSAlgorithm> ALGORITHMS =
+      Set.of(JWSAlgorithm.ES256, JWSAlgorithm.RS256, JWSAlgorithm.EdDSA);
+  private static final int MAX_HEADER_LENGTH = 2048;
+  private static final int MIN_RSA_BITS = 2048;
+  private static final int EVICTION_SLICE = 16;
+  // X.509 encoding of an Ed25519 key: a fixed 12-byte prefix, then the 32-byte key
+  private static final byte[] ED25519_PREFIX =
+      HexFormat.of().parseHex("302a300506032b6570032100");
+
+  private final ClockPort clock;
+  private final long maxAgeSeconds;
+  private final long clockSkewSeconds;
+  private final int maxKeys;
+  private final Map<String, ProofKey> keys = new ConcurrentHashMap<>();
+  private final AtomicBoolean evicting = new AtomicBoolean();
+
+  /**
+   * @param clock     source of the current time
+   * @param maxAge    oldest {@code iat} accepted
+   * @param clockSkew how far in the future an {@code iat} may lie
+   * @param maxKeys   most client keys remembered at once
+   */
+  public DpopProofVerifier(ClockPort clock, Duration maxAge, Duration clockSkew, int maxKeys) {
+    this.clock = Objects.requireNonNull(clock, "clock must not be null");
+    if (maxAge.isNegative() || maxAge.isZero() || clockSkew.isNegative()) {
+      throw new IllegalArgumentException("maxAge must be positive and clockSkew not negative");
+    }
+    if (maxKeys < 1) {
+      throw new IllegalArgumentException("maxKeys must be positive");
+    }
+    this.maxAgeSeconds = maxAge.toSeconds();
+    this.clockSkewSeconds = clockSkew.toSeconds();
+    this.maxKeys = maxKeys;
+  }
+
+  /**
+   * Verifies {@code proof} for a request.
+   *
+   * @param method      the request's HTTP method
+   * @param uri         the request's URI
+   * @param accessToken the access token sent with the proof, or {@code null} at a token
+   *                    endpoint
+   * @return the proof's key thumbprint, id and issue time
+   * @throws InvalidCredentialsException if the proof is malformed, stale, signed by a
+   *                                     key it does not carry, or made for another
+   *                                     request
+   */
+  public DpopProof verify(String proof, String method, String uri, String accessToken) {
+    if (proof == null) {
+      throw new InvalidCredentialsException();
+    }
+    int first = proof.indexOf('.');
+    int second = first < 0 ? -1 : proof.indexOf('.', first + 1);
+    if (first < 1 || first > MAX_HEADER_LENGTH || second < 0
+        || proof.indexOf('.', second + 1) >= 0) {
+      throw new InvalidCredentialsException();
+    }
+    ProofKey key = key(proof.substring(0, first));
+    String proofId;
+    long issuedAt;
+    try {
+      Map<String, Object> claims =
+          JSONObjectUtils.parse(
+              new Base64URL(proof.substring(first + 1, second)).decodeToString());
+      proofId = JSONObjectUtils.getString(claims, "jti");
+      issuedAt = JSONObjectUtils.getLong(claims, "iat");
+      String htu = JSONObjectUtils.getString(claims, "htu");
+      if (proofId == null || proofId.isBlank()
+          || !method.equals(JSONObjectUtils.getString(claims, "htm"))
+          || htu == null || !withoutQuery(uri).equals(withoutQuery(htu))
+          || (accessToken != null
+              && !accessTokenHash(accessToken, JSONObjectUtils.getString(claims, "ath")))) {
+        throw new InvalidCredentialsException();
+      }
+    } catch (ParseException | IllegalArgumentException e) {
+      throw new InvalidCredentialsException();
+    }
+    long now = clock.now().getEpochSecond();
+    if (issuedAt < now - maxAgeSeconds || issuedAt > now + clockSkewSeconds) {
+      throw new InvalidCredentialsException();
+    }
+    try {
+      if (!key.verifier().verify(key.header(),
+          proof.substring(0, second).getBytes(StandardCharsets.US_ASCII),
+          new Base64URL(proof.substring(second + 1)))) {
+        throw new InvalidCredentialsException();
+      }
+    } catch (JOSEException e) {
+      throw new InvalidCredentialsException();
+    }
+    return new DpopProof(key.thumbprint(), proofId, Instant.ofEpochSecond(issuedAt));
+  }
+
+  /**
+   * @return client keys currently cached
+   */
+  public int cachedKeys() {
+    return keys.size();
+  }
+
+  private ProofKey key(String encodedHeader) {
+    ProofKey key = keys.get(encodedHeader);
+    if (key != null) {
+      return key;
+    }
+    key = parse(encodedHeader);
+    if (keys.size() >= maxKeys) {
+      evict();
+    }
+    if (keys.size() < maxKeys) {
+      keys.put(encodedHeader, key);
+    }
+    return key;
+  }
+
+  private static ProofKey parse(String encodedHeader) {
+    try {
+      JWSHeader header = JWSHeader.parse(new Base64URL(encodedHeader));
+      JWK jwk = header.getJWK();
+      if (!PROOF_TYPE.equals(header.getType())
+          || !ALGORITHMS.contains(header.getAlgorithm())
+          || jwk == null || jwk.isPrivate()) {
+        throw new InvalidCredentialsException();
+      }
+      return new ProofKey(header, verifier(header.getAlgorithm(), jwk),
+          jwk.computeThumbprint().toString());
+    } catch (ParseException | JOSEException | GeneralSecurityException e) {
+      throw new InvalidCredentialsException();
+    }
+  }
+
+  private static JWSVerifier verifier(JWSAlgorithm algorithm, JWK jwk)
+      throws JOSEException, GeneralSecurityException {
+    if (JWSAlgorithm.ES256.equals(algorithm) && jwk instanceof ECKey ec
+        && Curve.P_256.equals(ec.getCurve())) {
+      return new ECDSAVerifier(ec);
+    }
+    if (JWSAlgorithm.RS256.equals(algorithm) && jwk instanceof RSAKey rsa
+        && rsa.size() >= MIN_RSA_BITS) {
+      return new RSASSAVerifier(rsa);
+    }
+    if (JWSAlgorithm.EdDSA.equals(algorithm) && jwk instanceof OctetKeyPair okp
+        && Curve.Ed25519.equals(okp.getCurve())) {
+      byte[] raw = okp.getDecodedX();
+      byte[] encoded = new byte[ED25519_PREFIX.length + raw.length];
+      System.arraycopy(ED25519_PREFIX, 0, encoded, 0, ED25519_PREFIX.length);
+      System.arraycopy(raw, 0, encoded, ED25519_PREFIX.length, raw.length);
+      return new JdkEd25519Verifier(
+          KeyFactory.getInstance("Ed25519").generatePublic(new X509EncodedKeySpec(encoded)));
+    }
+    throw new InvalidCredentialsException();
+  }
+
+  private void evict() {
+    if (!evicting.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      int dropped = Math.max(1, maxKeys / EVICTION_SLICE);
+      Iterator<String> headers = keys.keySet().iterator();
+      while (dropped-- > 0 && headers.hasNext()) {
+        headers.next();
+        headers.remove();
+      }
+    } finally {
+      evicting.set(false);
+    }
+  }
+
+  private static boolean accessTokenHash(String accessToken, String ath) {
+    if (ath == null) {
+      return false;
+    }
+    try {
+      byte[] expected = Base64.getUrlEncoder().withoutPadding().encode(
+          MessageDigest.getInstance("SHA-256")
+              .digest(accessToken.getBytes(StandardCharsets.US_ASCII)));
+      return MessageDigest.isEqual(expected, ath.getBytes(StandardCharsets.US_ASCII));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
+
+  private static String withoutQuery(String uri) {
+    int end = uri.length();
+    int query = uri.indexOf('?');
+    if (query >= 0) {
+      end = query;
+    }
+    int fragment = uri.indexOf('#');
+    if (fragment >= 0 && fragment < end) {
+      end = fragment;
+    }
+    return uri.substring(0, end);
+  }
+
+  private record ProofKey(JWSHeader header, JWSVerifier verifier, String thumbprint) {
+  }
+}
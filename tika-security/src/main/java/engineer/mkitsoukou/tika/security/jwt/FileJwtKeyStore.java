@@ -0,0 +1,155 @@
+package engineer.mkitsoukou.tika.security.jwt;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Keeps each key in {@code <kid>.properties} inside one directory, with the key pair as
+ * PEM (see {@link PemKeys}). Files are written to a temporary name and moved into place,
+ * so a crash never leaves a half-written key. Temporary files are created readable by
+ * the owner only on POSIX file systems, and keep that when moved.
+ *
+ * <p>Several nodes may share the directory, for instance on a network volume:
+ * {@link #locked} takes an exclusive lock on its {@code .lock} file, so their rings
+ * rotate one at a time and each sees the keys the others created. The file system must
+ * support {@link FileChannel#lock() advisory locks} across hosts.</p>
+ */
+public class FileJwtKeyStore implements JwtKeyStore {
+
+  private static final String SUFFIX = ".properties";
+  private static final String LOCK_FILE = ".lock";
+  // file locks are held per process, so rings of one JVM are serialized here first
+  private static final Map<Path, ReentrantLock> PROCESS_LOCKS = new ConcurrentHashMap<>();
+
+  private final Path directory;
+  private final ReentrantLock processLock;
+
+  /**
+   * @param directory where keys are kept; created if missing
+   */
+  public FileJwtKeyStore(Path directory) {
+    this.directory = Objects.requireNonNull(directory, "directory must not be null");
+    try {
+      Files.createDirectories(directory);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not create key store " + directory, e);
+    }
+    this.processLock = PROCESS_LOCKS.computeIfAbsent(
+        directory.toAbsolutePath().normalize(), path -> new ReentrantLock());
+  }
+
+  @Override
+  public <T> T locked(Supplier<T> action) {
+    processLock.lock();
+    try (FileChannel channel = FileChannel.open(directory.resolve(LOCK_FILE),
+        StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        FileLock lock = channel.lock()) {
+      return action.get();
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not lock key store " + directory, e);
+    } finally {
+      processLock.unlock();
+    }
+  }
+
+  @Override
+  public List<StoredJwtKey> loadAll() {
+    List<StoredJwtKey> keys = new ArrayList<>();
+    try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + SUFFIX)) {
+      for (Path file : files) {
+        keys.add(read(file));
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not read key store " + directory, e);
+    }
+    return keys;
+  }
+
+  @Override
+  public void save(StoredJwtKey key) {
+    Properties entry = new Properties();
+    entry.setProperty("algorithm", key.algorithm().getName());
+    entry.setProperty("created-at", key.createdAt().toString());
+    if (key.activatedAt() != null) {
+      entry.setProperty("activated-at", key.activatedAt().toString());
+    }
+    if (key.retiredAt() != null) {
+      entry.setProperty("retired-at", key.retiredAt().toString());
+    }
+    entry.setProperty("private-key", PemKeys.privatePem(key.keys().getPrivate()));
+    entry.setProperty("public-key", PemKeys.publicPem(key.keys().getPublic()));
+    Path target = file(key.keyId());
+    try {
+      Path temp = Files.createTempFile(directory, key.keyId(), ".tmp");
+      try (Writer out = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+        entry.store(out, null);
+      }
+      try {
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE,
+            StandardCopyOption.REPLACE_EXISTING);
+      } catch (AtomicMoveNotSupportedException e) {
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not save key " + key.keyId(), e);
+    }
+  }
+
+  @Override
+  public void delete(String keyId) {
+    try {
+      Files.deleteIfExists(file(keyId));
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not delete key " + keyId, e);
+    }
+  }
+
+  private Path file(String keyId) {
+    if (!keyId.matches("[A-Za-z0-9_-]+")) {
+      throw new IllegalArgumentException("Invalid key id " + keyId);
+    }
+    return directory.resolve(keyId + SUFFIX);
+  }
+
+  private static StoredJwtKey read(Path file) throws IOException {
+    Properties entry = new Properties();
+    try (Reader in = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+      entry.load(in);
+    }
+    String name = file.getFileName().toString();
+    JWSAlgorithm algorithm = JWSAlgorithm.parse(entry.getProperty("algorithm"));
+    return new StoredJwtKey(
+        name.substring(0, name.length() - SUFFIX.length()),
+        algorithm,
+        PemKeys.keyPair(algorithm, entry.getProperty("private-key"),
+            entry.getProperty("public-key")),
+        Instant.parse(entry.getProperty("created-at")),
+        instant(entry.getProperty("activated-at")),
+        instant(entry.getProperty("retired-at")));
+  }
+
+  private static Instant instant(String value) {
+    return value == null ? null : Instant.parse(value);
+  }
+}
@@ -0,0 +1,57 @@
+package engineer.mkitsoukou.tika.security.jwt;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSSigner;
+import com.nimbusds.jose.jca.JCAContext;
+import com.nimbusds.jose.util.Base64URL;
+import java.security.GeneralSecurityException;
+import java.security.PrivateKey;
+import java.security.Signature;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * EdDSA (Ed25519) signer on the JDK's own provider. Nimbus' {@code Ed25519Signer}
+ * needs Google Tink on the class path; the JDK has implemented Ed25519 since 15, so
+ * this keeps the dependency out. Thread-safe: each signature gets its own
+ * {@link Signature} instance.
+ */
+final class JdkEd25519Signer implements JWSSigner {
+
+  private final PrivateKey privateKey;
+  private final JCAContext jcaContext = new JCAContext();
+
+  JdkEd25519Signer(PrivateKey privateKey) {
+    this.privateKey = Objects.requireNonNull(privateKey, "privateKey must not be null");
+    if (!"EdDSA".equals(privateKey.getAlgorithm()) && !"Ed25519".equals(privateKey.getAlgorithm())) {
+      throw new IllegalArgumentException("Not an Ed25519 key: " + privateKey.getAlgorithm());
+    }
+  }
+
+  @Override
+  public Base64URL sign(JWSHeader header, byte[] signingInput) throws JOSEException {
+    if (!JWSAlgorithm.EdDSA.equals(header.getAlgorithm())) {
+      throw new JOSEException("Unsupported algorithm " + header.getAlgorithm());
+    }
+    try {
+      Signature signature = Signature.getInstance("Ed25519");
+      signature.initSign(privateKey);
+      signature.update(signingInput);
+      return Base64URL.encode(signature.sign());
+    } catch (GeneralSecurityException e) {
+      throw new JOSEException("Ed25519 signing failed", e);
+    }
+  }
+
+  @Override
+  public Set<JWSAlgorithm> supportedJWSAlgorithms() {
+    return Set.of(JWSAlgorithm.EdDSA);
+  }
+
+  @Override
+  public JCAContext getJCAContext() {
+    return jcaContext;
+  }
+}
@@ -0,0 +1,56 @@
+package engineer.mkitsoukou.tika.security.jwt;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.jca.JCAContext;
+import com.nimbusds.jose.util.Base64URL;
+import java.security.GeneralSecurityException;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * EdDSA (Ed25519) verifier on the JDK's own provider; the counterpart of
+ * {@link JdkEd25519Signer}. Thread-safe.
+ */
+final class JdkEd25519Verifier implements JWSVerifier {
+
+  private final PublicKey publicKey;
+  private final JCAContext jcaContext = new JCAContext();
+
+  JdkEd25519Verifier(PublicKey publicKey) {
+    this.publicKey = Objects.requireNonNull(publicKey, "publicKey must not be null");
+    if (!"EdDSA".equals(publicKey.getAlgorithm()) && !"Ed25519".equals(publicKey.getAlgorithm())) {
+      throw new IllegalArgumentException("Not an Ed25519 key: " + publicKey.getAlgorithm());
+    }
+  }
+
+  @Override
+  public boolean verify(JWSHeader header, byte[] signingInput, Base64URL signature)
+      throws JOSEException {
+    if (!JWSAlgorithm.EdDSA.equals(header.getAlgorithm())) {
+      throw new JOSEException("Unsupported algorithm " + header.getAlgorithm());
+    }
+    try {
+      Signature verifier = Signature.getInstance("Ed25519");
+      verifier.initVerify(publicKey);
+      verifier.update(signingInput);
+      return verifier.verify(signature.decode());
+    } catch (GeneralSecurityException e) {
+      return false;
+    }
+  }
+
+  @Override
+  public Set<JWSAlgorithm> supportedJWSAlgorithms() {
+    return Set.of(JWSAlgorithm.EdDSA);
+  }
+
+  @Override
+  public JCAContext getJCAContext() {
+    return jcaContext;
+  }
+}
@@ -0,0 +1,69 @@
+package engineer.mkitsoukou.tika.security.jwt;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import engineer.mkitsoukou.tika.application.auth.port.out.JwkSetPort;
+import engineer.mkitsoukou.tika.application.auth.port.out.JwtIssuerPort;
+import engineer.mkitsoukou.tika.application.auth.port.out.JwtValidatorPort;
+import engineer.mkitsoukou.tika.application.auth.port.out.TokenBlacklistPort;
+import engineer.mkitsoukou.tika.application.auth.port.out.TokenEpochPort;
+import engineer.mkitsoukou.tika.application.shared.ClockPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Provides the {@link JwtIssuerPort}, {@link JwtValidatorPort} and {@link JwkSetPort},
+ * enabled with {@code tika.security.jwt.enabled=true}. Signing keys live in a
+ * {@link JwtKeyRing} stored under {@code tika.security.jwt.key-store} and rotated on
+ * schedule. When several nodes issue or validate tokens, the key store must be one
+ * directory they all mount, so each verifies the others' tokens; a node adopts a peer's
+ * rotation within {@code rotation-check-interval}. Access-token validations are cached by {@link CachingJwtValidator}, which
+ * also honours a {@link TokenEpochPort} bean when there is one.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "tika.security.jwt", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(JwtProperties.class)
+public class JwtConfiguration {
+
+  @Bean(destroyMethod = "close")
+  JwtKeyRing jwtKeyRing(JwtProperties properties) {
+    JwtKeyRing ring = new JwtKeyRing(
+        new FileJwtKeyStore(properties.keyStore()),
+        new JwtKeyRing.Settings(JWSAlgorithm.parse(properties.algorithm()),
+            properties.rotationPeriod(), properties.refreshTokenTtl()),
+        ClockPort.SYSTEM);
+    ring.start(properties.rotationCheckInterval());
+    return ring;
+  }
+
+  @Bean
+  NimbusJwtIssuer jwtIssuer(JwtKeyRing ring, JwtProperties properties) {
+    return new NimbusJwtIssuer(ring::current,
+        new NimbusJwtIssuer.Settings(
+            properties.issuer(), properties.accessTokenTtl(), properties.refreshTokenTtl()),
+        NimbusJwtIssuer.RANDOM_IDS);
+  }
+
+  @Bean
+  CachingJwtValidator jwtValidator(
+      JwtKeyRing ring,
+      JwtProperties properties,
+      TokenBlacklistPort blacklist,
+      ObjectProvider<TokenEpochPort> epochs,
+      ObjectProvider<MeterRegistry> meters
+  ) {
+    CachingJwtValidator validator = new CachingJwtValidator(
+        new NimbusJwtValidator(ring, properties.issuer(), ClockPort.SYSTEM),
+        blacklist,
+        epochs.getIfAvailable(() -> TokenEpochPort.NONE),
+        ClockPort.SYSTEM,
+        properties.validationCacheSize());
+    new CachingJwtValidatorMetrics(validator)
+        .bindTo(meters.getIfAvailable(() -> Metrics.globalRegistry));
+    return validator;
+  }
+}
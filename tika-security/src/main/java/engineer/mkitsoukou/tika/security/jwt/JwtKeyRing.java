@@ -0,0 +1,267 @@
+package engineer.mkitsoukou.tika.security.jwt;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.JWKSet;
+import engineer.mkitsoukou.tika.application.auth.dto.JwkSetDto;
+import engineer.mkitsoukou.tika.application.auth.port.out.JwkSetPort;
+import engineer.mkitsoukou.tika.application.shared.ClockPort;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Signing keys with scheduled rotation.
+ *
+ * <p>The ring always holds one active key, which signs, and one pending key, which will
+ * sign after the next rotation. The pending key is published in the JWK Set a full
+ * rotation period before it is used, so resource servers caching the set for less than
+ * that never meet an unknown {@code kid}. Retired keys stay verifiable, and published,
+ * for {@code retention} after they stop signing; that must cover the longest token
+ * lifetime.</p>
+ *
+ * <p>Reads are lock-free: {@link #current()} and {@link #currentKeys()} return volatile
+ * snapshots and {@link #byKeyId(String)} is a hash lookup. Rotation is serialized and
+ * written through to the {@link JwtKeyStore} before the new key is used.</p>
+ *
+ * <p>Rings on several nodes share keys by sharing the store. Every change happens under
+ * the store's lock after reloading it, so only one ring performs a due rotation, and the
+ * others adopt it at their next check. Until then they keep signing with the retired
+ * key, which every node still verifies, and the new pending key is not needed for
+ * another rotation period.</p>
+ */
+public class JwtKeyRing implements VerificationKeys, JwkSetPort, AutoCloseable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(JwtKeyRing.class);
+
+  private final JwtKeyStore store;
+  private final Settings settings;
+  private final ClockPort clock;
+  private final Map<String, StoredJwtKey> keys = new HashMap<>();
+  private final Map<String, JwtVerificationKey> verificationKeys = new ConcurrentHashMap<>();
+  private volatile JwtSigningKey current;
+  private volatile JwkSetDto jwkSet;
+  private ScheduledExecutorService scheduler;
+
+  /**
+   * Loads the stored keys, drops expired ones and creates whatever is missing.
+   *
+   * @param store    where keys are kept
+   * @param settings algorithm of new keys and rotation timing
+   * @param clock    time source
+   */
+  public JwtKeyRing(JwtKeyStore store, Settings settings, ClockPort clock) {
+    this.store = Objects.requireNonNull(store, "store must not be null");
+    this.settings = Objects.requireNonNull(settings, "settings must not be null");
+    this.clock = Objects.requireNonNull(clock, "clock must not be null");
+    synchronized (this) {
+      store.locked(() -> {
+        reload();
+        refresh(clock.now());
+        return null;
+      });
+    }
+  }
+
+  /**
+   * @return the key new tokens are signed with
+   */
+  public JwtSigningKey current() {
+    return current;
+  }
+
+  @Override
+  public Optional<JwtVerificationKey> byKeyId(String keyId) {
+    return Optional.ofNullable(verificationKeys.get(keyId));
+  }
+
+  @Override
+  public JwkSetDto currentKeys() {
+    return jwkSet;
+  }
+
+  /**
+   * Picks up changes other rings made to the store, then rotates if the active key has
+   * signed for a full rotation period.
+   *
+   * @return whether a rotation happened
+   */
+  public synchronized boolean rotateIfDue() {
+    return store.locked(() -> {
+      reload();
+      Instant now = clock.now();
+      StoredJwtKey active = active().orElseThrow();
+      if (now.isBefore(active.activatedAt().plus(settings.rotationPeriod()))) {
+        refresh(now);
+        return false;
+      }
+      rotate(now);
+      return true;
+    });
+  }
+
+  /**
+   * Retires the active key, activates the pending one and creates a new pending key.
+   */
+  public synchronized void rotate() {
+    store.locked(() -> {
+      reload();
+      rotate(clock.now());
+      return null;
+    });
+  }
+
+  /**
+   * Checks for a due rotation every {@code checkInterval} on a background thread.
+   */
+  public synchronized void start(Duration checkInterval) {
+    if (scheduler != null) {
+      return;
+    }
+    scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+      Thread thread = new Thread(r, "jwt-key-rotation");
+      thread.setDaemon(true);
+      return thread;
+    });
+    scheduler.scheduleWithFixedDelay(() -> {
+      try {
+        rotateIfDue();
+      } catch (RuntimeException e) {
+        LOG.error("JWT key rotation failed", e);
+      }
+    }, checkInterval.toMillis(), checkInterval.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  public synchronized void close() {
+    if (scheduler != null) {
+      scheduler.shutdownNow();
+      scheduler = null;
+    }
+  }
+
+  private void rotate(Instant now) {
+    StoredJwtKey retired = active().orElseThrow().retire(now);
+    save(retired);
+    StoredJwtKey next = pending().orElseGet(() -> generate(now));
+    save(next.activate(now));
+    refresh(now);
+    LOG.info("Rotated JWT signing key {} to {}", retired.keyId(), next.keyId());
+  }
+
+  private void reload() {
+    keys.clear();
+    store.loadAll().forEach(key -> keys.put(key.keyId(), key));
+  }
+
+  /**
+   * Brings the ring to one active and one pending key, drops keys past retention and
+   * republishes.
+   */
+  private void refresh(Instant now) {
+    List<StoredJwtKey> expired = keys.values().stream()
+        .filter(key -> key.retiredAt() != null
+            && !now.isBefore(key.retiredAt().plus(settings.retention())))
+        .toList();
+    for (StoredJwtKey key : expired) {
+      store.delete(key.keyId());
+      keys.remove(key.keyId());
+    }
+    List<StoredJwtKey> active = keys.values().stream()
+        .filter(StoredJwtKey::isActive)
+        .sorted(Comparator.comparing(StoredJwtKey::activatedAt).reversed())
+        .toList();
+    // only after a crash mid-rotation can there be more than one
+    active.stream().skip(1).forEach(stale -> save(stale.retire(now)));
+    if (active.isEmpty()) {
+      save(pending().orElseGet(() -> generate(now)).activate(now));
+    }
+    if (pending().isEmpty()) {
+      save(generate(now));
+    }
+    publish();
+  }
+
+  private void publish() {
+    for (StoredJwtKey key : keys.values()) {
+      verificationKeys.computeIfAbsent(key.keyId(),
+          kid -> new JwtVerificationKey(kid, key.algorithm(), key.keys().getPublic()));
+    }
+    verificationKeys.keySet().retainAll(keys.keySet());
+    StoredJwtKey active = active().orElseThrow();
+    if (current == null || !current.keyId().equals(active.keyId())) {
+      current = JwtSigningKey.of(active.keyId(), active.algorithm(), active.keys());
+    }
+    String json = new JWKSet(keys.values().stream()
+        .sorted(Comparator.comparing(StoredJwtKey::createdAt)
+            .thenComparing(StoredJwtKey::keyId))
+        .map(key -> verificationKeys.get(key.keyId()).toJwk())
+        .toList()).toString(true);
+    if (jwkSet == null || !jwkSet.json().equals(json)) {
+      jwkSet = new JwkSetDto(json, etag(json));
+    }
+  }
+
+  private Optional<StoredJwtKey> active() {
+    return keys.values().stream().filter(StoredJwtKey::isActive).findFirst();
+  }
+
+  private Optional<StoredJwtKey> pending() {
+    return keys.values().stream()
+        .filter(StoredJwtKey::isPending)
+        .min(Comparator.comparing(StoredJwtKey::createdAt));
+  }
+
+  private StoredJwtKey generate(Instant now) {
+    String keyId = UUID.randomUUID().toString();
+    JwtSigningKey generated = JwtSigningKey.generate(keyId, settings.algorithm());
+    return new StoredJwtKey(keyId, settings.algorithm(), generated.keyPair(), now, null, null);
+  }
+
+  private void save(StoredJwtKey key) {
+    store.save(key);
+    keys.put(key.keyId(), key);
+  }
+
+  private static String etag(String json) {
+    try {
+      byte[] digest = MessageDigest.getInstance("SHA-256")
+          .digest(json.getBytes(StandardCharsets.UTF_8));
+      return '"' + Base64.getUrlEncoder().withoutPadding().encodeToString(digest) + '"';
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
+
+  /**
+   * @param algorithm      algorithm of newly generated keys
+   * @param rotationPeriod how long a key signs before the next one takes over
+   * @param retention      how long a retired key stays verifiable; at least the longest
+   *                       token lifetime
+   */
+  public record Settings(JWSAlgorithm algorithm, Duration rotationPeriod, Duration retention) {
+
+    public Settings {
+      Objects.requireNonNull(algorithm, "algorithm must not be null");
+      if (!rotationPeriod.isPositive() || retention.isNegative()) {
+        throw new IllegalArgumentException(
+            "rotationPeriod must be positive and retention not negative");
+      }
+    }
+  }
+}
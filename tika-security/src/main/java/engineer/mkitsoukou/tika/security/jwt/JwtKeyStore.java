@@ -0,0 +1,31 @@
+package engineer.mkitsoukou.tika.security.jwt;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Persistence of the {@link JwtKeyRing}'s keys, private halves included.
+ */
+public interface JwtKeyStore {
+
+  List<StoredJwtKey> loadAll();
+
+  /**
+   * Inserts or replaces the key with the same id.
+   */
+  void save(StoredJwtKey key);
+
+  void delete(String keyId);
+
+  /**
+   * Runs {@code action} holding the store's exclusive lock, so rings on several nodes
+   * sharing the store never change it at the same time. The default takes no lock and
+   * suits stores used by a single ring.
+   *
+   * @param action reads and writes of the store that must not interleave with other rings
+   * @return the action's result
+   */
+  default <T> T locked(Supplier<T> action) {
+    return action.get();
+  }
+}
@@ -0,0 +1,595 @@
+package engineer.mkitsoukou.tika.security.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Streaming reader of the claims {@link NimbusJwtValidator} needs, taken straight from
+ * the payload of a compact JWS.
+ *
+ * <p>The payload is base64url-decoded into a buffer reused across calls and scanned once.
+ * Only {@code iss}, {@code sub}, {@code jti}, {@code iat}, {@code exp},
+ * {@value NimbusJwtIssuer#TOKEN_USE}, {@value NimbusJwtIssuer#ROLES},
+ * {@value NimbusJwtIssuer#PERMISSIONS}, {@value NimbusJwtIssuer#PERMISSIONS_VERSION} and
+ * the {@value NimbusJwtIssuer#KEY_THUMBPRINT} member of {@value NimbusJwtIssuer#CONFIRMATION}
+ * are materialized; other claims are checked for well-formedness and skipped. A claim
+ * given as {@code null} counts as absent.</p>
+ *
+ * <p>The reader is stricter than a general JSON parser: a known claim of the wrong type,
+ * a known claim given twice, a fractional or out-of-range number in a numeric claim, and
+ * nesting deeper than {@value #MAX_DEPTH} levels are all rejected. Any rejection is an
+ * {@link IllegalArgumentException}.</p>
+ *
+ * <p>Not thread-safe; values read stay valid until the next {@link #read(String)}.</p>
+ */
+public final class JwtPayloadReader {
+
+  private static final int MAX_DEPTH = 32;
+  private static final int INITIAL_CAPACITY = 512;
+
+  private static final byte[][] NAMES = {
+      ascii("iss"),
+      ascii("sub"),
+      ascii("jti"),
+      ascii("iat"),
+      ascii("exp"),
+      ascii(NimbusJwtIssuer.TOKEN_USE),
+      ascii(NimbusJwtIssuer.ROLES),
+      ascii(NimbusJwtIssuer.PERMISSIONS),
+      ascii(NimbusJwtIssuer.PERMISSIONS_VERSION),
+      ascii(NimbusJwtIssuer.CONFIRMATION)
+  };
+  private static final int ISS = 0;
+  private static final int SUB = 1;
+  private static final int JTI = 2;
+  private static final int IAT = 3;
+  private static final int EXP = 4;
+  private static final int TOKEN_USE = 5;
+  private static final int ROLES = 6;
+  private static final int PERMISSIONS = 7;
+  private static final int PERMISSIONS_VERSION = 8;
+  private static final int CONFIRMATION = 9;
+
+  private static final byte[] SEXTETS = new byte[128];
+
+  static {
+    Arrays.fill(SEXTETS, (byte) -1);
+    String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+    for (int i = 0; i < alphabet.length(); i++) {
+      SEXTETS[alphabet.charAt(i)] = (byte) i;
+    }
+  }
+
+  private byte[] buf = new byte[INITIAL_CAPACITY];
+  private int pos;
+  private int limit;
+  private final StringBuilder escaped = new StringBuilder();
+  private final List<String> roleList = new ArrayList<>();
+
+  private int present;
+  private String issuer;
+  private String subject;
+  private String jwtId;
+  private String tokenUse;
+  private String permissions;
+  private String keyThumbprint;
+  private long issuedAt;
+  private long expiresAt;
+  private int permissionsVersion;
+
+  /**
+   * Reads the payload of {@code token}. The signature is not looked at.
+   *
+   * @return this reader, holding the token's claims
+   * @throws IllegalArgumentException if the token is not a compact JWS with a JSON
+   *                                  object payload, or a known claim is malformed
+   */
+  public JwtPayloadReader read(String token) {
+    int first = token.indexOf('.');
+    int second = first < 0 ? -1 : token.indexOf('.', first + 1);
+    if (second < 0 || token.indexOf('.', second + 1) >= 0) {
+      throw malformed("not a compact JWS");
+    }
+    decode(token, first + 1, second);
+    present = 0;
+    roleList.clear();
+    readObject();
+    return this;
+  }
+
+  public String issuer() {
+    return has(ISS) ? issuer : null;
+  }
+
+  public String subject() {
+    return has(SUB) ? subject : null;
+  }
+
+  public String jwtId() {
+    return has(JTI) ? jwtId : null;
+  }
+
+  public String tokenUse() {
+    return has(TOKEN_USE) ? tokenUse : null;
+  }
+
+  public boolean hasIssuedAt() {
+    return has(IAT);
+  }
+
+  /**
+   * @return {@code iat} in epoch seconds; meaningful if {@link #hasIssuedAt()}
+   */
+  public long issuedAt() {
+    return issuedAt;
+  }
+
+  public boolean hasExpiresAt() {
+    return has(EXP);
+  }
+
+  /**
+   * @return {@code exp} in epoch seconds; meaningful if {@link #hasExpiresAt()}
+   */
+  public long expiresAt() {
+    return expiresAt;
+  }
+
+  /**
+   * @return the roles as an immutable set, empty when the claim is absent
+   */
+  public Set<String> roles() {
+    if (roleList.isEmpty()) {
+      return Set.of();
+    }
+    String[] roles = roleList.toArray(String[]::new);
+    try {
+      return Set.of(roles);
+    } catch (IllegalArgumentException duplicate) {
+      return Set.copyOf(new HashSet<>(roleList));
+    }
+  }
+
+  /**
+   * @return the encoded {@value NimbusJwtIssuer#PERMISSIONS} claim, or {@code null}
+   */
+  public String permissions() {
+    return has(PERMISSIONS) ? permissions : null;
+  }
+
+  public boolean hasPermissionsVersion() {
+    return has(PERMISSIONS_VERSION);
+  }
+
+  public int permissionsVersion() {
+    return permissionsVersion;
+  }
+
+  /**
+   * @return {@value NimbusJwtIssuer#KEY_THUMBPRINT} of the
+   *         {@value NimbusJwtIssuer#CONFIRMATION} claim, or {@code null}
+   */
+  public String keyThumbprint() {
+    return has(CONFIRMATION) ? keyThumbprint : null;
+  }
+
+  private boolean has(int claim) {
+    return (present & (1 << claim)) != 0;
+  }
+
+  private void decode(String token, int from, int to) {
+    int length = to - from;
+    if (length == 0 || length % 4 == 1) {
+      throw malformed("payload is not base64url");
+    }
+    int decoded = length / 4 * 3 + (length % 4 == 0 ? 0 : length % 4 - 1);
+    if (buf.length < decoded) {
+      buf = new byte[Math.max(decoded, buf.length * 2)];
+    }
+    int out = 0;
+    int i = from;
+    for (; i + 4 <= to; i += 4) {
+      int bits = sextet(token.charAt(i)) << 18 | sextet(token.charAt(i + 1)) << 12
+          | sextet(token.charAt(i + 2)) << 6 | sextet(token.charAt(i + 3));
+      buf[out++] = (byte) (bits >> 16);
+      buf[out++] = (byte) (bits >> 8);
+      buf[out++] = (byte) bits;
+    }
+    if (i < to) {
+      int bits = sextet(token.charAt(i)) << 18 | sextet(token.charAt(i + 1)) << 12;
+      buf[out++] = (byte) (bits >> 16);
+      if (to - i == 3) {
+        bits |= sextet(token.charAt(i + 2)) << 6;
+        buf[out++] = (byte) (bits >> 8);
+      }
+    }
+    pos = 0;
+    limit = out;
+  }
+
+  private static int sextet(char c) {
+    int value = c < SEXTETS.length ? SEXTETS[c] : -1;
+    if (value < 0) {
+      throw malformed("payload is not base64url");
+    }
+    return value;
+  }
+
+  private void readObject() {
+    skipWhitespace();
+    expect('{');
+    skipWhitespace();
+    if (peek() == '}') {
+      pos++;
+    } else {
+      while (true) {
+        skipWhitespace();
+        int claim = readName();
+        skipWhitespace();
+        expect(':');
+        skipWhitespace();
+        if (claim < 0) {
+          skipValue(1);
+        } else if (peek() == 'n') {
+          literal("null");
+        } else {
+          if (has(claim)) {
+            throw malformed(
+                "duplicate claim " + new String(NAMES[claim], StandardCharsets.US_ASCII));
+          }
+          readClaim(claim);
+          present |= 1 << claim;
+        }
+        skipWhitespace();
+        byte next = next();
+        if (next == '}') {
+          break;
+        }
+        if (next != ',') {
+          throw malformed("expected , or }");
+        }
+      }
+    }
+    skipWhitespace();
+    if (pos != limit) {
+      throw malformed("trailing data after the claims");
+    }
+  }
+
+  private void readClaim(int claim) {
+    switch (claim) {
+      case ISS -> issuer = readString();
+      case SUB -> subject = readString();
+      case JTI -> jwtId = readString();
+      case TOKEN_USE -> tokenUse = readString();
+      case PERMISSIONS -> permissions = readString();
+      case IAT -> issuedAt = readInteger(Long.MAX_VALUE);
+      case EXP -> expiresAt = readInteger(Long.MAX_VALUE);
+      case PERMISSIONS_VERSION -> permissionsVersion = (int) readInteger(Integer.MAX_VALUE);
+      case ROLES -> readRoles();
+      case CONFIRMATION -> readConfirmation();
+      default -> throw new IllegalStateException("unknown claim " + claim);
+    }
+  }
+
+  /**
+   * @return index of the name in {@link #NAMES}, or -1 for any other claim
+   */
+  private int readName() {
+    expect('"');
+    int start = pos;
+    while (pos < limit && buf[pos] != '"' && buf[pos] != '\\' && (buf[pos] & 0xff) >= 0x20) {
+      pos++;
+    }
+    if (pos < limit && buf[pos] == '"') {
+      int length = pos - start;
+      pos++;
+      for (int i = 0; i < NAMES.length; i++) {
+        if (NAMES[i].length == length
+            && Arrays.equals(NAMES[i], 0, length, buf, start, start + length)) {
+          return i;
+        }
+      }
+      return -1;
+    }
+    pos = start - 1;
+    byte[] name = readString().getBytes(StandardCharsets.UTF_8);
+    for (int i = 0; i < NAMES.length; i++) {
+      if (Arrays.equals(NAMES[i], name)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private void readRoles() {
+    expect('[');
+    skipWhitespace();
+    if (peek() == ']') {
+      pos++;
+      return;
+    }
+    while (true) {
+      skipWhitespace();
+      roleList.add(readString());
+      skipWhitespace();
+      byte next = next();
+      if (next == ']') {
+        return;
+      }
+      if (next != ',') {
+        throw malformed("expected , or ]");
+      }
+    }
+  }
+
+  private void readConfirmation() {
+    keyThumbprint = null;
+    expect('{');
+    skipWhitespace();
+    if (peek() == '}') {
+      pos++;
+      return;
+    }
+    while (true) {
+      skipWhitespace();
+      boolean thumbprint = NimbusJwtIssuer.KEY_THUMBPRINT.equals(readString());
+      skipWhitespace();
+      expect(':');
+      skipWhitespace();
+      if (!thumbprint) {
+        skipValue(2);
+      } else if (keyThumbprint != null) {
+        throw malformed("duplicate claim " + NimbusJwtIssuer.KEY_THUMBPRINT);
+      } else {
+        keyThumbprint = readString();
+      }
+      skipWhitespace();
+      byte next = next();
+      if (next == '}') {
+        return;
+      }
+      if (next != ',') {
+        throw malformed("expected , or }");
+      }
+    }
+  }
+
+  private String readString() {
+    expect('"');
+    int start = pos;
+    while (pos < limit) {
+      byte b = buf[pos];
+      if (b == '"') {
+        pos++;
+        return new String(buf, start, pos - 1 - start, StandardCharsets.UTF_8);
+      }
+      if (b == '\\') {
+        return readEscapedString(start);
+      }
+      if ((b & 0xff) < 0x20) {
+        throw malformed("control character in a string");
+      }
+      pos++;
+    }
+    throw malformed("unterminated string");
+  }
+
+  private String readEscapedString(int start) {
+    escaped.setLength(0);
+    int run = start;
+    while (pos < limit) {
+      byte b = buf[pos];
+      if (b == '"') {
+        escaped.append(new String(buf, run, pos - run, StandardCharsets.UTF_8));
+        pos++;
+        return escaped.toString();
+      }
+      if (b == '\\') {
+        escaped.append(new String(buf, run, pos - run, StandardCharsets.UTF_8));
+        pos++;
+        escaped.append(readEscape());
+        run = pos;
+      } else if ((b & 0xff) < 0x20) {
+        throw malformed("control character in a string");
+      } else {
+        pos++;
+      }
+    }
+    throw malformed("unterminated string");
+  }
+
+  private char readEscape() {
+    byte b = next();
+    return switch (b) {
+      case '"' -> '"';
+      case '\\' -> '\\';
+      case '/' -> '/';
+      case 'b' -> '\b';
+      case 'f' -> '\f';
+      case 'n' -> '\n';
+      case 'r' -> '\r';
+      case 't' -> '\t';
+      case 'u' -> (char) (hex(next()) << 12 | hex(next()) << 8 | hex(next()) << 4 | hex(next()));
+      default -> throw malformed("invalid escape");
+    };
+  }
+
+  private static int hex(byte b) {
+    int value = Character.digit(b, 16);
+    if (value < 0) {
+      throw malformed("invalid \\u escape");
+    }
+    return value;
+  }
+
+  /**
+   * Reads a non-negative integer no larger than {@code max}.
+   */
+  private long readInteger(long max) {
+    int start = pos;
+    long value = 0;
+    while (pos < limit && buf[pos] >= '0' && buf[pos] <= '9') {
+      int digit = buf[pos] - '0';
+      if (value > (max - digit) / 10) {
+        throw malformed("number out of range");
+      }
+      value = value * 10 + digit;
+      pos++;
+    }
+    int digits = pos - start;
+    if (digits == 0 || (digits > 1 && buf[start] == '0')) {
+      throw malformed("expected a non-negative integer");
+    }
+    if (pos < limit && (buf[pos] == '.' || buf[pos] == 'e' || buf[pos] == 'E')) {
+      throw malformed("expected an integer");
+    }
+    return value;
+  }
+
+  private void skipValue(int depth) {
+    if (depth > MAX_DEPTH) {
+      throw malformed("claims nested too deeply");
+    }
+    byte b = peek();
+    switch (b) {
+      case '"' -> skipString();
+      case '{' -> skipContainer('}', true, depth);
+      case '[' -> skipContainer(']', false, depth);
+      case 't' -> literal("true");
+      case 'f' -> literal("false");
+      case 'n' -> literal("null");
+      default -> {
+        if (b == '-' || (b >= '0' && b <= '9')) {
+          skipNumber();
+        } else {
+          throw malformed("unexpected character");
+        }
+      }
+    }
+  }
+
+  private void skipContainer(char close, boolean object, int depth) {
+    pos++;
+    skipWhitespace();
+    if (peek() == close) {
+      pos++;
+      return;
+    }
+    while (true) {
+      skipWhitespace();
+      if (object) {
+        skipString();
+        skipWhitespace();
+        expect(':');
+        skipWhitespace();
+      }
+      skipValue(depth + 1);
+      skipWhitespace();
+      byte next = next();
+      if (next == close) {
+        return;
+      }
+      if (next != ',') {
+        throw malformed("expected , or " + close);
+      }
+    }
+  }
+
+  private void skipString() {
+    expect('"');
+    while (pos < limit) {
+      byte b = buf[pos++];
+      if (b == '"') {
+        return;
+      }
+      if (b == '\\') {
+        readEscape();
+      } else if ((b & 0xff) < 0x20) {
+        throw malformed("control character in a string");
+      }
+    }
+    throw malformed("unterminated string");
+  }
+
+  private void skipNumber() {
+    if (peek() == '-') {
+      pos++;
+    }
+    if (skipDigits() == 0) {
+      throw malformed("invalid number");
+    }
+    if (pos < limit && buf[pos] == '.') {
+      pos++;
+      if (skipDigits() == 0) {
+        throw malformed("invalid number");
+      }
+    }
+    if (pos < limit && (buf[pos] == 'e' || buf[pos] == 'E')) {
+      pos++;
+      if (pos < limit && (buf[pos] == '+' || buf[pos] == '-')) {
+        pos++;
+      }
+      if (skipDigits() == 0) {
+        throw malformed("invalid number");
+      }
+    }
+  }
+
+  private int skipDigits() {
+    int start = pos;
+    while (pos < limit && buf[pos] >= '0' && buf[pos] <= '9') {
+      pos++;
+    }
+    return pos - start;
+  }
+
+  private void literal(String word) {
+    for (int i = 0; i < word.length(); i++) {
+      if (next() != word.charAt(i)) {
+        throw malformed("invalid literal");
+      }
+    }
+  }
+
+  private void skipWhitespace() {
+    while (pos < limit) {
+      byte b = buf[pos];
+      if (b != ' ' && b != '\t' && b != '\n' && b != '\r') {
+        return;
+      }
+      pos++;
+    }
+  }
+
+  private void expect(char c) {
+    if (next() != c) {
+      throw malformed("expected " + c);
+    }
+  }
+
+  private byte peek() {
+    if (pos >= limit) {
+      throw malformed("unexpected end of claims");
+    }
+    return buf[pos];
+  }
+
+  private byte next() {
+    byte b = peek();
+    pos++;
+    return b;
+  }
+
+  private static IllegalArgumentException malformed(String reason) {
+    return new IllegalArgumentException("Malformed JWT payload: " + reason);
+  }
+
+  private static byte[] ascii(String name) {
+    return name.getBytes(StandardCharsets.US_ASCII);
+  }
+}
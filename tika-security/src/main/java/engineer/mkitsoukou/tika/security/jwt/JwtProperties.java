@@ -0,0 +1,32 @@
+package engineer.mkitsoukou.tika.security.jwt;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Token issuing settings, bound from {@code tika.security.jwt.*}.
+ *
+ * @param issuer                {@code iss} of every token
+ * @param accessTokenTtl        lifetime of access tokens
+ * @param refreshTokenTtl       lifetime of refresh tokens; retired keys stay verifiable
+ *                              this long
+ * @param algorithm             RS256, ES256 or EdDSA, for newly generated keys
+ * @param keyStore              directory holding the signing keys, shared by every node
+ * @param rotationPeriod        how long a key signs before the next one takes over
+ * @param rotationCheckInterval how often a due rotation is looked for
+ * @param validationCacheSize   most validated access tokens remembered at once
+ */
+@ConfigurationProperties(prefix = "tika.security.jwt")
+public record JwtProperties(
+    @DefaultValue("tika") String issuer,
+    @DefaultValue("15m") Duration accessTokenTtl,
+    @DefaultValue("7d") Duration refreshTokenTtl,
+    @DefaultValue("ES256") String algorithm,
+    @DefaultValue("var/jwt-keys") Path keyStore,
+    @DefaultValue("7d") Duration rotationPeriod,
+    @DefaultValue("1m") Duration rotationCheckInterval,
+    @DefaultValue("100000") int validationCacheSize
+) {
+}
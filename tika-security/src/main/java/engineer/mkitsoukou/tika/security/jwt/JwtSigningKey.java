@@ -0,0 +1,214 @@
+package engineer.mkitsoukou.tika.security.jwt;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSSigner;
+import com.nimbusds.jose.crypto.ECDSASigner;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.crypto.impl.ECDSA;
+import com.nimbusds.jose.util.Base64URL;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.interfaces.ECPrivateKey;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A key tokens are signed with, together with everything about it that does not
+ * change between tokens: the thread-safe signer and the JOSE header, already
+ * base64url-encoded and followed by the {@code '.'} separator.
+ *
+ * <p>Supported algorithms are RS256, ES256 (P-256) and EdDSA (Ed25519). ES256 and
+ * EdDSA sign far faster than RS256 at the same security level.</p>
+ */
+public final class JwtSigningKey {
+
+  /**
+   * Algorithms keys can be created for.
+   */
+  public static final Set<JWSAlgorithm> ALGORITHMS =
+      Set.of(JWSAlgorithm.RS256, JWSAlgorithm.ES256, JWSAlgorithm.EdDSA);
+
+  private final String keyId;
+  private final JWSAlgorithm algorithm;
+  private final KeyPair keys;
+  private final JWSHeader header;
+  private final JWSSigner signer;
+  private final JwtVerificationKey verificationKey;
+  private final byte[] encodedHeader;
+
+  private JwtSigningKey(String keyId, JWSAlgorithm algorithm, KeyPair keys) {
+    this.keyId = Objects.requireNonNull(keyId, "keyId must not be null");
+    this.algorithm = Objects.requireNonNull(algorithm, "algorithm must not be null");
+    this.keys = Objects.requireNonNull(keys, "keys must not be null");
+    this.header = new JWSHeader.Builder(algorithm).keyID(keyId).build();
+    this.signer = signer(algorithm, keys);
+    this.verificationKey = new JwtVerificationKey(keyId, algorithm, keys.getPublic());
+    ClaimsJsonWriter json = new ClaimsJsonWriter(64)
+        .begin()
+        .field("alg", algorithm.getName())
+        .field("kid", keyId)
+        .field("typ", "JWT")
+        .end();
+    byte[] encoded = new byte[ClaimsJsonWriter.encodedLength(json.length()) + 1];
+    encoded[json.encodeTo(encoded, 0)] = '.';
+    this.encodedHeader = encoded;
+  }
+
+  /**
+   * @param keyId     {@code kid} written to every token header
+   * @param algorithm one of {@link #ALGORITHMS}
+   * @param keys      key pair matching the algorithm
+   * @throws IllegalArgumentException if the algorithm is unsupported or the keys do not
+   *                                  fit it
+   */
+  public static JwtSigningKey of(String keyId, JWSAlgorithm algorithm, KeyPair keys) {
+    return new JwtSigningKey(keyId, algorithm, keys);
+  }
+
+  /**
+   * Generates a fresh key pair for the algorithm.
+   */
+  public static JwtSigningKey generate(String keyId, JWSAlgorithm algorithm) {
+    try {
+      KeyPairGenerator generator;
+      if (JWSAlgorithm.RS256.equals(algorithm)) {
+        generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+      } else if (JWSAlgorithm.ES256.equals(algorithm)) {
+        generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+      } else if (JWSAlgorithm.EdDSA.equals(algorithm)) {
+        generator = KeyPairGenerator.getInstance("Ed25519");
+      } else {
+        throw new IllegalArgumentException("Unsupported signing algorithm " + algorithm);
+      }
+      return new JwtSigningKey(keyId, algorithm, generator.generateKeyPair());
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException("Could not generate a " + algorithm + " key", e);
+    }
+  }
+
+  public String keyId() {
+    return keyId;
+  }
+
+  public JWSAlgorithm algorithm() {
+    return algorithm;
+  }
+
+  public PublicKey publicKey() {
+    return keys.getPublic();
+  }
+
+  /**
+   * @return the key pair, private half included
+   */
+  KeyPair keyPair() {
+    return keys;
+  }
+
+  /**
+   * @return the key that verifies tokens signed with this one
+   */
+  public JwtVerificationKey verificationKey() {
+    return verificationKey;
+  }
+
+  /**
+   * @return the encoded header followed by {@code '.'}; callers must not modify it
+   */
+  byte[] encodedHeader() {
+    return encodedHeader;
+  }
+
+  /**
+   * @return the base64url-encoded signature of the JWS signing input
+   */
+  String sign(byte[] signingInput) {
+    try {
+      return signer.sign(header, signingInput).toString();
+    } catch (JOSEException e) {
+      throw new IllegalStateException("Could not sign token with key " + keyId, e);
+    }
+  }
+
+  /**
+   * @return a signer for a run of tokens on one thread
+   */
+  RunSigner runSigner() {
+    return new RunSigner();
+  }
+
+  private static JWSSigner signer(JWSAlgorithm algorithm, KeyPair keys) {
+    try {
+      if (JWSAlgorithm.RS256.equals(algorithm)) {
+        return new RSASSASigner(keys.getPrivate());
+      }
+      if (JWSAlgorithm.ES256.equals(algorithm)
+          && keys.getPrivate() instanceof ECPrivateKey ecKey) {
+        ECDSASigner ecdsa = new ECDSASigner(ecKey);
+        if (!ecdsa.supportedJWSAlgorithms().contains(JWSAlgorithm.ES256)) {
+          throw new IllegalArgumentException("ES256 requires a P-256 key");
+        }
+        return ecdsa;
+      }
+      if (JWSAlgorithm.EdDSA.equals(algorithm)) {
+        return new JdkEd25519Signer(keys.getPrivate());
+      }
+    } catch (JOSEException | IllegalArgumentException e) {
+      throw new IllegalArgumentException("Key does not fit " + algorithm + ": " + e.getMessage(), e);
+    }
+    throw new IllegalArgumentException("Unsupported signing algorithm " + algorithm);
+  }
+
+  /**
+   * Signs any number of tokens with one JCA {@link Signature}, initialized once, where
+   * the Nimbus signers look up and initialize a new one per token. Not thread-safe.
+   */
+  final class RunSigner {
+
+    private final Signature signature;
+
+    private RunSigner() {
+      try {
+        signature = Signature.getInstance(jcaAlgorithm());
+        signature.initSign(keys.getPrivate());
+      } catch (GeneralSecurityException e) {
+        throw new IllegalStateException("Could not initialize signing with key " + keyId, e);
+      }
+    }
+
+    /**
+     * @return the base64url-encoded signature of the JWS signing input
+     */
+    String sign(byte[] signingInput) {
+      try {
+        signature.update(signingInput);
+        byte[] signed = signature.sign();
+        if (JWSAlgorithm.ES256.equals(algorithm)) {
+          // the JCA returns DER; JWS wants R and S concatenated, 32 bytes each
+          signed = ECDSA.transcodeSignatureToConcat(signed, 64);
+        }
+        return Base64URL.encode(signed).toString();
+      } catch (GeneralSecurityException | JOSEException e) {
+        throw new IllegalStateException("Could not sign token with key " + keyId, e);
+      }
+    }
+
+    private String jcaAlgorithm() {
+      if (JWSAlgorithm.RS256.equals(algorithm)) {
+        return "SHA256withRSA";
+      }
+      if (JWSAlgorithm.ES256.equals(algorithm)) {
+        return "SHA256withECDSA";
+      }
+      return "Ed25519";
+    }
+  }
+}
@@ -0,0 +1,105 @@
+package engineer.mkitsoukou.tika.security.jwt;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.crypto.ECDSAVerifier;
+import com.nimbusds.jose.crypto.RSASSAVerifier;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.KeyUse;
+import com.nimbusds.jose.jwk.OctetKeyPair;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.util.Base64URL;
+import com.nimbusds.jwt.SignedJWT;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Public half of a {@link JwtSigningKey}: what a validator needs to check a token's
+ * signature. The verifier is built once and is thread-safe.
+ */
+public final class JwtVerificationKey {
+
+  private final String keyId;
+  private final JWSAlgorithm algorithm;
+  private final PublicKey publicKey;
+  private final JWSVerifier verifier;
+
+  /**
+   * @throws IllegalArgumentException if the key does not fit the algorithm
+   */
+  public JwtVerificationKey(String keyId, JWSAlgorithm algorithm, PublicKey publicKey) {
+    this.keyId = Objects.requireNonNull(keyId, "keyId must not be null");
+    this.algorithm = Objects.requireNonNull(algorithm, "algorithm must not be null");
+    this.publicKey = Objects.requireNonNull(publicKey, "publicKey must not be null");
+    this.verifier = verifier(algorithm, publicKey);
+  }
+
+  public String keyId() {
+    return keyId;
+  }
+
+  public JWSAlgorithm algorithm() {
+    return algorithm;
+  }
+
+  public PublicKey publicKey() {
+    return publicKey;
+  }
+
+  /**
+   * @return whether the token names this key and its signature is valid
+   */
+  public boolean verify(SignedJWT token) {
+    if (!keyId.equals(token.getHeader().getKeyID())
+        || !algorithm.equals(token.getHeader().getAlgorithm())) {
+      return false;
+    }
+    try {
+      return token.verify(verifier);
+    } catch (JOSEException | IllegalStateException e) {
+      return false;
+    }
+  }
+
+  /**
+   * @return the key as a public JWK, for publication in a JWK Set
+   */
+  public JWK toJwk() {
+    if (publicKey instanceof RSAPublicKey rsa) {
+      return new RSAKey.Builder(rsa).keyID(keyId).algorithm(algorithm)
+          .keyUse(KeyUse.SIGNATURE).build();
+    }
+    if (publicKey instanceof ECPublicKey ec) {
+      return new ECKey.Builder(Curve.P_256, ec).keyID(keyId).algorithm(algorithm)
+          .keyUse(KeyUse.SIGNATURE).build();
+    }
+    // X.509 encoding of an Ed25519 key: a fixed 12-byte prefix, then the 32-byte key
+    byte[] encoded = publicKey.getEncoded();
+    byte[] raw = Arrays.copyOfRange(encoded, encoded.length - 32, encoded.length);
+    return new OctetKeyPair.Builder(Curve.Ed25519, Base64URL.encode(raw)).keyID(keyId)
+        .algorithm(algorithm).keyUse(KeyUse.SIGNATURE).build();
+  }
+
+  private static JWSVerifier verifier(JWSAlgorithm algorithm, PublicKey key) {
+    try {
+      if (JWSAlgorithm.RS256.equals(algorithm) && key instanceof RSAPublicKey rsa) {
+        return new RSASSAVerifier(rsa);
+      }
+      if (JWSAlgorithm.ES256.equals(algorithm) && key instanceof ECPublicKey ec) {
+        return new ECDSAVerifier(ec);
+      }
+      if (JWSAlgorithm.EdDSA.equals(algorithm)) {
+        return new JdkEd25519Verifier(key);
+      }
+    } catch (JOSEException | IllegalArgumentException e) {
+      throw new IllegalArgumentException("Key does not fit " + algorithm + ": " + e.getMessage(), e);
+    }
+    throw new IllegalArgumentException("Key does not fit " + algorithm);
+  }
+}
@@ -0,0 +1,189 @@
+package engineer.mkitsoukou.tika.security.jwt;
+
+import engineer.mkitsoukou.tika.application.auth.dto.AuthTokensDto;
+import engineer.mkitsoukou.tika.application.auth.model.AuthSubject;
+import engineer.mkitsoukou.tika.application.auth.model.PermissionMask;
+import engineer.mkitsoukou.tika.application.auth.port.out.JwtIssuerPort;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Supplier;
+
+/**
+ * Issues signed access and refresh tokens.
+ *
+ * <p>Only the signature is computed per token. The header comes pre-encoded from the
+ * {@link JwtSigningKey}, and claims are written by a pooled {@link ClaimsJsonWriter}
+ * and base64url-encoded straight into the signing input, skipping Nimbus'
+ * {@code JWTClaimsSet} and its JSON round trip.</p>
+ *
+ * <p>Both tokens carry {@code iss}, {@code sub}, {@code iat}, {@code exp}, {@code jti}
+ * and {@code roles}; {@value #TOKEN_USE} tells them apart. {@link AuthTokensDto#expiresAt()}
+ * is the access token's expiry. When the subject has a {@link PermissionMask}, the access
+ * token carries it in {@value #PERMISSIONS} instead of the role ids. When the subject has
+ * a key thumbprint, both tokens are bound to that key through {@value #CONFIRMATION}.</p>
+ */
+public class NimbusJwtIssuer implements JwtIssuerPort {
+
+  /**
+   * Claim naming the token's purpose, {@value #ACCESS} or {@value #REFRESH}.
+   */
+  public static final String TOKEN_USE = "token_use";
+  public static final String ACCESS = "access";
+  public static final String REFRESH = "refresh";
+  public static final String ROLES = "roles";
+
+  /**
+   * Access-token claim holding the subject's {@link PermissionMask} as base64url of its
+   * little-endian bytes; {@value #PERMISSIONS_VERSION} holds the registry version. An
+   * access token with a mask leaves out {@value #ROLES}.
+   */
+  public static final String PERMISSIONS = "perms";
+  public static final String PERMISSIONS_VERSION = "perms_v";
+
+  /**
+   * RFC 7800 confirmation claim; a sender-constrained token carries the JWK SHA-256
+   * thumbprint of its key as {@value #KEY_THUMBPRINT} inside it, as DPoP (RFC 9449)
+   * defines.
+   */
+  public static final String CONFIRMATION = "cnf";
+  public static final String KEY_THUMBPRINT = "jkt";
+
+  /**
+   * Random UUID token ids.
+   */
+  public static final Supplier<String> RANDOM_IDS = () -> UUID.randomUUID().toString();
+
+  private static final int WRITER_CAPACITY = 512;
+  private static final Base64.Encoder MASK_ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+  private final Supplier<JwtSigningKey> keys;
+  private final Settings settings;
+  private final Supplier<String> tokenIds;
+  private final BlockingQueue<ClaimsJsonWriter> writers;
+
+  /**
+   * Issuer with random UUID token ids.
+   */
+  public NimbusJwtIssuer(JwtSigningKey key, Settings settings) {
+    this(key, settings, RANDOM_IDS);
+  }
+
+  /**
+   * @param key      key every token is signed with
+   * @param settings issuer name and token lifetimes
+   * @param tokenIds source of {@code jti} values
+   */
+  public NimbusJwtIssuer(JwtSigningKey key, Settings settings, Supplier<String> tokenIds) {
+    this(constant(key), settings, tokenIds);
+  }
+
+  /**
+   * Issuer following a rotating key, such as {@link JwtKeyRing#current()}.
+   *
+   * @param keys     the key to sign with, asked once per token pair
+   * @param settings issuer name and token lifetimes
+   * @param tokenIds source of {@code jti} values
+   */
+  public NimbusJwtIssuer(
+      Supplier<JwtSigningKey> keys,
+      Settings settings,
+      Supplier<String> tokenIds
+  ) {
+    this.keys = Objects.requireNonNull(keys, "keys must not be null");
+    this.settings = Objects.requireNonNull(settings, "settings must not be null");
+    this.tokenIds = Objects.requireNonNull(tokenIds, "tokenIds must not be null");
+    this.writers = new ArrayBlockingQueue<>(Runtime.getRuntime().availableProcessors() * 2);
+  }
+
+  @Override
+  public AuthTokensDto issueTokens(AuthSubject subject, Instant now) {
+    Objects.requireNonNull(subject, "subject must not be null");
+    Instant accessExpiry = now.plus(settings.accessTokenTtl());
+    Instant refreshExpiry = now.plus(settings.refreshTokenTtl());
+    JwtSigningKey key = keys.get();
+    ClaimsJsonWriter writer = acquire();
+    try {
+      String access = token(key, writer, subject, ACCESS, now, accessExpiry);
+      String refresh = token(key, writer, subject, REFRESH, now, refreshExpiry);
+      return new AuthTokensDto(access, refresh, accessExpiry);
+    } finally {
+      writers.offer(writer);
+    }
+  }
+
+  /**
+   * @return the key tokens are currently signed with
+   */
+  public JwtSigningKey signingKey() {
+    return keys.get();
+  }
+
+  private String token(
+      JwtSigningKey key,
+      ClaimsJsonWriter claims,
+      AuthSubject subject,
+      String use,
+      Instant issuedAt,
+      Instant expiresAt
+  ) {
+    claims.begin()
+        .field("iss", settings.issuer())
+        .field("sub", subject.userId())
+        .field("iat", issuedAt.getEpochSecond())
+        .field("exp", expiresAt.getEpochSecond())
+        .field("jti", tokenIds.get())
+        .field(TOKEN_USE, use);
+    if (subject.keyThumbprint() != null) {
+      claims.beginObject(CONFIRMATION)
+          .field(KEY_THUMBPRINT, subject.keyThumbprint())
+          .endObject();
+    }
+    PermissionMask permissions = subject.permissions();
+    if (permissions != null && ACCESS.equals(use)) {
+      // the mask supersedes the role ids, which only the refresh token needs to carry
+      claims.field(PERMISSIONS, MASK_ENCODER.encodeToString(permissions.granted().toByteArray()))
+          .field(PERMISSIONS_VERSION, permissions.registryVersion());
+    } else {
+      claims.field(ROLES, subject.roles());
+    }
+    claims.end();
+    byte[] header = key.encodedHeader();
+    byte[] signingInput =
+        new byte[header.length + ClaimsJsonWriter.encodedLength(claims.length())];
+    System.arraycopy(header, 0, signingInput, 0, header.length);
+    claims.encodeTo(signingInput, header.length);
+    return new String(signingInput, StandardCharsets.US_ASCII) + '.' + key.sign(signingInput);
+  }
+
+  private static Supplier<JwtSigningKey> constant(JwtSigningKey key) {
+    Objects.requireNonNull(key, "key must not be null");
+    return () -> key;
+  }
+
+  private ClaimsJsonWriter acquire() {
+    ClaimsJsonWriter writer = writers.poll();
+    return writer == null ? new ClaimsJsonWriter(WRITER_CAPACITY) : writer;
+  }
+
+  /**
+   * @param issuer          {@code iss} of every token
+   * @param accessTokenTtl  lifetime of access tokens
+   * @param refreshTokenTtl lifetime of refresh tokens
+   */
+  public record Settings(String issuer, Duration accessTokenTtl, Duration refreshTokenTtl) {
+
+    public Settings {
+      Objects.requireNonNull(issuer, "issuer must not be null");
+      if (accessTokenTtl.isNegative() || accessTokenTtl.isZero()
+          || refreshTokenTtl.isNegative() || refreshTokenTtl.isZero()) {
+        throw new IllegalArgumentException("token lifetimes must be positive");
+      }
+    }
+  }
+}
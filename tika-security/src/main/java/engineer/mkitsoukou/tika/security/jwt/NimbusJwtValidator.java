@@ -0,0 +1,123 @@
+package engineer.mkitsoukou.tika.security.jwt;
+
+import com.nimbusds.jwt.SignedJWT;
+import engineer.mkitsoukou.tika.application.auth.exception.InvalidCredentialsException;
+import engineer.mkitsoukou.tika.application.auth.model.JwtClaims;
+import engineer.mkitsoukou.tika.application.auth.model.PermissionMask;
+import engineer.mkitsoukou.tika.application.auth.port.out.JwtValidatorPort;
+import engineer.mkitsoukou.tika.application.shared.ClockPort;
+import java.text.ParseException;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.BitSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Validates tokens issued by {@link NimbusJwtIssuer}: signature, issuer, expiry and
+ * {@value NimbusJwtIssuer#TOKEN_USE}, so a refresh token is never accepted as an access
+ * token or the other way round. Any failure is an {@link InvalidCredentialsException}.
+ * A {@value NimbusJwtIssuer#PERMISSIONS} claim is decoded into
+ * {@link JwtClaims#permissions()}; its registry version is not checked here, since
+ * callers testing known ordinals do not need the registry.
+ *
+ * <p>Nimbus parses the header and checks the signature; the claims are then read by a
+ * pooled {@link JwtPayloadReader} rather than through {@code JWTClaimsSet}, which would
+ * build a JSON tree of every claim.</p>
+ */
+public class NimbusJwtValidator implements JwtValidatorPort {
+
+  private final VerificationKeys keys;
+  private final String issuer;
+  private final ClockPort clock;
+  private final BlockingQueue<JwtPayloadReader> readers;
+
+  /**
+   * @param key    key tokens must be signed with
+   * @param issuer expected {@code iss}
+   * @param clock  time source for expiry checks
+   */
+  public NimbusJwtValidator(JwtVerificationKey key, String issuer, ClockPort clock) {
+    this(single(key), issuer, clock);
+  }
+
+  /**
+   * @param keys   keys tokens may be signed with, selected by {@code kid}
+   * @param issuer expected {@code iss}
+   * @param clock  time source for expiry checks
+   */
+  public NimbusJwtValidator(VerificationKeys keys, String issuer, ClockPort clock) {
+    this.keys = Objects.requireNonNull(keys, "keys must not be null");
+    this.issuer = Objects.requireNonNull(issuer, "issuer must not be null");
+    this.clock = Objects.requireNonNull(clock, "clock must not be null");
+    this.readers = new ArrayBlockingQueue<>(Runtime.getRuntime().availableProcessors() * 2);
+  }
+
+  @Override
+  public JwtClaims validateAccessToken(String accessToken) {
+    return validate(accessToken, NimbusJwtIssuer.ACCESS);
+  }
+
+  @Override
+  public JwtClaims validateRefreshToken(String refreshToken) {
+    return validate(refreshToken, NimbusJwtIssuer.REFRESH);
+  }
+
+  private static PermissionMask permissions(JwtPayloadReader claims) {
+    String mask = claims.permissions();
+    if (mask == null && !claims.hasPermissionsVersion()) {
+      return null;
+    }
+    if (mask == null || !claims.hasPermissionsVersion()) {
+      throw new InvalidCredentialsException();
+    }
+    return new PermissionMask(claims.permissionsVersion(),
+        BitSet.valueOf(Base64.getUrlDecoder().decode(mask)));
+  }
+
+  private static VerificationKeys single(JwtVerificationKey key) {
+    Objects.requireNonNull(key, "key must not be null");
+    return keyId -> key.keyId().equals(keyId) ? Optional.of(key) : Optional.empty();
+  }
+
+  private JwtClaims validate(String token, String use) {
+    SignedJWT jwt;
+    try {
+      jwt = SignedJWT.parse(token);
+    } catch (ParseException e) {
+      throw new InvalidCredentialsException();
+    }
+    String keyId = jwt.getHeader().getKeyID();
+    if (keyId == null || !keys.byKeyId(keyId).map(key -> key.verify(jwt)).orElse(false)) {
+      throw new InvalidCredentialsException();
+    }
+    JwtPayloadReader claims = acquire();
+    try {
+      claims.read(token);
+      if (!issuer.equals(claims.issuer())
+          || !use.equals(claims.tokenUse())
+          || claims.subject() == null
+          || claims.jwtId() == null
+          || !claims.hasIssuedAt()
+          || !claims.hasExpiresAt()
+          || clock.now().getEpochSecond() >= claims.expiresAt()) {
+        throw new InvalidCredentialsException();
+      }
+      return new JwtClaims(claims.subject(), claims.jwtId(),
+          Instant.ofEpochSecond(claims.issuedAt()), Instant.ofEpochSecond(claims.expiresAt()),
+          claims.roles(), permissions(claims), claims.keyThumbprint());
+    } catch (IllegalArgumentException | DateTimeException e) {
+      throw new InvalidCredentialsException();
+    } finally {
+      readers.offer(claims);
+    }
+  }
+
+  private JwtPayloadReader acquire() {
+    JwtPayloadReader reader = readers.poll();
+    return reader == null ? new JwtPayloadReader() : reader;
+  }
+}
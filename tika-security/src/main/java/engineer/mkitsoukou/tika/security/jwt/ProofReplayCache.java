@@ -0,0 +1,116 @@
+package engineer.mkitsoukou.tika.security.jwt;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Remembers the ids of DPoP proofs seen within the acceptance window, so each proof is
+ * used at most once.
+ *
+ * <p>Ids are kept in a ring of time buckets keyed by the proof's {@code iat}. A proof
+ * always falls in the bucket of its own {@code iat}, so a replay is caught with a single
+ * set lookup. A bucket whose time span has left the window is dropped whole when its slot
+ * is next needed; there is no per-entry expiry and no sweeping. Each bucket holds at most
+ * {@code capacity / buckets} ids: once one is full, further proofs issued in its span are
+ * refused rather than remembered loosely.</p>
+ *
+ * <p>Thread-safe.</p>
+ */
+public final class ProofReplayCache {
+
+  private final long bucketSeconds;
+  private final int perBucket;
+  private final AtomicReferenceArray<Bucket> ring;
+
+  /**
+   * @param window   how far apart the oldest and newest acceptable {@code iat} can be;
+   *                 the proof age limit plus the allowed clock skew
+   * @param buckets  number of buckets the window is split into
+   * @param capacity most ids remembered at once
+   */
+  public ProofReplayCache(Duration window, int buckets, int capacity) {
+    Objects.requireNonNull(window, "window must not be null");
+    if (window.toSeconds() < 1 || buckets < 1 || capacity < buckets) {
+      throw new IllegalArgumentException(
+          "window must be at least a second and capacity at least one per bucket");
+    }
+    this.bucketSeconds = Math.max(1, (window.toSeconds() + buckets - 1) / buckets);
+    this.perBucket = capacity / buckets;
+    // the window spans buckets + 1 partial buckets; one more slot keeps a live bucket
+    // from ever sharing a slot with the one replacing it
+    this.ring = new AtomicReferenceArray<>(buckets + 2);
+  }
+
+  /**
+   * Records {@code proofId} as used.
+   *
+   * @param issuedAt the proof's {@code iat}, already checked to be within the window
+   * @return {@code true} the first time an id is seen; {@code false} for a replay, when
+   *         the bucket for {@code issuedAt} is full, or when {@code issuedAt} is older
+   *         than the buckets kept
+   */
+  public boolean firstUse(String proofId, Instant issuedAt) {
+    Objects.requireNonNull(proofId, "proofId must not be null");
+    Bucket bucket = bucket(Math.floorDiv(issuedAt.getEpochSecond(), bucketSeconds));
+    if (bucket == null || bucket.ids.contains(proofId)) {
+      return false;
+    }
+    if (bucket.size.incrementAndGet() > perBucket) {
+      bucket.size.decrementAndGet();
+      return false;
+    }
+    if (!bucket.ids.add(proofId)) {
+      bucket.size.decrementAndGet();
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * @return ids currently remembered, including those of buckets not yet reused
+   */
+  public int size() {
+    int size = 0;
+    for (int i = 0; i < ring.length(); i++) {
+      Bucket bucket = ring.get(i);
+      if (bucket != null) {
+        size += bucket.ids.size();
+      }
+    }
+    return size;
+  }
+
+  private Bucket bucket(long span) {
+    int slot = (int) Math.floorMod(span, (long) ring.length());
+    while (true) {
+      Bucket current = ring.get(slot);
+      if (current != null && current.span == span) {
+        return current;
+      }
+      if (current != null && current.span > span) {
+        // a proof too old for the ring; the caller's window check should have refused it
+        return null;
+      }
+      Bucket fresh = new Bucket(span);
+      if (ring.compareAndSet(slot, current, fresh)) {
+        return fresh;
+      }
+    }
+  }
+
+  private static final class Bucket {
+
+    final long span;
+    final Set<String> ids = ConcurrentHashMap.newKeySet();
+    final AtomicInteger size = new AtomicInteger();
+
+    Bucket(long span) {
+      this.span = span;
+    }
+  }
+}
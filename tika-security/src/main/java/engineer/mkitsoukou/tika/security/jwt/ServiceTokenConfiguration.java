@@ -0,0 +1,37 @@
+package engineer.mkitsoukou.tika.security.jwt;
+
+import engineer.mkitsoukou.tika.application.auth.port.out.ServiceClientRegistryPort;
+import engineer.mkitsoukou.tika.application.auth.port.out.ServiceTokenIssuerPort;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Provides the {@link ServiceTokenIssuerPort} and the {@link ServiceClientRegistryPort}
+ * for service-to-service tokens, enabled with
+ * {@code tika.security.service-tokens.enabled=true} alongside
+ * {@code tika.security.jwt.enabled=true}. Tokens are signed with the {@link JwtKeyRing}'s
+ * current key; clients are listed under {@code tika.security.service-tokens.clients}.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "tika.security.service-tokens", name = "enabled",
+    havingValue = "true")
+@EnableConfigurationProperties({JwtProperties.class, ServiceTokenProperties.class})
+public class ServiceTokenConfiguration {
+
+  @Bean
+  ServiceTokenMinter serviceTokenMinter(
+      JwtKeyRing ring,
+      JwtProperties jwt,
+      ServiceTokenProperties properties
+  ) {
+    return new ServiceTokenMinter(ring::current, jwt.issuer(), properties.ttl(),
+        NimbusJwtIssuer.RANDOM_IDS);
+  }
+
+  @Bean
+  ConfiguredServiceClients serviceClientRegistry(ServiceTokenProperties properties) {
+    return new ConfiguredServiceClients(properties.clients());
+  }
+}
@@ -0,0 +1,132 @@
+package engineer.mkitsoukou.tika.security.jwt;
+
+import engineer.mkitsoukou.tika.application.auth.dto.ServiceTokensDto;
+import engineer.mkitsoukou.tika.application.auth.model.ServiceClient;
+import engineer.mkitsoukou.tika.application.auth.port.out.ServiceTokenIssuerPort;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Mints access-only tokens for internal service clients, signed with the same keys as
+ * user tokens so they verify against the published JWK Set.
+ *
+ * <p>The claims that never change for a client, {@code iss}, {@code sub}, {@code aud},
+ * {@code scope} and {@value NimbusJwtIssuer#TOKEN_USE}, form a template built on first
+ * use: padded with spaces to a multiple of three bytes, it base64url-encodes to whole
+ * quanta and is kept already encoded. Per token only {@code iat}, {@code exp} and
+ * {@code jti} are written and encoded, straight after it in the signing input. A batch
+ * also shares one key lookup, one claims writer and one initialized
+ * {@link JwtSigningKey.RunSigner}.</p>
+ *
+ * <p>The tokens' {@value NimbusJwtIssuer#TOKEN_USE} is {@value #SERVICE}, so they are
+ * never accepted where a user's access token is expected.</p>
+ */
+public class ServiceTokenMinter implements ServiceTokenIssuerPort {
+
+  public static final String SERVICE = "service";
+  public static final String AUDIENCE = "aud";
+  public static final String SCOPE = "scope";
+
+  private static final int WRITER_CAPACITY = 128;
+
+  private final Supplier<JwtSigningKey> keys;
+  private final String issuer;
+  private final Duration ttl;
+  private final Supplier<String> tokenIds;
+  private final Map<ServiceClient, byte[]> templates = new ConcurrentHashMap<>();
+  private final BlockingQueue<ClaimsJsonWriter> writers;
+
+  /**
+   * @param keys     the key to sign with, asked once per call
+   * @param issuer   {@code iss} of every token
+   * @param ttl      lifetime of every token
+   * @param tokenIds source of {@code jti} values
+   */
+  public ServiceTokenMinter(
+      Supplier<JwtSigningKey> keys,
+      String issuer,
+      Duration ttl,
+      Supplier<String> tokenIds
+  ) {
+    this.keys = Objects.requireNonNull(keys, "keys must not be null");
+    this.issuer = Objects.requireNonNull(issuer, "issuer must not be null");
+    this.tokenIds = Objects.requireNonNull(tokenIds, "tokenIds must not be null");
+    if (ttl.isNegative() || ttl.isZero()) {
+      throw new IllegalArgumentException("ttl must be positive");
+    }
+    this.ttl = ttl;
+    this.writers = new ArrayBlockingQueue<>(Runtime.getRuntime().availableProcessors() * 2);
+  }
+
+  @Override
+  public ServiceTokensDto mintTokens(ServiceClient client, int count, Instant now) {
+    Objects.requireNonNull(client, "client must not be null");
+    if (count < 1) {
+      throw new IllegalArgumentException("count must be positive");
+    }
+    byte[] template = templates.computeIfAbsent(client, this::template);
+    Instant expiresAt = now.plus(ttl);
+    JwtSigningKey key = keys.get();
+    JwtSigningKey.RunSigner signer = key.runSigner();
+    ClaimsJsonWriter writer = acquire();
+    try {
+      String[] tokens = new String[count];
+      for (int i = 0; i < count; i++) {
+        tokens[i] = token(key.encodedHeader(), template, writer, signer,
+            now.getEpochSecond(), expiresAt.getEpochSecond());
+      }
+      return new ServiceTokensDto(Arrays.asList(tokens), expiresAt);
+    } finally {
+      writers.offer(writer);
+    }
+  }
+
+  private String token(
+      byte[] header,
+      byte[] template,
+      ClaimsJsonWriter claims,
+      JwtSigningKey.RunSigner signer,
+      long issuedAt,
+      long expiresAt
+  ) {
+    claims.resume()
+        .field("iat", issuedAt)
+        .field("exp", expiresAt)
+        .field("jti", tokenIds.get())
+        .end();
+    int claimsAt = header.length + template.length;
+    byte[] signingInput = new byte[claimsAt + ClaimsJsonWriter.encodedLength(claims.length())];
+    System.arraycopy(header, 0, signingInput, 0, header.length);
+    System.arraycopy(template, 0, signingInput, header.length, template.length);
+    claims.encodeTo(signingInput, claimsAt);
+    return new String(signingInput, StandardCharsets.US_ASCII) + '.' + signer.sign(signingInput);
+  }
+
+  private byte[] template(ServiceClient client) {
+    ClaimsJsonWriter json = new ClaimsJsonWriter(WRITER_CAPACITY)
+        .begin()
+        .field("iss", issuer)
+        .field("sub", client.clientId())
+        .field(AUDIENCE, client.audience())
+        .field(SCOPE, String.join(" ", new TreeSet<>(client.scopes())))
+        .field(NimbusJwtIssuer.TOKEN_USE, SERVICE)
+        .padTo(3);
+    byte[] encoded = new byte[ClaimsJsonWriter.encodedLength(json.length())];
+    json.encodeTo(encoded, 0);
+    return encoded;
+  }
+
+  private ClaimsJsonWriter acquire() {
+    ClaimsJsonWriter writer = writers.poll();
+    return writer == null ? new ClaimsJsonWriter(WRITER_CAPACITY) : writer;
+  }
+}
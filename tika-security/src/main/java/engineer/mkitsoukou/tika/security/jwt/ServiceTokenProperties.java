@@ -0,0 +1,34 @@
+package engineer.mkitsoukou.tika.security.jwt;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Service-token minting settings, bound from {@code tika.security.service-tokens.*}.
+ *
+ * @param ttl       lifetime of every service token
+ * @param maxBatch  most tokens minted in one call
+ * @param clients   services allowed to mint tokens, by client id
+ */
+@ConfigurationProperties(prefix = "tika.security.service-tokens")
+public record ServiceTokenProperties(
+    @DefaultValue("5m") Duration ttl,
+    @DefaultValue("256") int maxBatch,
+    Map<String, Client> clients
+) {
+
+  public ServiceTokenProperties {
+    clients = clients == null ? Map.of() : Map.copyOf(clients);
+  }
+
+  /**
+   * @param audience     {@code aud} of the client's tokens
+   * @param scopes       {@code scope} of the client's tokens
+   * @param secretSha256 hex SHA-256 of the client's secret
+   */
+  public record Client(String audience, Set<String> scopes, String secretSha256) {
+  }
+}
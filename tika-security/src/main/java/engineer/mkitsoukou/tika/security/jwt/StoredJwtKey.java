@@ -0,0 +1,50 @@
+package engineer.mkitsoukou.tika.security.jwt;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import java.security.KeyPair;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * A key of the {@link JwtKeyRing} as kept by a {@link JwtKeyStore}. A key is pending
+ * until activated, signs until retired, and verifies throughout.
+ *
+ * @param keyId       {@code kid}
+ * @param algorithm   signing algorithm
+ * @param keys        the key pair
+ * @param createdAt   when the key was generated
+ * @param activatedAt when the key started signing, {@code null} while pending
+ * @param retiredAt   when the key stopped signing, {@code null} until then
+ */
+public record StoredJwtKey(
+    String keyId,
+    JWSAlgorithm algorithm,
+    KeyPair keys,
+    Instant createdAt,
+    Instant activatedAt,
+    Instant retiredAt
+) {
+
+  public StoredJwtKey {
+    Objects.requireNonNull(keyId, "keyId must not be null");
+    Objects.requireNonNull(algorithm, "algorithm must not be null");
+    Objects.requireNonNull(keys, "keys must not be null");
+    Objects.requireNonNull(createdAt, "createdAt must not be null");
+  }
+
+  public boolean isPending() {
+    return activatedAt == null;
+  }
+
+  public boolean isActive() {
+    return activatedAt != null && retiredAt == null;
+  }
+
+  public StoredJwtKey activate(Instant at) {
+    return new StoredJwtKey(keyId, algorithm, keys, createdAt, at, null);
+  }
+
+  public StoredJwtKey retire(Instant at) {
+    return new StoredJwtKey(keyId, algorithm, keys, createdAt, activatedAt, at);
+  }
+}
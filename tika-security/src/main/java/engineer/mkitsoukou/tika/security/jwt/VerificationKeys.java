@@ -0,0 +1,12 @@
+package engineer.mkitsoukou.tika.security.jwt;
+
+import java.util.Optional;
+
+/**
+ * Lookup of the keys tokens may be signed with, by {@code kid}.
+ */
+@FunctionalInterface
+public interface VerificationKeys {
+
+  Optional<JwtVerificationKey> byKeyId(String keyId);
+}
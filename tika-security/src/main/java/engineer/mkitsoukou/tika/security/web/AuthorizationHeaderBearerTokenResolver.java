@@ -0,0 +1,52 @@
+package engineer.mkitsoukou.tika.security.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+import org.springframework.security.oauth2.server.resource.BearerTokenErrors;
+import org.springframework.security.oauth2.server.resource.web.BearerTokenResolver;
+
+/**
+ * Takes the bearer token from the {@code Authorization} header only, as
+ * {@code DefaultBearerTokenResolver} does by default, but checks the RFC 6750
+ * {@code b64token} syntax with a character loop instead of a regular expression;
+ * matching the regex against a token of several hundred characters was the largest
+ * single cost of an authenticated request.
+ */
+public class AuthorizationHeaderBearerTokenResolver implements BearerTokenResolver {
+
+  private static final String SCHEME = "Bearer ";
+
+  @Override
+  public String resolve(HttpServletRequest request) {
+    String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+    if (authorization == null
+        || !authorization.regionMatches(true, 0, SCHEME, 0, SCHEME.length() - 1)) {
+      return null;
+    }
+    if (!authorization.startsWith(" ", SCHEME.length() - 1) || !isB64Token(authorization)) {
+      throw new OAuth2AuthenticationException(
+          BearerTokenErrors.invalidToken("Bearer token is malformed"));
+    }
+    return authorization.substring(SCHEME.length());
+  }
+
+  private static boolean isB64Token(String authorization) {
+    int end = authorization.length();
+    while (end > SCHEME.length() && authorization.charAt(end - 1) == '=') {
+      end--;
+    }
+    if (end == SCHEME.length()) {
+      return false;
+    }
+    for (int i = SCHEME.length(); i < end; i++) {
+      char c = authorization.charAt(i);
+      boolean valid = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+          || c == '-' || c == '.' || c == '_' || c == '~' || c == '+' || c == '/';
+      if (!valid) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
@@ -0,0 +1,87 @@
+package engineer.mkitsoukou.tika.security.web;
+
+import engineer.mkitsoukou.tika.application.auth.exception.InvalidCredentialsException;
+import engineer.mkitsoukou.tika.application.auth.model.JwtClaims;
+import engineer.mkitsoukou.tika.application.auth.port.out.JwtValidatorPort;
+import engineer.mkitsoukou.tika.security.jwt.DpopProof;
+import engineer.mkitsoukou.tika.security.jwt.DpopProofVerifier;
+import engineer.mkitsoukou.tika.security.jwt.ProofReplayCache;
+import java.util.Objects;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.core.OAuth2ErrorCodes;
+import org.springframework.security.oauth2.server.resource.InvalidBearerTokenException;
+import org.springframework.security.oauth2.server.resource.authentication.DPoPAuthenticationToken;
+
+/**
+ * Authenticates {@code Authorization: DPoP} requests: a sender-constrained access token
+ * together with a proof that the caller holds the key named in its {@code cnf.jkt}.
+ *
+ * <p>The access token goes through the application's {@link JwtValidatorPort}, so on the
+ * hot path it is a validation-cache hit and the proof's signature is the only one
+ * checked per request. Proofs are verified by {@link DpopProofVerifier} against cached
+ * client keys, and each is accepted once, by {@link ProofReplayCache}. A token that is
+ * not bound to a key is refused here, as a bound token is refused as a plain bearer
+ * token by {@link JwtValidatorAuthenticationProvider}.</p>
+ */
+public class DpopAuthenticationProvider implements AuthenticationProvider {
+
+  private final JwtValidatorPort validator;
+  private final DpopProofVerifier proofs;
+  private final ProofReplayCache replays;
+
+  public DpopAuthenticationProvider(
+      JwtValidatorPort validator,
+      DpopProofVerifier proofs,
+      ProofReplayCache replays
+  ) {
+    this.validator = Objects.requireNonNull(validator, "validator must not be null");
+    this.proofs = Objects.requireNonNull(proofs, "proofs must not be null");
+    this.replays = Objects.requireNonNull(replays, "replays must not be null");
+  }
+
+  @Override
+  public Authentication authenticate(Authentication authentication) {
+    DPoPAuthenticationToken request = (DPoPAuthenticationToken) authentication;
+    String token = request.getAccessToken();
+    JwtClaims claims;
+    try {
+      claims = validator.validateAccessToken(token);
+    } catch (InvalidCredentialsException e) {
+      throw new InvalidBearerTokenException("Invalid or expired access token", e);
+    }
+    if (!claims.isSenderConstrained()) {
+      throw new InvalidBearerTokenException("Access token is not bound to a key");
+    }
+    DpopProof proof;
+    try {
+      proof = proofs.verify(request.getDPoPProof(), request.getMethod(),
+          request.getResourceUri(), token);
+    } catch (InvalidCredentialsException e) {
+      throw invalidProof("Invalid DPoP proof", e);
+    }
+    if (!claims.keyThumbprint().equals(proof.keyThumbprint())) {
+      throw invalidProof("DPoP proof key does not match the access token", null);
+    }
+    if (!replays.firstUse(proof.proofId(), proof.issuedAt())) {
+      throw invalidProof("DPoP proof has already been used", null);
+    }
+    JwtClaimsAuthentication authenticated = new JwtClaimsAuthentication(claims, token);
+    authenticated.setDetails(authentication.getDetails());
+    return authenticated;
+  }
+
+  @Override
+  public boolean supports(Class<?> authentication) {
+    return DPoPAuthenticationToken.class.isAssignableFrom(authentication);
+  }
+
+  private static OAuth2AuthenticationException invalidProof(String description, Throwable cause) {
+    OAuth2Error error = new OAuth2Error(OAuth2ErrorCodes.INVALID_DPOP_PROOF, description, null);
+    return cause == null
+        ? new OAuth2AuthenticationException(error)
+        : new OAuth2AuthenticationException(error, cause);
+  }
+}
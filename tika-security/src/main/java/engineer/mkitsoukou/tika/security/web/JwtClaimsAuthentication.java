@@ -0,0 +1,38 @@
+package engineer.mkitsoukou.tika.security.web;
+
+import engineer.mkitsoukou.tika.application.auth.model.JwtClaims;
+import java.util.Objects;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+/**
+ * A caller authenticated by a validated access token. The principal is the token's
+ * {@link JwtClaims}; the authorities are its role ids.
+ */
+public class JwtClaimsAuthentication extends AbstractAuthenticationToken {
+
+  private final transient JwtClaims claims;
+  private final String token;
+
+  public JwtClaimsAuthentication(JwtClaims claims, String token) {
+    super(AuthorityUtils.createAuthorityList(claims.roles()));
+    this.claims = Objects.requireNonNull(claims, "claims must not be null");
+    this.token = Objects.requireNonNull(token, "token must not be null");
+    setAuthenticated(true);
+  }
+
+  @Override
+  public JwtClaims getPrincipal() {
+    return claims;
+  }
+
+  @Override
+  public String getCredentials() {
+    return token;
+  }
+
+  @Override
+  public String getName() {
+    return claims.userId();
+  }
+}
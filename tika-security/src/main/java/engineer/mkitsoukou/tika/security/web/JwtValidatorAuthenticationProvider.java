@@ -0,0 +1,48 @@
+package engineer.mkitsoukou.tika.security.web;
+
+import engineer.mkitsoukou.tika.application.auth.exception.InvalidCredentialsException;
+import engineer.mkitsoukou.tika.application.auth.model.JwtClaims;
+import engineer.mkitsoukou.tika.application.auth.port.out.JwtValidatorPort;
+import java.util.Objects;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.server.resource.InvalidBearerTokenException;
+import org.springframework.security.oauth2.server.resource.authentication.BearerTokenAuthenticationToken;
+
+/**
+ * Authenticates bearer tokens with the application's {@link JwtValidatorPort}, so the
+ * resource server shares the validation cache, key ring and blacklist of the issuer
+ * rather than decoding tokens a second time. A token bound to a key is only accepted
+ * with a DPoP proof, by {@link DpopAuthenticationProvider}; sent as a plain bearer token
+ * it is refused.
+ */
+public class JwtValidatorAuthenticationProvider implements AuthenticationProvider {
+
+  private final JwtValidatorPort validator;
+
+  public JwtValidatorAuthenticationProvider(JwtValidatorPort validator) {
+    this.validator = Objects.requireNonNull(validator, "validator must not be null");
+  }
+
+  @Override
+  public Authentication authenticate(Authentication authentication) {
+    String token = ((BearerTokenAuthenticationToken) authentication).getToken();
+    JwtClaims claims;
+    try {
+      claims = validator.validateAccessToken(token);
+    } catch (InvalidCredentialsException e) {
+      throw new InvalidBearerTokenException("Invalid or expired access token", e);
+    }
+    if (claims.isSenderConstrained()) {
+      throw new InvalidBearerTokenException("Access token is bound to a key; use DPoP");
+    }
+    JwtClaimsAuthentication authenticated = new JwtClaimsAuthentication(claims, token);
+    authenticated.setDetails(authentication.getDetails());
+    return authenticated;
+  }
+
+  @Override
+  public boolean supports(Class<?> authentication) {
+    return BearerTokenAuthenticationToken.class.isAssignableFrom(authentication);
+  }
+}
@@ -0,0 +1,116 @@
+package engineer.mkitsoukou.tika.security.web;
+
+import engineer.mkitsoukou.tika.application.auth.dto.PermissionRegistryDto;
+import engineer.mkitsoukou.tika.application.auth.port.out.JwtValidatorPort;
+import engineer.mkitsoukou.tika.application.auth.port.out.PermissionRegistryPort;
+import engineer.mkitsoukou.tika.application.shared.ClockPort;
+import engineer.mkitsoukou.tika.domain.repository.RoleRepository;
+import engineer.mkitsoukou.tika.security.jwt.DpopProofVerifier;
+import engineer.mkitsoukou.tika.security.jwt.ProofReplayCache;
+import java.util.List;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.security.access.PermissionEvaluator;
+import org.springframework.security.access.expression.method.DefaultMethodSecurityExpressionHandler;
+import org.springframework.security.access.expression.method.MethodSecurityExpressionHandler;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.web.SecurityFilterChain;
+
+/**
+ * Makes the application an OAuth2 resource server for its own access tokens, enabled
+ * with {@code tika.security.jwt.enabled=true}.
+ *
+ * <p>Bearer tokens are read by {@link AuthorizationHeaderBearerTokenResolver} and checked
+ * by {@link JwtValidatorAuthenticationProvider}; tokens bound to a key are sent with
+ * {@code Authorization: DPoP} and a proof, checked by {@link DpopAuthenticationProvider}
+ * under {@code tika.security.resource-server.dpop}. Sessions, CSRF and the request cache
+ * are off, so every request stands alone. Everything but {@code /.well-known/} needs a
+ * valid token. {@code hasPermission} in method security expressions, and
+ * {@link SnapshotPermissionEvaluator#hasPermission(String)} in request rules, are
+ * answered from a {@link RolePermissionSnapshots} kept current by permission events and
+ * rebuilt every {@code tika.security.resource-server.snapshot-refresh-interval}.</p>
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "tika.security.jwt", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ResourceServerProperties.class)
+@EnableMethodSecurity
+public class ResourceServerConfiguration {
+
+  private static final PermissionRegistryPort NO_REGISTRY =
+      () -> new PermissionRegistryDto(0, List.of());
+
+  @Bean(destroyMethod = "close")
+  RolePermissionSnapshots rolePermissionSnapshots(
+      RoleRepository roles,
+      ObjectProvider<PermissionRegistryPort> registry,
+      ResourceServerProperties properties
+  ) {
+    RolePermissionSnapshots snapshots =
+        new RolePermissionSnapshots(roles, registry.getIfAvailable(() -> NO_REGISTRY));
+    snapshots.start(properties.snapshotRefreshInterval());
+    return snapshots;
+  }
+
+  @Bean
+  SnapshotPermissionEvaluator permissionEvaluator(RolePermissionSnapshots snapshots) {
+    return new SnapshotPermissionEvaluator(snapshots);
+  }
+
+  @Bean
+  static MethodSecurityExpressionHandler methodSecurityExpressionHandler(
+      @Lazy PermissionEvaluator permissionEvaluator
+  ) {
+    DefaultMethodSecurityExpressionHandler handler = new DefaultMethodSecurityExpressionHandler();
+    handler.setPermissionEvaluator(permissionEvaluator);
+    return handler;
+  }
+
+  @Bean
+  DpopProofVerifier dpopProofVerifier(ResourceServerProperties properties) {
+    ResourceServerProperties.Dpop dpop = properties.dpop();
+    return new DpopProofVerifier(ClockPort.SYSTEM, dpop.maxProofAge(), dpop.clockSkew(),
+        dpop.keyCacheSize());
+  }
+
+  @Bean
+  ProofReplayCache dpopProofReplayCache(ResourceServerProperties properties) {
+    ResourceServerProperties.Dpop dpop = properties.dpop();
+    return new ProofReplayCache(dpop.maxProofAge().plus(dpop.clockSkew()),
+        dpop.replayBuckets(), dpop.replayCapacity());
+  }
+
+  @Bean
+  SecurityFilterChain resourceServerFilterChain(
+      HttpSecurity http,
+      JwtValidatorPort validator,
+      DpopProofVerifier proofs,
+      ProofReplayCache replays
+  ) throws Exception {
+    AuthenticationManager tokens = new ProviderManager(
+        new JwtValidatorAuthenticationProvider(validator),
+        new DpopAuthenticationProvider(validator, proofs, replays));
+    return http
+        // the shared manager, used by the DPoP filter the resource server adds; set here
+        // so Spring's own DPoP provider, which re-decodes the token, is left out
+        .authenticationManager(tokens)
+        .csrf(AbstractHttpConfigurer::disable)
+        .requestCache(AbstractHttpConfigurer::disable)
+        .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+        .authorizeHttpRequests(requests -> requests
+            .requestMatchers("/.well-known/**").permitAll()
+            .anyRequest().authenticated())
+        .oauth2ResourceServer(server -> server
+            .bearerTokenResolver(new AuthorizationHeaderBearerTokenResolver())
+            .authenticationManagerResolver(request -> tokens))
+        .build();
+  }
+}
@@ -0,0 +1,36 @@
+package engineer.mkitsoukou.tika.security.web;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Resource-server settings, bound from {@code tika.security.resource-server.*}.
+ *
+ * @param snapshotRefreshInterval how often the role permission snapshot is rebuilt in
+ *                                the absence of events; bounds how long a new role
+ *                                stays unknown
+ * @param dpop                    checking of DPoP proofs sent with bound tokens
+ */
+@ConfigurationProperties(prefix = "tika.security.resource-server")
+public record ResourceServerProperties(
+    @DefaultValue("5m") Duration snapshotRefreshInterval,
+    @DefaultValue Dpop dpop
+) {
+
+  /**
+   * @param maxProofAge    oldest proof {@code iat} accepted
+   * @param clockSkew      how far ahead of the server's clock a proof {@code iat} may be
+   * @param keyCacheSize   most client keys whose verifiers are kept
+   * @param replayBuckets  time buckets the replay window is split into
+   * @param replayCapacity most proof ids remembered across the window
+   */
+  public record Dpop(
+      @DefaultValue("60s") Duration maxProofAge,
+      @DefaultValue("5s") Duration clockSkew,
+      @DefaultValue("10000") int keyCacheSize,
+      @DefaultValue("12") int replayBuckets,
+      @DefaultValue("200000") int replayCapacity
+  ) {
+  }
+}
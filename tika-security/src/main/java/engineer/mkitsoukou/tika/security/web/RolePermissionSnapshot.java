@@ -0,0 +1,88 @@
+package engineer.mkitsoukou.tika.security.web;
+
+import engineer.mkitsoukou.tika.application.auth.dto.PermissionRegistryDto;
+import engineer.mkitsoukou.tika.application.auth.model.JwtClaims;
+import engineer.mkitsoukou.tika.application.auth.model.PermissionMask;
+import engineer.mkitsoukou.tika.domain.model.entity.Role;
+import engineer.mkitsoukou.tika.domain.model.valueobject.Permission;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Which role grants which permission, frozen at one point in time.
+ *
+ * <p>A snapshot is never modified, so request threads read it without locks; a change
+ * produces a new snapshot. Roles are keyed by id, the form they take in the
+ * {@code roles} claim. Tokens carrying a {@link PermissionMask} are answered by a bit
+ * test against the registry ordinals captured with the snapshot instead.</p>
+ */
+public final class RolePermissionSnapshot {
+
+  public static final RolePermissionSnapshot EMPTY =
+      new RolePermissionSnapshot(Map.of(), new PermissionRegistryDto(0, List.of()));
+
+  private final Map<String, Set<String>> permissionsByRole;
+  private final int registryVersion;
+  private final Map<String, Integer> ordinals;
+
+  private RolePermissionSnapshot(
+      Map<String, Set<String>> permissionsByRole,
+      PermissionRegistryDto registry
+  ) {
+    this.permissionsByRole = Map.copyOf(permissionsByRole);
+    this.registryVersion = registry.version();
+    Map<String, Integer> byName = new HashMap<>();
+    List<String> permissions = registry.permissions();
+    for (int ordinal = 0; ordinal < permissions.size(); ordinal++) {
+      byName.put(permissions.get(ordinal), ordinal);
+    }
+    this.ordinals = Map.copyOf(byName);
+  }
+
+  /**
+   * @param roles    every role
+   * @param registry permission ordinals for decoding masks
+   * @return the snapshot of those roles
+   */
+  public static RolePermissionSnapshot of(Collection<Role> roles, PermissionRegistryDto registry) {
+    Objects.requireNonNull(registry, "registry must not be null");
+    Map<String, Set<String>> permissionsByRole = new HashMap<>();
+    for (Role role : roles) {
+      permissionsByRole.put(role.getRoleId().value().toString(),
+          role.getPermissions().stream().map(Permission::value).collect(Collectors.toUnmodifiableSet()));
+    }
+    return new RolePermissionSnapshot(permissionsByRole, registry);
+  }
+
+  /**
+   * @param claims     the caller's validated token
+   * @param permission permission name, such as {@code user.read}
+   * @return whether the token's mask, or else one of its roles, grants the permission
+   */
+  public boolean grants(JwtClaims claims, String permission) {
+    PermissionMask mask = claims.permissions();
+    if (mask != null) {
+      Integer ordinal = ordinals.get(permission);
+      return ordinal != null && mask.grants(ordinal);
+    }
+    for (String role : claims.roles()) {
+      Set<String> granted = permissionsByRole.get(role);
+      if (granted != null && granted.contains(permission)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * @return version of the permission registry the snapshot decodes masks with
+   */
+  public int registryVersion() {
+    return registryVersion;
+  }
+}
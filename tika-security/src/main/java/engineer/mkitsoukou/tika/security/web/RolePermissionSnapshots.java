@@ -0,0 +1,128 @@
+package engineer.mkitsoukou.tika.security.web;
+
+import engineer.mkitsoukou.tika.application.auth.port.out.PermissionRegistryPort;
+import engineer.mkitsoukou.tika.application.shared.event.DomainEventSubscriber;
+import engineer.mkitsoukou.tika.domain.model.event.DomainEvent;
+import engineer.mkitsoukou.tika.domain.model.event.PermissionAdded;
+import engineer.mkitsoukou.tika.domain.model.event.PermissionRemoved;
+import engineer.mkitsoukou.tika.domain.model.event.PermissionsChanged;
+import engineer.mkitsoukou.tika.domain.repository.RoleRepository;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Holds the current {@link RolePermissionSnapshot} and replaces it when roles change.
+ *
+ * <p>Reads are a volatile load. The snapshot is rebuilt from {@link RoleRepository#findAll()}
+ * when a permission event arrives and on a fixed interval, since roles are created
+ * without an event. Once {@link #start(Duration)} has been called, rebuilds run on a
+ * background thread and a burst of events costs one rebuild rather than one per
+ * event.</p>
+ */
+public class RolePermissionSnapshots implements DomainEventSubscriber, AutoCloseable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(RolePermissionSnapshots.class);
+
+  private final RoleRepository roles;
+  private final PermissionRegistryPort registry;
+  private final AtomicBoolean rebuildPending = new AtomicBoolean();
+  private volatile RolePermissionSnapshot current;
+  private volatile ScheduledExecutorService scheduler;
+
+  /**
+   * Builds the first snapshot.
+   *
+   * @param roles    source of roles and their permissions
+   * @param registry source of permission ordinals for decoding masks
+   */
+  public RolePermissionSnapshots(RoleRepository roles, PermissionRegistryPort registry) {
+    this.roles = Objects.requireNonNull(roles, "roles must not be null");
+    this.registry = Objects.requireNonNull(registry, "registry must not be null");
+    rebuild();
+  }
+
+  /**
+   * @return the latest snapshot
+   */
+  public RolePermissionSnapshot current() {
+    return current;
+  }
+
+  /**
+   * Replaces the snapshot with one read from the repository now.
+   */
+  public synchronized void rebuild() {
+    current = RolePermissionSnapshot.of(roles.findAll(), registry.currentRegistry());
+  }
+
+  /**
+   * Schedules a rebuild unless one is already waiting; rebuilds at once if not started.
+   */
+  public void rebuildSoon() {
+    ScheduledExecutorService executor = scheduler;
+    if (executor == null) {
+      rebuild();
+      return;
+    }
+    if (rebuildPending.compareAndSet(false, true)) {
+      executor.execute(() -> {
+        rebuildPending.set(false);
+        rebuildQuietly();
+      });
+    }
+  }
+
+  @Override
+  public String name() {
+    return "role-permission-snapshot";
+  }
+
+  @Override
+  public void handle(DomainEvent event) {
+    if (event instanceof PermissionAdded
+        || event instanceof PermissionRemoved
+        || event instanceof PermissionsChanged) {
+      rebuildSoon();
+    }
+  }
+
+  /**
+   * Rebuilds every {@code interval} on a background thread, which also runs the rebuilds
+   * requested by events.
+   */
+  public synchronized void start(Duration interval) {
+    if (scheduler != null) {
+      return;
+    }
+    ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(r -> {
+      Thread thread = new Thread(r, "role-permission-snapshot");
+      thread.setDaemon(true);
+      return thread;
+    });
+    executor.scheduleWithFixedDelay(this::rebuildQuietly,
+        interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    scheduler = executor;
+  }
+
+  @Override
+  public synchronized void close() {
+    if (scheduler != null) {
+      scheduler.shutdownNow();
+      scheduler = null;
+    }
+  }
+
+  private void rebuildQuietly() {
+    try {
+      rebuild();
+    } catch (RuntimeException e) {
+      LOG.error("Role permission snapshot rebuild failed; keeping the previous one", e);
+    }
+  }
+}
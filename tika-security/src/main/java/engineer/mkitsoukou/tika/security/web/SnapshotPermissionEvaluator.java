@@ -0,0 +1,81 @@
+package engineer.mkitsoukou.tika.security.web;
+
+import engineer.mkitsoukou.tika.application.auth.model.JwtClaims;
+import engineer.mkitsoukou.tika.application.auth.model.PermissionMask;
+import java.io.Serializable;
+import java.util.Objects;
+import org.springframework.security.access.PermissionEvaluator;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+
+/**
+ * Answers {@code hasPermission(..., 'user.read')} for callers authenticated by
+ * {@link JwtValidatorAuthenticationProvider}, from the current
+ * {@link RolePermissionSnapshot}. A check is a volatile read and a few hash lookups;
+ * nothing touches a repository.
+ *
+ * <p>Permissions here are global, so the target of the check is ignored. A mask newer
+ * than the snapshot's registry asks for a rebuild and is decided on what the snapshot
+ * already knows.</p>
+ */
+public class SnapshotPermissionEvaluator implements PermissionEvaluator {
+
+  private static final AuthorizationDecision GRANTED = new AuthorizationDecision(true);
+  private static final AuthorizationDecision DENIED = new AuthorizationDecision(false);
+
+  private final RolePermissionSnapshots snapshots;
+
+  public SnapshotPermissionEvaluator(RolePermissionSnapshots snapshots) {
+    this.snapshots = Objects.requireNonNull(snapshots, "snapshots must not be null");
+  }
+
+  @Override
+  public boolean hasPermission(
+      Authentication authentication,
+      Object targetDomainObject,
+      Object permission
+  ) {
+    return hasPermission(authentication, String.valueOf(permission));
+  }
+
+  @Override
+  public boolean hasPermission(
+      Authentication authentication,
+      Serializable targetId,
+      String targetType,
+      Object permission
+  ) {
+    return hasPermission(authentication, String.valueOf(permission));
+  }
+
+  /**
+   * @param authentication the caller, may be {@code null}
+   * @param permission     permission name
+   * @return whether the caller holds the permission
+   */
+  public boolean hasPermission(Authentication authentication, String permission) {
+    if (authentication == null || !(authentication.getPrincipal() instanceof JwtClaims claims)) {
+      return false;
+    }
+    RolePermissionSnapshot snapshot = snapshots.current();
+    PermissionMask mask = claims.permissions();
+    if (mask != null && mask.isNewerThan(snapshot.registryVersion())) {
+      snapshots.rebuildSoon();
+    }
+    return snapshot.grants(claims, permission);
+  }
+
+  /**
+   * For request rules, as in
+   * {@code requestMatchers("/users/**").access(evaluator.hasPermission("user.read"))}.
+   *
+   * @param permission permission name
+   * @return a manager granting access to callers holding the permission
+   */
+  public <T> AuthorizationManager<T> hasPermission(String permission) {
+    Objects.requireNonNull(permission, "permission must not be null");
+    return (authentication, object) ->
+        hasPermission(authentication.get(), permission) ? GRANTED : DENIED;
+  }
+}
@@ -0,0 +1,204 @@
+package engineer.mkitsoukou.tika.security.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import engineer.mkitsoukou.tika.application.auth.exception.InvalidCredentialsException;
+import engineer.mkitsoukou.tika.application.auth.model.JwtClaims;
+import engineer.mkitsoukou.tika.application.auth.port.out.JwtValidatorPort;
+import engineer.mkitsoukou.tika.application.auth.port.out.TokenBlacklistPort;
+import engineer.mkitsoukou.tika.application.auth.port.out.TokenEpochPort;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CachingJwtValidatorTest {
+
+  private static final Instant NOW = Instant.parse("2026-01-01T10:00:00Z");
+
+  private final JwtValidatorPort delegate = mock(JwtValidatorPort.class);
+  private final TokenBlacklistPort blacklist = mock(TokenBlacklistPort.class);
+  private final AtomicReference<Instant> now = new AtomicReference<>(NOW);
+  private final Map<String, Instant> cutoffs = new ConcurrentHashMap<>();
+  private final TokenEpochPort epochs = new TokenEpochPort() {
+    @Override
+    public Instant validAfter(String userId) {
+      return cutoffs.getOrDefault(userId, Instant.EPOCH);
+    }
+
+    @Override
+    public void revokeAllBefore(String userId, Instant cutoff) {
+      cutoffs.merge(userId, cutoff, (a, b) -> a.isAfter(b) ? a : b);
+    }
+  };
+  private CachingJwtValidator validator;
+
+  @BeforeEach
+  void setUp() {
+    validator = new CachingJwtValidator(delegate, blacklist, epochs, now::get, 4);
+    for (int i = 0; i < 8; i++) {
+      when(delegate.validateAccessToken("token-" + i)).thenReturn(claims("jti-" + i));
+    }
+  }
+
+  @Test
+  void repeatedTokensShouldBeVerifiedOnce() {
+    validator.validateAccessToken("token-0");
+    JwtClaims claims = validator.validateAccessToken("token-0");
+
+    assertThat(claims.jti()).isEqualTo("jti-0");
+    verify(delegate, times(1)).validateAccessToken("token-0");
+    assertThat(validator.stats().hits()).isEqualTo(1);
+    assertThat(validator.stats().misses()).isEqualTo(1);
+    assertThat(validator.stats().hitRatio()).isEqualTo(0.5);
+  }
+
+  @Test
+  void tokensDifferingOnlyInNonAsciiCharactersShouldNotShareAnEntry() {
+    when(delegate.validateAccessToken("token-é")).thenReturn(claims("jti-0"));
+    when(delegate.validateAccessToken("token-ü")).thenThrow(new InvalidCredentialsException());
+    validator.validateAccessToken("token-é");
+
+    assertThatThrownBy(() -> validator.validateAccessToken("token-ü"))
+        .isInstanceOf(InvalidCredentialsException.class);
+  }
+
+  @Test
+  void blacklistShouldBeCheckedOnEveryHit() {
+    validator.validateAccessToken("token-0");
+    when(blacklist.isBlacklisted("jti-0")).thenReturn(true);
+
+    assertThatThrownBy(() -> validator.validateAccessToken("token-0"))
+        .isInstanceOf(InvalidCredentialsException.class);
+    verify(delegate, times(1)).validateAccessToken("token-0");
+  }
+
+  @Test
+  void entriesShouldExpireWithTheirToken() {
+    validator.validateAccessToken("token-0");
+    now.set(NOW.plus(Duration.ofMinutes(15)));
+    when(delegate.validateAccessToken("token-0")).thenThrow(new InvalidCredentialsException());
+
+    assertThatThrownBy(() -> validator.validateAccessToken("token-0"))
+        .isInstanceOf(InvalidCredentialsException.class);
+    assertThat(validator.stats().entries()).isZero();
+  }
+
+  @Test
+  void batchShouldMixHitsMissesAndRejections() {
+    validator.validateAccessToken("token-0");
+    when(delegate.validateAccessToken("forged")).thenThrow(new InvalidCredentialsException());
+
+    List<Optional<JwtClaims>> results =
+        validator.validateAccessTokens(List.of("token-0", "forged", "token-1", "token-2"));
+
+    assertThat(results).extracting(result -> result.map(JwtClaims::jti).orElse(null))
+        .containsExactly("jti-0", null, "jti-1", "jti-2");
+    verify(delegate, times(1)).validateAccessToken("token-0");
+    assertThat(validator.stats().hits()).isEqualTo(1);
+    assertThat(validator.stats().misses()).isEqualTo(4);
+    assertThat(validator.stats().entries()).isEqualTo(3);
+  }
+
+  @Test
+  void batchShouldCheckTheBlacklistOnce() {
+    validator.validateAccessToken("token-0");
+    when(blacklist.blacklistedAmong(anyCollection())).thenReturn(Set.of("jti-1"));
+
+    List<Optional<JwtClaims>> results =
+        validator.validateAccessTokens(List.of("token-0", "token-1", "token-1"));
+
+    assertThat(results).extracting(Optional::isPresent).containsExactly(true, false, false);
+    verify(blacklist, times(1)).blacklistedAmong(anyCollection());
+    verify(blacklist, times(1)).isBlacklisted("jti-0");
+  }
+
+  @Test
+  void rejectedTokensShouldNotBeCached() {
+    when(delegate.validateAccessToken("forged")).thenThrow(new InvalidCredentialsException());
+
+    assertThatThrownBy(() -> validator.validateAccessToken("forged"))
+        .isInstanceOf(InvalidCredentialsException.class);
+    assertThat(validator.stats().entries()).isZero();
+  }
+
+  @Test
+  void cacheShouldStayWithinItsBound() {
+    for (int i = 0; i < 8; i++) {
+      validator.validateAccessToken("token-" + i);
+    }
+
+    assertThat(validator.stats().entries()).isLessThanOrEqualTo(4);
+  }
+
+  @Test
+  void refreshTokensShouldAlwaysReachTheDelegate() {
+    when(delegate.validateRefreshToken("refresh")).thenReturn(claims("jti-rt"));
+    validator.validateRefreshToken("refresh");
+    validator.validateRefreshToken("refresh");
+
+    verify(delegate, times(2)).validateRefreshToken("refresh");
+  }
+
+  @Test
+  void epochShouldRevokeCachedTokensIssuedBeforeIt() {
+    validator.validateAccessToken("token-0");
+    epochs.revokeAllBefore("user-1", NOW.plusSeconds(1));
+
+    assertThatThrownBy(() -> validator.validateAccessToken("token-0"))
+        .isInstanceOf(InvalidCredentialsException.class);
+    verify(delegate, times(1)).validateAccessToken("token-0");
+  }
+
+  @Test
+  void epochShouldSpareTokensIssuedInTheSameSecond() {
+    epochs.revokeAllBefore("user-1", NOW.plusMillis(900));
+
+    assertThat(validator.validateAccessToken("token-0").jti()).isEqualTo("jti-0");
+  }
+
+  @Test
+  void epochShouldOnlyRevokeItsOwnUser() {
+    epochs.revokeAllBefore("user-2", NOW.plusSeconds(60));
+
+    assertThat(validator.validateAccessToken("token-0").jti()).isEqualTo("jti-0");
+  }
+
+  @Test
+  void batchShouldDropTokensBeforeTheEpoch() {
+    when(delegate.validateAccessToken("other")).thenReturn(
+        new JwtClaims("user-2", "jti-other", NOW, NOW.plus(Duration.ofMinutes(15)), Set.of()));
+    when(blacklist.blacklistedAmong(anyCollection())).thenReturn(Set.of());
+    epochs.revokeAllBefore("user-1", NOW.plusSeconds(1));
+
+    List<Optional<JwtClaims>> results =
+        validator.validateAccessTokens(List.of("token-0", "other"));
+
+    assertThat(results).extracting(Optional::isPresent).containsExactly(false, true);
+  }
+
+  @Test
+  void refreshTokensBeforeTheEpochShouldBeRejected() {
+    when(delegate.validateRefreshToken("refresh")).thenReturn(claims("jti-rt"));
+    epochs.revokeAllBefore("user-1", NOW.plusSeconds(1));
+
+    assertThatThrownBy(() -> validator.validateRefreshToken("refresh"))
+        .isInstanceOf(InvalidCredentialsException.class);
+  }
+
+  private static JwtClaims claims(String jti) {
+    return new JwtClaims("user-1", jti, NOW, NOW.plus(Duration.ofMinutes(15)), Set.of());
+  }
+}
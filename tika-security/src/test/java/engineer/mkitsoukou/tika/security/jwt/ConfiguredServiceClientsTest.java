@@ -0,0 +1,36 @@
+package engineer.mkitsoukou.tika.security.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import engineer.mkitsoukou.tika.application.auth.model.ServiceClient;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class ConfiguredServiceClientsTest {
+
+  private final ConfiguredServiceClients clients = new ConfiguredServiceClients(Map.of(
+      "billing", new ServiceTokenProperties.Client("tika-internal", Set.of("users.read"),
+          HexFormat.of().formatHex(ConfiguredServiceClients.sha256("s3cret")))));
+
+  @Test
+  void rightSecretShouldAuthenticate() {
+    assertThat(clients.authenticate("billing", "s3cret")).contains(
+        new ServiceClient("billing", "tika-internal", Set.of("users.read")));
+  }
+
+  @Test
+  void wrongSecretOrUnknownClientShouldNot() {
+    assertThat(clients.authenticate("billing", "guess")).isEmpty();
+    assertThat(clients.authenticate("payroll", "s3cret")).isEmpty();
+  }
+
+  @Test
+  void malformedDigestShouldBeRejected() {
+    assertThatThrownBy(() -> new ConfiguredServiceClients(Map.of(
+        "billing", new ServiceTokenProperties.Client("tika-internal", Set.of(), "abcd"))))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
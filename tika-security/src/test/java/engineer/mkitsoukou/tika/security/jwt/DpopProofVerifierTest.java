@@ -0,0 +1,234 @@
+package engineer.mkitsoukou.tika.security.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.nimbusds.jose.JOSEObjectType;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSSigner;
+import com.nimbusds.jose.crypto.ECDSASigner;
+import com.nimbusds.jose.crypto.MACSigner;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.OctetKeyPair;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jose.util.Base64URL;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import engineer.mkitsoukou.tika.application.auth.exception.InvalidCredentialsException;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.MessageDigest;
+import java.security.Signature;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+
+class DpopProofVerifierTest {
+
+  private static final Instant NOW = Instant.parse("2026-01-01T10:00:00Z");
+  private static final String URI = "https://api.example.com/users/42";
+  private static final String TOKEN = "header.payload.signature";
+
+  private final AtomicReference<Instant> now = new AtomicReference<>(NOW);
+  private final DpopProofVerifier verifier =
+      new DpopProofVerifier(now::get, Duration.ofSeconds(60), Duration.ofSeconds(5), 100);
+  private final ECKey key = ecKey();
+
+  @Test
+  void validProofShouldYieldItsKeyThumbprint() throws Exception {
+    DpopProof proof = verifier.verify(proof(key, "GET", URI, NOW, TOKEN), "GET", URI, TOKEN);
+
+    assertThat(proof.keyThumbprint()).isEqualTo(key.computeThumbprint().toString());
+    assertThat(proof.proofId()).isNotBlank();
+    assertThat(proof.issuedAt()).isEqualTo(NOW);
+  }
+
+  @Test
+  void rsaAndEddsaProofsShouldVerify() throws Exception {
+    RSAKey rsa = new RSAKeyGenerator(2048).generate();
+    KeyPair ed25519 = KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+
+    DpopProof rsaProof = verifier.verify(proof(JWSAlgorithm.RS256, rsa, new RSASSASigner(rsa),
+        claims("GET", URI, NOW, TOKEN)), "GET", URI, TOKEN);
+    DpopProof edProof = verifier.verify(eddsaProof(ed25519, claims("GET", URI, NOW, TOKEN)),
+        "GET", URI, TOKEN);
+
+    assertThat(rsaProof.keyThumbprint()).isEqualTo(rsa.computeThumbprint().toString());
+    assertThat(edProof.keyThumbprint()).isEqualTo(okp(ed25519).computeThumbprint().toString());
+  }
+
+  @Test
+  void verifiersShouldBeCachedPerClientKey() {
+    verifier.verify(proof(key, "GET", URI, NOW, TOKEN), "GET", URI, TOKEN);
+    verifier.verify(proof(key, "POST", URI, NOW, TOKEN), "POST", URI, TOKEN);
+    assertThat(verifier.cachedKeys()).isEqualTo(1);
+
+    verifier.verify(proof(ecKey(), "GET", URI, NOW, TOKEN), "GET", URI, TOKEN);
+    assertThat(verifier.cachedKeys()).isEqualTo(2);
+  }
+
+  @Test
+  void keyCacheShouldStayBounded() {
+    DpopProofVerifier small =
+        new DpopProofVerifier(now::get, Duration.ofSeconds(60), Duration.ofSeconds(5), 2);
+
+    for (int i = 0; i < 5; i++) {
+      small.verify(proof(ecKey(), "GET", URI, NOW, null), "GET", URI, null);
+    }
+
+    assertThat(small.cachedKeys()).isLessThanOrEqualTo(2);
+  }
+
+  @Test
+  void proofsForAnotherRequestShouldBeRejected() {
+    String proof = proof(key, "GET", URI + "?page=2#top", NOW, TOKEN);
+
+    assertThat(verifier.verify(proof, "GET", URI + "?page=3", TOKEN)).isNotNull();
+    assertRejected(proof, "POST", URI, TOKEN);
+    assertRejected(proof, "GET", "https://api.example.com/users/43", TOKEN);
+    assertRejected(proof, "GET", URI, "another.access.token");
+  }
+
+  @Test
+  void proofsWithoutTheAccessTokenHashShouldBeRejectedWithAToken() {
+    String proof = proof(key, "GET", URI, NOW, null);
+
+    assertThat(verifier.verify(proof, "GET", URI, null)).isNotNull();
+    assertRejected(proof, "GET", URI, TOKEN);
+  }
+
+  @Test
+  void staleAndFutureProofsShouldBeRejected() {
+    assertThat(verifier.verify(proof(key, "GET", URI, NOW.minusSeconds(60), TOKEN),
+        "GET", URI, TOKEN)).isNotNull();
+    assertRejected(proof(key, "GET", URI, NOW.minusSeconds(61), TOKEN), "GET", URI, TOKEN);
+    assertRejected(proof(key, "GET", URI, NOW.plusSeconds(6), TOKEN), "GET", URI, TOKEN);
+  }
+
+  @Test
+  void proofsSignedByAnotherKeyShouldBeRejected() throws Exception {
+    String proof = proof(JWSAlgorithm.ES256, key.toPublicJWK(), new ECDSASigner(ecKey()),
+        claims("GET", URI, NOW, TOKEN));
+
+    assertRejected(proof, "GET", URI, TOKEN);
+    String valid = proof(key, "GET", URI, NOW, TOKEN);
+    assertRejected(valid.substring(0, valid.length() - 4) + "AAAA", "GET", URI, TOKEN);
+  }
+
+  @Test
+  void unsuitableHeadersShouldBeRejectedAndNotCached() throws Exception {
+    JWTClaimsSet claims = claims("GET", URI, NOW, TOKEN);
+    String untyped = sign(new JWSHeader.Builder(JWSAlgorithm.ES256).jwk(key.toPublicJWK())
+        .build(), new ECDSASigner(key), claims);
+    String noKey = sign(new JWSHeader.Builder(JWSAlgorithm.ES256)
+        .type(new JOSEObjectType(DpopProofVerifier.TYPE)).build(), new ECDSASigner(key), claims);
+    byte[] secret = new byte[32];
+    String symmetric = sign(new JWSHeader.Builder(JWSAlgorithm.HS256)
+        .type(new JOSEObjectType(DpopProofVerifier.TYPE)).jwk(key.toPublicJWK()).build(),
+        new MACSigner(secret), claims);
+    String weakRsa = proof(JWSAlgorithm.RS256, new RSAKeyGenerator(1024, true).generate(),
+        null, claims);
+
+    for (String proof : new String[] {untyped, noKey, symmetric, weakRsa}) {
+      assertRejected(proof, "GET", URI, TOKEN);
+    }
+    assertThat(verifier.cachedKeys()).isZero();
+  }
+
+  @Test
+  void malformedProofsShouldBeRejected() {
+    for (String proof : new String[] {null, "", "a", "a.b", "a.b.c.d", ".b.c", "e30.e30.AA",
+        Base64URL.encode("x".repeat(3000)) + ".e30.AA"}) {
+      assertRejected(proof, "GET", URI, TOKEN);
+    }
+  }
+
+  private void assertRejected(String proof, String method, String uri, String accessToken) {
+    assertThatThrownBy(() -> verifier.verify(proof, method, uri, accessToken))
+        .isInstanceOf(InvalidCredentialsException.class);
+  }
+
+  private static String proof(ECKey key, String method, String uri, Instant iat, String token) {
+    try {
+      return proof(JWSAlgorithm.ES256, key.toPublicJWK(), new ECDSASigner(key),
+          claims(method, uri, iat, token));
+    } catch (Exception e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static String proof(JWSAlgorithm algorithm, JWK jwk, JWSSigner signer,
+      JWTClaimsSet claims) throws Exception {
+    JWSHeader header = new JWSHeader.Builder(algorithm)
+        .type(new JOSEObjectType(DpopProofVerifier.TYPE))
+        .jwk(jwk.toPublicJWK())
+        .build();
+    if (signer == null) {
+      // a header the verifier must refuse before it looks at the signature
+      return header.toBase64URL() + "." + Base64URL.encode(claims.toString()) + ".AAAA";
+    }
+    return sign(header, signer, claims);
+  }
+
+  private static String sign(JWSHeader header, JWSSigner signer, JWTClaimsSet claims)
+      throws Exception {
+    SignedJWT jwt = new SignedJWT(header, claims);
+    jwt.sign(signer);
+    return jwt.serialize();
+  }
+
+  private static String eddsaProof(KeyPair pair, JWTClaimsSet claims) throws Exception {
+    JWSHeader header = new JWSHeader.Builder(JWSAlgorithm.EdDSA)
+        .type(new JOSEObjectType(DpopProofVerifier.TYPE))
+        .jwk(okp(pair))
+        .build();
+    String signingInput = header.toBase64URL() + "." + Base64URL.encode(claims.toString());
+    Signature signer = Signature.getInstance("Ed25519");
+    signer.initSign(pair.getPrivate());
+    signer.update(signingInput.getBytes(StandardCharsets.US_ASCII));
+    return signingInput + "." + Base64URL.encode(signer.sign());
+  }
+
+  private static OctetKeyPair okp(KeyPair pair) {
+    byte[] encoded = pair.getPublic().getEncoded();
+    return new OctetKeyPair.Builder(Curve.Ed25519,
+        Base64URL.encode(Arrays.copyOfRange(encoded, encoded.length - 32, encoded.length)))
+        .build();
+  }
+
+  private static JWTClaimsSet claims(String method, String uri, Instant iat, String token) {
+    JWTClaimsSet.Builder claims = new JWTClaimsSet.Builder()
+        .jwtID(UUID.randomUUID().toString())
+        .claim("htm", method)
+        .claim("htu", uri)
+        .issueTime(Date.from(iat));
+    if (token != null) {
+      try {
+        claims.claim("ath", Base64URL.encode(MessageDigest.getInstance("SHA-256")
+            .digest(token.getBytes(StandardCharsets.US_ASCII))).toString());
+      } catch (Exception e) {
+        throw new IllegalStateException(e);
+      }
+    }
+    return claims.build();
+  }
+
+  private static ECKey ecKey() {
+    try {
+      return new ECKeyGenerator(Curve.P_256).generate();
+    } catch (Exception e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
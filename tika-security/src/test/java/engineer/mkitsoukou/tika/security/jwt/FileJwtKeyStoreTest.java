@@ -0,0 +1,100 @@
+package engineer.mkitsoukou.tika.security.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class FileJwtKeyStoreTest {
+
+  private static final Instant T0 = Instant.parse("2026-01-01T10:00:00Z");
+
+  @TempDir
+  Path dir;
+
+  @ParameterizedTest
+  @ValueSource(strings = {"RS256", "ES256", "EdDSA"})
+  void savedKeysShouldLoadBack(String name) {
+    JWSAlgorithm algorithm = JWSAlgorithm.parse(name);
+    StoredJwtKey key = new StoredJwtKey("k-1", algorithm,
+        JwtSigningKey.generate("k-1", algorithm).keyPair(), T0, T0.plusSeconds(60), null);
+    FileJwtKeyStore store = new FileJwtKeyStore(dir);
+
+    store.save(key);
+
+    assertThat(store.loadAll()).singleElement().satisfies(loaded -> {
+      assertThat(loaded.keyId()).isEqualTo("k-1");
+      assertThat(loaded.algorithm()).isEqualTo(algorithm);
+      assertThat(loaded.createdAt()).isEqualTo(T0);
+      assertThat(loaded.activatedAt()).isEqualTo(T0.plusSeconds(60));
+      assertThat(loaded.retiredAt()).isNull();
+      assertThat(loaded.keys().getPublic().getEncoded())
+          .isEqualTo(key.keys().getPublic().getEncoded());
+      assertThat(loaded.keys().getPrivate().getEncoded())
+          .isEqualTo(key.keys().getPrivate().getEncoded());
+    });
+  }
+
+  @Test
+  void saveShouldReplaceAndDeleteShouldRemove() throws Exception {
+    StoredJwtKey key = new StoredJwtKey("k-1", JWSAlgorithm.ES256,
+        JwtSigningKey.generate("k-1", JWSAlgorithm.ES256).keyPair(), T0, null, null);
+    FileJwtKeyStore store = new FileJwtKeyStore(dir);
+    store.save(key);
+
+    store.save(key.activate(T0).retire(T0.plusSeconds(1)));
+
+    assertThat(store.loadAll()).singleElement()
+        .extracting(StoredJwtKey::retiredAt)
+        .isEqualTo(T0.plusSeconds(1));
+
+    store.delete("k-1");
+
+    assertThat(store.loadAll()).isEmpty();
+    try (var files = Files.list(dir)) {
+      assertThat(files).isEmpty();
+    }
+  }
+
+  @Test
+  void lockedActionsOnOneDirectoryShouldNotOverlap() {
+    FileJwtKeyStore first = new FileJwtKeyStore(dir);
+    FileJwtKeyStore second = new FileJwtKeyStore(dir);
+    AtomicInteger inside = new AtomicInteger();
+    AtomicInteger mostInside = new AtomicInteger();
+
+    List<CompletableFuture<Void>> actions = IntStream.range(0, 8)
+        .mapToObj(i -> i % 2 == 0 ? first : second)
+        .map(store -> CompletableFuture.runAsync(() -> store.locked(() -> {
+          mostInside.accumulateAndGet(inside.incrementAndGet(), Math::max);
+          LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+          inside.decrementAndGet();
+          return null;
+        })))
+        .toList();
+    actions.forEach(CompletableFuture::join);
+
+    assertThat(mostInside).hasValue(1);
+  }
+
+  @Test
+  void keyIdsShouldNotEscapeTheDirectory() {
+    FileJwtKeyStore store = new FileJwtKeyStore(dir);
+
+    assertThatThrownBy(() -> store.delete("../k-1"))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,149 @@
+package engineer.mkitsoukou.tika.security.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import engineer.mkitsoukou.tika.application.auth.dto.AuthTokensDto;
+import engineer.mkitsoukou.tika.application.auth.dto.JwkSetDto;
+import engineer.mkitsoukou.tika.application.auth.model.AuthSubject;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class JwtKeyRingTest {
+
+  private static final Instant T0 = Instant.parse("2026-01-01T10:00:00Z");
+  private static final JwtKeyRing.Settings SETTINGS =
+      new JwtKeyRing.Settings(JWSAlgorithm.ES256, Duration.ofDays(7), Duration.ofDays(7));
+
+  @TempDir
+  Path dir;
+
+  private final AtomicReference<Instant> now = new AtomicReference<>(T0);
+
+  @Test
+  void newRingShouldPublishTheActiveAndPendingKeys() throws ParseException {
+    JwtKeyRing ring = ring();
+
+    assertThat(publishedKeyIds(ring.currentKeys()))
+        .hasSize(2)
+        .contains(ring.current().keyId());
+    assertThat(ring.byKeyId(ring.current().keyId())).isPresent();
+  }
+
+  @Test
+  void rotationShouldActivateThePreviouslyPublishedKey() throws ParseException {
+    JwtKeyRing ring = ring();
+    String first = ring.current().keyId();
+    String pending = publishedKeyIds(ring.currentKeys()).stream()
+        .filter(kid -> !kid.equals(first))
+        .findFirst()
+        .orElseThrow();
+
+    now.set(T0.plus(Duration.ofDays(7)));
+
+    assertThat(ring.rotateIfDue()).isTrue();
+    assertThat(ring.current().keyId()).isEqualTo(pending);
+    assertThat(publishedKeyIds(ring.currentKeys())).hasSize(3).contains(first, pending);
+  }
+
+  @Test
+  void rotationShouldNotHappenBeforeThePeriodEnds() {
+    JwtKeyRing ring = ring();
+    String first = ring.current().keyId();
+    JwkSetDto published = ring.currentKeys();
+
+    now.set(T0.plus(Duration.ofDays(6)));
+
+    assertThat(ring.rotateIfDue()).isFalse();
+    assertThat(ring.current().keyId()).isEqualTo(first);
+    assertThat(ring.currentKeys()).isSameAs(published);
+  }
+
+  @Test
+  void tokensSignedBeforeRotationShouldStayValidUntilRetentionEnds() {
+    JwtKeyRing ring = ring();
+    NimbusJwtIssuer issuer = new NimbusJwtIssuer(ring::current,
+        new NimbusJwtIssuer.Settings("tika", Duration.ofDays(30), Duration.ofDays(30)),
+        NimbusJwtIssuer.RANDOM_IDS);
+    NimbusJwtValidator validator = new NimbusJwtValidator(ring, "tika", now::get);
+    AuthTokensDto tokens = issuer.issueTokens(new AuthSubject("user-1", Set.of()), T0);
+    String oldKey = ring.current().keyId();
+
+    now.set(T0.plus(Duration.ofDays(7)));
+    ring.rotate();
+
+    assertThat(validator.validateAccessToken(tokens.accessToken()).userId())
+        .isEqualTo("user-1");
+
+    now.set(T0.plus(Duration.ofDays(14)));
+    ring.rotate();
+
+    assertThat(ring.byKeyId(oldKey)).isEmpty();
+    assertThat(new FileJwtKeyStore(dir).loadAll())
+        .extracting(StoredJwtKey::keyId)
+        .doesNotContain(oldKey);
+  }
+
+  @Test
+  void etagShouldChangeOnlyWithTheKeys() {
+    JwtKeyRing ring = ring();
+    JwkSetDto before = ring.currentKeys();
+
+    ring.rotate();
+
+    assertThat(ring.currentKeys().etag()).isNotEqualTo(before.etag());
+    assertThat(before.etag()).startsWith("\"").endsWith("\"");
+  }
+
+  @Test
+  void restartShouldResumeFromTheStore() {
+    JwtKeyRing ring = ring();
+    ring.rotate();
+
+    JwtKeyRing restarted = ring();
+
+    assertThat(restarted.current().keyId()).isEqualTo(ring.current().keyId());
+    assertThat(restarted.currentKeys()).isEqualTo(ring.currentKeys());
+  }
+
+  @Test
+  void ringsSharingAStoreShouldRotateOnceAndAcceptEachOthersTokens() {
+    JwtKeyRing first = ring();
+    JwtKeyRing second = ring();
+    NimbusJwtIssuer issuer = new NimbusJwtIssuer(first::current,
+        new NimbusJwtIssuer.Settings("tika", Duration.ofDays(30), Duration.ofDays(30)),
+        NimbusJwtIssuer.RANDOM_IDS);
+    NimbusJwtValidator validator = new NimbusJwtValidator(second, "tika", now::get);
+
+    assertThat(second.current().keyId()).isEqualTo(first.current().keyId());
+
+    now.set(T0.plus(Duration.ofDays(7)));
+
+    assertThat(first.rotateIfDue()).isTrue();
+    assertThat(second.rotateIfDue()).isFalse();
+    assertThat(second.current().keyId()).isEqualTo(first.current().keyId());
+    assertThat(second.currentKeys()).isEqualTo(first.currentKeys());
+    AuthTokensDto tokens = issuer.issueTokens(new AuthSubject("user-1", Set.of()), now.get());
+    assertThat(validator.validateAccessToken(tokens.accessToken()).userId())
+        .isEqualTo("user-1");
+  }
+
+  private JwtKeyRing ring() {
+    return new JwtKeyRing(new FileJwtKeyStore(dir), SETTINGS, now::get);
+  }
+
+  private static Set<String> publishedKeyIds(JwkSetDto keys) throws ParseException {
+    return JWKSet.parse(keys.json()).getKeys().stream()
+        .map(JWK::getKeyID)
+        .collect(Collectors.toSet());
+  }
+}
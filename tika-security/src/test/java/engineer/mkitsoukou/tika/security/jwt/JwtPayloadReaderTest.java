@@ -0,0 +1,232 @@
+package engineer.mkitsoukou.tika.security.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.fail;
+
+import com.nimbusds.jwt.JWTClaimsSet;
+import java.nio.charset.StandardCharsets;
+import java.text.ParseException;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class JwtPayloadReaderTest {
+
+  private static final String CLAIMS = """
+      {"iss":"tika","sub":"user-1","iat":1767261600,"exp":1767262500,"jti":"jti-1",\
+      "token_use":"access","roles":["admin","auditor"],"perms":"_w","perms_v":9}""";
+
+  private final JwtPayloadReader reader = new JwtPayloadReader();
+
+  @Test
+  void knownClaimsShouldBeRead() {
+    reader.read(token(CLAIMS));
+
+    assertThat(reader.issuer()).isEqualTo("tika");
+    assertThat(reader.subject()).isEqualTo("user-1");
+    assertThat(reader.jwtId()).isEqualTo("jti-1");
+    assertThat(reader.tokenUse()).isEqualTo("access");
+    assertThat(reader.issuedAt()).isEqualTo(1767261600L);
+    assertThat(reader.expiresAt()).isEqualTo(1767262500L);
+    assertThat(reader.roles()).containsExactlyInAnyOrder("admin", "auditor");
+    assertThat(reader.permissions()).isEqualTo("_w");
+    assertThat(reader.permissionsVersion()).isEqualTo(9);
+  }
+
+  @Test
+  void unknownClaimsShouldBeSkipped() {
+    reader.read(token("""
+        { "x" : {"a":[1,-2.5e+3,true,false,null,{"b":"\\"}"}]}, "sub" : "u",
+          "y":[], "z":{}, "w":"\\u00e9\\ud83d\\ude00" }"""));
+
+    assertThat(reader.subject()).isEqualTo("u");
+    assertThat(reader.issuer()).isNull();
+    assertThat(reader.hasExpiresAt()).isFalse();
+    assertThat(reader.roles()).isEmpty();
+  }
+
+  @Test
+  void escapedStringsShouldBeDecoded() {
+    reader.read(token("{\"sub\":\"q\\\"b\\\\s\\/\\t\\u00e9😀\",\"\\u0073ub2\":1}"));
+
+    assertThat(reader.subject()).isEqualTo("q\"b\\s/\té😀");
+  }
+
+  @Test
+  void escapedNamesShouldStillMatchKnownClaims() {
+    reader.read(token("{\"\\u0073ub\":\"u\"}"));
+
+    assertThat(reader.subject()).isEqualTo("u");
+  }
+
+  @Test
+  void nullClaimsShouldCountAsAbsent() {
+    reader.read(token("{\"sub\":null,\"roles\":null,\"exp\":null}"));
+
+    assertThat(reader.subject()).isNull();
+    assertThat(reader.roles()).isEmpty();
+    assertThat(reader.hasExpiresAt()).isFalse();
+  }
+
+  @Test
+  void valuesShouldNotLeakIntoTheNextRead() {
+    reader.read(token(CLAIMS));
+    reader.read(token("{\"sub\":\"other\"}"));
+
+    assertThat(reader.issuer()).isNull();
+    assertThat(reader.jwtId()).isNull();
+    assertThat(reader.hasIssuedAt()).isFalse();
+    assertThat(reader.roles()).isEmpty();
+    assertThat(reader.permissions()).isNull();
+    assertThat(reader.hasPermissionsVersion()).isFalse();
+  }
+
+  @Test
+  void keyThumbprintShouldBeReadFromTheConfirmation() {
+    reader.read(token("{\"cnf\":{\"x5t#S256\":\"x\",\"jkt\":\"thumb\"},\"sub\":\"u\"}"));
+
+    assertThat(reader.keyThumbprint()).isEqualTo("thumb");
+    assertThat(reader.subject()).isEqualTo("u");
+
+    reader.read(token("{\"cnf\":{}}"));
+    assertThat(reader.keyThumbprint()).isNull();
+    reader.read(token(CLAIMS));
+    assertThat(reader.keyThumbprint()).isNull();
+  }
+
+  @Test
+  void duplicateRolesShouldCollapse() {
+    reader.read(token("{\"roles\":[\"a\",\"a\",\"b\"]}"));
+
+    assertThat(reader.roles()).containsExactlyInAnyOrder("a", "b");
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+      "",
+      "[]",
+      "{",
+      "{\"sub\":\"u\"",
+      "{\"sub\":\"u\"}x",
+      "{\"sub\":\"u\",}",
+      "{\"sub\" \"u\"}",
+      "{\"sub\":1}",
+      "{\"sub\":\"u\",\"sub\":\"v\"}",
+      "{\"sub\":\"tab\there\"}",
+      "{\"s\u0002\":1}",
+      "{\"sub\":\"\\x\"}",
+      "{\"sub\":\"\\u12\"}",
+      "{\"exp\":\"1\"}",
+      "{\"exp\":1.5}",
+      "{\"exp\":1e9}",
+      "{\"exp\":-1}",
+      "{\"exp\":01}",
+      "{\"exp\":99999999999999999999}",
+      "{\"perms_v\":2147483648}",
+      "{\"roles\":\"admin\"}",
+      "{\"roles\":[\"a\",1]}",
+      "{\"roles\":[\"a\"}",
+      "{\"cnf\":\"thumb\"}",
+      "{\"cnf\":{\"jkt\":1}}",
+      "{\"cnf\":{\"jkt\":\"a\",\"jkt\":\"b\"}}",
+      "{\"cnf\":{\"jkt\":\"a\"}",
+      "{\"x\":tru}",
+      "{\"x\":-}",
+      "{\"x\":1.}",
+      "{\"x\":[1 2]}",
+      "{\"x\":\"unterminated}"
+  })
+  void malformedClaimsShouldBeRejected(String claims) {
+    assertThatThrownBy(() -> reader.read(token(claims)))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"", "a", "a.b", "a.b.c.d", "h.e30=.s", "h.e30+.s", "h.e.s", "h..s"})
+  void malformedTokensShouldBeRejected(String token) {
+    assertThatThrownBy(() -> reader.read(token))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void deepNestingShouldBeRejected() {
+    String deep = "[".repeat(100) + "]".repeat(100);
+
+    assertThatThrownBy(() -> reader.read(token("{\"x\":" + deep + "}")))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  /**
+   * Mutates valid payloads at random. The reader must only ever fail with an
+   * {@link IllegalArgumentException}, and whenever it accepts a payload it must agree
+   * with Nimbus on every claim it reads.
+   */
+  @Test
+  void mutatedPayloadsShouldFailCleanlyOrMatchNimbus() {
+    Random random = new Random(42);
+    byte[] original = CLAIMS.getBytes(StandardCharsets.UTF_8);
+    byte[] alphabet = "{}[]\":,\\ 0123456789.-eEtrufalsn_\u00e9".getBytes(StandardCharsets.UTF_8);
+    int accepted = 0;
+    for (int round = 0; round < 20_000; round++) {
+      byte[] mutated = original.clone();
+      int edits = 1 + random.nextInt(4);
+      for (int i = 0; i < edits; i++) {
+        int at = random.nextInt(mutated.length);
+        mutated[at] = random.nextInt(4) == 0
+            ? (byte) random.nextInt(256)
+            : alphabet[random.nextInt(alphabet.length)];
+      }
+      String payload = new String(mutated, StandardCharsets.ISO_8859_1);
+      try {
+        reader.read("h." + Base64.getUrlEncoder().withoutPadding().encodeToString(mutated)
+            + ".s");
+      } catch (IllegalArgumentException rejected) {
+        continue;
+      } catch (RuntimeException e) {
+        fail("unexpected " + e + " for " + payload);
+      }
+      accepted++;
+      assertAgreesWithNimbus(mutated, payload);
+    }
+    assertThat(accepted).isPositive();
+  }
+
+  private void assertAgreesWithNimbus(byte[] payload, String shown) {
+    JWTClaimsSet nimbus;
+    try {
+      nimbus = JWTClaimsSet.parse(new String(payload, StandardCharsets.UTF_8));
+    } catch (ParseException e) {
+      fail("reader accepted what Nimbus rejects: " + shown);
+      return;
+    }
+    try {
+      assertThat(reader.issuer()).as(shown).isEqualTo(nimbus.getIssuer());
+      assertThat(reader.subject()).as(shown).isEqualTo(nimbus.getSubject());
+      assertThat(reader.jwtId()).as(shown).isEqualTo(nimbus.getJWTID());
+      assertThat(reader.tokenUse()).as(shown)
+          .isEqualTo(nimbus.getStringClaim(NimbusJwtIssuer.TOKEN_USE));
+      if (reader.hasExpiresAt()) {
+        assertThat(reader.expiresAt()).as(shown)
+            .isEqualTo(nimbus.getExpirationTime().getTime() / 1000);
+      }
+      List<String> roles = nimbus.getStringListClaim(NimbusJwtIssuer.ROLES);
+      assertThat(reader.roles()).as(shown)
+          .isEqualTo(roles == null ? Set.of() : new HashSet<>(roles));
+    } catch (ParseException e) {
+      fail("reader accepted a claim Nimbus cannot read: " + shown);
+    }
+  }
+
+  private static String token(String claims) {
+    return "eyJhbGciOiJFUzI1NiJ9."
+        + Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(claims.getBytes(StandardCharsets.UTF_8))
+        + ".c2ln";
+  }
+}
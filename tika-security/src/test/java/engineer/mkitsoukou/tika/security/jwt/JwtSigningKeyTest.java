@@ -0,0 +1,41 @@
+package engineer.mkitsoukou.tika.security.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Base64;
+import org.junit.jupiter.api.Test;
+
+class JwtSigningKeyTest {
+
+  @Test
+  void headerShouldBeEncodedOnceWithTheKeyId() {
+    JwtSigningKey key = JwtSigningKey.generate("k1", JWSAlgorithm.EdDSA);
+
+    String encoded = new String(key.encodedHeader());
+
+    assertThat(encoded).endsWith(".");
+    assertThat(new String(Base64.getUrlDecoder().decode(encoded.substring(0, encoded.length() - 1))))
+        .isEqualTo("{\"alg\":\"EdDSA\",\"kid\":\"k1\",\"typ\":\"JWT\"}");
+  }
+
+  @Test
+  void es256ShouldRejectKeysOffP256() throws Exception {
+    KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+    generator.initialize(new ECGenParameterSpec("secp384r1"));
+    KeyPair p384 = generator.generateKeyPair();
+
+    assertThatThrownBy(() -> JwtSigningKey.of("k1", JWSAlgorithm.ES256, p384))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void unsupportedAlgorithmsShouldBeRejected() {
+    assertThatThrownBy(() -> JwtSigningKey.generate("k1", JWSAlgorithm.HS256))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
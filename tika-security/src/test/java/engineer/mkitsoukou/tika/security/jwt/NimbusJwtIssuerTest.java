@@ -0,0 +1,149 @@
+package engineer.mkitsoukou.tika.security.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.crypto.ECDSAVerifier;
+import com.nimbusds.jose.crypto.RSASSAVerifier;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import engineer.mkitsoukou.tika.application.auth.dto.AuthTokensDto;
+import engineer.mkitsoukou.tika.application.auth.model.AuthSubject;
+import engineer.mkitsoukou.tika.application.auth.model.PermissionMask;
+import java.security.Signature;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.BitSet;
+import java.util.Date;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class NimbusJwtIssuerTest {
+
+  private static final Instant NOW = Instant.parse("2026-01-01T10:00:00Z");
+  private static final NimbusJwtIssuer.Settings SETTINGS =
+      new NimbusJwtIssuer.Settings("tika", Duration.ofMinutes(15), Duration.ofDays(7));
+  private static final AuthSubject SUBJECT =
+      new AuthSubject("c0ffee00-0000-4000-8000-000000000001", Set.of("admin", "auditor"));
+
+  @ParameterizedTest
+  @ValueSource(strings = {"RS256", "ES256"})
+  void tokensShouldVerifyWithNimbus(String algorithm) throws Exception {
+    JwtSigningKey key = JwtSigningKey.generate("k1", JWSAlgorithm.parse(algorithm));
+    AuthTokensDto tokens = new NimbusJwtIssuer(key, SETTINGS).issueTokens(SUBJECT, NOW);
+
+    SignedJWT access = SignedJWT.parse(tokens.accessToken());
+
+    JWSVerifier verifier = algorithm.equals("RS256")
+        ? new RSASSAVerifier((RSAPublicKey) key.publicKey())
+        : new ECDSAVerifier((ECPublicKey) key.publicKey());
+    assertThat(access.verify(verifier)).isTrue();
+    assertThat(access.getHeader().getKeyID()).isEqualTo("k1");
+    assertThat(access.getHeader().getAlgorithm().getName()).isEqualTo(algorithm);
+  }
+
+  @Test
+  void eddsaTokensShouldVerifyWithTheJdk() throws Exception {
+    JwtSigningKey key = JwtSigningKey.generate("k1", JWSAlgorithm.EdDSA);
+    SignedJWT access = SignedJWT.parse(
+        new NimbusJwtIssuer(key, SETTINGS).issueTokens(SUBJECT, NOW).accessToken());
+
+    Signature verifier = Signature.getInstance("Ed25519");
+    verifier.initVerify(key.publicKey());
+    verifier.update(access.getSigningInput());
+
+    assertThat(verifier.verify(access.getSignature().decode())).isTrue();
+  }
+
+  @Test
+  void claimsShouldDescribeTheSubjectAndLifetime() throws Exception {
+    AtomicInteger ids = new AtomicInteger();
+    NimbusJwtIssuer issuer = new NimbusJwtIssuer(
+        JwtSigningKey.generate("k1", JWSAlgorithm.ES256), SETTINGS,
+        () -> "jti-" + ids.incrementAndGet());
+
+    AuthTokensDto tokens = issuer.issueTokens(SUBJECT, NOW);
+    JWTClaimsSet access = SignedJWT.parse(tokens.accessToken()).getJWTClaimsSet();
+    JWTClaimsSet refresh = SignedJWT.parse(tokens.refreshToken()).getJWTClaimsSet();
+
+    assertThat(access.getIssuer()).isEqualTo("tika");
+    assertThat(access.getSubject()).isEqualTo(SUBJECT.userId());
+    assertThat(access.getIssueTime()).isEqualTo(Date.from(NOW));
+    assertThat(access.getExpirationTime()).isEqualTo(Date.from(NOW.plus(Duration.ofMinutes(15))));
+    assertThat(access.getJWTID()).isEqualTo("jti-1");
+    assertThat(access.getStringClaim(NimbusJwtIssuer.TOKEN_USE)).isEqualTo("access");
+    assertThat(access.getStringListClaim(NimbusJwtIssuer.ROLES))
+        .containsExactlyInAnyOrder("admin", "auditor");
+    assertThat(refresh.getJWTID()).isEqualTo("jti-2");
+    assertThat(refresh.getStringClaim(NimbusJwtIssuer.TOKEN_USE)).isEqualTo("refresh");
+    assertThat(refresh.getExpirationTime()).isEqualTo(Date.from(NOW.plus(Duration.ofDays(7))));
+    assertThat(tokens.expiresAt()).isEqualTo(NOW.plus(Duration.ofMinutes(15)));
+  }
+
+  @Test
+  void permissionMaskShouldReplaceRolesInTheAccessTokenOnly() throws Exception {
+    Set<String> roleIds = Set.of(UUID.randomUUID().toString(), UUID.randomUUID().toString(),
+        UUID.randomUUID().toString(), UUID.randomUUID().toString());
+    BitSet granted = new BitSet();
+    granted.set(0, 40);
+    AuthSubject withMask =
+        new AuthSubject(SUBJECT.userId(), roleIds, new PermissionMask(48, granted));
+    NimbusJwtIssuer issuer =
+        new NimbusJwtIssuer(JwtSigningKey.generate("k1", JWSAlgorithm.ES256), SETTINGS);
+
+    AuthTokensDto compact = issuer.issueTokens(withMask, NOW);
+    AuthTokensDto plain = issuer.issueTokens(new AuthSubject(SUBJECT.userId(), roleIds), NOW);
+    JWTClaimsSet access = SignedJWT.parse(compact.accessToken()).getJWTClaimsSet();
+    JWTClaimsSet refresh = SignedJWT.parse(compact.refreshToken()).getJWTClaimsSet();
+
+    assertThat(access.getClaim(NimbusJwtIssuer.ROLES)).isNull();
+    assertThat(access.getStringClaim(NimbusJwtIssuer.PERMISSIONS)).isEqualTo("______8");
+    assertThat(access.getIntegerClaim(NimbusJwtIssuer.PERMISSIONS_VERSION)).isEqualTo(48);
+    assertThat(refresh.getStringListClaim(NimbusJwtIssuer.ROLES))
+        .containsExactlyInAnyOrderElementsOf(roleIds);
+    assertThat(refresh.getClaim(NimbusJwtIssuer.PERMISSIONS)).isNull();
+    assertThat(compact.accessToken().length())
+        .isLessThan(plain.accessToken().length() - 150);
+  }
+
+  @Test
+  void keyThumbprintShouldBeWrittenAsAConfirmation() throws Exception {
+    NimbusJwtIssuer issuer =
+        new NimbusJwtIssuer(JwtSigningKey.generate("k1", JWSAlgorithm.ES256), SETTINGS);
+
+    AuthTokensDto bound = issuer.issueTokens(
+        new AuthSubject(SUBJECT.userId(), SUBJECT.roles(), null, "thumb-1"), NOW);
+    JWTClaimsSet access = SignedJWT.parse(bound.accessToken()).getJWTClaimsSet();
+    JWTClaimsSet refresh = SignedJWT.parse(bound.refreshToken()).getJWTClaimsSet();
+    JWTClaimsSet plain =
+        SignedJWT.parse(issuer.issueTokens(SUBJECT, NOW).accessToken()).getJWTClaimsSet();
+
+    assertThat(access.getJSONObjectClaim(NimbusJwtIssuer.CONFIRMATION))
+        .containsExactly(Map.entry(NimbusJwtIssuer.KEY_THUMBPRINT, "thumb-1"));
+    assertThat(access.getStringListClaim(NimbusJwtIssuer.ROLES))
+        .containsExactlyInAnyOrderElementsOf(SUBJECT.roles());
+    assertThat(refresh.getJSONObjectClaim(NimbusJwtIssuer.CONFIRMATION))
+        .containsEntry(NimbusJwtIssuer.KEY_THUMBPRINT, "thumb-1");
+    assertThat(plain.getClaim(NimbusJwtIssuer.CONFIRMATION)).isNull();
+  }
+
+  @Test
+  void stringsShouldBeEscapedInThePayload() throws Exception {
+    AuthSubject odd = new AuthSubject("quote\"back\\slash\ttab é 😀", Set.of());
+    NimbusJwtIssuer issuer =
+        new NimbusJwtIssuer(JwtSigningKey.generate("k\"1", JWSAlgorithm.ES256), SETTINGS);
+
+    SignedJWT access = SignedJWT.parse(issuer.issueTokens(odd, NOW).accessToken());
+
+    assertThat(access.getJWTClaimsSet().getSubject()).isEqualTo(odd.userId());
+    assertThat(access.getHeader().getKeyID()).isEqualTo("k\"1");
+  }
+}
@@ -0,0 +1,134 @@
+package engineer.mkitsoukou.tika.security.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import engineer.mkitsoukou.tika.application.auth.dto.AuthTokensDto;
+import engineer.mkitsoukou.tika.application.auth.exception.InvalidCredentialsException;
+import engineer.mkitsoukou.tika.application.auth.model.AuthSubject;
+import engineer.mkitsoukou.tika.application.auth.model.JwtClaims;
+import engineer.mkitsoukou.tika.application.auth.model.PermissionMask;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.BitSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class NimbusJwtValidatorTest {
+
+  private static final Instant NOW = Instant.parse("2026-01-01T10:00:00Z");
+  private static final NimbusJwtIssuer.Settings SETTINGS =
+      new NimbusJwtIssuer.Settings("tika", Duration.ofMinutes(15), Duration.ofDays(7));
+  private static final AuthSubject SUBJECT = new AuthSubject("user-1", Set.of("admin"));
+
+  private final AtomicReference<Instant> now = new AtomicReference<>(NOW);
+
+  @ParameterizedTest
+  @ValueSource(strings = {"RS256", "ES256", "EdDSA"})
+  void issuedTokensShouldValidate(String algorithm) {
+    JwtSigningKey key = JwtSigningKey.generate("k1", JWSAlgorithm.parse(algorithm));
+    AuthTokensDto tokens = new NimbusJwtIssuer(key, SETTINGS).issueTokens(SUBJECT, NOW);
+    NimbusJwtValidator validator = validator(key);
+
+    JwtClaims access = validator.validateAccessToken(tokens.accessToken());
+    JwtClaims refresh = validator.validateRefreshToken(tokens.refreshToken());
+
+    assertThat(access.userId()).isEqualTo("user-1");
+    assertThat(access.roles()).containsExactly("admin");
+    assertThat(access.issuedAt()).isEqualTo(NOW);
+    assertThat(access.expiresAt()).isEqualTo(NOW.plus(Duration.ofMinutes(15)));
+    assertThat(refresh.expiresAt()).isEqualTo(NOW.plus(Duration.ofDays(7)));
+    assertThat(access.jti()).isNotEqualTo(refresh.jti());
+  }
+
+  @Test
+  void permissionMaskShouldSurviveTheRoundTrip() {
+    JwtSigningKey key = JwtSigningKey.generate("k1", JWSAlgorithm.ES256);
+    BitSet granted = new BitSet();
+    granted.set(3);
+    granted.set(70);
+    PermissionMask mask = new PermissionMask(71, granted);
+    AuthTokensDto tokens = new NimbusJwtIssuer(key, SETTINGS)
+        .issueTokens(new AuthSubject("user-1", Set.of("admin"), mask), NOW);
+
+    JwtClaims access = validator(key).validateAccessToken(tokens.accessToken());
+    JwtClaims refresh = validator(key).validateRefreshToken(tokens.refreshToken());
+
+    assertThat(access.permissions()).isEqualTo(mask);
+    assertThat(access.permissions().grants(70)).isTrue();
+    assertThat(access.roles()).isEmpty();
+    assertThat(refresh.permissions()).isNull();
+    assertThat(refresh.roles()).containsExactly("admin");
+  }
+
+  @Test
+  void keyThumbprintShouldBindBothTokens() {
+    JwtSigningKey key = JwtSigningKey.generate("k1", JWSAlgorithm.ES256);
+    AuthTokensDto tokens = new NimbusJwtIssuer(key, SETTINGS)
+        .issueTokens(new AuthSubject("user-1", Set.of("admin"), null, "thumb-1"), NOW);
+
+    JwtClaims access = validator(key).validateAccessToken(tokens.accessToken());
+    JwtClaims refresh = validator(key).validateRefreshToken(tokens.refreshToken());
+    JwtClaims unbound = validator(key).validateAccessToken(
+        new NimbusJwtIssuer(key, SETTINGS).issueTokens(SUBJECT, NOW).accessToken());
+
+    assertThat(access.keyThumbprint()).isEqualTo("thumb-1");
+    assertThat(access.isSenderConstrained()).isTrue();
+    assertThat(refresh.keyThumbprint()).isEqualTo("thumb-1");
+    assertThat(unbound.isSenderConstrained()).isFalse();
+  }
+
+  @Test
+  void tokensShouldOnlyBeAcceptedForTheirOwnUse() {
+    JwtSigningKey key = JwtSigningKey.generate("k1", JWSAlgorithm.ES256);
+    AuthTokensDto tokens = new NimbusJwtIssuer(key, SETTINGS).issueTokens(SUBJECT, NOW);
+    NimbusJwtValidator validator = validator(key);
+
+    assertThatThrownBy(() -> validator.validateAccessToken(tokens.refreshToken()))
+        .isInstanceOf(InvalidCredentialsException.class);
+    assertThatThrownBy(() -> validator.validateRefreshToken(tokens.accessToken()))
+        .isInstanceOf(InvalidCredentialsException.class);
+  }
+
+  @Test
+  void expiredTokensShouldBeRejected() {
+    JwtSigningKey key = JwtSigningKey.generate("k1", JWSAlgorithm.ES256);
+    String access = new NimbusJwtIssuer(key, SETTINGS).issueTokens(SUBJECT, NOW).accessToken();
+
+    now.set(NOW.plus(Duration.ofMinutes(15)));
+
+    assertThatThrownBy(() -> validator(key).validateAccessToken(access))
+        .isInstanceOf(InvalidCredentialsException.class);
+  }
+
+  @Test
+  void tokensOfAnotherKeyOrIssuerShouldBeRejected() {
+    JwtSigningKey key = JwtSigningKey.generate("k1", JWSAlgorithm.ES256);
+    JwtSigningKey impostor = JwtSigningKey.generate("k1", JWSAlgorithm.ES256);
+    String forged = new NimbusJwtIssuer(impostor, SETTINGS).issueTokens(SUBJECT, NOW).accessToken();
+    String foreign = new NimbusJwtIssuer(key,
+        new NimbusJwtIssuer.Settings("other", Duration.ofMinutes(15), Duration.ofDays(7)))
+        .issueTokens(SUBJECT, NOW).accessToken();
+
+    assertThatThrownBy(() -> validator(key).validateAccessToken(forged))
+        .isInstanceOf(InvalidCredentialsException.class);
+    assertThatThrownBy(() -> validator(key).validateAccessToken(foreign))
+        .isInstanceOf(InvalidCredentialsException.class);
+  }
+
+  @Test
+  void malformedTokensShouldBeRejected() {
+    NimbusJwtValidator validator = validator(JwtSigningKey.generate("k1", JWSAlgorithm.ES256));
+
+    assertThatThrownBy(() -> validator.validateAccessToken("not.a.jwt"))
+        .isInstanceOf(InvalidCredentialsException.class);
+  }
+
+  private NimbusJwtValidator validator(JwtSigningKey key) {
+    return new NimbusJwtValidator(key.verificationKey(), "tika", now::get);
+  }
+}
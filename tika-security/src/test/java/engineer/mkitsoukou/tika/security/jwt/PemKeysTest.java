@@ -0,0 +1,41 @@
+package engineer.mkitsoukou.tika.security.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.util.Base64;
+import org.junit.jupiter.api.Test;
+
+class PemKeysTest {
+
+  @Test
+  void keyPairShouldBeReadBackFromPem() throws Exception {
+    KeyPair keys = KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+
+    KeyPair read = PemKeys.keyPair(JWSAlgorithm.EdDSA,
+        pem("PRIVATE KEY", keys.getPrivate().getEncoded()),
+        pem("PUBLIC KEY", keys.getPublic().getEncoded()));
+
+    assertThat(read.getPublic()).isEqualTo(keys.getPublic());
+    assertThat(read.getPrivate().getEncoded()).isEqualTo(keys.getPrivate().getEncoded());
+  }
+
+  @Test
+  void keysOfAnotherAlgorithmShouldBeRejected() throws Exception {
+    KeyPair keys = KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+
+    assertThatThrownBy(() -> PemKeys.keyPair(JWSAlgorithm.RS256,
+        pem("PRIVATE KEY", keys.getPrivate().getEncoded()),
+        pem("PUBLIC KEY", keys.getPublic().getEncoded())))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static String pem(String type, byte[] der) {
+    return "-----BEGIN " + type + "-----\n"
+        + Base64.getMimeEncoder().encodeToString(der)
+        + "\n-----END " + type + "-----\n";
+  }
+}
@@ -0,0 +1,72 @@
+package engineer.mkitsoukou.tika.security.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class ProofReplayCacheTest {
+
+  private static final Instant NOW = Instant.parse("2026-01-01T10:00:00Z");
+
+  private final ProofReplayCache replays = new ProofReplayCache(Duration.ofSeconds(60), 6, 600);
+
+  @Test
+  void eachProofShouldBeAcceptedOnce() {
+    assertThat(replays.firstUse("p-1", NOW)).isTrue();
+    assertThat(replays.firstUse("p-1", NOW)).isFalse();
+    assertThat(replays.firstUse("p-2", NOW)).isTrue();
+    assertThat(replays.size()).isEqualTo(2);
+  }
+
+  @Test
+  void fullBucketShouldRefuseFurtherProofs() {
+    IntStream.range(0, 100).forEach(i -> assertThat(replays.firstUse("p-" + i, NOW)).isTrue());
+
+    assertThat(replays.firstUse("p-100", NOW)).isFalse();
+    assertThat(replays.firstUse("p-100", NOW.plusSeconds(10))).isTrue();
+  }
+
+  @Test
+  void bucketsShouldBeDroppedWholeOnceTheWindowMovesOn() {
+    replays.firstUse("p-1", NOW);
+    replays.firstUse("p-2", NOW.plusSeconds(1));
+
+    // the ring has 8 slots of 10 seconds: 80 seconds later the same slot is reused
+    assertThat(replays.firstUse("p-3", NOW.plusSeconds(80))).isTrue();
+
+    assertThat(replays.size()).isEqualTo(1);
+  }
+
+  @Test
+  void proofsOlderThanTheRingShouldBeRefused() {
+    replays.firstUse("p-1", NOW.plusSeconds(80));
+
+    assertThat(replays.firstUse("p-2", NOW)).isFalse();
+  }
+
+  @Test
+  void concurrentReplaysShouldLetOneThrough() {
+    AtomicInteger accepted = new AtomicInteger();
+
+    IntStream.range(0, 64).parallel().forEach(i -> {
+      if (replays.firstUse("same", NOW)) {
+        accepted.incrementAndGet();
+      }
+    });
+
+    assertThat(accepted).hasValue(1);
+  }
+
+  @Test
+  void unusableSettingsShouldBeRejected() {
+    assertThatThrownBy(() -> new ProofReplayCache(Duration.ZERO, 4, 100))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new ProofReplayCache(Duration.ofSeconds(60), 4, 3))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,99 @@
+package engineer.mkitsoukou.tika.security.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import engineer.mkitsoukou.tika.application.auth.dto.ServiceTokensDto;
+import engineer.mkitsoukou.tika.application.auth.exception.InvalidCredentialsException;
+import engineer.mkitsoukou.tika.application.auth.model.ServiceClient;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class ServiceTokenMinterTest {
+
+  private static final Instant NOW = Instant.parse("2026-01-01T10:00:00Z");
+  private static final ServiceClient BILLING =
+      new ServiceClient("billing", "tika-internal", Set.of("users.read", "roles.read"));
+
+  private final AtomicInteger ids = new AtomicInteger();
+
+  @ParameterizedTest
+  @ValueSource(strings = {"RS256", "ES256", "EdDSA"})
+  void everyTokenOfABatchShouldVerify(String algorithm) throws Exception {
+    JwtSigningKey key = JwtSigningKey.generate("k1", JWSAlgorithm.parse(algorithm));
+
+    ServiceTokensDto minted = minter(key).mintTokens(BILLING, 3, NOW);
+
+    assertThat(minted.accessTokens()).hasSize(3);
+    for (String token : minted.accessTokens()) {
+      assertThat(key.verificationKey().verify(SignedJWT.parse(token))).isTrue();
+    }
+  }
+
+  @Test
+  void claimsShouldComeFromTheClientAndChangeOnlyInJti() throws Exception {
+    ServiceTokensDto minted = minter(JwtSigningKey.generate("k1", JWSAlgorithm.ES256))
+        .mintTokens(BILLING, 2, NOW);
+
+    JWTClaimsSet first = SignedJWT.parse(minted.accessTokens().get(0)).getJWTClaimsSet();
+    JWTClaimsSet second = SignedJWT.parse(minted.accessTokens().get(1)).getJWTClaimsSet();
+    assertThat(first.getIssuer()).isEqualTo("tika");
+    assertThat(first.getSubject()).isEqualTo("billing");
+    assertThat(first.getAudience()).containsExactly("tika-internal");
+    assertThat(first.getStringClaim(ServiceTokenMinter.SCOPE)).isEqualTo("roles.read users.read");
+    assertThat(first.getStringClaim(NimbusJwtIssuer.TOKEN_USE))
+        .isEqualTo(ServiceTokenMinter.SERVICE);
+    assertThat(first.getIssueTime()).isEqualTo(Date.from(NOW));
+    assertThat(first.getExpirationTime()).isEqualTo(Date.from(NOW.plusSeconds(300)));
+    assertThat(minted.expiresAt()).isEqualTo(NOW.plusSeconds(300));
+    assertThat(List.of(first.getJWTID(), second.getJWTID())).containsExactly("jti-1", "jti-2");
+    assertThat(second.getClaims()).containsAllEntriesOf(
+        Map.of("sub", "billing", "scope", "roles.read users.read"));
+  }
+
+  @Test
+  void templateShouldSurviveAnyClaimLength() throws Exception {
+    JwtSigningKey key = JwtSigningKey.generate("k1", JWSAlgorithm.ES256);
+    ServiceTokenMinter minter = minter(key);
+    for (String clientId : List.of("a", "ab", "abc", "abcd")) {
+      String token = minter.mintTokens(new ServiceClient(clientId, "aud", Set.of()), 1, NOW)
+          .accessTokens().getFirst();
+
+      assertThat(SignedJWT.parse(token).getJWTClaimsSet().getSubject()).isEqualTo(clientId);
+    }
+  }
+
+  @Test
+  void serviceTokensShouldNotPassAsUserAccessTokens() {
+    JwtSigningKey key = JwtSigningKey.generate("k1", JWSAlgorithm.ES256);
+    String token = minter(key).mintTokens(BILLING, 1, NOW).accessTokens().getFirst();
+
+    NimbusJwtValidator validator = new NimbusJwtValidator(key.verificationKey(), "tika", () -> NOW);
+    assertThatThrownBy(() -> validator.validateAccessToken(token))
+        .isInstanceOf(InvalidCredentialsException.class);
+  }
+
+  @Test
+  void emptyBatchShouldBeRejected() {
+    ServiceTokenMinter minter = minter(JwtSigningKey.generate("k1", JWSAlgorithm.ES256));
+
+    assertThatThrownBy(() -> minter.mintTokens(BILLING, 0, NOW))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private ServiceTokenMinter minter(JwtSigningKey key) {
+    return new ServiceTokenMinter(() -> key, "tika", Duration.ofMinutes(5),
+        () -> "jti-" + ids.incrementAndGet());
+  }
+}
@@ -0,0 +1,46 @@
+package engineer.mkitsoukou.tika.security.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+import org.springframework.security.oauth2.server.resource.web.DefaultBearerTokenResolver;
+
+class AuthorizationHeaderBearerTokenResolverTest {
+
+  private final AuthorizationHeaderBearerTokenResolver resolver =
+      new AuthorizationHeaderBearerTokenResolver();
+
+  @Test
+  void tokenShouldFollowTheScheme() {
+    assertThat(resolver.resolve(withAuthorization("Bearer eyJ.a-b_c~d+e/f==")))
+        .isEqualTo("eyJ.a-b_c~d+e/f==");
+    assertThat(resolver.resolve(withAuthorization("bearer abc"))).isEqualTo("abc");
+  }
+
+  @Test
+  void otherSchemesShouldBeIgnored() {
+    assertThat(resolver.resolve(new MockHttpServletRequest())).isNull();
+    assertThat(resolver.resolve(withAuthorization("Basic dXNlcjpwYXNz"))).isNull();
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"Bearer ", "Bearer ==", "Bearer a b", "Bearer a=b", "Bearer  abc",
+      "Bearerabc", "Bearer aé"})
+  void malformedTokensShouldBeRejectedLikeTheDefaultResolver(String header) {
+    assertThatThrownBy(() -> resolver.resolve(withAuthorization(header)))
+        .isInstanceOf(OAuth2AuthenticationException.class);
+    assertThatThrownBy(() -> new DefaultBearerTokenResolver().resolve(withAuthorization(header)))
+        .isInstanceOf(OAuth2AuthenticationException.class);
+  }
+
+  private static MockHttpServletRequest withAuthorization(String header) {
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.addHeader("Authorization", header);
+    return request;
+  }
+}
@@ -0,0 +1,150 @@
+package engineer.mkitsoukou.tika.security.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.nimbusds.jose.JOSEObjectType;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.ECDSASigner;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import com.nimbusds.jose.util.Base64URL;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import engineer.mkitsoukou.tika.application.auth.exception.InvalidCredentialsException;
+import engineer.mkitsoukou.tika.application.auth.model.JwtClaims;
+import engineer.mkitsoukou.tika.application.auth.port.out.JwtValidatorPort;
+import engineer.mkitsoukou.tika.security.jwt.DpopProofVerifier;
+import engineer.mkitsoukou.tika.security.jwt.ProofReplayCache;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+import org.springframework.security.oauth2.core.OAuth2ErrorCodes;
+import org.springframework.security.oauth2.server.resource.InvalidBearerTokenException;
+import org.springframework.security.oauth2.server.resource.authentication.BearerTokenAuthenticationToken;
+import org.springframework.security.oauth2.server.resource.authentication.DPoPAuthenticationToken;
+
+class DpopAuthenticationProviderTest {
+
+  private static final Instant NOW = Instant.parse("2026-01-01T10:00:00Z");
+  private static final String URI = "https://api.example.com/users/42";
+
+  private final ECKey key = ecKey();
+  private final JwtValidatorPort validator = mock(JwtValidatorPort.class);
+  private final DpopAuthenticationProvider provider = new DpopAuthenticationProvider(validator,
+      new DpopProofVerifier(() -> NOW, Duration.ofSeconds(60), Duration.ofSeconds(5), 100),
+      new ProofReplayCache(Duration.ofSeconds(65), 13, 1300));
+
+  @Test
+  void boundTokenWithAProofOfItsKeyShouldAuthenticate() throws Exception {
+    JwtClaims claims = bound("bound", key.computeThumbprint().toString());
+
+    Authentication authentication = provider.authenticate(request("bound", proof(key, "bound")));
+
+    assertThat(authentication.isAuthenticated()).isTrue();
+    assertThat(authentication.getPrincipal()).isSameAs(claims);
+    assertThat(authentication.getCredentials()).isEqualTo("bound");
+  }
+
+  @Test
+  void replayedProofShouldBeRejected() throws Exception {
+    bound("bound", key.computeThumbprint().toString());
+    String proof = proof(key, "bound");
+    provider.authenticate(request("bound", proof));
+
+    assertThatThrownBy(() -> provider.authenticate(request("bound", proof)))
+        .isInstanceOfSatisfying(OAuth2AuthenticationException.class, e ->
+            assertThat(e.getError().getErrorCode()).isEqualTo(OAuth2ErrorCodes.INVALID_DPOP_PROOF));
+  }
+
+  @Test
+  void proofOfAnotherKeyShouldBeRejected() throws Exception {
+    bound("bound", key.computeThumbprint().toString());
+
+    assertThatThrownBy(() -> provider.authenticate(request("bound", proof(ecKey(), "bound"))))
+        .isInstanceOfSatisfying(OAuth2AuthenticationException.class, e ->
+            assertThat(e.getError().getErrorCode()).isEqualTo(OAuth2ErrorCodes.INVALID_DPOP_PROOF));
+  }
+
+  @Test
+  void invalidProofShouldBeRejected() throws Exception {
+    bound("bound", key.computeThumbprint().toString());
+
+    assertThatThrownBy(() -> provider.authenticate(request("bound", proof(key, "other"))))
+        .isInstanceOfSatisfying(OAuth2AuthenticationException.class, e ->
+            assertThat(e.getError().getErrorCode()).isEqualTo(OAuth2ErrorCodes.INVALID_DPOP_PROOF))
+        .hasCauseInstanceOf(InvalidCredentialsException.class);
+  }
+
+  @Test
+  void unboundOrInvalidTokensShouldBeBearerTokenErrors() {
+    when(validator.validateAccessToken("plain")).thenReturn(
+        new JwtClaims("user-1", "jti-1", NOW, NOW.plusSeconds(900), Set.of()));
+    when(validator.validateAccessToken("bad")).thenThrow(new InvalidCredentialsException());
+
+    assertThatThrownBy(() -> provider.authenticate(request("plain", proof(key, "plain"))))
+        .isInstanceOf(InvalidBearerTokenException.class);
+    assertThatThrownBy(() -> provider.authenticate(request("bad", proof(key, "bad"))))
+        .isInstanceOf(InvalidBearerTokenException.class);
+  }
+
+  @Test
+  void onlyDpopRequestsShouldBeSupported() {
+    assertThat(provider.supports(DPoPAuthenticationToken.class)).isTrue();
+    assertThat(provider.supports(BearerTokenAuthenticationToken.class)).isFalse();
+    assertThat(provider.supports(UsernamePasswordAuthenticationToken.class)).isFalse();
+  }
+
+  private JwtClaims bound(String token, String thumbprint) {
+    JwtClaims claims = new JwtClaims("user-1", "jti-1", NOW, NOW.plusSeconds(900),
+        Set.of("role-1"), null, thumbprint);
+    when(validator.validateAccessToken(token)).thenReturn(claims);
+    return claims;
+  }
+
+  private static DPoPAuthenticationToken request(String token, String proof) {
+    return new DPoPAuthenticationToken(token, proof, "GET", URI);
+  }
+
+  private static String proof(ECKey key, String token) {
+    try {
+      SignedJWT proof = new SignedJWT(
+          new JWSHeader.Builder(JWSAlgorithm.ES256)
+              .type(new JOSEObjectType(DpopProofVerifier.TYPE))
+              .jwk(key.toPublicJWK())
+              .build(),
+          new JWTClaimsSet.Builder()
+              .jwtID(UUID.randomUUID().toString())
+              .claim("htm", "GET")
+              .claim("htu", URI)
+              .claim("ath", Base64URL.encode(MessageDigest.getInstance("SHA-256")
+                  .digest(token.getBytes(StandardCharsets.US_ASCII))).toString())
+              .issueTime(Date.from(NOW))
+              .build());
+      proof.sign(new ECDSASigner(key));
+      return proof.serialize();
+    } catch (Exception e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static ECKey ecKey() {
+    try {
+      return new ECKeyGenerator(Curve.P_256).generate();
+    } catch (Exception e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -0,0 +1,65 @@
+package engineer.mkitsoukou.tika.security.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import engineer.mkitsoukou.tika.application.auth.exception.InvalidCredentialsException;
+import engineer.mkitsoukou.tika.application.auth.model.JwtClaims;
+import engineer.mkitsoukou.tika.application.auth.port.out.JwtValidatorPort;
+import java.time.Instant;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.server.resource.InvalidBearerTokenException;
+import org.springframework.security.oauth2.server.resource.authentication.BearerTokenAuthenticationToken;
+
+class JwtValidatorAuthenticationProviderTest {
+
+  private static final Instant NOW = Instant.parse("2026-01-01T10:00:00Z");
+
+  private final JwtValidatorPort validator = mock(JwtValidatorPort.class);
+  private final JwtValidatorAuthenticationProvider provider =
+      new JwtValidatorAuthenticationProvider(validator);
+
+  @Test
+  void validTokenShouldAuthenticateItsClaims() {
+    JwtClaims claims = new JwtClaims("user-1", "jti-1", NOW, NOW.plusSeconds(900),
+        Set.of("role-1"));
+    when(validator.validateAccessToken("good")).thenReturn(claims);
+
+    Authentication authentication =
+        provider.authenticate(new BearerTokenAuthenticationToken("good"));
+
+    assertThat(authentication.isAuthenticated()).isTrue();
+    assertThat(authentication.getPrincipal()).isSameAs(claims);
+    assertThat(authentication.getName()).isEqualTo("user-1");
+    assertThat(authentication.getAuthorities()).extracting("authority").containsExactly("role-1");
+  }
+
+  @Test
+  void invalidTokenShouldBeABearerTokenError() {
+    when(validator.validateAccessToken("bad")).thenThrow(new InvalidCredentialsException());
+
+    assertThatThrownBy(() -> provider.authenticate(new BearerTokenAuthenticationToken("bad")))
+        .isInstanceOf(InvalidBearerTokenException.class)
+        .hasCauseInstanceOf(InvalidCredentialsException.class);
+  }
+
+  @Test
+  void tokenBoundToAKeyShouldNotBeAcceptedAsABearerToken() {
+    when(validator.validateAccessToken("bound")).thenReturn(new JwtClaims("user-1", "jti-1",
+        NOW, NOW.plusSeconds(900), Set.of("role-1"), null, "thumb-1"));
+
+    assertThatThrownBy(() -> provider.authenticate(new BearerTokenAuthenticationToken("bound")))
+        .isInstanceOf(InvalidBearerTokenException.class);
+  }
+
+  @Test
+  void onlyBearerTokensShouldBeSupported() {
+    assertThat(provider.supports(BearerTokenAuthenticationToken.class)).isTrue();
+    assertThat(provider.supports(UsernamePasswordAuthenticationToken.class)).isFalse();
+  }
+}
@@ -0,0 +1,238 @@
+package engineer.mkitsoukou.tika.security.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JOSEObjectType;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.ECDSASigner;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import com.nimbusds.jose.util.Base64URL;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import engineer.mkitsoukou.tika.application.auth.exception.InvalidCredentialsException;
+import engineer.mkitsoukou.tika.application.auth.model.JwtClaims;
+import engineer.mkitsoukou.tika.application.auth.port.out.JwtValidatorPort;
+import engineer.mkitsoukou.tika.domain.model.entity.Role;
+import engineer.mkitsoukou.tika.domain.model.valueobject.Permission;
+import engineer.mkitsoukou.tika.domain.model.valueobject.RoleName;
+import engineer.mkitsoukou.tika.domain.repository.RoleRepository;
+import engineer.mkitsoukou.tika.security.jwt.DpopProofVerifier;
+import jakarta.servlet.Filter;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.web.SpringJUnitWebConfig;
+
+@SpringJUnitWebConfig(ResourceServerConfigurationTest.TestApplication.class)
+@TestPropertySource(properties = "tika.security.jwt.enabled=true")
+class ResourceServerConfigurationTest {
+
+  private static final Instant NOW = Instant.parse("2026-01-01T10:00:00Z");
+  private static final Role READER = Role.createRole(new RoleName("READER"),
+      Set.of(new Permission("user.read")));
+  private static final ECKey CLIENT_KEY = clientKey();
+
+  @Autowired
+  @Qualifier("springSecurityFilterChain")
+  private Filter filterChain;
+
+  @Autowired
+  private Reports reports;
+
+  @AfterEach
+  void tearDown() {
+    SecurityContextHolder.clearContext();
+  }
+
+  @Test
+  void requestsWithoutATokenShouldBeUnauthorized() throws Exception {
+    MockHttpServletResponse response = send(get("/users"));
+
+    assertThat(response.getStatus()).isEqualTo(401);
+    assertThat(response.getHeader("WWW-Authenticate")).startsWith("Bearer");
+  }
+
+  @Test
+  void invalidTokensShouldBeUnauthorized() throws Exception {
+    MockHttpServletResponse response = send(bearer("bad"));
+
+    assertThat(response.getStatus()).isEqualTo(401);
+    assertThat(response.getHeader("WWW-Authenticate")).contains("invalid_token");
+  }
+
+  @Test
+  void validTokensShouldReachTheApplicationWithoutASession() throws Exception {
+    MockHttpServletRequest request = bearer("good");
+    MockFilterChain chain = new MockFilterChain();
+
+    filterChain.doFilter(request, new MockHttpServletResponse(), chain);
+
+    assertThat(chain.getRequest()).isNotNull();
+    assertThat(request.getSession(false)).isNull();
+  }
+
+  @Test
+  void boundTokensShouldReachTheApplicationWithAProof() throws Exception {
+    MockHttpServletRequest request = get("/users");
+    request.addHeader("Authorization", "DPoP bound");
+    request.addHeader("DPoP", proof("GET", "http://localhost/users", "bound"));
+    MockFilterChain chain = new MockFilterChain();
+
+    filterChain.doFilter(request, new MockHttpServletResponse(), chain);
+
+    assertThat(chain.getRequest()).isNotNull();
+  }
+
+  @Test
+  void boundTokensShouldBeUnauthorizedWithoutAValidProof() throws Exception {
+    MockHttpServletRequest wrongRequest = get("/users");
+    wrongRequest.addHeader("Authorization", "DPoP bound");
+    wrongRequest.addHeader("DPoP", proof("POST", "http://localhost/users", "bound"));
+
+    assertThat(send(bearer("bound")).getStatus()).isEqualTo(401);
+    MockHttpServletResponse response = send(wrongRequest);
+    assertThat(response.getStatus()).isEqualTo(401);
+    assertThat(response.getHeader("WWW-Authenticate")).startsWith("DPoP")
+        .contains("invalid_dpop_proof");
+  }
+
+  @Test
+  void wellKnownDocumentsShouldBePublic() throws Exception {
+    MockFilterChain chain = new MockFilterChain();
+
+    filterChain.doFilter(get("/.well-known/jwks.json"), new MockHttpServletResponse(), chain);
+
+    assertThat(chain.getRequest()).isNotNull();
+  }
+
+  @Test
+  void methodSecurityShouldUseTheSnapshot() {
+    SecurityContextHolder.getContext().setAuthentication(new JwtClaimsAuthentication(
+        new JwtClaims("user-1", "jti-1", NOW, NOW.plusSeconds(900),
+            Set.of(READER.getRoleId().value().toString())), "good"));
+
+    assertThat(reports.read()).isEqualTo("read");
+    assertThatThrownBy(reports::write).isInstanceOf(AccessDeniedException.class);
+  }
+
+  private MockHttpServletResponse send(MockHttpServletRequest request) throws Exception {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    filterChain.doFilter(request, response, new MockFilterChain());
+    return response;
+  }
+
+  private static MockHttpServletRequest bearer(String token) {
+    MockHttpServletRequest request = get("/users");
+    request.addHeader("Authorization", "Bearer " + token);
+    return request;
+  }
+
+  private static String proof(String method, String uri, String token) throws Exception {
+    SignedJWT proof = new SignedJWT(
+        new JWSHeader.Builder(JWSAlgorithm.ES256)
+            .type(new JOSEObjectType(DpopProofVerifier.TYPE))
+            .jwk(CLIENT_KEY.toPublicJWK())
+            .build(),
+        new JWTClaimsSet.Builder()
+            .jwtID(UUID.randomUUID().toString())
+            .claim("htm", method)
+            .claim("htu", uri)
+            .claim("ath", Base64URL.encode(MessageDigest.getInstance("SHA-256")
+                .digest(token.getBytes(StandardCharsets.US_ASCII))).toString())
+            .issueTime(new Date())
+            .build());
+    proof.sign(new ECDSASigner(CLIENT_KEY));
+    return proof.serialize();
+  }
+
+  private static ECKey clientKey() {
+    try {
+      return new ECKeyGenerator(Curve.P_256).generate();
+    } catch (JOSEException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static MockHttpServletRequest get(String path) {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+    request.setServletPath(path);
+    return request;
+  }
+
+  public static class Reports {
+
+    @PreAuthorize("hasPermission(null, 'user.read')")
+    public String read() {
+      return "read";
+    }
+
+    @PreAuthorize("hasPermission(null, 'user.write')")
+    public String write() {
+      return "write";
+    }
+  }
+
+  @Configuration(proxyBeanMethods = false)
+  @EnableWebSecurity
+  @Import(ResourceServerConfiguration.class)
+  static class TestApplication {
+
+    @Bean
+    JwtValidatorPort validator() {
+      JwtValidatorPort validator = mock(JwtValidatorPort.class);
+      when(validator.validateAccessToken("good")).thenReturn(new JwtClaims("user-1", "jti-1",
+          NOW, NOW.plusSeconds(900), Set.of(READER.getRoleId().value().toString())));
+      when(validator.validateAccessToken("bad")).thenThrow(new InvalidCredentialsException());
+      when(validator.validateAccessToken("bound")).thenReturn(new JwtClaims("user-1", "jti-2",
+          NOW, NOW.plusSeconds(900), Set.of(READER.getRoleId().value().toString()), null,
+          thumbprint()));
+      return validator;
+    }
+
+    private static String thumbprint() {
+      try {
+        return CLIENT_KEY.computeThumbprint().toString();
+      } catch (JOSEException e) {
+        throw new IllegalStateException(e);
+      }
+    }
+
+    @Bean
+    RoleRepository roles() {
+      RoleRepository roles = mock(RoleRepository.class);
+      when(roles.findAll()).thenReturn(List.of(READER));
+      return roles;
+    }
+
+    @Bean
+    Reports reports() {
+      return new Reports();
+    }
+  }
+}
@@ -0,0 +1,72 @@
+package engineer.mkitsoukou.tika.security.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import engineer.mkitsoukou.tika.application.auth.dto.PermissionRegistryDto;
+import engineer.mkitsoukou.tika.application.auth.model.JwtClaims;
+import engineer.mkitsoukou.tika.application.auth.model.PermissionMask;
+import engineer.mkitsoukou.tika.domain.model.entity.Role;
+import engineer.mkitsoukou.tika.domain.model.valueobject.Permission;
+import engineer.mkitsoukou.tika.domain.model.valueobject.RoleName;
+import java.time.Instant;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class RolePermissionSnapshotTest {
+
+  private static final Instant NOW = Instant.parse("2026-01-01T10:00:00Z");
+
+  private final Role reader = Role.createRole(new RoleName("READER"),
+      Set.of(new Permission("user.read")));
+  private final Role writer = Role.createRole(new RoleName("WRITER"),
+      Set.of(new Permission("user.read"), new Permission("user.write")));
+  private final RolePermissionSnapshot snapshot = RolePermissionSnapshot.of(
+      List.of(reader, writer),
+      new PermissionRegistryDto(3, List.of("user.read", "user.write", "role.read")));
+
+  @Test
+  void rolesShouldGrantTheirPermissions() {
+    JwtClaims claims = withRoles(reader);
+
+    assertThat(snapshot.grants(claims, "user.read")).isTrue();
+    assertThat(snapshot.grants(claims, "user.write")).isFalse();
+    assertThat(snapshot.grants(withRoles(reader, writer), "user.write")).isTrue();
+  }
+
+  @Test
+  void unknownRolesShouldGrantNothing() {
+    JwtClaims claims = new JwtClaims("user-1", "jti-1", NOW, NOW.plusSeconds(900),
+        Set.of("00000000-0000-0000-0000-000000000000"));
+
+    assertThat(snapshot.grants(claims, "user.read")).isFalse();
+  }
+
+  @Test
+  void masksShouldBeAnsweredByOrdinal() {
+    BitSet granted = new BitSet();
+    granted.set(2);
+    JwtClaims claims = new JwtClaims("user-1", "jti-1", NOW, NOW.plusSeconds(900),
+        Set.of(writer.getRoleId().value().toString()), new PermissionMask(3, granted));
+
+    assertThat(snapshot.grants(claims, "role.read")).isTrue();
+    assertThat(snapshot.grants(claims, "user.write")).isFalse();
+    assertThat(snapshot.grants(claims, "audit.read")).isFalse();
+  }
+
+  @Test
+  void emptySnapshotShouldGrantNothing() {
+    assertThat(RolePermissionSnapshot.EMPTY.grants(withRoles(writer), "user.read")).isFalse();
+    assertThat(RolePermissionSnapshot.EMPTY.registryVersion()).isZero();
+  }
+
+  private static JwtClaims withRoles(Role... roles) {
+    Set<String> ids = new HashSet<>();
+    for (Role role : roles) {
+      ids.add(role.getRoleId().value().toString());
+    }
+    return new JwtClaims("user-1", "jti-1", NOW, NOW.plusSeconds(900), ids);
+  }
+}
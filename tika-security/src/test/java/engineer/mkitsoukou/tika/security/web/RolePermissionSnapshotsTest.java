@@ -0,0 +1,89 @@
+package engineer.mkitsoukou.tika.security.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import engineer.mkitsoukou.tika.application.auth.dto.PermissionRegistryDto;
+import engineer.mkitsoukou.tika.application.auth.model.JwtClaims;
+import engineer.mkitsoukou.tika.domain.model.entity.Role;
+import engineer.mkitsoukou.tika.domain.model.event.PermissionAdded;
+import engineer.mkitsoukou.tika.domain.model.event.RoleAssigned;
+import engineer.mkitsoukou.tika.domain.model.valueobject.Permission;
+import engineer.mkitsoukou.tika.domain.model.valueobject.RoleName;
+import engineer.mkitsoukou.tika.domain.model.valueobject.UserId;
+import engineer.mkitsoukou.tika.domain.repository.RoleRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class RolePermissionSnapshotsTest {
+
+  private static final Instant NOW = Instant.parse("2026-01-01T10:00:00Z");
+
+  private final Role role = Role.createRole(new RoleName("READER"),
+      Set.of(new Permission("user.read")));
+  private final JwtClaims claims = new JwtClaims("user-1", "jti-1", NOW,
+      NOW.plusSeconds(900), Set.of(role.getRoleId().value().toString()));
+  private final RoleRepository roles = mock(RoleRepository.class);
+  private RolePermissionSnapshots snapshots;
+
+  @AfterEach
+  void tearDown() {
+    snapshots.close();
+  }
+
+  @Test
+  void permissionEventsShouldRebuildTheSnapshot() {
+    when(roles.findAll()).thenReturn(List.of());
+    snapshots = new RolePermissionSnapshots(roles, () -> new PermissionRegistryDto(0, List.of()));
+    RolePermissionSnapshot before = snapshots.current();
+    when(roles.findAll()).thenReturn(List.of(role));
+
+    snapshots.handle(new PermissionAdded(role.getRoleId(), new Permission("user.read"), NOW));
+
+    assertThat(before.grants(claims, "user.read")).isFalse();
+    assertThat(snapshots.current().grants(claims, "user.read")).isTrue();
+  }
+
+  @Test
+  void otherEventsShouldBeIgnored() {
+    when(roles.findAll()).thenReturn(List.of(role));
+    snapshots = new RolePermissionSnapshots(roles, () -> new PermissionRegistryDto(0, List.of()));
+
+    snapshots.handle(new RoleAssigned(UserId.generate(), role.getRoleId(), NOW));
+
+    verify(roles, times(1)).findAll();
+  }
+
+  @Test
+  void startedSnapshotsShouldRebuildInTheBackground() {
+    when(roles.findAll()).thenReturn(List.of());
+    snapshots = new RolePermissionSnapshots(roles, () -> new PermissionRegistryDto(0, List.of()));
+    snapshots.start(Duration.ofHours(1));
+    when(roles.findAll()).thenReturn(List.of(role));
+
+    snapshots.handle(new PermissionAdded(role.getRoleId(), new Permission("user.read"), NOW));
+
+    verify(roles, timeout(5_000).times(2)).findAll();
+  }
+
+  @Test
+  void failedBackgroundRebuildShouldKeepThePreviousSnapshot() {
+    when(roles.findAll()).thenReturn(List.of(role));
+    snapshots = new RolePermissionSnapshots(roles, () -> new PermissionRegistryDto(0, List.of()));
+    snapshots.start(Duration.ofHours(1));
+    when(roles.findAll()).thenThrow(new IllegalStateException("database down"));
+
+    snapshots.rebuildSoon();
+
+    verify(roles, timeout(5_000).times(2)).findAll();
+    assertThat(snapshots.current().grants(claims, "user.read")).isTrue();
+  }
+}
@@ -0,0 +1,102 @@
+package engineer.mkitsoukou.tika.security.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import engineer.mkitsoukou.tika.application.auth.dto.PermissionRegistryDto;
+import engineer.mkitsoukou.tika.application.auth.model.JwtClaims;
+import engineer.mkitsoukou.tika.application.auth.model.PermissionMask;
+import engineer.mkitsoukou.tika.domain.model.entity.Role;
+import engineer.mkitsoukou.tika.domain.model.valueobject.Permission;
+import engineer.mkitsoukou.tika.domain.model.valueobject.RoleName;
+import engineer.mkitsoukou.tika.domain.repository.RoleRepository;
+import java.time.Instant;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+
+class SnapshotPermissionEvaluatorTest {
+
+  private static final Instant NOW = Instant.parse("2026-01-01T10:00:00Z");
+
+  private final Role role = Role.createRole(new RoleName("READER"),
+      Set.of(new Permission("user.read")));
+  private final RoleRepository roles = mock(RoleRepository.class);
+  private final RolePermissionSnapshots snapshots;
+  private final SnapshotPermissionEvaluator evaluator;
+
+  SnapshotPermissionEvaluatorTest() {
+    when(roles.findAll()).thenReturn(List.of(role));
+    snapshots = new RolePermissionSnapshots(roles,
+        () -> new PermissionRegistryDto(1, List.of("user.read")));
+    evaluator = new SnapshotPermissionEvaluator(snapshots);
+  }
+
+  @AfterEach
+  void tearDown() {
+    snapshots.close();
+  }
+
+  @Test
+  void tokenRolesShouldBeCheckedAgainstTheSnapshot() {
+    Authentication caller = authenticated(new JwtClaims("user-1", "jti-1", NOW,
+        NOW.plusSeconds(900), Set.of(role.getRoleId().value().toString())));
+
+    assertThat(evaluator.hasPermission(caller, null, "user.read")).isTrue();
+    assertThat(evaluator.hasPermission(caller, "42", "User", "user.read")).isTrue();
+    assertThat(evaluator.hasPermission(caller, null, "user.write")).isFalse();
+  }
+
+  @Test
+  void callersWithoutClaimsShouldBeDenied() {
+    assertThat(evaluator.hasPermission(null, "user.read")).isFalse();
+    assertThat(evaluator.hasPermission(
+        new TestingAuthenticationToken("user-1", "secret"), "user.read")).isFalse();
+  }
+
+  @Test
+  void authorizationManagerShouldFollowTheEvaluator() {
+    AuthorizationManager<Object> manager = evaluator.hasPermission("user.read");
+    Authentication caller = authenticated(new JwtClaims("user-1", "jti-1", NOW,
+        NOW.plusSeconds(900), Set.of(role.getRoleId().value().toString())));
+
+    assertThat(manager.authorize(() -> caller, new Object()).isGranted()).isTrue();
+    assertThat(evaluator.hasPermission("user.write").authorize(() -> caller, new Object())
+        .isGranted()).isFalse();
+  }
+
+  @Test
+  void newerMaskShouldRequestARebuild() {
+    BitSet granted = new BitSet();
+    granted.set(0);
+    granted.set(1);
+    Authentication caller = authenticated(new JwtClaims("user-1", "jti-1", NOW,
+        NOW.plusSeconds(900), Set.of(), new PermissionMask(2, granted)));
+
+    assertThat(evaluator.hasPermission(caller, "user.read")).isTrue();
+    verify(roles, times(2)).findAll();
+  }
+
+  @Test
+  void knownMaskShouldNotTouchTheRepository() {
+    BitSet granted = new BitSet();
+    granted.set(0);
+    Authentication caller = authenticated(new JwtClaims("user-1", "jti-1", NOW,
+        NOW.plusSeconds(900), Set.of(), new PermissionMask(1, granted)));
+
+    assertThat(evaluator.hasPermission(caller, "user.read")).isTrue();
+    verify(roles, times(1)).findAll();
+  }
+
+  private static Authentication authenticated(JwtClaims claims) {
+    return new JwtClaimsAuthentication(claims, "token");
+  }
+}